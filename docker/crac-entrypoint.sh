@@ -0,0 +1,45 @@
+#!/bin/sh
+# CRaCのチェックポイントを作成、またはチェックポイントからアプリケーションを起動します。
+#   CRAC_MODE=checkpoint: 通常どおり起動し、ウォームアップの後にチェックポイントを作成して終了する（--privilegedが必要）
+#   それ以外: チェックポイントが存在する場合はリストアし、存在しない場合は通常どおり起動する
+# チェックポイントには起動時の設定値（DBの接続情報やAPIキーを含む）がそのまま保存されるため、
+# チェックポイントを含むイメージは公開するレジストリに置かないこと
+set -eu
+
+CHECKPOINT_DIR="${CRAC_CHECKPOINT_DIR:-/app/checkpoint}"
+PORT="${PORT:-8080}"
+PING_URL="http://localhost:${PORT}/api/auth/ping"
+
+if [ "${CRAC_MODE:-restore}" = "checkpoint" ]; then
+	rm -rf "$CHECKPOINT_DIR"
+	java -Dspring.profiles.active="$SPRING_PROFILES_ACTIVE" -XX:CRaCCheckpointTo="$CHECKPOINT_DIR" -jar app.jar &
+	pid=$!
+
+	# 起動が完了するまで待つ
+	until curl -fs "$PING_URL" > /dev/null; do
+		if ! kill -0 "$pid" 2> /dev/null; then
+			echo "アプリケーションの起動に失敗しました。" >&2
+			exit 1
+		fi
+		sleep 1
+	done
+
+	# リクエストの処理経路をJITコンパイルさせてからチェックポイントを作成する
+	i=0
+	while [ "$i" -lt "${CRAC_WARMUP_REQUESTS:-500}" ]; do
+		curl -fs "$PING_URL" > /dev/null
+		i=$((i + 1))
+	done
+
+	jcmd "$pid" JDK.checkpoint
+	# チェックポイントの作成後、JVMは終了する
+	wait "$pid" || true
+	test -d "$CHECKPOINT_DIR"
+	echo "チェックポイントを作成しました: $CHECKPOINT_DIR"
+	exit 0
+fi
+
+if [ -d "$CHECKPOINT_DIR" ]; then
+	exec java -XX:CRaCRestoreFrom="$CHECKPOINT_DIR"
+fi
+exec java -Dspring.profiles.active="$SPRING_PROFILES_ACTIVE" -jar app.jar
@@ -0,0 +1,39 @@
+#!/bin/sh
+# CRaCのチェックポイントからのリストアと通常の起動で、コンテナの起動から/api/auth/pingが最初に応答するまでの時間を計測します。
+# 使い方: docker/measure-crac-restore.sh <環境変数ファイル> [計測回数]
+# 環境変数ファイルには、本番環境と同じくSPRING_PROFILES_ACTIVE、DBの接続情報、JWT_SECRET_KEYなどを指定します。
+set -eu
+
+ENV_FILE="$1"
+RUNS="${2:-5}"
+IMAGE=revox-crac
+PORT=18080
+
+docker build --target crac -t "$IMAGE" .
+
+# チェックポイントを作成し、チェックポイントを含むイメージとして保存する
+docker rm -f revox-crac-checkpoint > /dev/null 2>&1 || true
+docker run --name revox-crac-checkpoint --privileged --env-file "$ENV_FILE" -e CRAC_MODE=checkpoint "$IMAGE"
+docker commit --change 'ENV CRAC_MODE=restore' revox-crac-checkpoint "$IMAGE:checkpoint" > /dev/null
+docker rm revox-crac-checkpoint > /dev/null
+
+# コンテナを起動してから最初の応答を受け取るまでの時間をミリ秒で出力する
+measure() {
+	name="$1"
+	shift
+	start=$(date +%s%N)
+	container=$(docker run -d -p "$PORT:8080" --env-file "$ENV_FILE" "$@")
+	until curl -fs "http://localhost:$PORT/api/auth/ping" > /dev/null; do
+		sleep 0.02
+	done
+	end=$(date +%s%N)
+	echo "$name: $(((end - start) / 1000000))ms"
+	docker rm -f "$container" > /dev/null
+}
+
+i=0
+while [ "$i" -lt "$RUNS" ]; do
+	measure restore --cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE "$IMAGE:checkpoint"
+	measure cold "$IMAGE"
+	i=$((i + 1))
+done
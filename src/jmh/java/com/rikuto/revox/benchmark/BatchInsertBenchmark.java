@@ -0,0 +1,159 @@
+package com.rikuto.revox.benchmark;
+
+import com.rikuto.revox.domain.Ai;
+import com.rikuto.revox.domain.Bike;
+import com.rikuto.revox.domain.Category;
+import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * 整備タスクとAI質問の登録のスループットを、Hibernateのバッチ件数とPgJDBCのreWriteBatchedInsertsの組み合わせごとに比較するベンチマークです。
+ * batchSizeが1の構成は1件ごとに往復する従来のIDENTITYでの登録に相当し、
+ * 50の構成はシーケンスのpooled-loで採番してINSERTをまとめて送信する構成です。
+ * Testcontainersで起動したPostgreSQLにFlywayでスキーマを作成し、1回の呼び出しでROWS_PER_TRANSACTION件を1トランザクションで登録します。
+ * 実行にはDockerが必要です。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+	private static final int ROWS_PER_TRANSACTION = 500;
+
+	@Param({"1", "50"})
+	public int batchSize;
+
+	@Param({"false", "true"})
+	public boolean reWriteBatchedInserts;
+
+	private PostgreSQLContainer<?> postgres;
+
+	private EntityManagerFactory entityManagerFactory;
+
+	private int userId;
+
+	private int bikeId;
+
+	private int categoryId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		postgres = new PostgreSQLContainer<>("postgres:16");
+		postgres.start();
+		Flyway.configure()
+				.dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+				.locations("classpath:db/migration")
+				.load()
+				.migrate();
+
+		PGSimpleDataSource dataSource = new PGSimpleDataSource();
+		dataSource.setUrl(postgres.getJdbcUrl());
+		dataSource.setUser(postgres.getUsername());
+		dataSource.setPassword(postgres.getPassword());
+		dataSource.setReWriteBatchedInserts(reWriteBatchedInserts);
+
+		Properties jpaProperties = new Properties();
+		jpaProperties.setProperty("hibernate.jdbc.batch_size", String.valueOf(batchSize));
+		jpaProperties.setProperty("hibernate.order_inserts", "true");
+		jpaProperties.setProperty("hibernate.id.optimizer.pooled.preferred", "pooled-lo");
+
+		LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+		factoryBean.setDataSource(dataSource);
+		factoryBean.setPackagesToScan("com.rikuto.revox.domain");
+		factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factoryBean.setJpaProperties(jpaProperties);
+		factoryBean.afterPropertiesSet();
+		entityManagerFactory = factoryBean.getObject();
+
+		inTransaction(entityManager -> {
+			User user = User.builder().nickname("benchmark-user").uniqueUserId("benchmark-user").build();
+			entityManager.persist(user);
+			Bike bike = Bike.builder().user(user).manufacturer("Honda").modelName("CBR1000RR").build();
+			entityManager.persist(bike);
+			entityManager.flush();
+			userId = user.getId();
+			bikeId = bike.getId();
+			categoryId = entityManager.createQuery("SELECT MIN(c.id) FROM Category c", Integer.class).getSingleResult();
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		entityManagerFactory.close();
+		postgres.stop();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS_PER_TRANSACTION)
+	public void insertMaintenanceTasks() {
+		persistAll((entityManager, i) -> MaintenanceTask.builder()
+				.bike(entityManager.getReference(Bike.class, bikeId))
+				.category(entityManager.getReference(Category.class, categoryId))
+				.name("エンジンオイル交換" + i)
+				.description("10W-40")
+				.build());
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS_PER_TRANSACTION)
+	public void insertAiAnswers() {
+		persistAll((entityManager, i) -> Ai.builder()
+				.user(entityManager.getReference(User.class, userId))
+				.bike(entityManager.getReference(Bike.class, bikeId))
+				.category(entityManager.getReference(Category.class, categoryId))
+				.question("エンジンオイルの選び方" + i)
+				.answer("粘度を確認してください。")
+				.build());
+	}
+
+	/**
+	 * 1トランザクションでROWS_PER_TRANSACTION件のエンティティを登録します。
+	 */
+	private void persistAll(BiFunction<EntityManager, Integer, Object> entityFactory) {
+		inTransaction(entityManager -> {
+			for(int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+				entityManager.persist(entityFactory.apply(entityManager, i));
+			}
+		});
+	}
+
+	private void inTransaction(Consumer<EntityManager> work) {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			entityManager.getTransaction().begin();
+			work.accept(entityManager);
+			entityManager.getTransaction().commit();
+		} finally {
+			entityManager.close();
+		}
+	}
+}
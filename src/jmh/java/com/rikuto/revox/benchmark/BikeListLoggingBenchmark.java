@@ -0,0 +1,170 @@
+package com.rikuto.revox.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.rikuto.revox.controller.BikeController;
+import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.bike.BikeResponse;
+import com.rikuto.revox.logging.RequestIdFilter;
+import com.rikuto.revox.logging.SamplingTurboFilter;
+import com.rikuto.revox.security.details.ExternalAuthUserDetails;
+import com.rikuto.revox.security.details.ExternalAuthUserDetailsService;
+import com.rikuto.revox.security.jwt.JwtAuthenticationFilter;
+import com.rikuto.revox.security.jwt.JwtTokenProvider;
+import com.rikuto.revox.service.BikeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * バイク一覧取得エンドポイントのスループットをログ出力方式ごとに計測するベンチマークです。
+ * JWT認証フィルターを含むリクエスト処理を対象とし、DBアクセスはモックに置き換えています。
+ * syncは全ログをリクエストスレッドでファイルへ書き込む従来の構成、
+ * asyncはlogback-spring.xmlと同じ非同期アペンダーとサンプリングを適用した構成です。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class BikeListLoggingBenchmark {
+
+	private static final String SECRET_KEY = "benchmark-secret-key-for-hs256-signature-0123456789";
+
+	private static final String LOG_PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%X{requestId:-}] [%t] %logger{39} : %m%n";
+
+	private static final int USER_ID = 1;
+
+	@Param({"sync", "async"})
+	public String logging;
+
+	private MockMvc mockMvc;
+
+	private String authorization;
+
+	private File logFile;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		logFile = Files.createTempFile("revox-benchmark", ".log").toFile();
+		configureLogging();
+
+		JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3_600_000L);
+		User user = User.builder()
+				.id(USER_ID)
+				.uniqueUserId("benchmark-user")
+				.nickname("ベンチマークユーザー")
+				.roles("USER")
+				.build();
+
+		ExternalAuthUserDetailsService userDetailsService = mock(ExternalAuthUserDetailsService.class);
+		when(userDetailsService.loadUserByUniqueUserId("benchmark-user")).thenReturn(new ExternalAuthUserDetails(user));
+
+		BikeService bikeService = mock(BikeService.class);
+		when(bikeService.findBikeByUserId(USER_ID)).thenReturn(List.of(
+				BikeResponse.builder().id(1).userId(USER_ID).manufacturer("Honda").modelName("CBR1000RR")
+						.currentMileage(12000).createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).build(),
+				BikeResponse.builder().id(2).userId(USER_ID).manufacturer("Yamaha").modelName("YZF-R1")
+						.currentMileage(8000).createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).build()));
+
+		mockMvc = MockMvcBuilders.standaloneSetup(new BikeController(bikeService, Jackson2ObjectMapperBuilder.json().build()))
+				.addFilters(new RequestIdFilter(), new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, new SimpleMeterRegistry()))
+				.build();
+		authorization = "Bearer " + jwtTokenProvider.generateToken("benchmark-user", "USER");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+		logFile.delete();
+	}
+
+	@Benchmark
+	public int getBikeList() throws Exception {
+		return mockMvc.perform(get("/api/bikes/user/{userId}", USER_ID)
+						.header(HttpHeaders.AUTHORIZATION, authorization))
+				.andReturn()
+				.getResponse()
+				.getStatus();
+	}
+
+	/**
+	 * パラメーターに応じてLogbackを構成します。
+	 * アプリケーションのINFOログのみを出力し、フレームワークのログは対象外とします。
+	 */
+	private void configureLogging() {
+		LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+		context.reset();
+
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern(LOG_PATTERN);
+		encoder.start();
+
+		FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+		fileAppender.setContext(context);
+		fileAppender.setName("FILE");
+		fileAppender.setFile(logFile.getAbsolutePath());
+		fileAppender.setEncoder(encoder);
+		fileAppender.start();
+
+		Appender<ILoggingEvent> appender = fileAppender;
+		if("async".equals(logging)) {
+			SamplingTurboFilter samplingFilter = new SamplingTurboFilter();
+			samplingFilter.setContext(context);
+			samplingFilter.setLoggerPrefix("com.rikuto.revox.security.jwt");
+			samplingFilter.setSampleRate(100);
+			samplingFilter.start();
+			context.addTurboFilter(samplingFilter);
+
+			AsyncAppender asyncAppender = new AsyncAppender();
+			asyncAppender.setContext(context);
+			asyncAppender.setName("ASYNC_FILE");
+			asyncAppender.setQueueSize(8192);
+			asyncAppender.setNeverBlock(true);
+			asyncAppender.addAppender(fileAppender);
+			asyncAppender.start();
+			appender = asyncAppender;
+		}
+
+		Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+		root.setLevel(ch.qos.logback.classic.Level.WARN);
+		root.addAppender(appender);
+		context.getLogger("com.rikuto.revox").setLevel(ch.qos.logback.classic.Level.INFO);
+	}
+}
@@ -0,0 +1,118 @@
+package com.rikuto.revox.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 整備タスク一覧とAI質問履歴を、JSON、CBOR、Smile、MessagePackでエンコード・デコードする所要時間を計測するベンチマークです。
+ * ObjectMapperはWebConfigと同じく、JSON用のObjectMapperの設定を引き継いで形式ごとのJsonFactoryに差し替えます。
+ * 形式ごとのペイロードのサイズは、セットアップ時に標準出力へ出力します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+	private static final TypeReference<List<MaintenanceTaskResponse>> MAINTENANCE_TASK_LIST_TYPE = new TypeReference<>() {
+	};
+
+	private static final TypeReference<List<AiQuestionResponse>> AI_QUESTION_LIST_TYPE = new TypeReference<>() {
+	};
+
+	@Param({"100", "10000"})
+	public int size;
+
+	@Param({"json", "cbor", "smile", "msgpack"})
+	public String format;
+
+	private ObjectMapper objectMapper;
+
+	private List<MaintenanceTaskResponse> maintenanceTaskResponseList;
+
+	private List<AiQuestionResponse> aiQuestionResponseList;
+
+	private byte[] maintenanceTaskPayload;
+
+	private byte[] aiQuestionPayload;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		objectMapper = createObjectMapper(format);
+
+		LocalDateTime now = LocalDateTime.now();
+		maintenanceTaskResponseList = new ArrayList<>(size);
+		aiQuestionResponseList = new ArrayList<>(size);
+		for(int i = 1; i <= size; i++) {
+			maintenanceTaskResponseList.add(MaintenanceTaskResponse.builder().id(i).categoryId(1).bikeId(1)
+					.name("エンジンオイル交換" + i).description("1. エンジンを温める\n2. ドレンボルトを外す\n3. 新しいオイルを注入する")
+					.createdAt(now.minusMinutes(i)).updatedAt(now.minusMinutes(i)).build());
+			aiQuestionResponseList.add(AiQuestionResponse.builder().id(i).userId(1).bikeId(1).categoryId(1)
+					.question("エンジンオイルの選び方" + i).answer("【必要な工具・部品】\n- エンジンオイル 10W-40 SN以上\n【作業手順（簡潔に）】\n1. 手順1")
+					.createdAt(now.minusMinutes(i)).build());
+		}
+
+		maintenanceTaskPayload = objectMapper.writeValueAsBytes(maintenanceTaskResponseList);
+		aiQuestionPayload = objectMapper.writeValueAsBytes(aiQuestionResponseList);
+		System.out.printf("%n[payload] format=%s size=%d maintenanceTasks=%dB aiQuestions=%dB%n",
+				format, size, maintenanceTaskPayload.length, aiQuestionPayload.length);
+	}
+
+	private static ObjectMapper createObjectMapper(String format) {
+		ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+		JsonFactory factory = switch(format) {
+			case "json" -> null;
+			case "cbor" -> new CBORFactory();
+			case "smile" -> new SmileFactory();
+			case "msgpack" -> new MessagePackFactory();
+			default -> throw new IllegalArgumentException("未対応の形式です: " + format);
+		};
+		return factory == null ? jsonMapper : jsonMapper.copyWith(factory);
+	}
+
+	@Benchmark
+	public byte[] encodeMaintenanceTaskResponses() throws Exception {
+		return objectMapper.writeValueAsBytes(maintenanceTaskResponseList);
+	}
+
+	@Benchmark
+	public List<MaintenanceTaskResponse> decodeMaintenanceTaskResponses() throws Exception {
+		return objectMapper.readValue(maintenanceTaskPayload, MAINTENANCE_TASK_LIST_TYPE);
+	}
+
+	@Benchmark
+	public byte[] encodeAiQuestionResponses() throws Exception {
+		return objectMapper.writeValueAsBytes(aiQuestionResponseList);
+	}
+
+	@Benchmark
+	public List<AiQuestionResponse> decodeAiQuestionResponses() throws Exception {
+		return objectMapper.readValue(aiQuestionPayload, AI_QUESTION_LIST_TYPE);
+	}
+}
@@ -0,0 +1,82 @@
+package com.rikuto.revox.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rikuto.revox.compression.PrecompressedBody;
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 整備タスク一覧とAI質問履歴のJSONをgzipで圧縮する所要時間を計測するベンチマークです。
+ * Tomcatのレスポンス圧縮がリクエストごとに支払うCPU時間の目安として使用します。
+ * 圧縮前後のサイズは、セットアップ時に標準出力へ出力します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+	@Param({"10", "100", "1000"})
+	public int size;
+
+	private byte[] maintenanceTaskJson;
+
+	private byte[] aiQuestionJson;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		LocalDateTime now = LocalDateTime.now();
+		List<MaintenanceTaskResponse> maintenanceTaskResponseList = new ArrayList<>(size);
+		List<AiQuestionResponse> aiQuestionResponseList = new ArrayList<>(size);
+		for(int i = 1; i <= size; i++) {
+			maintenanceTaskResponseList.add(MaintenanceTaskResponse.builder().id(i).categoryId(1).bikeId(1)
+					.name("エンジンオイル交換" + i).description("1. エンジンを温める\n2. ドレンボルトを外す\n3. 新しいオイルを注入する")
+					.createdAt(now.minusMinutes(i)).updatedAt(now.minusMinutes(i)).build());
+			aiQuestionResponseList.add(AiQuestionResponse.builder().id(i).userId(1).bikeId(1).categoryId(1)
+					.question("エンジンオイルの選び方" + i).answer("【必要な工具・部品】\n- エンジンオイル 10W-40 SN以上\n【作業手順（簡潔に）】\n1. 手順1")
+					.createdAt(now.minusMinutes(i)).build());
+		}
+
+		maintenanceTaskJson = objectMapper.writeValueAsBytes(maintenanceTaskResponseList);
+		aiQuestionJson = objectMapper.writeValueAsBytes(aiQuestionResponseList);
+		printSize("maintenanceTasks", PrecompressedBody.of(maintenanceTaskJson));
+		printSize("aiQuestions", PrecompressedBody.of(aiQuestionJson));
+	}
+
+	private void printSize(String name, PrecompressedBody body) {
+		int gzipSize = body.gzip() == null ? body.identity().length : body.gzip().length;
+		System.out.printf("%n[payload] %s size=%d json=%dB gzip=%dB%n", name, size, body.identity().length, gzipSize);
+	}
+
+	@Benchmark
+	public PrecompressedBody gzipMaintenanceTaskResponses() {
+		return PrecompressedBody.of(maintenanceTaskJson);
+	}
+
+	@Benchmark
+	public PrecompressedBody gzipAiQuestionResponses() {
+		return PrecompressedBody.of(aiQuestionJson);
+	}
+}
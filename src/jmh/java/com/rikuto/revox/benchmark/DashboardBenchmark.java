@@ -0,0 +1,215 @@
+package com.rikuto.revox.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rikuto.revox.compression.PrecompressedBody;
+import com.rikuto.revox.controller.AiController;
+import com.rikuto.revox.controller.BikeController;
+import com.rikuto.revox.controller.CategoryController;
+import com.rikuto.revox.controller.DashboardController;
+import com.rikuto.revox.controller.MaintenanceTaskController;
+import com.rikuto.revox.domain.Ai;
+import com.rikuto.revox.domain.Bike;
+import com.rikuto.revox.domain.Category;
+import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.dashboard.CategoryTaskCountResponse;
+import com.rikuto.revox.dto.fields.ResponseFields;
+import com.rikuto.revox.dto.version.ResourceVersion;
+import com.rikuto.revox.mapper.AiMapper;
+import com.rikuto.revox.mapper.BikeMapper;
+import com.rikuto.revox.mapper.MaintenanceTaskMapper;
+import com.rikuto.revox.repository.AiRepository;
+import com.rikuto.revox.repository.BikeRepository;
+import com.rikuto.revox.repository.MaintenanceTaskRepository;
+import com.rikuto.revox.security.details.CurrentUserProvider;
+import com.rikuto.revox.service.AiService;
+import com.rikuto.revox.service.BikeService;
+import com.rikuto.revox.service.CategoryService;
+import com.rikuto.revox.service.DashboardService;
+import com.rikuto.revox.service.MaintenanceTaskImportService;
+import com.rikuto.revox.service.MaintenanceTaskSearchService;
+import com.rikuto.revox.service.MaintenanceTaskService;
+import jakarta.servlet.Filter;
+import org.mockito.stubbing.Answer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * ホーム画面の表示に必要なデータ取得の所要時間を比較するベンチマークです。
+ * fourCallsは従来のバイク、整備タスク、カテゴリー、AI質問の4エンドポイントを順番に呼び出す構成、
+ * dashboardはダッシュボードのエンドポイントを1回だけ呼び出す構成です。
+ * DBアクセスはモックに置き換え、1クエリごとにqueryMillis、1リクエストごとにroundTripMillisの待ち時間を与えています。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardBenchmark {
+
+	private static final int USER_ID = 1;
+
+	private static final int BIKE_COUNT = 3;
+
+	private static final int TASKS_PER_BIKE = 20;
+
+	@Param({"2"})
+	public long queryMillis;
+
+	@Param({"0", "20"})
+	public long roundTripMillis;
+
+	private MockMvc mockMvc;
+
+	private ExecutorService taskExecutor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		User user = User.builder().id(USER_ID).uniqueUserId("benchmark-user").nickname("ベンチマークユーザー").roles("USER").build();
+		Category category = Category.builder().id(1).name("エンジン").displayOrder(1).build();
+
+		List<Bike> bikeList = new ArrayList<>();
+		List<MaintenanceTask> taskList = new ArrayList<>();
+		List<MaintenanceTask> latestTaskList = new ArrayList<>();
+		for(int bikeIndex = 1; bikeIndex <= BIKE_COUNT; bikeIndex++) {
+			Bike bike = Bike.builder().id(bikeIndex).user(user).manufacturer("Honda").modelName("CBR1000RR-" + bikeIndex)
+					.currentMileage(12000).createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).build();
+			bikeList.add(bike);
+			for(int taskIndex = 1; taskIndex <= TASKS_PER_BIKE; taskIndex++) {
+				MaintenanceTask task = MaintenanceTask.builder().id(bikeIndex * 100 + taskIndex).bike(bike).category(category)
+						.name("エンジンオイル交換").description("10W-40").createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).build();
+				taskList.add(task);
+				if(taskIndex <= 3) {
+					latestTaskList.add(task);
+				}
+			}
+		}
+		List<Ai> aiList = List.of(Ai.builder().id(1).user(user).bike(bikeList.getFirst()).category(category)
+				.question("エンジンオイルの選び方").answer("粘度を確認してください。").createdAt(LocalDateTime.now()).build());
+
+		BikeMapper bikeMapper = new BikeMapper();
+		MaintenanceTaskMapper maintenanceTaskMapper = new MaintenanceTaskMapper();
+		AiMapper aiMapper = new AiMapper();
+		ResourceVersion version = new ResourceVersion((long) taskList.size(), (long) taskList.size());
+
+		BikeService bikeService = mock(BikeService.class);
+		when(bikeService.findBikeListVersion(USER_ID)).thenAnswer(afterQuery(version));
+		when(bikeService.findBikeByUserId(USER_ID)).thenAnswer(afterQuery(bikeMapper.toResponseList(bikeList)));
+
+		MaintenanceTaskService maintenanceTaskService = mock(MaintenanceTaskService.class);
+		when(maintenanceTaskService.findVersionByUserId(USER_ID)).thenAnswer(afterQuery(version));
+		when(maintenanceTaskService.findLatestMaintenanceTasksByUserId(USER_ID, ResponseFields.all()))
+				.thenAnswer(afterQuery(maintenanceTaskMapper.toResponseList(taskList)));
+
+		CategoryService categoryService = mock(CategoryService.class);
+		when(categoryService.findSerializedCategories()).thenReturn(new CategoryService.SerializedCategories(
+				PrecompressedBody.of("[{\"id\":1,\"name\":\"エンジン\",\"displayOrder\":1}]".getBytes(StandardCharsets.UTF_8)), "\"benchmark\""));
+
+		AiService aiService = mock(AiService.class);
+		when(aiService.getAiQuestionByUserId(USER_ID, ResponseFields.all())).thenAnswer(afterQuery(aiList.stream().map(aiMapper::toResponse).toList()));
+
+		BikeRepository bikeRepository = mock(BikeRepository.class);
+		when(bikeRepository.findByUserIdAndIsDeletedFalse(USER_ID)).thenAnswer(afterQuery(bikeList));
+
+		MaintenanceTaskRepository maintenanceTaskRepository = mock(MaintenanceTaskRepository.class);
+		when(maintenanceTaskRepository.findLatestPerBikeByUserId(eq(USER_ID), anyInt())).thenAnswer(afterQuery(latestTaskList));
+		when(maintenanceTaskRepository.countByCategoryForUserId(USER_ID))
+				.thenAnswer(afterQuery(List.of(new CategoryTaskCountResponse(1, (long) taskList.size()))));
+
+		AiRepository aiRepository = mock(AiRepository.class);
+		when(aiRepository.findTop5ByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(USER_ID)).thenAnswer(afterQuery(aiList));
+
+		taskExecutor = Executors.newFixedThreadPool(8);
+		DashboardService dashboardService = new DashboardService(bikeRepository, maintenanceTaskRepository, aiRepository,
+				bikeMapper, maintenanceTaskMapper, aiMapper, mock(PlatformTransactionManager.class), taskExecutor, 4);
+
+		ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		mockMvc = MockMvcBuilders.standaloneSetup(
+						new BikeController(bikeService, objectMapper),
+						new MaintenanceTaskController(maintenanceTaskService, mock(MaintenanceTaskImportService.class),
+								mock(MaintenanceTaskSearchService.class), mock(CurrentUserProvider.class), objectMapper),
+						new CategoryController(categoryService),
+						new AiController(aiService, objectMapper),
+						new DashboardController(dashboardService))
+				.addFilters(roundTripFilter())
+				.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		taskExecutor.shutdownNow();
+	}
+
+	@Benchmark
+	public int fourCalls() throws Exception {
+		return perform("/api/bikes/user/{userId}", USER_ID)
+				+ perform("/api/maintenance-task/user/{userId}", USER_ID)
+				+ perform("/api/categories")
+				+ perform("/api/ai/user/{userId}", USER_ID);
+	}
+
+	@Benchmark
+	public int dashboard() throws Exception {
+		return perform("/api/dashboard/user/{userId}", USER_ID);
+	}
+
+	private int perform(String path, Object... uriVariables) throws Exception {
+		return mockMvc.perform(get(path, uriVariables)).andReturn().getResponse().getContentLength();
+	}
+
+	/**
+	 * 1クエリ分の待ち時間の後に指定された値を返すAnswerを生成します。
+	 */
+	private <T> Answer<T> afterQuery(T value) {
+		return invocation -> {
+			Thread.sleep(queryMillis);
+			return value;
+		};
+	}
+
+	/**
+	 * 1リクエストごとにクライアントとの往復の待ち時間を与えるフィルターを生成します。
+	 */
+	private Filter roundTripFilter() {
+		return (request, response, chain) -> {
+			if(roundTripMillis > 0) {
+				try {
+					Thread.sleep(roundTripMillis);
+				} catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			chain.doFilter(request, response);
+		};
+	}
+}
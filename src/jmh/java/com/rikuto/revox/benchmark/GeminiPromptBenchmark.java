@@ -0,0 +1,47 @@
+package com.rikuto.revox.benchmark;
+
+import com.rikuto.revox.dto.ai.AiCreatePrompt;
+import com.rikuto.revox.service.GeminiPromptBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini AIへ送信するプロンプトの生成の所要時間を計測するベンチマークです。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeminiPromptBenchmark {
+
+	private AiCreatePrompt prompt;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		prompt = AiCreatePrompt.builder()
+				.manufacturer("Honda")
+				.modelName("CBR1000RR")
+				.modelCode("SC77")
+				.modelYear(2020)
+				.question("エンジンオイルの交換手順と、ドレンボルトの締め付けトルクを教えてください。")
+				.build();
+	}
+
+	@Benchmark
+	public String buildPrompt() {
+		return GeminiPromptBuilder.build(prompt);
+	}
+}
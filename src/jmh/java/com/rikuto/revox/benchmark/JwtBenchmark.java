@@ -0,0 +1,87 @@
+package com.rikuto.revox.benchmark;
+
+import com.rikuto.revox.domain.User;
+import com.rikuto.revox.security.details.ExternalAuthUserDetails;
+import com.rikuto.revox.security.details.ExternalAuthUserDetailsService;
+import com.rikuto.revox.security.jwt.JwtAuthenticationFilter;
+import com.rikuto.revox.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 全リクエストで実行されるJWTの生成、検証、および認証フィルターの所要時間を計測するベンチマークです。
+ * authenticationFilterはユーザー情報の読み込みをモックに置き換え、フィルターチェーンの後続処理を含めずに計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+	private static final String SECRET_KEY = "benchmark-secret-key-for-hs256-signature-0123456789";
+
+	private static final String UNIQUE_USER_ID = "benchmark-user";
+
+	private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+	};
+
+	private JwtTokenProvider jwtTokenProvider;
+
+	private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+	private String token;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3_600_000L);
+		token = jwtTokenProvider.generateToken(UNIQUE_USER_ID, "USER");
+
+		User user = User.builder().id(1).uniqueUserId(UNIQUE_USER_ID).nickname("ベンチマークユーザー").roles("USER").build();
+		ExternalAuthUserDetailsService userDetailsService = mock(ExternalAuthUserDetailsService.class);
+		when(userDetailsService.loadUserByUniqueUserId(UNIQUE_USER_ID)).thenReturn(new ExternalAuthUserDetails(user));
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, new SimpleMeterRegistry());
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtTokenProvider.generateToken(UNIQUE_USER_ID, "USER");
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtTokenProvider.validateToken(token);
+	}
+
+	@Benchmark
+	public Object authenticationFilter() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bikes/user/1");
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+
+		Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		SecurityContextHolder.clearContext();
+		return principal;
+	}
+}
@@ -0,0 +1,163 @@
+package com.rikuto.revox.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ユーザー単位の最新整備タスク検索の所要時間を比較するベンチマークです。
+ * joinAndSortは従来のbikesと結合して作成日時でソートするクエリ、
+ * denormalizedTopNはmaintenance_tasks.user_idのインデックスから先頭5件を読むクエリです。
+ * Testcontainersで起動したPostgreSQLにFlywayでスキーマを作成し、1ユーザーにtasksPerUser件の整備タスクを投入して計測します。
+ * 実行にはDockerが必要です。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LatestMaintenanceTasksBenchmark {
+
+	private static final int BIKES_PER_USER = 5;
+
+	private static final int OTHER_USER_COUNT = 50;
+
+	private static final int TASKS_PER_OTHER_USER = 2000;
+
+	private static final String JOIN_AND_SORT_SQL = """
+			SELECT t.* FROM maintenance_tasks t JOIN bikes b ON b.id = t.bike_id
+			WHERE b.user_id = ? AND t.is_deleted = false
+			ORDER BY t.created_at DESC, t.id DESC
+			LIMIT 5
+			""";
+
+	private static final String DENORMALIZED_TOP_N_SQL = """
+			SELECT * FROM maintenance_tasks t
+			WHERE t.user_id = ? AND t.is_deleted = false
+			ORDER BY t.created_at DESC, t.id DESC
+			LIMIT 5
+			""";
+
+	@Param({"100000"})
+	public int tasksPerUser;
+
+	private PostgreSQLContainer<?> postgres;
+
+	private Connection connection;
+
+	private PreparedStatement joinAndSortStatement;
+
+	private PreparedStatement denormalizedTopNStatement;
+
+	private int userId;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		postgres = new PostgreSQLContainer<>("postgres:16");
+		postgres.start();
+		Flyway.configure()
+				.dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+				.locations("classpath:db/migration")
+				.load()
+				.migrate();
+
+		connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+		userId = seedUser("benchmark-user", tasksPerUser);
+		for(int i = 1; i <= OTHER_USER_COUNT; i++) {
+			seedUser("benchmark-other-user-" + i, TASKS_PER_OTHER_USER);
+		}
+		try(Statement statement = connection.createStatement()) {
+			statement.execute("ANALYZE");
+		}
+
+		joinAndSortStatement = connection.prepareStatement(JOIN_AND_SORT_SQL);
+		denormalizedTopNStatement = connection.prepareStatement(DENORMALIZED_TOP_N_SQL);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+		postgres.stop();
+	}
+
+	@Benchmark
+	public int joinAndSort() throws SQLException {
+		return readAll(joinAndSortStatement);
+	}
+
+	@Benchmark
+	public int denormalizedTopN() throws SQLException {
+		return readAll(denormalizedTopNStatement);
+	}
+
+	private int readAll(PreparedStatement statement) throws SQLException {
+		statement.setInt(1, userId);
+		int sum = 0;
+		try(ResultSet resultSet = statement.executeQuery()) {
+			while(resultSet.next()) {
+				sum += resultSet.getInt("id");
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * ユーザーを登録し、バイクごとに均等に分けた整備タスクを作成日時をずらして投入します。
+	 * 整備タスクの4件に1件は論理削除済みとします。
+	 *
+	 * @return 登録したユーザーのID
+	 */
+	private int seedUser(String uniqueUserId, int taskCount) throws SQLException {
+		int createdUserId;
+		try(PreparedStatement statement = connection.prepareStatement(
+				"INSERT INTO users (nickname, unique_user_id) VALUES (?, ?) RETURNING id")) {
+			statement.setString(1, uniqueUserId);
+			statement.setString(2, uniqueUserId);
+			try(ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				createdUserId = resultSet.getInt(1);
+			}
+		}
+		try(PreparedStatement statement = connection.prepareStatement("""
+				INSERT INTO bikes (user_id, manufacturer, model_name)
+				SELECT ?, 'Honda', 'CBR' || s FROM generate_series(1, ?) s
+				""")) {
+			statement.setInt(1, createdUserId);
+			statement.setInt(2, BIKES_PER_USER);
+			statement.executeUpdate();
+		}
+		try(PreparedStatement statement = connection.prepareStatement("""
+				INSERT INTO maintenance_tasks (category_id, bike_id, name, description, is_deleted, created_at)
+				SELECT (SELECT MIN(id) FROM categories), b.id, 'task' || s, 'description', s % 4 = 0,
+				       CURRENT_TIMESTAMP - s * INTERVAL '1 minute'
+				FROM bikes b CROSS JOIN generate_series(1, ?) s
+				WHERE b.user_id = ?
+				""")) {
+			statement.setInt(1, taskCount / BIKES_PER_USER);
+			statement.setInt(2, createdUserId);
+			statement.executeUpdate();
+		}
+		return createdUserId;
+	}
+}
@@ -0,0 +1,106 @@
+package com.rikuto.revox.benchmark;
+
+import com.rikuto.revox.domain.Ai;
+import com.rikuto.revox.domain.Bike;
+import com.rikuto.revox.domain.Category;
+import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.bike.BikeResponse;
+import com.rikuto.revox.dto.category.CategoryResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.mapper.AiMapper;
+import com.rikuto.revox.mapper.BikeMapper;
+import com.rikuto.revox.mapper.CategoryMapper;
+import com.rikuto.revox.mapper.MaintenanceTaskMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 各マッパーでエンティティのリストをレスポンスDTOのリストに変換する所要時間を計測するベンチマークです。
+ * AiMapperはリスト変換のメソッドを持たないため、AiServiceと同じくStreamで1件ずつ変換します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+	@Param({"10", "1000"})
+	public int size;
+
+	private final BikeMapper bikeMapper = new BikeMapper();
+
+	private final MaintenanceTaskMapper maintenanceTaskMapper = new MaintenanceTaskMapper();
+
+	private final AiMapper aiMapper = new AiMapper();
+
+	private final CategoryMapper categoryMapper = new CategoryMapper();
+
+	private List<Bike> bikeList;
+
+	private List<MaintenanceTask> maintenanceTaskList;
+
+	private List<Ai> aiList;
+
+	private List<Category> categoryList;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LocalDateTime now = LocalDateTime.now();
+		User user = User.builder().id(1).uniqueUserId("benchmark-user").nickname("ベンチマークユーザー").roles("USER").build();
+		Bike bike = Bike.builder().id(1).user(user).manufacturer("Honda").modelName("CBR1000RR").build();
+
+		bikeList = new ArrayList<>(size);
+		maintenanceTaskList = new ArrayList<>(size);
+		aiList = new ArrayList<>(size);
+		categoryList = new ArrayList<>(size);
+		for(int i = 1; i <= size; i++) {
+			Category category = Category.builder().id(i).name("カテゴリー" + i).displayOrder(i).createdAt(now).updatedAt(now).build();
+			categoryList.add(category);
+			bikeList.add(Bike.builder().id(i).user(user).manufacturer("Honda").modelName("CBR1000RR-" + i).modelCode("SC77")
+					.modelYear(2020).currentMileage(12000).purchaseDate(now.toLocalDate()).createdAt(now).updatedAt(now).build());
+			maintenanceTaskList.add(MaintenanceTask.builder().id(i).bike(bike).category(category).name("エンジンオイル交換" + i)
+					.description("10W-40のオイルを3.2L注入").createdAt(now).updatedAt(now).build());
+			aiList.add(Ai.builder().id(i).user(user).bike(bike).category(category).question("エンジンオイルの選び方" + i)
+					.answer("粘度と規格を車両の仕様書で確認してください。").createdAt(now).build());
+		}
+	}
+
+	@Benchmark
+	public List<BikeResponse> bikeMapper() {
+		return bikeMapper.toResponseList(bikeList);
+	}
+
+	@Benchmark
+	public List<MaintenanceTaskResponse> maintenanceTaskMapper() {
+		return maintenanceTaskMapper.toResponseList(maintenanceTaskList);
+	}
+
+	@Benchmark
+	public List<AiQuestionResponse> aiMapper() {
+		return aiList.stream().map(aiMapper::toResponse).toList();
+	}
+
+	@Benchmark
+	public List<CategoryResponse> categoryMapper() {
+		return categoryMapper.toResponseList(categoryList);
+	}
+}
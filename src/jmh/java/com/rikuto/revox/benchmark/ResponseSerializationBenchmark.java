@@ -0,0 +1,85 @@
+package com.rikuto.revox.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.bike.BikeResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * レスポンスDTOのリストをJSONにシリアライズする所要時間を計測するベンチマークです。
+ * ObjectMapperはSpring Bootと同じくJackson2ObjectMapperBuilderで生成し、日時をISO-8601の文字列で出力します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+	@Param({"100", "10000"})
+	public int size;
+
+	private ObjectMapper objectMapper;
+
+	private List<BikeResponse> bikeResponseList;
+
+	private List<MaintenanceTaskResponse> maintenanceTaskResponseList;
+
+	private List<AiQuestionResponse> aiQuestionResponseList;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		LocalDateTime now = LocalDateTime.now();
+		bikeResponseList = new ArrayList<>(size);
+		maintenanceTaskResponseList = new ArrayList<>(size);
+		aiQuestionResponseList = new ArrayList<>(size);
+		for(int i = 1; i <= size; i++) {
+			bikeResponseList.add(BikeResponse.builder().id(i).userId(1).manufacturer("Honda").modelName("CBR1000RR-" + i)
+					.modelCode("SC77").modelYear(2020).currentMileage(12000).purchaseDate(LocalDate.of(2020, 4, 1))
+					.createdAt(now).updatedAt(now).build());
+			maintenanceTaskResponseList.add(MaintenanceTaskResponse.builder().id(i).categoryId(1).bikeId(1)
+					.name("エンジンオイル交換" + i).description("1. エンジンを温める\n2. ドレンボルトを外す\n3. 新しいオイルを注入する")
+					.createdAt(now).updatedAt(now).build());
+			aiQuestionResponseList.add(AiQuestionResponse.builder().id(i).userId(1).bikeId(1).categoryId(1)
+					.question("エンジンオイルの選び方" + i).answer("【必要な工具・部品】\n- エンジンオイル 10W-40 SN以上\n【作業手順（簡潔に）】\n1. 手順1")
+					.createdAt(now).build());
+		}
+	}
+
+	@Benchmark
+	public byte[] bikeResponses() throws Exception {
+		return objectMapper.writeValueAsBytes(bikeResponseList);
+	}
+
+	@Benchmark
+	public byte[] maintenanceTaskResponses() throws Exception {
+		return objectMapper.writeValueAsBytes(maintenanceTaskResponseList);
+	}
+
+	@Benchmark
+	public byte[] aiQuestionResponses() throws Exception {
+		return objectMapper.writeValueAsBytes(aiQuestionResponseList);
+	}
+}
@@ -0,0 +1,174 @@
+package com.rikuto.revox.loadtest;
+
+import com.rikuto.revox.loadtest.LoadTestDataSeeder.SeededUser;
+import com.rikuto.revox.security.jwt.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * プラットフォームスレッドと仮想スレッドのそれぞれの実行モードで、同時に処理できるAIへの質問の数を計測する負荷試験の共通処理です。
+ * Tomcatのスレッド数の上限をTOMCAT_MAX_THREADSに下げた状態で、それを超える数の質問を同時に送信し、
+ * スタブサーバーが同時に受け付けたGemini APIのリクエストの最大数を記録します。
+ */
+@Testcontainers
+@ActiveProfiles("prod")
+abstract class AiConcurrencyLoadTestSupport {
+
+	static final int TOMCAT_MAX_THREADS = 50;
+
+	static final int CONCURRENT_QUESTIONS = 200;
+
+	static final int DB_MAX_POOL_SIZE = 8;
+
+	private static final String GOOGLE_CLIENT_ID = "loadtest-client-id";
+
+	static final GeminiStubServer geminiStubServer = startGeminiStubServer();
+
+	@SuppressWarnings("resource")
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+			.withDatabaseName("loadtest")
+			.withUsername("user")
+			.withPassword("pass");
+
+	@DynamicPropertySource
+	static void overrideProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+		registry.add("spring.datasource.hikari.maximum-pool-size", () -> DB_MAX_POOL_SIZE);
+		registry.add("spring.flyway.enabled", () -> true);
+		registry.add("server.tomcat.threads.max", () -> TOMCAT_MAX_THREADS);
+		registry.add("logging.level.com.rikuto.revox", () -> "WARN");
+		registry.add("gemini.base-url", geminiStubServer::baseUrl);
+		registry.add("gemini.api-key", () -> "loadtest");
+		registry.add("google.client-id", () -> GOOGLE_CLIENT_ID);
+		registry.add("JWT_SECRET_KEY", () -> "loadtest-secret-key-loadtest-secret-key");
+		registry.add("JWT_EXPIRATION", () -> 3_600_000);
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	private static GeminiStubServer startGeminiStubServer() {
+		try {
+			return new GeminiStubServer(Long.getLong("loadtest.gemini-latency-ms", 2000));
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * ユーザーごとに1件ずつ、CONCURRENT_QUESTIONS件のAIへの質問を同時に送信し、
+	 * Gemini APIへ同時に送信されたリクエストの最大数を返します。
+	 * 同時にGoogleのIDトークンの検証（公開鍵の取得）を実行し、GoogleのHTTPクライアントの処理も含めます。
+	 *
+	 * @return Gemini APIへ同時に送信されたリクエストの最大数
+	 */
+	int sendConcurrentAiQuestions() throws Exception {
+		LoadTestDataSeeder seeder = new LoadTestDataSeeder(jdbcTemplate);
+		List<SeededUser> users = seeder.seed(CONCURRENT_QUESTIONS, 1, 0, 0);
+		List<Integer> categoryIds = seeder.findCategoryIds();
+		URI baseUri = URI.create("http://localhost:" + port);
+		LoadTestEndpoint aiQuestion = LoadTestEndpoint.aiQuestion(1);
+
+		List<HttpRequest> requests = new ArrayList<>();
+		for(SeededUser user : users) {
+			requests.add(aiQuestion.newRequest(baseUri, user, categoryIds)
+					.header("Authorization", "Bearer " + jwtTokenProvider.generateToken(user.uniqueUserId(), "USER"))
+					.timeout(Duration.ofSeconds(120))
+					.build());
+		}
+		for(int i = 0; i < 10; i++) {
+			requests.add(HttpRequest.newBuilder(baseUri.resolve("/api/auth/google"))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString("{\"idToken\":\"" + unsignedGoogleIdToken() + "\"}"))
+					.timeout(Duration.ofSeconds(120))
+					.build());
+		}
+
+		geminiStubServer.resetMaxInFlightRequests();
+		try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+		    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build()) {
+			List<Future<Integer>> responses = new ArrayList<>();
+			for(HttpRequest request : requests) {
+				responses.add(executor.submit(() -> client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+			}
+			for(int i = 0; i < users.size(); i++) {
+				int statusCode = responses.get(i).get();
+				if(statusCode != 200) {
+					throw new IllegalStateException("AIへの質問が失敗しました。ステータスコード: " + statusCode);
+				}
+			}
+			for(Future<Integer> response : responses) {
+				response.get();
+			}
+		}
+		return geminiStubServer.maxInFlightRequests();
+	}
+
+	/**
+	 * 計測結果をレポートに追記します。
+	 *
+	 * @param mode                実行モード
+	 * @param maxInFlightRequests Gemini APIへ同時に送信されたリクエストの最大数
+	 */
+	void report(String mode, int maxInFlightRequests) throws IOException {
+		String line = "%s: 同時に処理したAIへの質問 %d / %d件（Tomcatのスレッド数の上限 %d、DBコネクション数の上限 %d）%n"
+				.formatted(mode, maxInFlightRequests, CONCURRENT_QUESTIONS, TOMCAT_MAX_THREADS, DB_MAX_POOL_SIZE);
+		System.out.print(line);
+		String reportDir = System.getProperty("loadtest.report-dir");
+		if(reportDir != null) {
+			Path file = Path.of(reportDir, "ai-concurrency.txt");
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		}
+	}
+
+	/**
+	 * 発行者と対象者が正しく、署名だけが不正なGoogleのIDトークンを生成します。
+	 * 署名の検証の前に公開鍵の取得が行われるため、GoogleのHTTPクライアントの処理を実行できます。
+	 */
+	private static String unsignedGoogleIdToken() {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		long now = Instant.now().getEpochSecond();
+		String header = "{\"alg\":\"RS256\",\"kid\":\"loadtest\",\"typ\":\"JWT\"}";
+		String payload = "{\"iss\":\"https://accounts.google.com\",\"aud\":\"%s\",\"sub\":\"loadtest\",\"iat\":%d,\"exp\":%d}"
+				.formatted(GOOGLE_CLIENT_ID, now, now + 3600);
+		return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString("signature".getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,110 @@
+package com.rikuto.revox.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gemini APIのgenerateContentを模擬するスタブサーバーです。
+ * 任意のPOSTリクエストに対して、指定された待ち時間の後に固定の回答を返します。
+ * 負荷試験でGemini APIの呼び出しを外部に送信せず、応答時間だけを再現するために使用します。
+ */
+public class GeminiStubServer implements AutoCloseable {
+
+	private static final byte[] RESPONSE_BODY = """
+			{"candidates":[{"content":{"role":"model","parts":[{"text":"【必要な工具・部品】\\n- エンジンオイル 10W-40 SN以上\\n\\n【作業手順（簡潔に）】\\n1. エンジンを温める\\n2. ドレンボルトを外す\\n\\n【トルク値】\\n- ドレンボルト: 30 Nm"}]},"finishReason":"STOP"}],\
+			"usageMetadata":{"promptTokenCount":350,"candidatesTokenCount":80,"totalTokenCount":430}}
+			""".getBytes(StandardCharsets.UTF_8);
+
+	private final HttpServer server;
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final AtomicLong requestCount = new AtomicLong();
+
+	private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+	private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+
+	private final long latencyMillis;
+
+	/**
+	 * 空いているポートでスタブサーバーを起動します。
+	 *
+	 * @param latencyMillis 1リクエストごとに応答までに待つ時間（ミリ秒）
+	 */
+	public GeminiStubServer(long latencyMillis) throws IOException {
+		this.latencyMillis = latencyMillis;
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/", this::handle);
+		this.server.setExecutor(executor);
+		this.server.start();
+	}
+
+	/**
+	 * GeminiServiceのgemini.base-urlに指定する接続先のURLです。
+	 */
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	/**
+	 * 起動してから受け付けたリクエストの件数です。
+	 */
+	public long requestCount() {
+		return requestCount.get();
+	}
+
+	/**
+	 * 同時に応答待ちだったリクエストの最大数です。
+	 * アプリケーションが並行して呼び出せたGemini APIのリクエスト数の上限を確認するために使用します。
+	 */
+	public int maxInFlightRequests() {
+		return maxInFlightRequests.get();
+	}
+
+	/**
+	 * 同時に応答待ちだったリクエストの最大数を0に戻します。
+	 */
+	public void resetMaxInFlightRequests() {
+		maxInFlightRequests.set(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try(exchange; InputStream requestBody = exchange.getRequestBody()) {
+			requestBody.readAllBytes();
+			requestCount.incrementAndGet();
+			maxInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
+			try {
+				if(latencyMillis > 0) {
+					Thread.sleep(latencyMillis);
+				}
+			} finally {
+				inFlightRequests.decrementAndGet();
+			}
+
+			exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+			exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+			try(OutputStream responseBody = exchange.getResponseBody()) {
+				responseBody.write(RESPONSE_BODY);
+			}
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,80 @@
+package com.rikuto.revox.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 1エンドポイント分のレイテンシとレスポンスの件数を記録するクラスです。
+ * 複数のスレッドから同時に記録されるため、すべての操作をロックで排他制御します。
+ * 仮想スレッドから呼び出されるため、synchronizedではなくReentrantLockを使用しています。
+ */
+public class LatencyRecorder {
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private long[] latencyNanos = new long[1024];
+
+	private int count;
+
+	private int clientErrors;
+
+	private int serverErrors;
+
+	/**
+	 * 1件のレスポンスを記録します。
+	 *
+	 * @param nanos      送信予定時刻からレスポンスの受信完了までの時間（ナノ秒）
+	 * @param statusCode HTTPステータスコード（通信に失敗した場合は0）
+	 */
+	public void record(long nanos, int statusCode) {
+		lock.lock();
+		try {
+			if(count == latencyNanos.length) {
+				latencyNanos = Arrays.copyOf(latencyNanos, count * 2);
+			}
+			latencyNanos[count++] = nanos;
+			if(statusCode >= 400 && statusCode < 500) {
+				clientErrors++;
+			} else if(statusCode >= 500 || statusCode == 0) {
+				serverErrors++;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 記録したレイテンシのパーセンタイルを集計します。
+	 *
+	 * @param endpoint       エンドポイント名
+	 * @param elapsedSeconds 計測期間（秒）
+	 * @return 集計結果
+	 */
+	public Summary summarize(String endpoint, double elapsedSeconds) {
+		lock.lock();
+		try {
+			long[] sorted = Arrays.copyOf(latencyNanos, count);
+			Arrays.sort(sorted);
+			return new Summary(endpoint, count, clientErrors, serverErrors, count / elapsedSeconds,
+					percentileMillis(sorted, 50.0), percentileMillis(sorted, 99.0), percentileMillis(sorted, 99.9),
+					sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static double percentileMillis(long[] sorted, double percentile) {
+		if(sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / 1_000_000.0;
+	}
+
+	/**
+	 * 1エンドポイント分の集計結果です。レイテンシの単位はミリ秒です。
+	 */
+	public record Summary(String endpoint, int count, int clientErrors, int serverErrors, double throughput,
+	                      double p50, double p99, double p999, double max) {
+	}
+}
@@ -0,0 +1,130 @@
+package com.rikuto.revox.loadtest;
+
+import com.rikuto.revox.loadtest.LoadTestDataSeeder.SeededUser;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 指定したレートで混合トラフィックを送信する負荷生成クラスです。
+ * レスポンスを待たずに一定間隔でリクエストを送信するオープンモデルで負荷をかけ、
+ * レイテンシは送信予定時刻から計測します（アプリケーションの応答が遅れても送信間隔は変わらないため、待ち時間がレイテンシに含まれます）。
+ */
+public class LoadGenerator {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+	private final URI baseUri;
+
+	private final List<LoadTestEndpoint> endpoints;
+
+	private final int[] cumulativeWeights;
+
+	private final List<SeededUser> users;
+
+	private final List<Integer> categoryIds;
+
+	private final Map<Integer, String> authorizationByUserId;
+
+	/**
+	 * @param baseUri               アプリケーションのURL
+	 * @param endpoints             送信するリクエストの種類と重み
+	 * @param users                 リクエストを送信するユーザー
+	 * @param categoryIds           カテゴリーIDのリスト
+	 * @param authorizationByUserId ユーザーIDごとのAuthorizationヘッダーの値
+	 */
+	public LoadGenerator(URI baseUri, List<LoadTestEndpoint> endpoints, List<SeededUser> users,
+	                     List<Integer> categoryIds, Map<Integer, String> authorizationByUserId) {
+		this.baseUri = baseUri;
+		this.endpoints = endpoints;
+		this.users = users;
+		this.categoryIds = categoryIds;
+		this.authorizationByUserId = authorizationByUserId;
+
+		this.cumulativeWeights = new int[endpoints.size()];
+		int total = 0;
+		for(int i = 0; i < endpoints.size(); i++) {
+			total += endpoints.get(i).weight();
+			cumulativeWeights[i] = total;
+		}
+	}
+
+	/**
+	 * 指定した期間、指定したレートでリクエストを送信し、すべてのレスポンスを受信するまで待ちます。
+	 *
+	 * @param requestsPerSecond 1秒あたりの送信件数
+	 * @param duration          送信する期間
+	 * @return エンドポイント名ごとの記録（混合比率の定義順）
+	 */
+	public Map<String, LatencyRecorder> run(double requestsPerSecond, Duration duration) throws InterruptedException {
+		Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+		endpoints.forEach(endpoint -> recorders.put(endpoint.name(), new LatencyRecorder()));
+
+		long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+		long durationNanos = duration.toNanos();
+
+		try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+		    HttpClient client = HttpClient.newBuilder()
+				    .version(HttpClient.Version.HTTP_1_1)
+				    .connectTimeout(Duration.ofSeconds(10))
+				    .executor(executor)
+				    .build()) {
+			long start = System.nanoTime();
+			for(long i = 0; i * intervalNanos < durationNanos; i++) {
+				long scheduledAt = start + i * intervalNanos;
+				long waitNanos;
+				while((waitNanos = scheduledAt - System.nanoTime()) > 0) {
+					LockSupport.parkNanos(waitNanos);
+				}
+				executor.submit(() -> send(client, recorders, scheduledAt));
+			}
+			executor.shutdown();
+			if(! executor.awaitTermination(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("送信したリクエストのレスポンスを時間内に受信できませんでした。");
+			}
+		}
+		return recorders;
+	}
+
+	private void send(HttpClient client, Map<String, LatencyRecorder> recorders, long scheduledAt) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		LoadTestEndpoint endpoint = pickEndpoint(random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+		SeededUser user = users.get(random.nextInt(users.size()));
+		HttpRequest request = endpoint.newRequest(baseUri, user, categoryIds)
+				.header("Authorization", authorizationByUserId.get(user.id()))
+				.timeout(REQUEST_TIMEOUT)
+				.build();
+
+		int statusCode;
+		try {
+			statusCode = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+		} catch(IOException e) {
+			statusCode = 0;
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		recorders.get(endpoint.name()).record(System.nanoTime() - scheduledAt, statusCode);
+	}
+
+	private LoadTestEndpoint pickEndpoint(int weightPoint) {
+		for(int i = 0; i < cumulativeWeights.length; i++) {
+			if(weightPoint < cumulativeWeights[i]) {
+				return endpoints.get(i);
+			}
+		}
+		return endpoints.getLast();
+	}
+}
@@ -0,0 +1,110 @@
+package com.rikuto.revox.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 負荷試験用のユーザー、バイク、整備タスク、AI質問履歴を投入するクラスです。
+ * 件数が多いため、エンティティを経由せずgenerate_seriesで一括投入します。
+ */
+public class LoadTestDataSeeder {
+
+	private static final String USER_PREFIX = "loadtest-user-";
+
+	private static final String[] TASK_NAMES = {
+			"エンジンオイル交換", "オイルフィルター交換", "チェーン清掃・注油", "ブレーキパッド交換", "タイヤ空気圧調整",
+			"冷却水交換", "スパークプラグ交換", "エアクリーナー清掃", "ブレーキフルード交換", "バッテリー点検"
+	};
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public LoadTestDataSeeder(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * テストデータを投入し、統計情報を更新した後、リクエストの送信に必要なIDを読み込みます。
+	 * 整備タスクの名前は実際の記録に近い10種類から選び、検索の対象となる詳細内容も設定します。
+	 *
+	 * @param userCount        ユーザー数
+	 * @param bikesPerUser     ユーザーごとのバイク数
+	 * @param tasksPerBike     バイクごとの整備タスク数
+	 * @param questionsPerUser ユーザーごとのAI質問数
+	 * @return 投入したユーザーのリスト
+	 */
+	public List<SeededUser> seed(int userCount, int bikesPerUser, int tasksPerBike, int questionsPerUser) {
+		jdbcTemplate.update("""
+				INSERT INTO users (nickname, unique_user_id, roles)
+				SELECT 'ユーザー' || i, ? || i, 'USER' FROM generate_series(1, ?) i
+				""", USER_PREFIX, userCount);
+		jdbcTemplate.update("""
+				INSERT INTO bikes (user_id, manufacturer, model_name, model_code, model_year, current_mileage)
+				SELECT u.id, 'Honda', 'CBR' || s || '00RR', 'SC' || (70 + s), 2015 + s, 1000 * s
+				FROM users u CROSS JOIN generate_series(1, ?) s
+				WHERE u.unique_user_id LIKE ? || '%'
+				""", bikesPerUser, USER_PREFIX);
+		jdbcTemplate.update("""
+				INSERT INTO maintenance_tasks (category_id, bike_id, name, description, created_at, updated_at)
+				SELECT c.ids[1 + s % array_length(c.ids, 1)], b.id,
+				       (?::text[])[1 + s % ?], s || '回目の整備。10W-40のオイルを使用し、ドレンボルトを30Nmで締め付けた。',
+				       CURRENT_TIMESTAMP - s * INTERVAL '1 day', CURRENT_TIMESTAMP - s * INTERVAL '1 day'
+				FROM bikes b
+				JOIN users u ON u.id = b.user_id
+				CROSS JOIN (SELECT array_agg(id ORDER BY id) AS ids FROM categories) c
+				CROSS JOIN generate_series(1, ?) s
+				WHERE u.unique_user_id LIKE ? || '%'
+				""", TASK_NAMES, TASK_NAMES.length, tasksPerBike, USER_PREFIX);
+		jdbcTemplate.update("""
+				INSERT INTO ai_questions (user_id, bike_id, category_id, question, answer, created_at)
+				SELECT b.user_id, b.id, (SELECT MIN(id) FROM categories), 'エンジンオイルの選び方 ' || s,
+				       '粘度と規格を車両の仕様書で確認してください。', CURRENT_TIMESTAMP - s * INTERVAL '1 hour'
+				FROM bikes b
+				JOIN users u ON u.id = b.user_id
+				CROSS JOIN generate_series(1, ?) s
+				WHERE u.unique_user_id LIKE ? || '%' AND b.model_name = 'CBR100RR'
+				""", questionsPerUser, USER_PREFIX);
+		jdbcTemplate.execute("ANALYZE");
+
+		return loadSeededUsers();
+	}
+
+	/**
+	 * 整備タスクの登録とAIへの質問に使用するカテゴリーIDを取得します。
+	 */
+	public List<Integer> findCategoryIds() {
+		return jdbcTemplate.queryForList("SELECT id FROM categories ORDER BY id", Integer.class);
+	}
+
+	private List<SeededUser> loadSeededUsers() {
+		Map<Integer, SeededUser> users = new LinkedHashMap<>();
+		jdbcTemplate.query("""
+				SELECT u.id AS user_id, u.unique_user_id, b.id AS bike_id,
+				       (SELECT MAX(t.id) FROM maintenance_tasks t WHERE t.bike_id = b.id) AS task_id
+				FROM users u JOIN bikes b ON b.user_id = u.id
+				WHERE u.unique_user_id LIKE ? || '%'
+				ORDER BY u.id, b.id
+				""", rs -> {
+			String uniqueUserId = rs.getString("unique_user_id");
+			SeededUser user = users.computeIfAbsent(rs.getInt("user_id"),
+					id -> new SeededUser(id, uniqueUserId, new ArrayList<>(), new ArrayList<>()));
+			user.bikeIds().add(rs.getInt("bike_id"));
+			user.taskIds().add(rs.getInt("task_id"));
+		}, USER_PREFIX);
+		return List.copyOf(users.values());
+	}
+
+	/**
+	 * 投入したユーザーと、リクエストの送信に使用するバイクID、整備タスクIDです。
+	 *
+	 * @param id           ユーザーID
+	 * @param uniqueUserId JWTの発行に使用する一意のユーザーID
+	 * @param bikeIds      ユーザーが所有するバイクID
+	 * @param taskIds      各バイクの整備タスクID（更新リクエストに使用）
+	 */
+	public record SeededUser(int id, String uniqueUserId, List<Integer> bikeIds, List<Integer> taskIds) {
+	}
+}
@@ -0,0 +1,108 @@
+package com.rikuto.revox.loadtest;
+
+import com.rikuto.revox.loadtest.LoadTestDataSeeder.SeededUser;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+/**
+ * 負荷試験で送信するリクエストの種類と、混合比率の重みです。
+ * 実際の利用状況に合わせて参照系のリクエストの比率を高くしています。
+ * 論理削除のエンドポイントは投入したデータを減らしてしまうため対象外とします。
+ *
+ * @param name   レポートに表示するエンドポイント名
+ * @param weight 混合比率の重み
+ * @param method HTTPメソッド
+ * @param path   送信するユーザーとカテゴリーIDからパスを生成する関数
+ * @param body   送信するユーザーとカテゴリーIDからJSONの本文を生成する関数（本文がない場合はnull）
+ */
+public record LoadTestEndpoint(String name,
+                               int weight,
+                               String method,
+                               BiFunction<SeededUser, List<Integer>, String> path,
+                               BiFunction<SeededUser, List<Integer>, String> body) {
+
+	/**
+	 * すべてのコントローラーのエンドポイントを含む混合比率です。
+	 */
+	public static List<LoadTestEndpoint> mixedTraffic() {
+		return List.of(
+				get("GET /api/dashboard/user/{userId}", 15, (user, categories) -> "/api/dashboard/user/" + user.id()),
+				get("GET /api/bikes/user/{userId}", 10, (user, categories) -> "/api/bikes/user/" + user.id()),
+				get("GET /api/bikes/user/{userId}/bike/{bikeId}", 5,
+						(user, categories) -> "/api/bikes/user/" + user.id() + "/bike/" + randomOf(user.bikeIds())),
+				get("GET /api/maintenance-task/user/{userId}", 10, (user, categories) -> "/api/maintenance-task/user/" + user.id()),
+				get("GET /api/maintenance-task/bike/{bikeId}", 15,
+						(user, categories) -> "/api/maintenance-task/bike/" + randomOf(user.bikeIds())),
+				get("GET /api/maintenance-task/bike/{bikeId}/category/{categoryId}", 8,
+						(user, categories) -> "/api/maintenance-task/bike/" + randomOf(user.bikeIds()) + "/category/" + randomOf(categories)),
+				get("GET /api/maintenance-task/search", 5,
+						(user, categories) -> "/api/maintenance-task/search?q=%E3%82%AA%E3%82%A4%E3%83%AB"),
+				get("GET /api/categories", 8, (user, categories) -> "/api/categories"),
+				get("GET /api/ai/user/{userId}", 5, (user, categories) -> "/api/ai/user/" + user.id()),
+				get("GET /api/export/maintenance-tasks", 1,
+						(user, categories) -> "/api/export/maintenance-tasks?bikeId=" + randomOf(user.bikeIds())),
+				get("GET /api/auth/ping", 2, (user, categories) -> "/api/auth/ping"),
+				new LoadTestEndpoint("POST /api/auth/guest", 1, "POST", (user, categories) -> "/api/auth/guest", null),
+				new LoadTestEndpoint("POST /api/maintenance-task", 6, "POST",
+						(user, categories) -> "/api/maintenance-task",
+						(user, categories) -> """
+								{"bikeId":%d,"categoryId":%d,"name":"エンジンオイル交換","description":"負荷試験で登録した整備記録"}
+								""".formatted(randomOf(user.bikeIds()), randomOf(categories))),
+				new LoadTestEndpoint("PATCH /api/maintenance-task/{maintenanceTaskId}", 4, "PATCH",
+						(user, categories) -> "/api/maintenance-task/" + randomOf(user.taskIds()),
+						(user, categories) -> "{\"name\":\"エンジンオイル交換\",\"description\":\"負荷試験で更新した整備記録\"}"),
+				new LoadTestEndpoint("POST /api/bikes/user/{userId}", 1, "POST",
+						(user, categories) -> "/api/bikes/user/" + user.id(),
+						(user, categories) -> "{\"manufacturer\":\"Yamaha\",\"modelName\":\"YZF-R1\",\"currentMileage\":100}"),
+				new LoadTestEndpoint("PATCH /api/bikes/user/{userId}/bike/{bikeId}", 2, "PATCH",
+						(user, categories) -> "/api/bikes/user/" + user.id() + "/bike/" + randomOf(user.bikeIds()),
+						(user, categories) -> "{\"manufacturer\":\"Honda\",\"modelName\":\"CBR1000RR\",\"currentMileage\":"
+								+ ThreadLocalRandom.current().nextInt(1000, 50000) + "}"),
+				new LoadTestEndpoint("PATCH /api/users/{userId}", 1, "PATCH",
+						(user, categories) -> "/api/users/" + user.id(),
+						(user, categories) -> "{\"nickname\":\"負荷試験ユーザー\"}"),
+				aiQuestion(2)
+		);
+	}
+
+	/**
+	 * AIへの質問のリクエストです。
+	 *
+	 * @param weight 送信する比率の重み
+	 */
+	public static LoadTestEndpoint aiQuestion(int weight) {
+		return new LoadTestEndpoint("POST /api/ai/user/{userId}/bike/{bikeId}/category/{categoryId}", weight, "POST",
+				(user, categories) -> "/api/ai/user/" + user.id() + "/bike/" + randomOf(user.bikeIds()) + "/category/" + randomOf(categories),
+				(user, categories) -> "{\"question\":\"エンジンオイルの交換手順を教えてください。\"}");
+	}
+
+	/**
+	 * 送信するリクエストを生成します。
+	 *
+	 * @param baseUri    アプリケーションのURL
+	 * @param user       リクエストを送信するユーザー
+	 * @param categories カテゴリーIDのリスト
+	 * @return 認証ヘッダーを設定する前のリクエスト
+	 */
+	public HttpRequest.Builder newRequest(URI baseUri, SeededUser user, List<Integer> categories) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path.apply(user, categories)));
+		if(body == null) {
+			return builder.method(method, HttpRequest.BodyPublishers.noBody());
+		}
+		return builder
+				.header("Content-Type", "application/json")
+				.method(method, HttpRequest.BodyPublishers.ofString(body.apply(user, categories)));
+	}
+
+	private static LoadTestEndpoint get(String name, int weight, BiFunction<SeededUser, List<Integer>, String> path) {
+		return new LoadTestEndpoint(name, weight, "GET", path, null);
+	}
+
+	private static int randomOf(List<Integer> values) {
+		return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+	}
+}
@@ -0,0 +1,118 @@
+package com.rikuto.revox.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 負荷試験の結果をエンドポイントごとに集計し、表形式で出力するクラスです。
+ * データベースのクエリ数はpg_stat_statementsから取得するため、計測前にresetDatabaseStatisticsを呼び出してください。
+ */
+public class LoadTestReport {
+
+	private static final String ROW_FORMAT = "%-66s %8s %7s %7s %9s %10s %10s %10s %10s%n";
+
+	private final List<LatencyRecorder.Summary> summaries;
+
+	private final long totalQueries;
+
+	private final List<Map<String, Object>> topStatements;
+
+	private final double elapsedSeconds;
+
+	private LoadTestReport(List<LatencyRecorder.Summary> summaries, long totalQueries,
+	                       List<Map<String, Object>> topStatements, double elapsedSeconds) {
+		this.summaries = summaries;
+		this.totalQueries = totalQueries;
+		this.topStatements = topStatements;
+		this.elapsedSeconds = elapsedSeconds;
+	}
+
+	/**
+	 * pg_stat_statementsを有効にし、これまでに記録されたクエリの統計情報を破棄します。
+	 * PostgreSQLはshared_preload_librariesにpg_stat_statementsを指定して起動している必要があります。
+	 */
+	public static void resetDatabaseStatistics(JdbcTemplate jdbcTemplate) {
+		jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_stat_statements");
+		jdbcTemplate.execute("SELECT pg_stat_statements_reset()");
+	}
+
+	/**
+	 * 記録したレイテンシとpg_stat_statementsの統計情報を集計します。
+	 *
+	 * @param recorders      エンドポイント名ごとの記録
+	 * @param elapsedSeconds 計測期間（秒）
+	 * @param jdbcTemplate   統計情報の取得に使用するJdbcTemplate
+	 * @return 集計結果
+	 */
+	public static LoadTestReport create(Map<String, LatencyRecorder> recorders, double elapsedSeconds, JdbcTemplate jdbcTemplate) {
+		List<LatencyRecorder.Summary> summaries = recorders.entrySet().stream()
+				.map(entry -> entry.getValue().summarize(entry.getKey(), elapsedSeconds))
+				.toList();
+		String statementFilter = """
+				FROM pg_stat_statements
+				WHERE dbid = (SELECT oid FROM pg_database WHERE datname = current_database())
+				  AND query NOT LIKE '%pg_stat_statements%'
+				""";
+		Long totalQueries = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(calls), 0) " + statementFilter, Long.class);
+		List<Map<String, Object>> topStatements = jdbcTemplate.queryForList(
+				"SELECT calls, ROUND(mean_exec_time::numeric, 3) AS mean_ms, LEFT(REGEXP_REPLACE(query, '\\s+', ' ', 'g'), 120) AS query "
+						+ statementFilter + "ORDER BY calls DESC LIMIT 15");
+		return new LoadTestReport(summaries, totalQueries == null ? 0 : totalQueries, topStatements, elapsedSeconds);
+	}
+
+	/**
+	 * サーバーエラー（5xxおよび通信の失敗）の件数の割合です。
+	 */
+	public double serverErrorRate() {
+		int total = summaries.stream().mapToInt(LatencyRecorder.Summary::count).sum();
+		int serverErrors = summaries.stream().mapToInt(LatencyRecorder.Summary::serverErrors).sum();
+		return total == 0 ? 0 : (double) serverErrors / total;
+	}
+
+	/**
+	 * 集計結果の一覧です。
+	 */
+	public List<LatencyRecorder.Summary> summaries() {
+		return summaries;
+	}
+
+	/**
+	 * 集計結果を表形式の文字列に整形します。
+	 */
+	public String format() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format(ROW_FORMAT, "endpoint", "count", "4xx", "5xx", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+		for(LatencyRecorder.Summary summary : summaries) {
+			report.append(String.format(ROW_FORMAT, summary.endpoint(), summary.count(), summary.clientErrors(), summary.serverErrors(),
+					"%.1f".formatted(summary.throughput()), "%.1f".formatted(summary.p50()), "%.1f".formatted(summary.p99()),
+					"%.1f".formatted(summary.p999()), "%.1f".formatted(summary.max())));
+		}
+
+		int totalRequests = summaries.stream().mapToInt(LatencyRecorder.Summary::count).sum();
+		report.append(String.format("%n合計 %d リクエスト (%.1f req/s)、サーバーエラー率 %.3f%%%n",
+				totalRequests, totalRequests / elapsedSeconds, serverErrorRate() * 100));
+		report.append(String.format("DBクエリ数 %d (%.2f クエリ/リクエスト)%n%n", totalQueries,
+				totalRequests == 0 ? 0.0 : (double) totalQueries / totalRequests));
+		report.append("実行回数の多いクエリ:\n");
+		for(Map<String, Object> statement : topStatements) {
+			report.append(String.format("%10s calls %10s ms  %s%n", statement.get("calls"), statement.get("mean_ms"), statement.get("query")));
+		}
+		return report.toString();
+	}
+
+	/**
+	 * 集計結果をファイルに出力します。
+	 *
+	 * @param file 出力先のファイル
+	 */
+	public void writeTo(Path file) throws IOException {
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, format(), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,122 @@
+package com.rikuto.revox.loadtest;
+
+import com.rikuto.revox.loadtest.LoadTestDataSeeder.SeededUser;
+import com.rikuto.revox.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 本番環境プロファイルで起動したアプリケーションに混合トラフィックを送信し、エンドポイントごとのレイテンシを計測する負荷試験です。
+ * PostgreSQLはTestcontainersで起動してFlywayでスキーマを作成し、Geminiへのリクエストはローカルのスタブサーバーで受け付けます。
+ * 送信レートや期間、データ量、仮想スレッドの使用はシステムプロパティ（loadtest.*）で変更できます。
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("prod")
+class MixedTrafficLoadTest {
+
+	private static final GeminiStubServer geminiStubServer = startGeminiStubServer();
+
+	@SuppressWarnings("resource")
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+			.withDatabaseName("loadtest")
+			.withUsername("user")
+			.withPassword("pass")
+			.withCommand("postgres", "-c", "shared_preload_libraries=pg_stat_statements", "-c", "max_connections=200");
+
+	@DynamicPropertySource
+	static void overrideProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+		registry.add("spring.flyway.enabled", () -> true);
+		registry.add("spring.threads.virtual.enabled", () -> Boolean.getBoolean("loadtest.virtual-threads"));
+		registry.add("logging.level.com.rikuto.revox", () -> "WARN");
+		registry.add("gemini.base-url", geminiStubServer::baseUrl);
+		registry.add("gemini.api-key", () -> "loadtest");
+		registry.add("google.client-id", () -> "loadtest-client-id");
+		registry.add("JWT_SECRET_KEY", () -> "loadtest-secret-key-loadtest-secret-key");
+		registry.add("JWT_EXPIRATION", () -> 3_600_000);
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@AfterAll
+	static void stopGeminiStubServer() {
+		geminiStubServer.close();
+	}
+
+	private static GeminiStubServer startGeminiStubServer() {
+		try {
+			return new GeminiStubServer(Long.getLong("loadtest.gemini-latency-ms", 1500));
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Test
+	void 混合トラフィックでサーバーエラー率が閾値以下であること() throws Exception {
+		LoadTestDataSeeder seeder = new LoadTestDataSeeder(jdbcTemplate);
+		List<SeededUser> users = seeder.seed(
+				Integer.getInteger("loadtest.users", 200),
+				Integer.getInteger("loadtest.bikes-per-user", 3),
+				Integer.getInteger("loadtest.tasks-per-bike", 200),
+				Integer.getInteger("loadtest.questions-per-user", 20));
+		Map<Integer, String> authorizationByUserId = users.stream().collect(Collectors.toMap(
+				SeededUser::id, user -> "Bearer " + jwtTokenProvider.generateToken(user.uniqueUserId(), "USER")));
+
+		List<LoadTestEndpoint> endpoints = LoadTestEndpoint.mixedTraffic();
+		LoadGenerator generator = new LoadGenerator(URI.create("http://localhost:" + port), endpoints, users,
+				seeder.findCategoryIds(), authorizationByUserId);
+		double rate = Double.parseDouble(System.getProperty("loadtest.rate", "50"));
+		Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 60));
+
+		generator.run(rate, Duration.ofSeconds(Long.getLong("loadtest.warmup", 10)));
+		LoadTestReport.resetDatabaseStatistics(jdbcTemplate);
+		Map<String, LatencyRecorder> recorders = generator.run(rate, duration);
+		LoadTestReport report = LoadTestReport.create(recorders, duration.toNanos() / 1e9, jdbcTemplate);
+
+		System.out.println(report.format());
+		String reportDir = System.getProperty("loadtest.report-dir");
+		if(reportDir != null) {
+			report.writeTo(Path.of(reportDir, "summary.txt"));
+		}
+
+		Map<String, LatencyRecorder.Summary> summaries = report.summaries().stream()
+				.collect(Collectors.toMap(LatencyRecorder.Summary::endpoint, Function.identity()));
+		assertThat(summaries.keySet()).containsExactlyInAnyOrderElementsOf(endpoints.stream().map(LoadTestEndpoint::name).toList());
+		assertThat(summaries.values()).allSatisfy(summary -> assertThat(summary.count()).isPositive());
+		assertThat(report.serverErrorRate())
+				.isLessThanOrEqualTo(Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")));
+	}
+}
@@ -0,0 +1,23 @@
+package com.rikuto.revox.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * プラットフォームスレッドで実行した場合に、同時に処理できるAIへの質問の数を計測する負荷試験です。
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadAiConcurrencyLoadTest extends AiConcurrencyLoadTestSupport {
+
+	@Test
+	void 同時に処理できるAIへの質問の数がTomcatのスレッド数で制限されること() throws Exception {
+		int maxInFlightRequests = sendConcurrentAiQuestions();
+		report("プラットフォームスレッド", maxInFlightRequests);
+
+		// Gemini APIの呼び出し中はDBコネクションを保持しないため、コネクションプールの大きさでは制限されない
+		assertThat(maxInFlightRequests).isGreaterThan(DB_MAX_POOL_SIZE).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+	}
+}
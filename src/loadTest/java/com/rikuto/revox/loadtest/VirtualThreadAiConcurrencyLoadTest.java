@@ -0,0 +1,106 @@
+package com.rikuto.revox.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 仮想スレッドで実行した場合に、同時に処理できるAIへの質問の数を計測し、仮想スレッドのピン留めが発生しないことを確認する負荷試験です。
+ * ピン留めの検出には-Djdk.tracePinnedThreadsを指定して起動する必要があります（loadTestタスクで指定しています）。
+ * JDBC、HikariCP、GoogleのHTTPクライアント、bucket4jを経由する処理のうち、
+ * 負荷試験用のスタブサーバーとJDKのHTTPサーバー以外で発生したピン留めを検出対象とします。
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadAiConcurrencyLoadTest extends AiConcurrencyLoadTestSupport {
+
+	private static final List<String> IGNORED_FRAMES = List.of("com.rikuto.revox.loadtest.", "sun.net.httpserver.");
+
+	@Test
+	void 同時に処理できるAIへの質問の数がTomcatのスレッド数で制限されずピン留めも発生しないこと() throws Exception {
+		assumeTrue(System.getProperty("jdk.tracePinnedThreads") != null, "-Djdk.tracePinnedThreadsが指定されていません。");
+
+		PrintStream originalOut = System.out;
+		ByteArrayOutputStream captured = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(new TeeOutputStream(originalOut, captured), true, StandardCharsets.UTF_8));
+		int maxInFlightRequests;
+		try {
+			maxInFlightRequests = sendConcurrentAiQuestions();
+		} finally {
+			System.setOut(originalOut);
+		}
+		report("仮想スレッド", maxInFlightRequests);
+
+		assertThat(maxInFlightRequests).isGreaterThan(TOMCAT_MAX_THREADS);
+		assertThat(pinnedStackTraces(captured.toString(StandardCharsets.UTF_8))).isEmpty();
+	}
+
+	/**
+	 * 出力からピン留めのスタックトレース（モニターを保持したフレームに「<== monitors」が付与されたもの）を抽出します。
+	 */
+	private static List<String> pinnedStackTraces(String output) {
+		List<String> stackTraces = new ArrayList<>();
+		StringBuilder current = null;
+		for(String line : output.split("\\R")) {
+			if(line.startsWith("Thread[") || line.startsWith("VirtualThread[")) {
+				addIfPinned(stackTraces, current);
+				current = new StringBuilder();
+			}
+			if(current != null) {
+				current.append(line).append('\n');
+			}
+		}
+		addIfPinned(stackTraces, current);
+		return stackTraces;
+	}
+
+	private static void addIfPinned(List<String> stackTraces, StringBuilder stackTrace) {
+		if(stackTrace == null || stackTrace.indexOf("<== monitors") < 0) {
+			return;
+		}
+		String trace = stackTrace.toString();
+		if(IGNORED_FRAMES.stream().noneMatch(trace::contains)) {
+			stackTraces.add(trace);
+		}
+	}
+
+	private static final class TeeOutputStream extends OutputStream {
+
+		private final OutputStream first;
+
+		private final OutputStream second;
+
+		private TeeOutputStream(OutputStream first, OutputStream second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			first.write(b);
+			second.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			first.write(b, off, len);
+			second.write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			first.flush();
+			second.flush();
+		}
+	}
+}
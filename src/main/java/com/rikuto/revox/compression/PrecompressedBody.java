@@ -0,0 +1,102 @@
+package com.rikuto.revox.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * シリアライズ済みのレスポンスと、あらかじめgzipで圧縮したレスポンスの組です。
+ * カテゴリーリストやゲストユーザーのスナップショットなど、起動後に変わらないレスポンスを一度だけ圧縮して保持し、
+ * リクエストごとにTomcatで再圧縮しないために使用します。
+ *
+ * @param identity 圧縮していないレスポンス
+ * @param gzip     gzipで圧縮したレスポンス（圧縮してもサイズが小さくならない場合はnull）
+ */
+public record PrecompressedBody(byte[] identity, byte[] gzip) {
+
+	/**
+	 * gzipを表すContent-Encodingの値です。
+	 */
+	public static final String GZIP = "gzip";
+
+	/**
+	 * 圧縮前のレスポンスの強いETagから、gzipで圧縮したレスポンスの強いETagを生成します。
+	 * 圧縮前と圧縮後ではバイト列が異なるため、同じ強いETagを付けずに末尾へ-gzipを付けて区別します。
+	 *
+	 * @param eTag 圧縮前のレスポンスのETag（二重引用符で囲んだ値）
+	 * @return gzipで圧縮したレスポンスのETag
+	 */
+	public static String gzipETag(String eTag) {
+		return eTag.substring(0, eTag.length() - 1) + "-" + GZIP + "\"";
+	}
+
+	/**
+	 * レスポンスをgzipで圧縮し、圧縮前のレスポンスとの組を生成します。
+	 * 短いレスポンスなど、圧縮してもサイズが小さくならない場合は圧縮したレスポンスを保持しません。
+	 *
+	 * @param identity 圧縮していないレスポンス
+	 * @return 圧縮前と圧縮後のレスポンスの組
+	 */
+	public static PrecompressedBody of(byte[] identity) {
+		byte[] gzip = compress(identity);
+		return new PrecompressedBody(identity, gzip.length < identity.length ? gzip : null);
+	}
+
+	/**
+	 * Accept-Encodingヘッダーの値から、gzipで圧縮したレスポンスを返せるかを判定します。
+	 *
+	 * @param acceptEncoding Accept-Encodingヘッダーの値（nullの場合は圧縮しない）
+	 * @return gzipで圧縮したレスポンスを返せる場合はtrue
+	 */
+	public boolean canServeGzip(String acceptEncoding) {
+		return gzip != null && acceptsGzip(acceptEncoding);
+	}
+
+	/**
+	 * Accept-Encodingヘッダーでgzipが受け付けられているかを判定します。
+	 * gzipの指定がない場合は*の指定に従い、q=0が指定されている場合は拒否されたものとして扱います。
+	 *
+	 * @param acceptEncoding Accept-Encodingヘッダーの値
+	 * @return gzipを受け付ける場合はtrue
+	 */
+	static boolean acceptsGzip(String acceptEncoding) {
+		if(acceptEncoding == null) {
+			return false;
+		}
+
+		Boolean gzipAccepted = null;
+		Boolean wildcardAccepted = null;
+		for(String coding : acceptEncoding.split(",")) {
+			String[] parameters = coding.split(";");
+			String name = parameters[0].trim();
+			boolean accepted = true;
+			for(int i = 1; i < parameters.length; i++) {
+				if(parameters[i].replace(" ", "").matches("(?i)q=0(\\.0*)?")) {
+					accepted = false;
+				}
+			}
+
+			if(name.equalsIgnoreCase(GZIP)) {
+				gzipAccepted = accepted;
+			} else if(name.equals("*")) {
+				wildcardAccepted = accepted;
+			}
+		}
+
+		if(gzipAccepted != null) {
+			return gzipAccepted;
+		}
+		return Boolean.TRUE.equals(wildcardAccepted);
+	}
+
+	private static byte[] compress(byte[] body) {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4 + 32);
+		try(GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			gzipOutputStream.write(body);
+		} catch(IOException e) {
+			throw new UncheckedIOException("レスポンスの圧縮に失敗しました。", e);
+		}
+		return outputStream.toByteArray();
+	}
+}
@@ -6,17 +6,31 @@ import com.google.api.client.json.gson.GsonFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 
+import java.net.HttpURLConnection;
 import java.util.Collections;
 
 @Configuration
 public class GoogleConfig {
 
+	/**
+	 * GoogleのIDトークンを検証するVerifierです。
+	 * 公開鍵の取得は数時間に一度のため、取得後に接続を保持せず閉じます。
+	 * CRaCのチェックポイントの時点で開いている接続が残らず、リストア後は次回の公開鍵の取得時に新しく接続します。
+	 */
 	@Bean
 	public GoogleIdTokenVerifier googleIdTokenVerifier(@Value("${google.client-id}") String googleClientId) {
+		NetHttpTransport transport = new NetHttpTransport.Builder()
+				.setConnectionFactory(url -> {
+					HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+					connection.setRequestProperty(HttpHeaders.CONNECTION, "close");
+					return connection;
+				})
+				.build();
 
-		return new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new GsonFactory())
+		return new GoogleIdTokenVerifier.Builder(transport, new GsonFactory())
 				.setAudience(Collections.singletonList(googleClientId))
 				.build();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.rikuto.revox.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.util.Assert;
+
+/**
+ * リクエストボディとレスポンスをMessagePack形式で読み書きするHttpMessageConverterです。
+ * SpringにはMessagePack用のHttpMessageConverterがないため、CBORやSmileと同じくJacksonのObjectMapperで変換します。
+ */
+public class MessagePackHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+	/**
+	 * MessagePackのメディアタイプです。
+	 */
+	public static final MediaType APPLICATION_MSGPACK = new MediaType("application", "msgpack");
+
+	/**
+	 * MessagePackのメディアタイプの文字列です。
+	 */
+	public static final String APPLICATION_MSGPACK_VALUE = "application/msgpack";
+
+	/**
+	 * 旧来のクライアントが使用するMessagePackのメディアタイプです。
+	 */
+	public static final MediaType APPLICATION_X_MSGPACK = new MediaType("application", "x-msgpack");
+
+	/**
+	 * MessagePackFactoryを持つObjectMapperでHttpMessageConverterを生成します。
+	 *
+	 * @param objectMapper MessagePackFactoryを持つObjectMapper
+	 */
+	public MessagePackHttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper, APPLICATION_MSGPACK, APPLICATION_X_MSGPACK);
+		Assert.isInstanceOf(MessagePackFactory.class, objectMapper.getFactory(), "MessagePackFactoryが必要です。");
+	}
+}
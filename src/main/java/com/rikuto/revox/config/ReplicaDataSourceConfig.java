@@ -0,0 +1,131 @@
+package com.rikuto.revox.config;
+
+import com.rikuto.revox.datasource.ReadYourWritesTracker;
+import com.rikuto.revox.datasource.ReplicaLagMonitor;
+import com.rikuto.revox.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnCheckpointRestore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * 読み取り専用トランザクションをレプリカに接続するDataSourceの設定です。
+ * revox.datasource.replica.urlが設定されている場合のみ有効になり、設定されていない場合はSpring Bootが構成する単一のDataSourceを使用します。
+ * アプリケーションが使用するDataSourceはLazyConnectionDataSourceProxyで、最初のSQLの実行時にトランザクションの読み取り専用の指定を確認し、
+ * 読み取り専用の場合はReplicaRoutingDataSource、それ以外の場合はプライマリから接続を取得します。
+ */
+@Configuration
+@ConditionalOnExpression("!'${revox.datasource.replica.url:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	/**
+	 * レプリカのコネクションプールです。接続先と認証情報以外はプライマリと同じ設定を使用します。
+	 * レプリカが停止している場合にリクエストを長時間待たせないよう、接続の待ち時間はプライマリより短く設定します。
+	 */
+	@Bean
+	public HikariDataSource replicaDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+	                                          @Value("${revox.datasource.replica.url}") String url,
+	                                          @Value("${revox.datasource.replica.username:}") String username,
+	                                          @Value("${revox.datasource.replica.password:}") String password,
+	                                          @Value("${revox.datasource.replica.connection-timeout:2s}") Duration connectionTimeout) {
+		HikariDataSource dataSource = new HikariDataSource();
+		primaryDataSource.copyStateTo(dataSource);
+		dataSource.setPoolName("replica");
+		dataSource.setJdbcUrl(url);
+		if(! username.isBlank()) {
+			dataSource.setUsername(username);
+			dataSource.setPassword(password);
+		}
+		dataSource.setReadOnly(true);
+		dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+	                                           @Value("${revox.datasource.replica.max-lag:2s}") Duration maxLag,
+	                                           @Value("${revox.datasource.replica.check-interval:1s}") Duration checkInterval,
+	                                           MeterRegistry meterRegistry) {
+		return new ReplicaLagMonitor(replicaDataSource, maxLag, checkInterval, meterRegistry);
+	}
+
+	/**
+	 * 書き込み直後にプライマリで読み取る期間は、レプリカを使用する遅延の上限に計測間隔を加えた長さです。
+	 * この期間を過ぎた書き込みは、使用中のレプリカに反映済みであることが保証されます。
+	 */
+	@Bean
+	public ReadYourWritesTracker readYourWritesTracker(@Value("${revox.datasource.replica.max-lag:2s}") Duration maxLag,
+	                                                   @Value("${revox.datasource.replica.check-interval:1s}") Duration checkInterval) {
+		return new ReadYourWritesTracker(maxLag.plus(checkInterval));
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+	                             @Qualifier("replicaDataSource") DataSource replicaDataSource,
+	                             ReplicaLagMonitor replicaLagMonitor,
+	                             ReadYourWritesTracker readYourWritesTracker,
+	                             MeterRegistry meterRegistry) {
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+		dataSource.setTargetDataSource(primaryDataSource);
+		dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(
+				primaryDataSource, replicaDataSource, replicaLagMonitor, readYourWritesTracker, meterRegistry));
+		// 起動時に接続を取得して既定値を確認しないよう、HikariCPの既定値を指定する
+		dataSource.setDefaultAutoCommit(true);
+		dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+		return dataSource;
+	}
+
+	/**
+	 * ヘルスチェックはプライマリのみを対象とします。
+	 * レプリカが停止してもプライマリで読み取りを継続できるため、アプリケーションの稼働状態には含めません。
+	 */
+	@Bean
+	public DataSourceHealthIndicator dbHealthIndicator(@Qualifier("primaryDataSource") DataSource primaryDataSource) {
+		return new DataSourceHealthIndicator(primaryDataSource);
+	}
+
+	/**
+	 * CRaCのチェックポイントの前にプライマリのコネクションプールを停止して接続を閉じ、リストア後に再開します。
+	 * Spring Bootが構成するものは@PrimaryのDataSourceから1つのプールのみを対象とするため、プールごとに定義します。
+	 */
+	@Bean
+	@ConditionalOnCheckpointRestore
+	public HikariCheckpointRestoreLifecycle primaryCheckpointRestoreLifecycle(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+	                                                                          ConfigurableApplicationContext applicationContext) {
+		return new HikariCheckpointRestoreLifecycle(primaryDataSource, applicationContext);
+	}
+
+	/**
+	 * CRaCのチェックポイントの前にレプリカのコネクションプールを停止して接続を閉じ、リストア後に再開します。
+	 */
+	@Bean
+	@ConditionalOnCheckpointRestore
+	public HikariCheckpointRestoreLifecycle replicaCheckpointRestoreLifecycle(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+	                                                                          ConfigurableApplicationContext applicationContext) {
+		return new HikariCheckpointRestoreLifecycle(replicaDataSource, applicationContext);
+	}
+}
@@ -1,12 +1,33 @@
 package com.rikuto.revox.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jetbrains.annotations.NotNull;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+	private final ObjectMapper objectMapper;
+
+	public WebConfig(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
 	@Override
 	public void addCorsMappings(CorsRegistry registry) {
 		registry.addMapping("/api/**")
@@ -15,4 +36,38 @@ public class WebConfig implements WebMvcConfigurer {
 				.allowedHeaders("*")
 				.allowCredentials(true);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Acceptヘッダーに応じて、JSONの代わりにCBOR、Smile、MessagePackでリクエストボディとレスポンスを読み書きできるようにします。
+	 * Springが既定で追加するCBORとSmileのHttpMessageConverterはSpring Bootの設定を反映しないため取り除き、
+	 * Spring BootのObjectMapperの設定を引き継いだものをJSONより後ろに追加します。
+	 * Acceptヘッダーが指定されていない場合や、すべての形式を受け付ける場合は、これまでどおりJSONで応答します。
+	 *
+	 * @param converters HttpMessageConverterのリスト
+	 */
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+				|| converter instanceof MappingJackson2SmileHttpMessageConverter);
+		converters.add(new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+		converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory())));
+		converters.add(new MessagePackHttpMessageConverter(objectMapper.copyWith(new MessagePackFactory())));
+	}
+
+	/**
+	 * APIのレスポンスにVary: Acceptを付与します。
+	 * 同じURLでもAcceptヘッダーによって形式が異なるため、キャッシュがAcceptヘッダーごとにレスポンスを保持するようにします。
+	 *
+	 * @param registry インターセプターのレジストリ
+	 */
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new HandlerInterceptor() {
+			@Override
+			public boolean preHandle(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull Object handler) {
+				response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+				return true;
+			}
+		}).addPathPatterns("/api/**");
+	}
+}
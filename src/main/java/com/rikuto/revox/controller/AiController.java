@@ -1,7 +1,9 @@
 package com.rikuto.revox.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rikuto.revox.dto.ai.AiQuestionCreateRequest;
 import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.fields.ResponseFields;
 import com.rikuto.revox.service.AiService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -33,8 +36,11 @@ public class AiController {
 
 	private final AiService aiService;
 
-	public AiController(AiService aiService) {
+	private final ObjectMapper objectMapper;
+
+	public AiController(AiService aiService, ObjectMapper objectMapper) {
 		this.aiService = aiService;
+		this.objectMapper = objectMapper;
 	}
 
 	// CREATE
@@ -72,24 +78,28 @@ public class AiController {
 
 	/**
 	 * 指定されたユーザーIDに紐づくAI質問履歴を取得します。
+	 * fieldsに回答内容を含めない場合は、回答内容を読み込まずに取得します。
 	 */
-	@Operation(summary = "AI質問履歴を取得する", description = "指定されたユーザーのAIとのやり取り履歴をリストで取得します。")
+	@Operation(summary = "AI質問履歴を取得する", description = "指定されたユーザーのAIとのやり取り履歴をリストで取得します。fieldsを指定した場合は指定された項目のみを返します。")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "質問履歴の取得に成功",
 					content = @Content(mediaType = "application/json",
 							schema = @Schema(implementation = AiQuestionResponse.class))),
-			@ApiResponse(responseCode = "400", description = "不正なリクエスト（ユーザーIDが不正など）"),
+			@ApiResponse(responseCode = "400", description = "不正なリクエスト（ユーザーID、fieldsが不正など）"),
 			@ApiResponse(responseCode = "403", description = "アクセス権限がない"),
 			@ApiResponse(responseCode = "404", description = "ユーザーが見つからない")
 	})
 	@GetMapping
 	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
-	public ResponseEntity<List<AiQuestionResponse>> getAiQuestionsByUserId(
+	public ResponseEntity<?> getAiQuestionsByUserId(
 			@Parameter(description = "AI質問履歴を取得したいユーザーの一意の識別子。", required = true)
-			@PathVariable @Positive Integer userId
+			@PathVariable @Positive Integer userId,
+			@Parameter(description = "レスポンスに含める項目をカンマ区切りで指定します（例: id,bikeId,question,createdAt）。省略した場合はすべての項目を返します。")
+			@RequestParam(required = false) String fields
 	) {
-		List<AiQuestionResponse> responses = aiService.getAiQuestionByUserId(userId);
+		ResponseFields responseFields = ResponseFields.parse(fields, AiQuestionResponse.class);
+		List<AiQuestionResponse> responses = aiService.getAiQuestionByUserId(userId, responseFields);
 
-		return ResponseEntity.ok(responses);
+		return ResponseEntity.ok(responseFields.isAll() ? responses : responseFields.select(responses, objectMapper));
 	}
 }
\ No newline at end of file
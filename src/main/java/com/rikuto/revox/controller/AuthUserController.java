@@ -5,6 +5,7 @@ import com.rikuto.revox.dto.auth.LoginRequest;
 import com.rikuto.revox.dto.auth.LoginResponse;
 import com.rikuto.revox.security.jwt.JwtTokenProvider;
 import com.rikuto.revox.service.AuthService;
+import com.rikuto.revox.service.GuestSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -62,7 +63,7 @@ public class AuthUserController {
 	})
 	@PostMapping("/guest")
 	public ResponseEntity<AuthResponse> guestLogin() {
-		String guestId = "guest-user";
+		String guestId = GuestSnapshotService.GUEST_UNIQUE_USER_ID;
 		String guestRole = "ROLE_GUEST";
 
 		String token = jwtTokenProvider.generateToken(guestId, guestRole);
@@ -1,8 +1,11 @@
 package com.rikuto.revox.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rikuto.revox.dto.bike.BikeCreateRequest;
 import com.rikuto.revox.dto.bike.BikeResponse;
 import com.rikuto.revox.dto.bike.BikeUpdateRequest;
+import com.rikuto.revox.dto.fields.ResponseFields;
+import com.rikuto.revox.dto.version.ResourceVersion;
 import com.rikuto.revox.service.BikeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,7 +26,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -36,8 +42,11 @@ public class BikeController {
 
 	private final BikeService bikeService;
 
-	public BikeController(BikeService bikeService) {
+	private final ObjectMapper objectMapper;
+
+	public BikeController(BikeService bikeService, ObjectMapper objectMapper) {
 		this.bikeService = bikeService;
+		this.objectMapper = objectMapper;
 	}
 
 	// CREATE
@@ -70,24 +79,38 @@ public class BikeController {
 
 	/**
 	 * 指定されたユーザーIDに紐づく全てのバイク情報を取得します。
+	 * 一覧のバージョン情報を先に確認し、If-None-Matchと一致する場合はバイク情報を読み込まずに304を返します。
+	 * fieldsを指定した場合は、指定された項目のみをレスポンスに含めます。
 	 */
-	@Operation(summary = "ユーザーのバイク情報リストを取得する", description = "指定されたユーザーIDに紐づく全てのバイク情報をリスト形式で取得します。")
+	@Operation(summary = "ユーザーのバイク情報リストを取得する", description = "指定されたユーザーIDに紐づく全てのバイク情報をリスト形式で取得します。fieldsを指定した場合は指定された項目のみを返します。前回取得時から変更がない場合は304を返します。")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "バイク情報の取得に成功",
 					content = @Content(mediaType = "application/json",
 							schema = @Schema(implementation = BikeResponse.class))),
-			@ApiResponse(responseCode = "400", description = "不正なリクエスト（ユーザーIDが不正など）"),
+			@ApiResponse(responseCode = "304", description = "バイク情報が変更されていない"),
+			@ApiResponse(responseCode = "400", description = "不正なリクエスト（ユーザーID、fieldsが不正など）"),
 			@ApiResponse(responseCode = "403", description = "アクセス権限がない"),
 			@ApiResponse(responseCode = "404", description = "ユーザーが見つからない")
 	})
 	@GetMapping
 	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
-	public ResponseEntity<List<BikeResponse>> getBikeListByUserId(
+	public ResponseEntity<?> getBikeListByUserId(
 			@Parameter(description = "バイク情報リストを取得したいユーザーの一意の識別子。", required = true)
-			@PathVariable @Positive Integer userId
+			@PathVariable @Positive Integer userId,
+			@Parameter(description = "レスポンスに含める項目をカンマ区切りで指定します（例: id,manufacturer,modelName,updatedAt）。省略した場合はすべての項目を返します。")
+			@RequestParam(required = false) String fields,
+			WebRequest webRequest
 	) {
+		ResponseFields responseFields = ResponseFields.parse(fields, BikeResponse.class);
+		ResourceVersion version = bikeService.findBikeListVersion(userId);
+		if(webRequest.checkNotModified(version.getETag())) {
+			return null;
+		}
+
 		List<BikeResponse> bikeResponseList = bikeService.findBikeByUserId(userId);
-		return ResponseEntity.ok(bikeResponseList);
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.noCache())
+				.body(responseFields.isAll() ? bikeResponseList : responseFields.select(bikeResponseList, objectMapper));
 	}
 
 	/**
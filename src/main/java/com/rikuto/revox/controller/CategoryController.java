@@ -1,5 +1,7 @@
 package com.rikuto.revox.controller;
 
+import com.rikuto.revox.compression.PrecompressedBody;
+import com.rikuto.revox.config.MessagePackHttpMessageConverter;
 import com.rikuto.revox.dto.category.CategoryResponse;
 import com.rikuto.revox.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,13 +10,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * カテゴリー情報に関するコントローラーです。
@@ -32,19 +41,96 @@ public class CategoryController {
 
 	/**
 	 * 全てのカテゴリー情報を取得します。
+	 * シリアライズ済みのJSONをETag付きで返し、If-None-Matchが一致する場合は304を返します。
+	 * Accept-Encodingでgzipを受け付けるリクエストには、起動時に圧縮しておいたJSONを、圧縮前とは別の強いETagを付けて返します。
+	 * 圧縮前と圧縮後の内容は同じため、If-None-Matchにどちらか一方のETagが含まれていれば304を返します。
 	 */
-	@Operation(summary = "全カテゴリー情報を取得する", description = "全てのバイクカテゴリー情報をリスト形式で取得します。")
+	@Operation(summary = "全カテゴリー情報を取得する", description = "全てのバイクカテゴリー情報をリスト形式で取得します。If-None-MatchヘッダーがETagと一致する場合は304を返します。")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "カテゴリー情報の取得に成功",
 					content = @Content(mediaType = "application/json",
 							schema = @Schema(implementation = CategoryResponse.class))),
+			@ApiResponse(responseCode = "304", description = "カテゴリー情報が変更されていない"),
 			@ApiResponse(responseCode = "403", description = "アクセス権限がない")
 	})
 	@GetMapping
 	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
-	public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-		List<CategoryResponse> categorieList = categoryService.findAllCategories();
+	public ResponseEntity<byte[]> getAllCategories(
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		CategoryService.SerializedCategories categories = categoryService.findSerializedCategories();
+		PrecompressedBody json = categories.json();
+		boolean gzip = json.canServeGzip(acceptEncoding);
+		String identityETag = categories.eTag();
+		String gzipETag = PrecompressedBody.gzipETag(identityETag);
 
-		return ResponseEntity.ok(categorieList);
+		Optional<String> matchedETag = findMatchingETag(ifNoneMatch, gzip ? gzipETag : identityETag, gzip ? identityETag : gzipETag);
+		if(matchedETag.isPresent()) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.eTag(matchedETag.get())
+					.cacheControl(CacheControl.noCache())
+					.varyBy(HttpHeaders.ACCEPT_ENCODING)
+					.build();
+		}
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.cacheControl(CacheControl.noCache())
+				.varyBy(HttpHeaders.ACCEPT_ENCODING);
+		if(gzip) {
+			return response.eTag(gzipETag).header(HttpHeaders.CONTENT_ENCODING, PrecompressedBody.GZIP).body(json.gzip());
+		}
+		return response.eTag(identityETag).body(json.identity());
+	}
+
+	/**
+	 * If-None-Matchに含まれるETagのうち、指定されたETagのいずれかと弱い比較で一致するものを、指定された順に探します。
+	 * If-None-Matchが*の場合は、最初に指定されたETagと一致したものとします。
+	 *
+	 * @param ifNoneMatch If-None-Matchヘッダーの値
+	 * @param eTags       比較するETag（優先する順）
+	 * @return 一致したETag
+	 */
+	private static Optional<String> findMatchingETag(String ifNoneMatch, String... eTags) {
+		if(ifNoneMatch == null) {
+			return Optional.empty();
+		}
+
+		List<ETag> requestedETags = ETag.parse(ifNoneMatch);
+		for(String eTag : eTags) {
+			ETag candidate = ETag.create(eTag);
+			for(ETag requested : requestedETags) {
+				if(requested.isWildcard() || requested.compare(candidate, false)) {
+					return Optional.of(eTag);
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * 全てのカテゴリー情報を、Acceptヘッダーで指定されたCBOR、Smile、MessagePackのいずれかで取得します。
+	 * 表現が異なってもカテゴリー情報は同じため、JSONのETagを弱いETagとして返します。
+	 */
+	@Operation(summary = "全カテゴリー情報をバイナリ形式で取得する", description = "全てのバイクカテゴリー情報をCBOR、Smile、MessagePackのいずれかで取得します。If-None-MatchヘッダーがETagと一致する場合は304を返します。")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "カテゴリー情報の取得に成功"),
+			@ApiResponse(responseCode = "304", description = "カテゴリー情報が変更されていない"),
+			@ApiResponse(responseCode = "403", description = "アクセス権限がない")
+	})
+	@GetMapping(produces = {
+			MediaType.APPLICATION_CBOR_VALUE,
+			"application/x-jackson-smile",
+			MessagePackHttpMessageConverter.APPLICATION_MSGPACK_VALUE,
+			"application/x-msgpack"
+	})
+	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
+	public ResponseEntity<List<CategoryResponse>> getAllCategoriesInBinaryFormat() {
+		CategoryService.SerializedCategories categories = categoryService.findSerializedCategories();
+
+		return ResponseEntity.ok()
+				.eTag("W/" + categories.eTag())
+				.cacheControl(CacheControl.noCache())
+				.body(categoryService.findAllCategories());
 	}
-}
\ No newline at end of file
+}
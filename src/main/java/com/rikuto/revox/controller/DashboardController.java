@@ -0,0 +1,58 @@
+package com.rikuto.revox.controller;
+
+import com.rikuto.revox.dto.dashboard.DashboardResponse;
+import com.rikuto.revox.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * ホーム画面のダッシュボードに関するコントローラーです。
+ */
+@Tag(name = "ダッシュボードに関する管理", description = "ホーム画面の表示に必要な情報をまとめて取得するエンドポイント群です。")
+@RestController
+@RequestMapping("/api/dashboard/user/{userId}")
+public class DashboardController {
+
+	private final DashboardService dashboardService;
+
+	public DashboardController(DashboardService dashboardService) {
+		this.dashboardService = dashboardService;
+	}
+
+	// READ
+	//------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * ユーザーのダッシュボード情報を取得します。
+	 * バイク一覧、整備タスク、AI質問履歴の各エンドポイントを個別に呼び出す代わりに利用します。
+	 */
+	@Operation(summary = "ダッシュボード情報を取得する", description = "指定されたユーザーのバイク一覧、バイクごとの最新整備タスク、カテゴリーごとの整備タスク件数、最近のAI質問履歴をまとめて取得します。")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "ダッシュボード情報の取得に成功",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = DashboardResponse.class))),
+			@ApiResponse(responseCode = "400", description = "不正なリクエスト（ユーザーIDが不正など）"),
+			@ApiResponse(responseCode = "403", description = "アクセス権限がない")
+	})
+	@GetMapping
+	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
+	public ResponseEntity<DashboardResponse> getDashboard(
+			@Parameter(description = "ダッシュボード情報を取得したいユーザーの一意の識別子。", required = true)
+			@PathVariable @Positive Integer userId
+	) {
+		DashboardResponse dashboard = dashboardService.getDashboard(userId);
+		return ResponseEntity.ok(dashboard);
+	}
+}
@@ -0,0 +1,103 @@
+package com.rikuto.revox.controller;
+
+import com.rikuto.revox.security.details.CurrentUserProvider;
+import com.rikuto.revox.service.ExportFormat;
+import com.rikuto.revox.service.HistoryExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 整備タスクとAI質問履歴のエクスポートに関するコントローラーです。
+ */
+@Tag(name = "履歴のエクスポートに関する管理", description = "ログイン中のユーザーの整備タスクとAI質問履歴をファイルとしてダウンロードするエンドポイント群です。")
+@RestController
+@RequestMapping("/api/export")
+public class HistoryExportController {
+
+	private final HistoryExportService historyExportService;
+
+	private final CurrentUserProvider currentUserProvider;
+
+	public HistoryExportController(HistoryExportService historyExportService,
+	                               CurrentUserProvider currentUserProvider) {
+		this.historyExportService = historyExportService;
+		this.currentUserProvider = currentUserProvider;
+	}
+
+	// READ
+	//------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * ログイン中のユーザーの整備タスクをすべてエクスポートします。
+	 * 整備タスクはDBから読み込みながらレスポンスに書き込むため、件数に関わらず一括でメモリに保持しません。
+	 */
+	@Operation(summary = "整備タスクをエクスポートする", description = "ログイン中のユーザーの整備タスクを作成日時の古い順にNDJSONまたはCSVで出力します。バイクIDを指定した場合はそのバイクの整備タスクのみを出力します。CSVは一括登録と同じ列名で出力します。")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "エクスポートに成功",
+					content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+			@ApiResponse(responseCode = "400", description = "不正なリクエスト（バイクIDや出力形式が不正など）"),
+			@ApiResponse(responseCode = "403", description = "アクセス権限がない"),
+			@ApiResponse(responseCode = "404", description = "ユーザーが所有するバイクが見つからない")
+	})
+	@GetMapping("/maintenance-tasks")
+	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
+	public ResponseEntity<StreamingResponseBody> exportMaintenanceTasks(
+			@Parameter(description = "エクスポートするバイクの一意の識別子。省略した場合はすべてのバイクの整備タスクを出力します。")
+			@RequestParam(required = false) @Positive Integer bikeId,
+			@Parameter(description = "出力形式（ndjsonまたはcsv）。省略した場合はndjsonです。")
+			@RequestParam(defaultValue = "ndjson") String format
+	) {
+		ExportFormat exportFormat = ExportFormat.from(format);
+		StreamingResponseBody body = historyExportService.exportMaintenanceTasks(bikeId, currentUserProvider.getCurrentUserId(), exportFormat);
+		return toAttachment("maintenance-tasks", exportFormat, body);
+	}
+
+	/**
+	 * ログイン中のユーザーのAI質問履歴をすべてエクスポートします。
+	 * AI質問履歴はDBから読み込みながらレスポンスに書き込むため、件数に関わらず一括でメモリに保持しません。
+	 */
+	@Operation(summary = "AI質問履歴をエクスポートする", description = "ログイン中のユーザーのAI質問履歴を作成日時の古い順にNDJSONまたはCSVで出力します。バイクIDを指定した場合はそのバイクのAI質問履歴のみを出力します。")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "エクスポートに成功",
+					content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+			@ApiResponse(responseCode = "400", description = "不正なリクエスト（バイクIDや出力形式が不正など）"),
+			@ApiResponse(responseCode = "403", description = "アクセス権限がない"),
+			@ApiResponse(responseCode = "404", description = "ユーザーが所有するバイクが見つからない")
+	})
+	@GetMapping("/ai-questions")
+	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
+	public ResponseEntity<StreamingResponseBody> exportAiQuestions(
+			@Parameter(description = "エクスポートするバイクの一意の識別子。省略した場合はすべてのバイクのAI質問履歴を出力します。")
+			@RequestParam(required = false) @Positive Integer bikeId,
+			@Parameter(description = "出力形式（ndjsonまたはcsv）。省略した場合はndjsonです。")
+			@RequestParam(defaultValue = "ndjson") String format
+	) {
+		ExportFormat exportFormat = ExportFormat.from(format);
+		StreamingResponseBody body = historyExportService.exportAiQuestions(bikeId, currentUserProvider.getCurrentUserId(), exportFormat);
+		return toAttachment("ai-questions", exportFormat, body);
+	}
+
+	private ResponseEntity<StreamingResponseBody> toAttachment(String fileName, ExportFormat format, StreamingResponseBody body) {
+		ContentDisposition contentDisposition = ContentDisposition.attachment()
+				.filename(fileName + "." + format.getFileExtension())
+				.build();
+		return ResponseEntity.ok()
+				.contentType(format.getMediaType())
+				.header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+				.body(body);
+	}
+}
@@ -1,8 +1,18 @@
 package com.rikuto.revox.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rikuto.revox.dto.fields.ResponseFields;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskPageResponse;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskRequest;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchResponse;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskUpdateRequest;
+import com.rikuto.revox.dto.version.ResourceVersion;
+import com.rikuto.revox.security.details.CurrentUserProvider;
+import com.rikuto.revox.service.MaintenanceTaskImportService;
+import com.rikuto.revox.service.MaintenanceTaskSearchService;
 import com.rikuto.revox.service.MaintenanceTaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,8 +22,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,8 +38,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -34,10 +54,36 @@ import java.util.List;
 @RequestMapping("/api/maintenance-task")
 public class MaintenanceTaskController {
 
+	/**
+	 * 整備タスクリストの1ページに指定できる最大の件数です。
+	 */
+	private static final int MAX_PAGE_SIZE = 100;
+
+	/**
+	 * 整備タスクの検索語に指定できる最大の文字数です。
+	 */
+	private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+
+	private static final String TEXT_CSV_VALUE = "text/csv";
+
 	private final MaintenanceTaskService maintenanceTaskService;
+	private final MaintenanceTaskImportService maintenanceTaskImportService;
+	private final MaintenanceTaskSearchService maintenanceTaskSearchService;
 
-	public MaintenanceTaskController(MaintenanceTaskService maintenanceTaskService) {
+	private final CurrentUserProvider currentUserProvider;
+
+	private final ObjectMapper objectMapper;
+
+	public MaintenanceTaskController(MaintenanceTaskService maintenanceTaskService,
+	                                 MaintenanceTaskImportService maintenanceTaskImportService,
+	                                 MaintenanceTaskSearchService maintenanceTaskSearchService,
+	                                 CurrentUserProvider currentUserProvider,
+	                                 ObjectMapper objectMapper) {
 		this.maintenanceTaskService = maintenanceTaskService;
+		this.maintenanceTaskImportService = maintenanceTaskImportService;
+		this.maintenanceTaskSearchService = maintenanceTaskSearchService;
+		this.currentUserProvider = currentUserProvider;
+		this.objectMapper = objectMapper;
 	}
 
 	// CREATE
@@ -52,84 +98,208 @@ public class MaintenanceTaskController {
 					content = @Content(mediaType = "application/json",
 							schema = @Schema(implementation = MaintenanceTaskResponse.class))),
 			@ApiResponse(responseCode = "400", description = "不正なリクエスト（バリデーションエラーなど）"),
-			@ApiResponse(responseCode = "403", description = "アクセス権限がない")
+			@ApiResponse(responseCode = "403", description = "アクセス権限がない"),
+			@ApiResponse(responseCode = "404", description = "カテゴリー、またはユーザーが所有するバイクが見つからない")
 	})
 	@PostMapping
 	@PreAuthorize("hasRole('USER')")
 	public ResponseEntity<MaintenanceTaskResponse> registerMaintenanceTask(
 			@RequestBody @Valid MaintenanceTaskRequest request
 	) {
-		MaintenanceTaskResponse registerMaintenanceTask = maintenanceTaskService.registerMaintenanceTask(request);
+		MaintenanceTaskResponse registerMaintenanceTask = maintenanceTaskService.registerMaintenanceTask(request, currentUserProvider.getCurrentUserId());
 		return new ResponseEntity<>(registerMaintenanceTask, HttpStatus.CREATED);
 	}
 
+	/**
+	 * NDJSONで記述された整備タスクを一括登録します。
+	 * アップロードされた内容は読み込みながら登録するため、一括でメモリに保持しません。
+	 */
+	@Operation(summary = "整備タスクをNDJSONで一括登録する", description = "1行に1件の整備タスクをJSONで記述したNDJSONを読み込み、整備タスクを一括登録します。検証に失敗した行は登録せず、行番号とエラー内容を返します。")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "一括登録が完了",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = MaintenanceTaskImportResponse.class))),
+			@ApiResponse(responseCode = "403", description = "アクセス権限がない")
+	})
+	@PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	@PreAuthorize("hasRole('USER')")
+	public ResponseEntity<MaintenanceTaskImportResponse> importMaintenanceTasksFromNdjson(InputStream body) throws IOException {
+		MaintenanceTaskImportResponse importResponse = maintenanceTaskImportService.importNdjson(body, currentUserProvider.getCurrentUserId());
+		return ResponseEntity.ok(importResponse);
+	}
+
+	/**
+	 * CSVで記述された整備タスクを一括登録します。
+	 * アップロードされた内容は読み込みながら登録するため、一括でメモリに保持しません。
+	 */
+	@Operation(summary = "整備タスクをCSVで一括登録する", description = "ヘッダー行にbikeId、categoryId、name、description、createdAt（任意）の列を持つCSVを読み込み、整備タスクを一括登録します。検証に失敗した行は登録せず、行番号とエラー内容を返します。")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "一括登録が完了",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = MaintenanceTaskImportResponse.class))),
+			@ApiResponse(responseCode = "400", description = "不正なリクエスト（ヘッダー行に必須の列がない、CSVの形式が不正など）"),
+			@ApiResponse(responseCode = "403", description = "アクセス権限がない")
+	})
+	@PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+	@PreAuthorize("hasRole('USER')")
+	public ResponseEntity<MaintenanceTaskImportResponse> importMaintenanceTasksFromCsv(InputStream body) throws IOException {
+		MaintenanceTaskImportResponse importResponse = maintenanceTaskImportService.importCsv(body, currentUserProvider.getCurrentUserId());
+		return ResponseEntity.ok(importResponse);
+	}
+
 	// READ
 	//------------------------------------------------------------------------------------------------------------------
 
 	/**
 	 * ユーザーIDに紐づく整備タスクを取得します。
 	 * ダッシュボードでの最新記録表示に利用します。
+	 * 前回取得時から変更がない場合は整備タスクを読み込まずに304を返します。
+	 * fieldsに詳細内容を含めない場合は、詳細内容を読み込まずに取得します。
 	 */
-	@Operation(summary = "ユーザーの最新整備タスクリストを取得する", description = "指定されたユーザーIDに紐づく最新の整備タスク情報をリスト形式で取得します。ダッシュボードでの最新記録表示に利用されます。")
+	@Operation(summary = "ユーザーの最新整備タスクリストを取得する", description = "指定されたユーザーIDに紐づく最新の整備タスク情報をリスト形式で取得します。ダッシュボードでの最新記録表示に利用されます。fieldsを指定した場合は指定された項目のみを返します。前回取得時から変更がない場合は304を返します。")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "整備タスクリストの取得に成功",
 					content = @Content(mediaType = "application/json",
 							schema = @Schema(implementation = MaintenanceTaskResponse.class))),
-			@ApiResponse(responseCode = "400", description = "不正なリクエスト（ユーザーIDが不正など）"),
+			@ApiResponse(responseCode = "304", description = "整備タスクが変更されていない"),
+			@ApiResponse(responseCode = "400", description = "不正なリクエスト（ユーザーID、fieldsが不正など）"),
 			@ApiResponse(responseCode = "403", description = "アクセス権限がない")
 	})
 	@GetMapping("/user/{userId}")
 	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
-	public ResponseEntity<List<MaintenanceTaskResponse>> getLatestMaintenanceTasksByUserId(
+	public ResponseEntity<?> getLatestMaintenanceTasksByUserId(
 			@Parameter(description = "整備タスクリストを取得したいユーザーの一意の識別子。", required = true)
-			@PathVariable @Positive Integer userId
+			@PathVariable @Positive Integer userId,
+			@Parameter(description = "レスポンスに含める項目をカンマ区切りで指定します（例: id,name,createdAt）。省略した場合はすべての項目を返します。")
+			@RequestParam(required = false) String fields,
+			WebRequest webRequest
 	) {
-		List<MaintenanceTaskResponse> responseListByUserId = maintenanceTaskService.findLatestMaintenanceTasksByUserId(userId);
-		return ResponseEntity.ok(responseListByUserId);
+		ResponseFields responseFields = ResponseFields.parse(fields, MaintenanceTaskResponse.class);
+		ResourceVersion version = maintenanceTaskService.findVersionByUserId(userId);
+		if(webRequest.checkNotModified(version.getETag())) {
+			return null;
+		}
+
+		List<MaintenanceTaskResponse> responseListByUserId = maintenanceTaskService.findLatestMaintenanceTasksByUserId(userId, responseFields);
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.noCache())
+				.body(responseFields.isAll() ? responseListByUserId : responseFields.select(responseListByUserId, objectMapper));
 	}
 
 	/**
-	 * バイクIDに紐づいた整備タスクを取得します。
+	 * バイクIDに紐づいた整備タスクを作成日時の新しい順に1ページ分取得します。
+	 * 次のページはレスポンスに含まれるカーソルを指定して取得します。
+	 * 前回取得時から変更がない場合は整備タスクを読み込まずに304を返します。
+	 * fieldsに詳細内容を含めない場合は、詳細内容を読み込まずに取得します。
 	 */
-	@Operation(summary = "特定のバイクの全整備タスクを取得する", description = "指定されたバイクIDに紐づく全ての整備タスクをリスト形式で取得します。")
+	@Operation(summary = "特定のバイクの整備タスクをページ単位で取得する", description = "指定されたバイクIDに紐づく整備タスクを作成日時の新しい順に1ページ分取得します。次のページはレスポンスのnextCursorをcursorに指定して取得します。fieldsを指定した場合は整備タスクの指定された項目のみを返します。前回取得時から変更がない場合は304を返します。")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "整備タスクリストの取得に成功",
 					content = @Content(mediaType = "application/json",
-							schema = @Schema(implementation = MaintenanceTaskResponse.class))),
-			@ApiResponse(responseCode = "400", description = "不正なリクエスト（バイクIDが不正など）"),
-			@ApiResponse(responseCode = "403", description = "アクセス権限がない")
+							schema = @Schema(implementation = MaintenanceTaskPageResponse.class))),
+			@ApiResponse(responseCode = "304", description = "整備タスクが変更されていない"),
+			@ApiResponse(responseCode = "400", description = "不正なリクエスト（バイクID、カーソル、ページの件数、fieldsが不正など）"),
+			@ApiResponse(responseCode = "403", description = "アクセス権限がない"),
+			@ApiResponse(responseCode = "404", description = "ユーザーが所有するバイクが見つからない")
 	})
 	@GetMapping("/bike/{bikeId}")
 	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
-	public ResponseEntity<List<MaintenanceTaskResponse>> getMaintenanceTaskByBikeID(
+	public ResponseEntity<?> getMaintenanceTaskByBikeID(
 			@Parameter(description = "整備タスクを取得したいバイクの一意の識別子。", required = true)
-			@PathVariable @Positive Integer bikeId
+			@PathVariable @Positive Integer bikeId,
+			@Parameter(description = "前のページのレスポンスに含まれるnextCursor。最初のページを取得する場合は省略します。")
+			@RequestParam(required = false) String cursor,
+			@Parameter(description = "1ページの件数。省略した場合は20件です。")
+			@RequestParam(required = false) @Min(1) @Max(MAX_PAGE_SIZE) Integer size,
+			@Parameter(description = "レスポンスに含める項目をカンマ区切りで指定します（例: id,name,createdAt）。省略した場合はすべての項目を返します。")
+			@RequestParam(required = false) String fields,
+			WebRequest webRequest
 	) {
-		List<MaintenanceTaskResponse> responseListByBikeId = maintenanceTaskService.findByBikeId(bikeId);
-		return ResponseEntity.ok(responseListByBikeId);
+		ResponseFields responseFields = ResponseFields.parse(fields, MaintenanceTaskResponse.class);
+		Integer userId = currentUserProvider.getCurrentUserId();
+		ResourceVersion version = maintenanceTaskService.findVersionByBikeId(bikeId, userId);
+		if(webRequest.checkNotModified(version.getETag())) {
+			return null;
+		}
+
+		MaintenanceTaskPageResponse pageByBikeId = maintenanceTaskService.findByBikeId(bikeId, cursor, size, userId, responseFields);
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.noCache())
+				.body(selectFields(pageByBikeId, responseFields));
 	}
 
 	/**
-	 * バイクIDとカテゴリーIDに紐づいた整備タスクを取得します。
+	 * バイクIDとカテゴリーIDに紐づいた整備タスクを作成日時の新しい順に1ページ分取得します。
+	 * バイク単位のバージョン情報で判定し、前回取得時から変更がない場合は整備タスクを読み込まずに304を返します。
+	 * fieldsに詳細内容を含めない場合は、詳細内容を読み込まずに取得します。
 	 */
-	@Operation(summary = "バイクとカテゴリーで整備タスクを絞り込んで取得する", description = "指定されたバイクIDとカテゴリーIDで絞り込んだ整備タスクのリストを取得します。")
+	@Operation(summary = "バイクとカテゴリーで整備タスクを絞り込んでページ単位で取得する", description = "指定されたバイクIDとカテゴリーIDで絞り込んだ整備タスクを作成日時の新しい順に1ページ分取得します。次のページはレスポンスのnextCursorをcursorに指定して取得します。fieldsを指定した場合は整備タスクの指定された項目のみを返します。前回取得時から変更がない場合は304を返します。")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "整備タスクリストの取得に成功",
 					content = @Content(mediaType = "application/json",
-							schema = @Schema(implementation = MaintenanceTaskResponse.class))),
-			@ApiResponse(responseCode = "400", description = "不正なリクエスト（IDが不正など）"),
-			@ApiResponse(responseCode = "403", description = "アクセス権限がない")
+							schema = @Schema(implementation = MaintenanceTaskPageResponse.class))),
+			@ApiResponse(responseCode = "304", description = "整備タスクが変更されていない"),
+			@ApiResponse(responseCode = "400", description = "不正なリクエスト（ID、カーソル、ページの件数、fieldsが不正など）"),
+			@ApiResponse(responseCode = "403", description = "アクセス権限がない"),
+			@ApiResponse(responseCode = "404", description = "ユーザーが所有するバイクが見つからない")
 	})
 	@GetMapping("/bike/{bikeId}/category/{categoryId}")
 	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
-	public ResponseEntity<List<MaintenanceTaskResponse>> getMaintenanceTaskByBikeIdAndCategoryId(
+	public ResponseEntity<?> getMaintenanceTaskByBikeIdAndCategoryId(
 			@Parameter(description = "整備タスクを取得したいバイクの一意の識別子。", required = true)
 			@PathVariable("bikeId") @Positive Integer bikeId,
 			@Parameter(description = "整備タスクを取得したいカテゴリーの一意の識別子。", required = true)
-			@PathVariable("categoryId") @Positive Integer categoryId
+			@PathVariable("categoryId") @Positive Integer categoryId,
+			@Parameter(description = "前のページのレスポンスに含まれるnextCursor。最初のページを取得する場合は省略します。")
+			@RequestParam(required = false) String cursor,
+			@Parameter(description = "1ページの件数。省略した場合は20件です。")
+			@RequestParam(required = false) @Min(1) @Max(MAX_PAGE_SIZE) Integer size,
+			@Parameter(description = "レスポンスに含める項目をカンマ区切りで指定します（例: id,name,createdAt）。省略した場合はすべての項目を返します。")
+			@RequestParam(required = false) String fields,
+			WebRequest webRequest
+	) {
+		ResponseFields responseFields = ResponseFields.parse(fields, MaintenanceTaskResponse.class);
+		Integer userId = currentUserProvider.getCurrentUserId();
+		ResourceVersion version = maintenanceTaskService.findVersionByBikeId(bikeId, userId);
+		if(webRequest.checkNotModified(version.getETag())) {
+			return null;
+		}
+
+		MaintenanceTaskPageResponse page = maintenanceTaskService.findByBikeIdAndCategoryId(bikeId, categoryId, cursor, size, userId, responseFields);
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.noCache())
+				.body(selectFields(page, responseFields));
+	}
+
+	/**
+	 * ユーザーが所有するバイクの整備タスクから、名前または詳細内容に検索語を含むものを関連度の高い順に1ページ分検索します。
+	 */
+	@Operation(summary = "整備タスクを検索する", description = "名前または詳細内容に検索語を含む整備タスクを、名前に一致したものを優先して関連度の高い順に1ページ分取得します。バイクとカテゴリーで絞り込むことができます。一致した範囲は抜粋内の開始位置と終了位置で返します。")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "整備タスクの検索に成功",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = MaintenanceTaskSearchResponse.class))),
+			@ApiResponse(responseCode = "400", description = "不正なリクエスト（検索語が空、ID、ページ番号、ページの件数が不正など）"),
+			@ApiResponse(responseCode = "403", description = "アクセス権限がない"),
+			@ApiResponse(responseCode = "404", description = "ユーザーが所有するバイクが見つからない")
+	})
+	@GetMapping("/search")
+	@PreAuthorize("hasAnyRole('GUEST', 'USER')")
+	public ResponseEntity<MaintenanceTaskSearchResponse> searchMaintenanceTasks(
+			@Parameter(description = "検索語。名前と詳細内容を大文字小文字を区別せずに部分一致で検索します。", required = true)
+			@RequestParam("q") @NotBlank @Size(max = MAX_SEARCH_QUERY_LENGTH) String query,
+			@Parameter(description = "絞り込むバイクの一意の識別子。省略した場合は所有するすべてのバイクを検索します。")
+			@RequestParam(required = false) @Positive Integer bikeId,
+			@Parameter(description = "絞り込むカテゴリーの一意の識別子。")
+			@RequestParam(required = false) @Positive Integer categoryId,
+			@Parameter(description = "ページ番号（0始まり）。省略した場合は最初のページです。")
+			@RequestParam(required = false) @Min(0) Integer page,
+			@Parameter(description = "1ページの件数。省略した場合は20件です。")
+			@RequestParam(required = false) @Min(1) @Max(MAX_PAGE_SIZE) Integer size
 	) {
-		List<MaintenanceTaskResponse> responseList = maintenanceTaskService.findByBikeIdAndCategoryId(bikeId, categoryId);
-		return ResponseEntity.ok(responseList);
+		MaintenanceTaskSearchResponse searchResponse = maintenanceTaskSearchService.search(
+				query, bikeId, categoryId, page, size, currentUserProvider.getCurrentUserId());
+		return ResponseEntity.ok(searchResponse);
 	}
 
 	// UPDATE
@@ -154,7 +324,7 @@ public class MaintenanceTaskController {
 			@PathVariable @Positive Integer maintenanceTaskId,
 			@RequestBody @Valid MaintenanceTaskUpdateRequest request
 	) {
-		MaintenanceTaskResponse updateTask = maintenanceTaskService.updateMaintenanceTask(maintenanceTaskId, request);
+		MaintenanceTaskResponse updateTask = maintenanceTaskService.updateMaintenanceTask(maintenanceTaskId, request, currentUserProvider.getCurrentUserId());
 		return ResponseEntity.ok(updateTask);
 	}
 
@@ -177,7 +347,20 @@ public class MaintenanceTaskController {
 			@Parameter(description = "論理削除したい整備タスクの一意の識別子。", required = true)
 			@PathVariable @Positive Integer maintenanceTaskId
 	) {
-		maintenanceTaskService.softDeleteMaintenanceTask(maintenanceTaskId);
+		maintenanceTaskService.softDeleteMaintenanceTask(maintenanceTaskId, currentUserProvider.getCurrentUserId());
 		return ResponseEntity.noContent().build();
 	}
+	/**
+	 * 整備タスクの1ページ分から、fieldsで指定された項目以外を整備タスクごとに取り除きます。
+	 * nextCursorは次のページの取得に必要なため、指定に関わらず残します。
+	 */
+	private Object selectFields(MaintenanceTaskPageResponse page, ResponseFields responseFields) {
+		if(responseFields.isAll()) {
+			return page;
+		}
+
+		ObjectNode body = objectMapper.valueToTree(page);
+		body.set("maintenanceTasks", responseFields.select(page.getMaintenanceTasks(), objectMapper));
+		return body;
+	}
 }
\ No newline at end of file
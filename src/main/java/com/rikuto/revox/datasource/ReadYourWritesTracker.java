@@ -0,0 +1,65 @@
+package com.rikuto.revox.datasource;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ユーザーごとに最後に書き込みをコミットした時刻を記録し、書き込み直後の読み取りをプライマリで実行させるクラスです。
+ * 書き込みから一定時間（レプリカの遅延の上限と計測間隔の合計）が経過するまでは、レプリカに反映されていない可能性があるため、
+ * 同じユーザーの読み取り専用トランザクションもプライマリで実行します。
+ * ユーザーは認証情報の名前（一意のユーザーID）で識別し、認証されていない処理は対象としません。
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+	private static final int PURGE_THRESHOLD = 10_000;
+
+	private final long windowNanos;
+
+	private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+	/**
+	 * @param window 書き込みの後、同じユーザーの読み取りをプライマリで実行する期間
+	 */
+	public ReadYourWritesTracker(Duration window) {
+		this.windowNanos = window.toNanos();
+	}
+
+	@Override
+	public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+		if(commitFailure != null || transaction.isReadOnly() || ! transaction.isNewTransaction()) {
+			return;
+		}
+		String userKey = currentUserKey();
+		if(userKey == null) {
+			return;
+		}
+		long now = System.nanoTime();
+		lastWriteNanos.put(userKey, now);
+		if(lastWriteNanos.size() > PURGE_THRESHOLD) {
+			lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+		}
+	}
+
+	/**
+	 * 現在のユーザーが直近に書き込みをコミットしており、プライマリで読み取る必要があるかを返します。
+	 */
+	public boolean requiresPrimary() {
+		String userKey = currentUserKey();
+		if(userKey == null) {
+			return false;
+		}
+		Long writtenAt = lastWriteNanos.get(userKey);
+		return writtenAt != null && System.nanoTime() - writtenAt <= windowNanos;
+	}
+
+	private static String currentUserKey() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return authentication == null || ! authentication.isAuthenticated() ? null : authentication.getName();
+	}
+}
@@ -0,0 +1,162 @@
+package com.rikuto.revox.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.Lifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * レプリカのレプリケーション遅延を定期的に計測し、読み取りに使用できるかを判定するクラスです。
+ * 遅延が上限を超えた場合、プライマリからWALを受信していない場合、接続できない場合は使用できないと判定し、
+ * 次の計測で回復を確認するまでプライマリで読み取ります。
+ * 起動直後とCRaCのリストア直後は、最初の計測が完了するまで使用できないものとして扱います。
+ * <p>
+ * 遅延はレプリカが受信済みのWALを基準に計測するため、プライマリとの接続を維持したまま受信が止まった場合は、
+ * WAL受信プロセスがwal_receiver_timeout（既定60秒）で終了するまで遅延なしと判定します。
+ * その間の読み取りには、直近に書き込んだユーザー以外の書き込みが反映されていない場合があります。
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable, Lifecycle {
+
+	/**
+	 * WAL受信プロセスがない、またはストリーミング中でない場合（プライマリとの接続が切れた場合など）は、遅延を計測できないものとしてNULLを返します。
+	 * 受信済みのWALをすべて適用済みの場合は遅延なし、未適用のWALがある場合は最後に適用したトランザクションからの経過秒数を遅延とします。
+	 * 書き込みがない間はpg_last_xact_replay_timestampが更新されないため、経過時間だけでは遅延と判定しません。
+	 * pg_stat_wal_receiverのstatusはpg_read_all_statsの権限がない場合NULLになるため、その場合はWAL受信プロセスの有無のみで判定します。
+	 */
+	private static final String LAG_QUERY = """
+			SELECT CASE
+			         WHEN receiver.pid IS NULL OR receiver.status <> 'streaming' THEN NULL
+			         WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+			         ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+			       END
+			FROM (SELECT 1) AS one
+			LEFT JOIN pg_stat_wal_receiver AS receiver ON true
+			""";
+
+	private final DataSource replicaDataSource;
+
+	private final Duration maxLag;
+
+	private final ScheduledExecutorService scheduler;
+
+	private volatile boolean replicaAvailable;
+
+	private volatile double lagSeconds = Double.NaN;
+
+	private volatile boolean running = true;
+
+	/**
+	 * 計測を開始します。
+	 *
+	 * @param replicaDataSource レプリカのDataSource
+	 * @param maxLag            読み取りに使用できる遅延の上限
+	 * @param checkInterval     計測の間隔
+	 * @param meterRegistry     メトリクスの登録先
+	 */
+	public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+		this.replicaDataSource = replicaDataSource;
+		this.maxLag = maxLag;
+
+		Gauge.builder("revox.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+				.description("レプリカのレプリケーション遅延（秒）")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+		Gauge.builder("revox.datasource.replica.available", this, monitor -> monitor.replicaAvailable ? 1 : 0)
+				.description("レプリカを読み取りに使用できるか（1: 使用できる、0: プライマリで読み取る）")
+				.register(meterRegistry);
+
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(
+				Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+		this.scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * レプリカを読み取りに使用できるかを返します。
+	 */
+	public boolean isReplicaAvailable() {
+		return replicaAvailable;
+	}
+
+	/**
+	 * レプリカへの接続に失敗した場合に、次の計測で回復を確認するまで使用できないものとして扱います。
+	 *
+	 * @param cause 接続に失敗した原因
+	 */
+	public void markUnavailable(SQLException cause) {
+		if(replicaAvailable) {
+			log.warn("レプリカへの接続に失敗したため、プライマリで読み取ります。", cause);
+		}
+		replicaAvailable = false;
+	}
+
+	void check() {
+		boolean wasAvailable = replicaAvailable;
+		try(Connection connection = replicaDataSource.getConnection();
+		    Statement statement = connection.createStatement();
+		    ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+			resultSet.next();
+			double lag = resultSet.getDouble(1);
+			if(resultSet.wasNull()) {
+				lagSeconds = Double.NaN;
+				replicaAvailable = false;
+				if(wasAvailable) {
+					log.warn("レプリカがプライマリからWALを受信していないため、プライマリで読み取ります。");
+				}
+				return;
+			}
+			lagSeconds = lag;
+			replicaAvailable = running && lagSeconds <= maxLag.toMillis() / 1000.0;
+			if(wasAvailable && ! replicaAvailable) {
+				log.warn("レプリカの遅延が上限を超えたため、プライマリで読み取ります。 lag={}s, maxLag={}", lagSeconds, maxLag);
+			}
+		} catch(SQLException | RuntimeException e) {
+			lagSeconds = Double.NaN;
+			replicaAvailable = false;
+			if(wasAvailable) {
+				log.warn("レプリカの遅延を計測できないため、プライマリで読み取ります。", e);
+			}
+		}
+		if(! wasAvailable && replicaAvailable) {
+			log.info("レプリカを読み取りに使用します。 lag={}s", lagSeconds);
+		}
+	}
+
+	/**
+	 * CRaCのリストア後に、計測の結果に応じてレプリカを使用できるようにします。
+	 */
+	@Override
+	public void start() {
+		running = true;
+	}
+
+	/**
+	 * CRaCのチェックポイントの前に、チェックポイント時点の計測結果をリストア後に使用しないよう、レプリカを使用できないものとして扱います。
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		replicaAvailable = false;
+		lagSeconds = Double.NaN;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+}
@@ -0,0 +1,90 @@
+package com.rikuto.revox.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 読み取り専用トランザクションの接続先をレプリカとプライマリから選択するDataSourceです。
+ * LazyConnectionDataSourceProxyの読み取り専用の接続先に設定し、次の場合はレプリカではなくプライマリに接続します。
+ * <ul>
+ *     <li>同じユーザーが直近に書き込みをコミットしている場合（書き込んだ内容を読み取れるようにするため）</li>
+ *     <li>レプリカの遅延が上限を超えている、または遅延を計測できない場合</li>
+ *     <li>レプリカへの接続に失敗した場合</li>
+ *     <li>ユーザー名とパスワードを指定して接続する場合</li>
+ * </ul>
+ * 接続先ごとの件数はrevox.datasource.routingに記録します。
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+	private final DataSource primaryDataSource;
+
+	private final DataSource replicaDataSource;
+
+	private final ReplicaLagMonitor lagMonitor;
+
+	private final ReadYourWritesTracker readYourWritesTracker;
+
+	private final Counter replicaRoutes;
+	private final Counter readYourWritesRoutes;
+	private final Counter replicaUnavailableRoutes;
+	private final Counter connectionFailureRoutes;
+
+	public ReplicaRoutingDataSource(DataSource primaryDataSource,
+	                                DataSource replicaDataSource,
+	                                ReplicaLagMonitor lagMonitor,
+	                                ReadYourWritesTracker readYourWritesTracker,
+	                                MeterRegistry meterRegistry) {
+		this.primaryDataSource = primaryDataSource;
+		this.replicaDataSource = replicaDataSource;
+		this.lagMonitor = lagMonitor;
+		this.readYourWritesTracker = readYourWritesTracker;
+		this.replicaRoutes = routeCounter(meterRegistry, "replica", "replica");
+		this.readYourWritesRoutes = routeCounter(meterRegistry, "primary", "read_your_writes");
+		this.replicaUnavailableRoutes = routeCounter(meterRegistry, "primary", "replica_unavailable");
+		this.connectionFailureRoutes = routeCounter(meterRegistry, "primary", "connection_failure");
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if(readYourWritesTracker.requiresPrimary()) {
+			readYourWritesRoutes.increment();
+			return primaryDataSource.getConnection();
+		}
+		if(! lagMonitor.isReplicaAvailable()) {
+			replicaUnavailableRoutes.increment();
+			return primaryDataSource.getConnection();
+		}
+		try {
+			Connection connection = replicaDataSource.getConnection();
+			replicaRoutes.increment();
+			return connection;
+		} catch(SQLException e) {
+			lagMonitor.markUnavailable(e);
+			connectionFailureRoutes.increment();
+			return primaryDataSource.getConnection();
+		}
+	}
+
+	/**
+	 * ユーザー名とパスワードを指定した接続は、プライマリから取得します。
+	 * レプリカにはrevox.datasource.replicaで設定した別のユーザーで接続する場合があり、
+	 * 指定された認証情報がレプリカでも有効とは限らないため、レプリカには振り分けません。
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return primaryDataSource.getConnection(username, password);
+	}
+
+	private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+		return Counter.builder("revox.datasource.routing")
+				.description("読み取り専用トランザクションの接続先ごとの件数")
+				.tag("target", target)
+				.tag("reason", reason)
+				.register(meterRegistry);
+	}
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -33,10 +34,12 @@ public class Ai {
 
 	/**
 	 * AI質問の一意なIDです。
-	 * データベースで登録時に自動生成されます。
+	 * データベースのシーケンスから採番されます。
+	 * 登録のたびにシーケンスを呼び出さないよう、pooled-loオプティマイザでまとめて払い出した範囲から割り当てます。
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_questions_id_seq")
+	@SequenceGenerator(name = "ai_questions_id_seq", sequenceName = "ai_questions_id_seq", allocationSize = 50)
 	@Schema(description = "AI質問の一意なIDです。")
 	private int id;
 
@@ -78,6 +81,15 @@ public class Ai {
 	@Schema(description = "AIが生成した回答内容です。", requiredMode = Schema.RequiredMode.REQUIRED)
 	private String answer;
 
+	/**
+	 * 論理削除フラグ。
+	 * trueの場合、レコードは削除済みとして扱われます。
+	 */
+	@Column(name = "is_deleted", nullable = false)
+	@Builder.Default
+	@Schema(description = "論理削除フラグ。trueの場合、レコードは削除済みとして扱われます。")
+	private boolean isDeleted = false;
+
 	/**
 	 * レコードが作成された日時
 	 * 日時はDBで自動設定されるためシステム側では日時の更新は行いません。
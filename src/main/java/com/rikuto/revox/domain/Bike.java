@@ -1,7 +1,7 @@
 package com.rikuto.revox.domain;
 
-import com.rikuto.revox.dto.bike.BikeUpdateRequest;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,12 +12,15 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -27,10 +30,13 @@ import java.util.List;
 /**
  * バイク情報を表すドメインです。
  * データベースのbikesテーブルにマッピングされています。
+ * バイク一覧やAIへの質問で繰り返し参照されるため、2次キャッシュに保持します。
  */
 @Schema(description = "ユーザーが所有するバイクの情報を表すドメインです。")
 @Entity
 @Table(name = "bikes")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "bikes")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -55,10 +61,12 @@ public class Bike {
 
 	/**
 	 * バイクの一意なIDです。
-	 * データベースで登録時に自動生成されます。
+	 * データベースのシーケンスから採番されます。
+	 * 登録のたびにシーケンスを呼び出さないよう、pooled-loオプティマイザでまとめて払い出した範囲から割り当てます。
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bikes_id_seq")
+	@SequenceGenerator(name = "bikes_id_seq", sequenceName = "bikes_id_seq", allocationSize = 50)
 	@Schema(description = "バイクの一意なID。データベースで自動生成されます。")
 	private int id;
 
@@ -146,36 +154,14 @@ public class Bike {
 	@Schema(description = "レコードが更新された最終日時", accessMode = Schema.AccessMode.READ_ONLY)
 	private LocalDateTime updatedAt;
 
-
 	/**
-	 * 受け取ったリクエスト内容を更新するメソッドです。
-	 * 日時はDBで自動設定されるためシステム側では日時の更新は行いません。
-	 *
-	 * @param data 更新するバイク情報
+	 * 登録・更新のたびにDBで新しい値が割り当てられる行バージョン
+	 * 一覧のETagの算出にのみ使用するため、システム側では値の設定は行いません。
 	 */
-	public void updateFrom(BikeUpdateRequest data) {
-		if(data.getManufacturer() != null) {
-			this.manufacturer = data.getManufacturer();
-		}
-		if(data.getModelName() != null) {
-			this.modelName = data.getModelName();
-		}
-		if(data.getModelCode() != null) {
-			this.modelCode = data.getModelCode();
-		}
-		if(data.getModelYear() != null) {
-			this.modelYear = data.getModelYear();
-		}
-		if(data.getCurrentMileage() != null) {
-			this.currentMileage = data.getCurrentMileage();
-		}
-		if(data.getPurchaseDate() != null) {
-			this.purchaseDate = data.getPurchaseDate();
-		}
-		if(data.getImageUrl() != null) {
-			this.imageUrl = data.getImageUrl();
-		}
-	}
+	@Column(name = "row_version", nullable = false, insertable = false, updatable = false)
+	@Schema(hidden = true)
+	private Long rowVersion;
+
 
 	/**
 	 * 論理削除のためのメソッドです。
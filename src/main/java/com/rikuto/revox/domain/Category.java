@@ -1,6 +1,7 @@
 package com.rikuto.revox.domain;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -16,6 +18,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -26,10 +30,13 @@ import java.util.List;
  * データベースのcategoriesにマッピングされています。
  * カテゴリー情報は事前にデータベースに登録されておりユーザーからの変更は受け付けないため、バリデーションはDomainで行います。
  * 管理者がカテゴリー管理するため論理削除は実装しません。
+ * アプリケーションから更新されないため、読み取り専用の2次キャッシュに保持します。
  */
 @Schema(description = "カテゴリー情報を表すドメイン。事前にデータベースに登録されており、ユーザーからの変更はできません。")
 @Entity
 @Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "categories")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -46,10 +53,12 @@ public class Category {
 
 	/**
 	 * カテゴリーの一意なID。
-	 * データベースで登録時に自動生成されます。
+	 * データベースのシーケンスから採番されます。
+	 * 登録のたびにシーケンスを呼び出さないよう、pooled-loオプティマイザでまとめて払い出した範囲から割り当てます。
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_id_seq")
+	@SequenceGenerator(name = "categories_id_seq", sequenceName = "categories_id_seq", allocationSize = 50)
 	@Schema(description = "カテゴリーの一意なID。")
 	private int id;
 
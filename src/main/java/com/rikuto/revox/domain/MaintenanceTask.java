@@ -1,6 +1,5 @@
 package com.rikuto.revox.domain;
 
-import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskUpdateRequest;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -32,6 +32,12 @@ import java.time.LocalDateTime;
 @Builder
 public class MaintenanceTask {
 
+	/**
+	 * IDのシーケンスから1回で払い出す件数です。
+	 * シーケンスの増分と一致させる必要があります。
+	 */
+	public static final int ID_ALLOCATION_SIZE = 50;
+
 	/**
 	 * 整備タスクは必ず１つのカテゴリーに保持されます。
 	 */
@@ -48,12 +54,23 @@ public class MaintenanceTask {
 	@Schema(description = "整備タスクが関連するバイク情報。")
 	private Bike bike;
 
+	/**
+	 * 整備タスクが紐づくバイクを所有するユーザーのIDです。
+	 * ユーザー単位の検索でバイクとの結合を避けるために非正規化して保持しています。
+	 * 登録時とバイクの付け替え時にDBのトリガーで設定されるため、システム側での設定は行いません。
+	 */
+	@Column(name = "user_id", nullable = false, insertable = false, updatable = false)
+	@Schema(description = "整備タスクが紐づくバイクを所有するユーザーのID。", accessMode = Schema.AccessMode.READ_ONLY)
+	private Integer userId;
+
 	/**
 	 * 整備タスクの一意なIDです。
-	 * データベースで登録時に自動生成されます。
+	 * データベースのシーケンスから採番されます。
+	 * 登録のたびにシーケンスを呼び出さないよう、pooled-loオプティマイザでまとめて払い出した範囲から割り当てます。
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "maintenance_tasks_id_seq")
+	@SequenceGenerator(name = "maintenance_tasks_id_seq", sequenceName = "maintenance_tasks_id_seq", allocationSize = ID_ALLOCATION_SIZE)
 	@Schema(description = "整備タスクの一意なID。")
 	private int id;
 
@@ -99,21 +116,14 @@ public class MaintenanceTask {
 	@Schema(description = "レコードが更新された最終日時", accessMode = Schema.AccessMode.READ_ONLY)
 	private LocalDateTime updatedAt;
 
-
 	/**
-	 * 受け取ったリクエスト内容を更新するメソッドです。
-	 * 日時はDBで自動設定されるためシステム側では日時の更新は行いません。
-	 *
-	 * @param request 更新する整備タスク
+	 * 登録・更新のたびにDBで新しい値が割り当てられる行バージョン
+	 * 一覧のETagの算出にのみ使用するため、システム側では値の設定は行いません。
 	 */
-	public void updateFrom(MaintenanceTaskUpdateRequest request) {
-		if(request.getName() != null) {
-			this.name = request.getName();
-		}
-		if(request.getDescription() != null) {
-			this.description = request.getDescription();
-		}
-	}
+	@Column(name = "row_version", nullable = false, insertable = false, updatable = false)
+	@Schema(hidden = true)
+	private Long rowVersion;
+
 
 	/**
 	 * 論理削除のためのメソッドです。
@@ -1,7 +1,7 @@
 package com.rikuto.revox.domain;
 
-import com.rikuto.revox.dto.user.UserUpdateRequest;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,6 +10,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -19,6 +20,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,10 +32,14 @@ import java.util.List;
 /**
  * ユーザ情報を表すドメインです。
  * データベースのusersテーブルにマッピングされています。
+ * JWT認証のたびに参照されるため、2次キャッシュに保持し、uniqueUserIdからユーザーIDへの対応もキャッシュします。
  */
 @Schema(description = "ユーザー情報を表すドメイン。登録、更新、論理削除が可能です。")
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-natural-id")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -48,10 +57,12 @@ public class User {
 
 	/**
 	 * ユーザーの一意なID。
-	 * データベースで登録時に自動生成されます。
+	 * データベースのシーケンスから採番されます。
+	 * 登録のたびにシーケンスを呼び出さないよう、pooled-loオプティマイザでまとめて払い出した範囲から割り当てます。
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+	@SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
 	@Schema(description = "ユーザーの一意なIDです。データベースで自動生成されます。")
 	private int id;
 
@@ -79,7 +90,9 @@ public class User {
 	 * 外部認証システムから取得した一意なユーザーID。
 	 * Google認証の場合はsubクレーム、Line認証の場合はLine IDなどを格納します。
 	 * このフィールドがJWT認証の主キーとして機能します。
+	 * 登録後に変更されないため、自然キーとして2次キャッシュからの検索に使用します。
 	 */
+	@NaturalId
 	@Column(name = "unique_user_id", unique = true, nullable = false)
 	@NotBlank
 	@Schema(description = "外部認証システムから取得した一意なユーザーID。JWT認証の主キーとして機能します。", requiredMode = Schema.RequiredMode.REQUIRED)
@@ -120,18 +133,6 @@ public class User {
 	private LocalDateTime updatedAt;
 
 
-	/**
-	 * ユーザー情報を更新します。
-	 * 外部認証のため、ニックネームのみ更新可能です。
-	 *
-	 * @param request 更新リクエスト
-	 */
-	public void updateFrom(UserUpdateRequest request) {
-		if(request.getNickname() != null) {
-			this.nickname = request.getNickname();
-		}
-	}
-
 	/**
 	 * 論理削除のためのメソッドです。
 	 * 日時はDBで自動設定されるためシステム側では日時の更新は行いません。
@@ -38,4 +38,13 @@ public class AiQuestionResponse {
 
 	@Schema(description = "レコードが作成された日時。")
 	private LocalDateTime createdAt;
+
+	/**
+	 * 回答内容を除いたレスポンスを生成します。
+	 * 履歴の一覧で回答内容を返さない場合に、回答内容の列を読み込まずに取得するためのコンストラクタです。
+	 */
+	public AiQuestionResponse(Integer id, Integer userId, Integer bikeId, Integer categoryId, String question,
+	                          LocalDateTime createdAt) {
+		this(id, userId, bikeId, categoryId, question, null, createdAt);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.rikuto.revox.dto.dashboard;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * カテゴリーごとの整備タスク件数に対するレスポンス内容のDTOです。
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "カテゴリーごとの整備タスク件数を表すレスポンスDTOです。")
+public class CategoryTaskCountResponse {
+
+	@Schema(description = "カテゴリーの一意なID。")
+	private Integer categoryId;
+
+	@Schema(description = "カテゴリーに紐づく論理削除されていない整備タスクの件数。")
+	private Long taskCount;
+}
@@ -0,0 +1,35 @@
+package com.rikuto.revox.dto.dashboard;
+
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.bike.BikeResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ホーム画面のダッシュボードに対するレスポンス内容のDTOです。
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "ホーム画面の表示に必要な情報をまとめたレスポンスDTOです。")
+public class DashboardResponse {
+
+	@Schema(description = "ユーザーが所有するバイクのリスト。")
+	private List<BikeResponse> bikes;
+
+	@Schema(description = "バイクごとの最新の整備タスクのリスト。")
+	private List<MaintenanceTaskResponse> latestMaintenanceTasks;
+
+	@Schema(description = "カテゴリーごとの整備タスク件数のリスト。")
+	private List<CategoryTaskCountResponse> categoryTaskCounts;
+
+	@Schema(description = "最近のAI質問履歴のリスト。")
+	private List<AiQuestionResponse> recentAiQuestions;
+}
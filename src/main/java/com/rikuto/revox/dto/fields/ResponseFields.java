@@ -0,0 +1,113 @@
+package com.rikuto.revox.dto.fields;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rikuto.revox.exception.InvalidRequestException;
+import lombok.EqualsAndHashCode;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 一覧レスポンスに含める項目（fieldsパラメーター）を表します。
+ * 一覧画面で表示しない詳細内容などの長いテキストを、DBから読み込まず、レスポンスにも含めないために使用します。
+ * 項目を指定しなかった場合は、レスポンスDTOのすべての項目を含めます。
+ */
+@EqualsAndHashCode
+public final class ResponseFields {
+
+	private static final ResponseFields ALL = new ResponseFields(null);
+
+	/**
+	 * レスポンスに含める項目名です。すべての項目を含める場合はnullです。
+	 */
+	private final Set<String> names;
+
+	private ResponseFields(Set<String> names) {
+		this.names = names;
+	}
+
+	/**
+	 * すべての項目を含めるResponseFieldsを取得します。
+	 *
+	 * @return すべての項目を含めるResponseFields
+	 */
+	public static ResponseFields all() {
+		return ALL;
+	}
+
+	/**
+	 * カンマ区切りの項目名を、レスポンスDTOの項目と照合して解析します。
+	 *
+	 * @param fields       カンマ区切りの項目名（nullまたは空の場合はすべての項目）
+	 * @param responseType 項目を照合するレスポンスDTOのクラス
+	 * @return 解析したResponseFields
+	 * @throws InvalidRequestException レスポンスDTOに存在しない項目名が含まれる場合
+	 */
+	public static ResponseFields parse(String fields, Class<?> responseType) {
+		if(fields == null || fields.isBlank()) {
+			return ALL;
+		}
+
+		Set<String> declaredNames = Arrays.stream(responseType.getDeclaredFields())
+				.filter(field -> ! Modifier.isStatic(field.getModifiers()))
+				.map(Field::getName)
+				.collect(Collectors.toSet());
+
+		Set<String> names = new LinkedHashSet<>();
+		for(String name : fields.split(",")) {
+			String trimmed = name.trim();
+			if(trimmed.isEmpty()) {
+				continue;
+			}
+			if(! declaredNames.contains(trimmed)) {
+				throw new InvalidRequestException("fieldsに指定できない項目です: " + trimmed);
+			}
+			names.add(trimmed);
+		}
+		return names.isEmpty() ? ALL : new ResponseFields(Set.copyOf(names));
+	}
+
+	/**
+	 * すべての項目を含めるかを判定します。
+	 *
+	 * @return すべての項目を含める場合はtrue
+	 */
+	public boolean isAll() {
+		return names == null;
+	}
+
+	/**
+	 * 指定された項目をレスポンスに含めるかを判定します。
+	 *
+	 * @param name 項目名
+	 * @return 項目を含める場合はtrue
+	 */
+	public boolean includes(String name) {
+		return names == null || names.contains(name);
+	}
+
+	/**
+	 * レスポンスDTOのリストを、指定された項目のみを持つJSON配列に変換します。
+	 *
+	 * @param responses    レスポンスDTOのリスト
+	 * @param objectMapper 変換に使用するObjectMapper
+	 * @return 指定された項目のみを持つJSON配列
+	 */
+	public ArrayNode select(List<?> responses, ObjectMapper objectMapper) {
+		ArrayNode array = objectMapper.valueToTree(responses);
+		if(names != null) {
+			for(JsonNode element : array) {
+				((ObjectNode) element).retain(names);
+			}
+		}
+		return array;
+	}
+}
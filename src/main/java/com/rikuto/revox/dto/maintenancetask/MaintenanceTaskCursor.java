@@ -0,0 +1,86 @@
+package com.rikuto.revox.dto.maintenancetask;
+
+import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 整備タスクリストのページングに使用するカーソルです。
+ * 整備タスクは作成日時とIDの降順に並べるため、前のページの最後の整備タスクの作成日時とIDを保持し、
+ * 次のページはそれより前の整備タスクから取得します。
+ * クライアントにはBase64URLでエンコードした不透明な文字列として渡します。
+ */
+@Getter
+@AllArgsConstructor
+public class MaintenanceTaskCursor {
+
+	private static final String SEPARATOR = "_";
+
+	/**
+	 * 前のページの最後の整備タスクの作成日時です。
+	 */
+	private LocalDateTime createdAt;
+
+	/**
+	 * 前のページの最後の整備タスクのIDです。
+	 */
+	private Integer id;
+
+	/**
+	 * 指定された整備タスクの直後から次のページを取得するカーソルを生成します。
+	 *
+	 * @param maintenanceTask ページの最後の整備タスク
+	 * @return カーソル
+	 */
+	public static MaintenanceTaskCursor of(MaintenanceTask maintenanceTask) {
+		return new MaintenanceTaskCursor(maintenanceTask.getCreatedAt(), maintenanceTask.getId());
+	}
+
+	/**
+	 * 指定された整備タスクのレスポンスの直後から次のページを取得するカーソルを生成します。
+	 *
+	 * @param maintenanceTaskResponse ページの最後の整備タスクのレスポンス
+	 * @return カーソル
+	 */
+	public static MaintenanceTaskCursor of(MaintenanceTaskResponse maintenanceTaskResponse) {
+		return new MaintenanceTaskCursor(maintenanceTaskResponse.getCreatedAt(), maintenanceTaskResponse.getId());
+	}
+
+	/**
+	 * クライアントから渡されたカーソル文字列をデコードします。
+	 *
+	 * @param token カーソル文字列
+	 * @return カーソル
+	 * @throws InvalidRequestException カーソル文字列が不正な場合
+	 */
+	public static MaintenanceTaskCursor decode(String token) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+			if(separatorIndex < 0) {
+				throw new InvalidRequestException("カーソルが不正です。");
+			}
+			return new MaintenanceTaskCursor(
+					LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+					Integer.valueOf(decoded.substring(separatorIndex + 1)));
+		} catch(IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidRequestException("カーソルが不正です。", e);
+		}
+	}
+
+	/**
+	 * カーソルをクライアントに渡す文字列にエンコードします。
+	 *
+	 * @return Base64URLでエンコードしたカーソル文字列
+	 */
+	public String encode() {
+		String raw = createdAt + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,24 @@
+package com.rikuto.revox.dto.maintenancetask;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 整備タスクの一括インポートで取り込めなかった行のエラー内容のDTOです。
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "整備タスクの一括インポートで取り込めなかった行のエラー内容を表すDTOです。")
+public class MaintenanceTaskImportError {
+
+	@Schema(description = "エラーとなった行の行番号。CSVの場合はヘッダー行を1行目とします。", example = "3")
+	private Integer line;
+
+	@Schema(description = "エラーメッセージ。", example = "バイクID 10 が見つかりません。")
+	private String message;
+}
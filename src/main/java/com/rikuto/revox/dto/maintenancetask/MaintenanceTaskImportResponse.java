@@ -0,0 +1,29 @@
+package com.rikuto.revox.dto.maintenancetask;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 整備タスクの一括インポートの結果に対するレスポンス内容のDTOです。
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "整備タスクの一括インポートの結果を表すレスポンスDTOです。")
+public class MaintenanceTaskImportResponse {
+
+	@Schema(description = "登録した整備タスクの件数。", example = "998")
+	private Integer importedCount;
+
+	@Schema(description = "エラーとなり登録しなかった行の件数。", example = "2")
+	private Integer errorCount;
+
+	@Schema(description = "エラーとなった行の内容のリスト。先頭から最大100件までを含みます。")
+	private List<MaintenanceTaskImportError> errors;
+}
@@ -0,0 +1,50 @@
+package com.rikuto.revox.dto.maintenancetask;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 整備タスクの一括インポートで受け取る1行分の整備タスクです。
+ * 新規登録のリクエストと同じバリデーションに加え、過去の整備記録を取り込むため作成日時を指定できます。
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "整備タスクの一括インポートで受け取る1行分の整備タスクを表すDTOです。")
+public class MaintenanceTaskImportRow {
+
+	@NotNull(message = "カテゴリーIDは必須です。")
+	@Min(value = 1, message = "カテゴリーIDは1以上である必要があります。")
+	@Schema(description = "整備タスクが属するカテゴリーの一意なID。必須項目です。", example = "1")
+	private Integer categoryId;
+
+	@NotNull(message = "バイクIDは必須です。")
+	@Min(value = 1, message = "バイクIDは1以上である必要があります。")
+	@Schema(description = "整備タスクを紐づけるバイクの一意なID。必須項目です。", example = "10")
+	private Integer bikeId;
+
+	@NotBlank(message = "タスク名は必須です。")
+	@Size(max = 100, message = "タスク名は100文字以内で入力してください。")
+	@Schema(description = "整備タスクのタイトル。100文字以内で入力してください。", example = "オイル交換")
+	private String name;
+
+	@NotBlank(message = "詳細内容は必須です。")
+	@Size(max = 5000, message = "詳細内容は5000文字以内で入力してください。")
+	@Schema(description = "整備タスクの詳細内容。5000文字以内で入力してください。", example = "10W-40を3.2L使用。")
+	private String description;
+
+	@PastOrPresent(message = "作成日時には現在以前の日時を指定してください。")
+	@Schema(description = "整備を行った日時。省略した場合はインポートした日時になります。", example = "2023-04-01T10:00:00")
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.rikuto.revox.dto.maintenancetask;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 整備タスクリストの1ページ分に対するレスポンス内容のDTOです。
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "作成日時の新しい順に並んだ整備タスクリストの1ページ分を表すレスポンスDTOです。")
+public class MaintenanceTaskPageResponse {
+
+	@Schema(description = "このページの整備タスクのリスト。")
+	private List<MaintenanceTaskResponse> maintenanceTasks;
+
+	@Schema(description = "次のページを取得するためのカーソル。次のページがない場合はnull。", example = "MjAyNS0wMS0wMVQxMjowMF8zMDE")
+	private String nextCursor;
+}
@@ -38,4 +38,13 @@ public class MaintenanceTaskResponse {
 
 	@Schema(description = "レコードが更新された最終日時。")
 	private LocalDateTime updatedAt;
+
+	/**
+	 * 詳細内容を除いたレスポンスを生成します。
+	 * 一覧で詳細内容を返さない場合に、詳細内容の列を読み込まずに取得するためのコンストラクタです。
+	 */
+	public MaintenanceTaskResponse(Integer id, Integer categoryId, Integer bikeId, String name,
+	                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+		this(id, categoryId, bikeId, name, null, createdAt, updatedAt);
+	}
 }
\ No newline at end of file
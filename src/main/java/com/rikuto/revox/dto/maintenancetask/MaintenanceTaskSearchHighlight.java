@@ -0,0 +1,24 @@
+package com.rikuto.revox.dto.maintenancetask;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 検索結果の抜粋のうち、検索語に一致した範囲のDTOです。
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "検索結果の抜粋のうち、検索語に一致した範囲を表すDTOです。")
+public class MaintenanceTaskSearchHighlight {
+
+	@Schema(description = "一致した範囲の開始位置。抜粋の先頭を0とする文字（UTF-16のコード単位）の位置です。", example = "3")
+	private Integer start;
+
+	@Schema(description = "一致した範囲の終了位置（この位置の文字は含みません）。", example = "7")
+	private Integer end;
+}
@@ -0,0 +1,42 @@
+package com.rikuto.revox.dto.maintenancetask;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 整備タスクの検索結果の1件分のDTOです。
+ * 詳細内容は全文ではなく、検索語の周辺の抜粋のみを返します。
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "整備タスクの検索結果の1件分を表すDTOです。")
+public class MaintenanceTaskSearchHit {
+
+	@Schema(description = "整備タスクの一意なID。")
+	private Integer id;
+
+	@Schema(description = "整備タスクが属するカテゴリーの一意なID。")
+	private Integer categoryId;
+
+	@Schema(description = "整備タスクが関連するバイクの一意なID。")
+	private Integer bikeId;
+
+	@Schema(description = "検索語に一致した範囲を含む整備タスクのタイトル名。")
+	private MaintenanceTaskSearchSnippet name;
+
+	@Schema(description = "検索語の周辺を抜粋した整備タスクの詳細内容。")
+	private MaintenanceTaskSearchSnippet description;
+
+	@Schema(description = "レコードが作成された日時。")
+	private LocalDateTime createdAt;
+
+	@Schema(description = "レコードが更新された最終日時。")
+	private LocalDateTime updatedAt;
+}
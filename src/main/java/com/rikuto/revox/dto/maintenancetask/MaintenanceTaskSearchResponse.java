@@ -0,0 +1,29 @@
+package com.rikuto.revox.dto.maintenancetask;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 整備タスクの検索結果の1ページ分に対するレスポンス内容のDTOです。
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "関連度の高い順に並んだ整備タスクの検索結果の1ページ分を表すレスポンスDTOです。")
+public class MaintenanceTaskSearchResponse {
+
+	@Schema(description = "このページの検索結果のリスト。")
+	private List<MaintenanceTaskSearchHit> hits;
+
+	@Schema(description = "このページの番号（0始まり）。", example = "0")
+	private Integer page;
+
+	@Schema(description = "次のページが存在するかどうか。", example = "false")
+	private boolean hasNext;
+}
@@ -0,0 +1,27 @@
+package com.rikuto.revox.dto.maintenancetask;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 検索結果に表示する抜粋とハイライト範囲のDTOです。
+ * 抜粋はHTMLとして解釈せず、ハイライト範囲をクライアント側で装飾して表示します。
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "検索結果に表示する抜粋と、検索語に一致した範囲を表すDTOです。")
+public class MaintenanceTaskSearchSnippet {
+
+	@Schema(description = "抜粋したテキスト。前後を省略した場合は「…」を付けます。", example = "…ドライブチェーンの清掃と注油を行う…")
+	private String text;
+
+	@Schema(description = "抜粋のうち検索語に一致した範囲のリスト。")
+	private List<MaintenanceTaskSearchHighlight> highlights;
+}
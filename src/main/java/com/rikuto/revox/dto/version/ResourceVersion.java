@@ -0,0 +1,34 @@
+package com.rikuto.revox.dto.version;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 一覧レスポンスが変更されたかを判定するためのバージョン情報のDTOです。
+ * 論理削除済みを含む件数と、登録・更新のたびにDBで新しい値が割り当てられる行バージョンの合計値から算出するため、
+ * 登録・更新・論理削除のいずれが行われても、コミットの順序に関係なく値が変わります。
+ */
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+
+	/**
+	 * 論理削除済みを含むレコードの件数です。
+	 */
+	private Long count;
+
+	/**
+	 * レコードの行バージョンの合計値です。レコードが存在しない場合はnullです。
+	 */
+	private Long rowVersionSum;
+
+	/**
+	 * 件数と行バージョンの合計値から弱いETagを生成します。
+	 *
+	 * @return ダブルクォートで囲まれた弱いETag
+	 */
+	public String getETag() {
+		long versionSum = rowVersionSum == null ? 0 : rowVersionSum;
+		return "W/\"" + count + "-" + versionSum + "\"";
+	}
+}
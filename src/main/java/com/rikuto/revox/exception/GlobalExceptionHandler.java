@@ -5,6 +5,7 @@ import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -36,6 +37,19 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
 	}
 
+	/**
+	 * リクエストの内容が不正な場合に発生するInvalidRequestExceptionを処理します。
+	 * クライアントにはHTTP 400 Bad Requestステータスコードを返します。
+	 *
+	 * @param ex 発生したInvalidRequestException
+	 * @return エラーメッセージを含むResponseEntity
+	 */
+	@ExceptionHandler(InvalidRequestException.class)
+	public ResponseEntity<String> handleInvalidRequestException(InvalidRequestException ex) {
+		log.info("不正なリクエストを受け付けました。");
+		return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+	}
+
 	/**
 	 * 認証に失敗した場合に発生するAuthenticationExceptionを処理します。
 	 * クライアントにはHTTP 401 Unauthorizedステータスコードを返します。
@@ -49,6 +63,19 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(ex.getMessage(), HttpStatus.UNAUTHORIZED);
 	}
 
+	/**
+	 * PreAuthorizeによる認可に失敗した場合に発生するAccessDeniedExceptionを処理します。
+	 * クライアントにはHTTP 403 Forbiddenステータスコードを返します。
+	 *
+	 * @param ex 発生したAccessDeniedException
+	 * @return エラーメッセージを含むResponseEntity
+	 */
+	@ExceptionHandler(AccessDeniedException.class)
+	public ResponseEntity<String> handleAccessDeniedException(AccessDeniedException ex) {
+		log.warn("アクセス権限がありません。");
+		return new ResponseEntity<>("アクセス権限がありません。", HttpStatus.FORBIDDEN);
+	}
+
 	/**
 	 * ValidアノテーションによるバリデーションエラーであるMethodArgumentNotValidExceptionを処理します。
 	 * 無効なリクエストボディが送信された場合に発生し、すべてのバリデーションエラーメッセージをリスト形式で返します。
@@ -0,0 +1,29 @@
+package com.rikuto.revox.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * リクエストの内容が不正な場合にスローされるカスタム例外です。
+ * この例外がスローされると、HTTP 400 Bad Request ステータスが返されます。
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+
+	/**
+	 * 指定された詳細メッセージを持つ新しい InvalidRequestException を構築します。
+	 * @param message 例外の詳細メッセージ
+	 */
+	public InvalidRequestException(String message) {
+		super(message);
+	}
+
+	/**
+	 * 指定された詳細メッセージと原因を持つ新しい InvalidRequestException を構築します。
+	 * @param message 例外の詳細メッセージ
+	 * @param cause この例外の原因となるThrowable (null可)
+	 */
+	public InvalidRequestException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,45 @@
+package com.rikuto.revox.logging;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 非同期タスクへMDCとセキュリティコンテキストを引き継ぐTaskDecoratorです。
+ * Spring Bootが自動構成するapplicationTaskExecutorに適用され、
+ * 別スレッドで実行される処理のログにも呼び出し元と同じ相関IDが付与されます。
+ * また、認証済みのユーザーも引き継ぐため、書き込み直後の読み取りを呼び出し元と同じ接続先で実行できます。
+ */
+@Component
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+	@Override
+	public Runnable decorate(Runnable runnable) {
+		Map<String, String> contextMap = MDC.getCopyOfContextMap();
+		SecurityContext securityContext = SecurityContextHolder.getContext();
+		return () -> {
+			Map<String, String> previous = MDC.getCopyOfContextMap();
+			SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+			if(contextMap != null) {
+				MDC.setContextMap(contextMap);
+			} else {
+				MDC.clear();
+			}
+			SecurityContextHolder.setContext(securityContext);
+			try {
+				runnable.run();
+			} finally {
+				SecurityContextHolder.setContext(previousSecurityContext);
+				if(previous != null) {
+					MDC.setContextMap(previous);
+				} else {
+					MDC.clear();
+				}
+			}
+		};
+	}
+}
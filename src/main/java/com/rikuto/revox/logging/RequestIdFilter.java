@@ -0,0 +1,75 @@
+package com.rikuto.revox.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * リクエストごとの相関IDをMDCに設定するフィルターです。
+ * セキュリティフィルターより先に実行されるため、後続のフィルターやサービスが出力するログにも同じIDが付与されます。
+ * 非同期アペンダーはログ出力時点のMDCを保持するため、別スレッドで書き込まれるログにも引き継がれます。
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+	public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+	public static final String MDC_KEY = "requestId";
+
+	/**
+	 * クライアントから受け取る相関IDの形式です。
+	 * ログへの不正な文字列の混入を防ぐため、英数字とハイフンのみを受け付けます。
+	 */
+	private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+	/**
+	 * 相関IDをMDCとレスポンスヘッダーに設定し、処理完了後にMDCから削除します。
+	 *
+	 * @param request     HTTPリクエスト
+	 * @param response    HTTPレスポンス
+	 * @param filterChain フィルターチェーン
+	 * @throws ServletException Servlet例外
+	 * @throws IOException      入出力例外
+	 */
+	@Override
+	protected void doFilterInternal(@NotNull HttpServletRequest request,
+	                                @NotNull HttpServletResponse response,
+	                                @NotNull FilterChain filterChain) throws ServletException, IOException {
+		String requestId = resolveRequestId(request);
+
+		MDC.put(MDC_KEY, requestId);
+		response.setHeader(REQUEST_ID_HEADER, requestId);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			MDC.remove(MDC_KEY);
+		}
+	}
+
+	/**
+	 * リクエストヘッダーの相関IDを取得します。
+	 * 存在しない場合や形式が不正な場合は新しく生成します。
+	 *
+	 * @param request HTTPリクエスト
+	 * @return 相関ID
+	 */
+	private String resolveRequestId(HttpServletRequest request) {
+		String requestId = request.getHeader(REQUEST_ID_HEADER);
+		if(requestId != null && VALID_REQUEST_ID.matcher(requestId).matches()) {
+			return requestId;
+		}
+		return UUID.randomUUID().toString();
+	}
+}
@@ -0,0 +1,58 @@
+package com.rikuto.revox.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 高頻度で出力されるログを間引くためのLogbackのTurboFilterです。
+ * 指定されたロガー名で始まるカテゴリーのINFO以下のログを、sampleRate件に1件だけ出力します。
+ * WARN以上のログは間引かずに全件出力します。
+ * logback-spring.xmlでカテゴリーごとに設定します。
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+	private final AtomicLong counter = new AtomicLong();
+
+	private String loggerPrefix;
+
+	private long sampleRate = 1;
+
+	public void setLoggerPrefix(String loggerPrefix) {
+		this.loggerPrefix = loggerPrefix;
+	}
+
+	public void setSampleRate(long sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	public void start() {
+		if(loggerPrefix == null || loggerPrefix.isBlank()) {
+			addError("loggerPrefixが設定されていません。");
+			return;
+		}
+		if(sampleRate < 1) {
+			addError("sampleRateは1以上である必要があります。");
+			return;
+		}
+		super.start();
+	}
+
+	/**
+	 * 対象カテゴリーのINFO以下のログを間引きます。
+	 * isInfoEnabled()などのレベル判定（formatがnull）は件数に含めず、判定を他のフィルターに委ねます。
+	 */
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+		if(! isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+				|| ! logger.getName().startsWith(loggerPrefix)) {
+			return FilterReply.NEUTRAL;
+		}
+		return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+	}
+}
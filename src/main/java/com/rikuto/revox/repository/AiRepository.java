@@ -1,9 +1,15 @@
 package com.rikuto.revox.repository;
 
 import com.rikuto.revox.domain.Ai;
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -14,10 +20,148 @@ import java.util.List;
 public interface AiRepository extends JpaRepository<Ai, Integer> {
 
 	/**
-	 * ユーザーIDに紐づいたAI質問履歴を取得します。
+	 * ユーザーIDに紐づいた、論理削除されていないAI質問履歴を取得します。
 	 *
 	 * @param userId ユーザーID
 	 * @return ユーザーのAI質問履歴リスト
 	 */
-	List<Ai> findByUserId(Integer userId);
-}
\ No newline at end of file
+	List<Ai> findByUserIdAndIsDeletedFalse(Integer userId);
+
+	/**
+	 * ユーザーIDに紐づいた、論理削除されていないAI質問履歴を、回答内容を除いて取得します。
+	 * 履歴の一覧で回答内容を返さない場合に、TEXT型の回答内容の列を読み込まないよう、エンティティを経由せずレスポンスDTOとして取得します。
+	 *
+	 * @param userId ユーザーID
+	 * @return 回答内容を含まないAI質問履歴リスト
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.ai.AiQuestionResponse(
+			    a.id, a.user.id, a.bike.id, a.category.id, a.question, a.createdAt)
+			FROM Ai a
+			WHERE a.user.id = :userId AND a.isDeleted = false
+			""")
+	List<AiQuestionResponse> findSummaryByUserIdAndIsDeletedFalse(@Param("userId") Integer userId);
+
+	/**
+	 * ユーザーIDに紐づいた、論理削除されていない最新のAI質問履歴を5件取得します。
+	 *
+	 * @param userId ユーザーID
+	 * @return 作成日時の降順に並んだAI質問履歴リスト
+	 */
+	List<Ai> findTop5ByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(Integer userId);
+
+	/**
+	 * ユーザーIDに紐づく、論理削除されていないAI質問履歴を作成日時の古い順に、先頭から指定件数分取得します。
+	 * エクスポートで件数に関わらずメモリ使用量を一定に保ちつつ、読み込みのたびにトランザクションを終了できるよう、
+	 * 続きはfindExportChunkByUserIdAfterで前回取得した最後のAI質問履歴を起点に取得します。
+	 * エンティティを経由せず、レスポンスDTOとして取得します。
+	 *
+	 * @param userId ユーザーID
+	 * @param limit  取得件数
+	 * @return 作成日時とIDの昇順に並んだAI質問履歴リスト
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.ai.AiQuestionResponse(
+			    a.id, a.user.id, a.bike.id, a.category.id, a.question, a.answer, a.createdAt)
+			FROM Ai a
+			WHERE a.user.id = :userId AND a.isDeleted = false
+			ORDER BY a.createdAt, a.id
+			""")
+	List<AiQuestionResponse> findExportFirstChunkByUserId(@Param("userId") Integer userId, Limit limit);
+
+	/**
+	 * ユーザーIDに紐づく、論理削除されていないAI質問履歴を作成日時の古い順に、カーソルの次から指定件数分取得します。
+	 *
+	 * @param userId          ユーザーID
+	 * @param cursorCreatedAt 前回取得した最後のAI質問履歴の作成日時
+	 * @param cursorId        前回取得した最後のAI質問履歴のID
+	 * @param limit           取得件数
+	 * @return 作成日時とIDの昇順に並んだAI質問履歴リスト
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.ai.AiQuestionResponse(
+			    a.id, a.user.id, a.bike.id, a.category.id, a.question, a.answer, a.createdAt)
+			FROM Ai a
+			WHERE a.user.id = :userId AND a.isDeleted = false
+			  AND (a.createdAt, a.id) > (:cursorCreatedAt, :cursorId)
+			ORDER BY a.createdAt, a.id
+			""")
+	List<AiQuestionResponse> findExportChunkByUserIdAfter(@Param("userId") Integer userId,
+	                                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+	                                                      @Param("cursorId") Integer cursorId,
+	                                                      Limit limit);
+
+	/**
+	 * ユーザーIDとバイクIDに紐づく、論理削除されていないAI質問履歴を作成日時の古い順に、先頭から指定件数分取得します。
+	 *
+	 * @param userId ユーザーID
+	 * @param bikeId バイクID
+	 * @param limit  取得件数
+	 * @return 作成日時とIDの昇順に並んだAI質問履歴リスト
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.ai.AiQuestionResponse(
+			    a.id, a.user.id, a.bike.id, a.category.id, a.question, a.answer, a.createdAt)
+			FROM Ai a
+			WHERE a.user.id = :userId AND a.bike.id = :bikeId AND a.isDeleted = false
+			ORDER BY a.createdAt, a.id
+			""")
+	List<AiQuestionResponse> findExportFirstChunkByUserIdAndBikeId(@Param("userId") Integer userId,
+	                                                               @Param("bikeId") Integer bikeId,
+	                                                               Limit limit);
+
+	/**
+	 * ユーザーIDとバイクIDに紐づく、論理削除されていないAI質問履歴を作成日時の古い順に、カーソルの次から指定件数分取得します。
+	 *
+	 * @param userId          ユーザーID
+	 * @param bikeId          バイクID
+	 * @param cursorCreatedAt 前回取得した最後のAI質問履歴の作成日時
+	 * @param cursorId        前回取得した最後のAI質問履歴のID
+	 * @param limit           取得件数
+	 * @return 作成日時とIDの昇順に並んだAI質問履歴リスト
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.ai.AiQuestionResponse(
+			    a.id, a.user.id, a.bike.id, a.category.id, a.question, a.answer, a.createdAt)
+			FROM Ai a
+			WHERE a.user.id = :userId AND a.bike.id = :bikeId AND a.isDeleted = false
+			  AND (a.createdAt, a.id) > (:cursorCreatedAt, :cursorId)
+			ORDER BY a.createdAt, a.id
+			""")
+	List<AiQuestionResponse> findExportChunkByUserIdAndBikeIdAfter(@Param("userId") Integer userId,
+	                                                               @Param("bikeId") Integer bikeId,
+	                                                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+	                                                               @Param("cursorId") Integer cursorId,
+	                                                               Limit limit);
+
+	/**
+	 * ユーザーIDに紐づく、論理削除されていないAI質問履歴を1回のUPDATE文で論理削除します。
+	 *
+	 * @param userId ユーザーID
+	 * @return 論理削除した件数
+	 */
+	@Modifying
+	@Query("UPDATE Ai a SET a.isDeleted = true WHERE a.user.id = :userId AND a.isDeleted = false")
+	int softDeleteByUserId(@Param("userId") Integer userId);
+
+	/**
+	 * バイクIDに紐づく、論理削除されていないAI質問履歴を1回のUPDATE文で論理削除します。
+	 *
+	 * @param bikeId バイクID
+	 * @return 論理削除した件数
+	 */
+	@Modifying
+	@Query("UPDATE Ai a SET a.isDeleted = true WHERE a.bike.id = :bikeId AND a.isDeleted = false")
+	int softDeleteByBikeId(@Param("bikeId") Integer bikeId);
+
+	/**
+	 * ユーザーの論理削除と同じトランザクションで論理削除された、ユーザーIDに紐づくAI質問履歴を1回のUPDATE文で復元します。
+	 *
+	 * @param userId    ユーザーID
+	 * @param deletedAt ユーザーが論理削除された日時
+	 * @return 復元した件数
+	 */
+	@Modifying
+	@Query("UPDATE Ai a SET a.isDeleted = false WHERE a.user.id = :userId AND a.isDeleted = true AND a.updatedAt = :deletedAt")
+	int restoreByUserIdAndDeletedAt(@Param("userId") Integer userId, @Param("deletedAt") LocalDateTime deletedAt);
+}
@@ -1,34 +1,152 @@
 package com.rikuto.revox.repository;
 
 import com.rikuto.revox.domain.Bike;
+import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.bike.BikeUpdateRequest;
+import com.rikuto.revox.dto.version.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * バイクに関するリポジトリです。
  * JpaRepositoryを継承しています。
+ * バイクは2次キャッシュに保持されるため、RETURNING句で更新するネイティブクエリの後は呼び出し側でキャッシュから破棄してください。
  */
 @Repository
 public interface BikeRepository extends JpaRepository<Bike, Integer> {
 
 	/**
 	 * ユーザIDに紐づいた全てのバイク情報の検索を行います。
+	 * 検索結果のバイクIDをクエリキャッシュに保持し、bikesテーブルが更新されるまでDBへ問い合わせません。
 	 *
 	 * @param userId 一意のユーザID
 	 * @return ユーザーに紐づいたバイク情報リスト
 	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	List<Bike> findByUserIdAndIsDeletedFalse(Integer userId);
 
+	/**
+	 * ユーザーが所有する、論理削除されていないバイクのIDを検索します。
+	 * バイクのエンティティは読み込まず、IDのみを取得します。
+	 *
+	 * @param userId ユーザーID
+	 * @return バイクIDのSet
+	 */
+	@Query("SELECT b.id FROM Bike b WHERE b.user.id = :userId AND b.isDeleted = false")
+	Set<Integer> findIdsByUserIdAndIsDeletedFalse(@Param("userId") Integer userId);
+
 	/**
 	 * ユーザーに紐づいた特定のバイクを検索します。
 	 * 該当するバイクがない場合は、Optional.empty()を返します。
+	 * 2次キャッシュを経由するため、IDで読み込んだ後に所有者と論理削除を判定します。
 	 *
 	 * @param userId ユーザーID
 	 * @param bikeId 一意のバイクID
 	 * @return ユーザーに紐づいた単一のバイク情報（Optionalでラップ）
 	 */
-	Optional<Bike> findByIdAndUserIdAndIsDeletedFalse(Integer bikeId, Integer userId);
+	default Optional<Bike> findByIdAndUserIdAndIsDeletedFalse(Integer bikeId, Integer userId) {
+		return findById(bikeId).filter(bike -> ! bike.isDeleted() && userId.equals(bike.getUser().getId()));
+	}
+
+	/**
+	 * 論理削除されていないバイクを所有するユーザーのIDを検索します。
+	 * 所有者の確認のみに使用するため、バイクのエンティティは読み込みません。
+	 *
+	 * @param bikeId 一意のバイクID
+	 * @return 所有者のユーザーID（Optionalでラップ）
+	 */
+	@Query("SELECT b.user.id FROM Bike b WHERE b.id = :bikeId AND b.isDeleted = false")
+	Optional<Integer> findUserIdByIdAndIsDeletedFalse(@Param("bikeId") Integer bikeId);
+
+	/**
+	 * ユーザーに紐づくバイク一覧のバージョン情報を検索します。
+	 * 論理削除の前後でも値が変わるよう、論理削除済みのバイクも集計対象とします。
+	 *
+	 * @param userId ユーザーID
+	 * @return 件数と行バージョンの合計値
+	 */
+	@Query("SELECT new com.rikuto.revox.dto.version.ResourceVersion(COUNT(b), SUM(b.rowVersion)) FROM Bike b WHERE b.user.id = :userId")
+	ResourceVersion findVersionByUserId(@Param("userId") Integer userId);
+
+	/**
+	 * ユーザーが保有する論理削除されていないバイクを1回のUPDATE文で更新し、更新後のバイクを返します。
+	 * リクエストでnullの項目は更新せず、既存の値を保持します。
+	 *
+	 * @param bikeId  一意のバイクID
+	 * @param userId  ユーザーID
+	 * @param request 更新するバイク情報
+	 * @return 更新後のバイク情報（該当するバイクがない場合はOptional.empty()）
+	 */
+	@Query(value = """
+			UPDATE bikes SET
+			    manufacturer = COALESCE(CAST(:#{#request.manufacturer} AS VARCHAR), manufacturer),
+			    model_name = COALESCE(CAST(:#{#request.modelName} AS VARCHAR), model_name),
+			    model_code = COALESCE(CAST(:#{#request.modelCode} AS VARCHAR), model_code),
+			    model_year = COALESCE(CAST(:#{#request.modelYear} AS INTEGER), model_year),
+			    current_mileage = COALESCE(CAST(:#{#request.currentMileage} AS INTEGER), current_mileage),
+			    purchase_date = COALESCE(CAST(:#{#request.purchaseDate} AS DATE), purchase_date),
+			    image_url = COALESCE(CAST(:#{#request.imageUrl} AS VARCHAR), image_url)
+			WHERE id = :bikeId AND user_id = :userId AND is_deleted = false
+			RETURNING *
+			""", nativeQuery = true)
+	Optional<Bike> updateByIdAndUserId(@Param("bikeId") Integer bikeId,
+	                                   @Param("userId") Integer userId,
+	                                   @Param("request") BikeUpdateRequest request);
+
+	/**
+	 * ユーザーが保有する論理削除されていないバイクの所有者を、1回のUPDATE文で別のユーザーに変更します。
+	 * 紐づく整備タスクのuser_idは、DBのトリガーで新しい所有者に合わせられます。
+	 *
+	 * @param bikeId   一意のバイクID
+	 * @param userId   現在の所有者のユーザーID
+	 * @param newOwner 新しい所有者
+	 * @return 所有者を変更した件数（該当するバイクがない場合は0）
+	 */
+	@Modifying
+	@Query("UPDATE Bike b SET b.user = :newOwner WHERE b.id = :bikeId AND b.user.id = :userId AND b.isDeleted = false")
+	int transferByIdAndUserId(@Param("bikeId") Integer bikeId, @Param("userId") Integer userId, @Param("newOwner") User newOwner);
+
+	/**
+	 * ユーザーが保有する論理削除されていないバイクを1回のUPDATE文で論理削除します。
+	 *
+	 * @param bikeId 一意のバイクID
+	 * @param userId ユーザーID
+	 * @return 論理削除した件数（該当するバイクがない場合は0）
+	 */
+	@Modifying
+	@Query("UPDATE Bike b SET b.isDeleted = true WHERE b.id = :bikeId AND b.user.id = :userId AND b.isDeleted = false")
+	int softDeleteByIdAndUserId(@Param("bikeId") Integer bikeId, @Param("userId") Integer userId);
+
+	/**
+	 * ユーザーが保有する、論理削除されていないすべてのバイクを1回のUPDATE文で論理削除します。
+	 * 所有者キャッシュの破棄に使用するため、論理削除したバイクのIDをRETURNING句で返します。
+	 *
+	 * @param userId ユーザーID
+	 * @return 論理削除したバイクのIDリスト
+	 */
+	@Query(value = "UPDATE bikes SET is_deleted = true WHERE user_id = :userId AND is_deleted = false RETURNING id",
+			nativeQuery = true)
+	List<Integer> softDeleteByUserId(@Param("userId") Integer userId);
+
+	/**
+	 * ユーザーの論理削除と同じトランザクションで論理削除された、ユーザーが保有するバイクを1回のUPDATE文で復元します。
+	 *
+	 * @param userId    ユーザーID
+	 * @param deletedAt ユーザーが論理削除された日時
+	 * @return 復元した件数
+	 */
+	@Modifying
+	@Query("UPDATE Bike b SET b.isDeleted = false WHERE b.user.id = :userId AND b.isDeleted = true AND b.updatedAt = :deletedAt")
+	int restoreByUserIdAndDeletedAt(@Param("userId") Integer userId, @Param("deletedAt") LocalDateTime deletedAt);
 }
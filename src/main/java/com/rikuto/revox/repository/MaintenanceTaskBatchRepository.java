@@ -0,0 +1,70 @@
+package com.rikuto.revox.repository;
+
+import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportRow;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 整備タスクをJDBCのバッチで一括登録するリポジトリです。
+ * エンティティを経由せず、複数行のINSERTを1回の往復でまとめて送信します。
+ */
+@Repository
+public class MaintenanceTaskBatchRepository {
+
+	private static final String ALLOCATE_ID_BLOCKS_SQL = "SELECT nextval('maintenance_tasks_id_seq') FROM generate_series(1, ?)";
+
+	private static final String INSERT_SQL = """
+			INSERT INTO maintenance_tasks (id, category_id, bike_id, name, description, created_at)
+			VALUES (?, ?, ?, ?, ?, COALESCE(?, CURRENT_TIMESTAMP))
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public MaintenanceTaskBatchRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 整備タスクをまとめて登録します。
+	 * IDはエンティティと同じpooled-loの方式でシーケンスから範囲ごとに払い出して割り当てます。
+	 * user_idはDBのトリガーでバイクの所有者が設定されます。
+	 *
+	 * @param rows 登録する整備タスクList
+	 */
+	public void insertAll(List<MaintenanceTaskImportRow> rows) {
+		List<Integer> idBlocks = allocateIdBlocks(rows.size());
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				MaintenanceTaskImportRow row = rows.get(i);
+				ps.setInt(1, idBlocks.get(i / MaintenanceTask.ID_ALLOCATION_SIZE) + i % MaintenanceTask.ID_ALLOCATION_SIZE);
+				ps.setInt(2, row.getCategoryId());
+				ps.setInt(3, row.getBikeId());
+				ps.setString(4, row.getName());
+				ps.setString(5, row.getDescription());
+				ps.setTimestamp(6, row.getCreatedAt() == null ? null : Timestamp.valueOf(row.getCreatedAt()));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return rows.size();
+			}
+		});
+	}
+
+	/**
+	 * 指定件数のIDを割り当てるのに必要な数だけシーケンスを進め、各範囲の先頭のIDを返します。
+	 */
+	private List<Integer> allocateIdBlocks(int rowCount) {
+		int blockCount = (rowCount + MaintenanceTask.ID_ALLOCATION_SIZE - 1) / MaintenanceTask.ID_ALLOCATION_SIZE;
+		return jdbcTemplate.queryForList(ALLOCATE_ID_BLOCKS_SQL, Integer.class, blockCount);
+	}
+}
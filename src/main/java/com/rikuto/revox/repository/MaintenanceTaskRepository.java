@@ -1,11 +1,21 @@
 package com.rikuto.revox.repository;
 
 import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.dto.dashboard.CategoryTaskCountResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskUpdateRequest;
+import com.rikuto.revox.dto.version.ResourceVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 整備タスクに関するリポジトリです。
@@ -16,27 +26,398 @@ public interface MaintenanceTaskRepository extends JpaRepository<MaintenanceTask
 
 	/**
 	 * 指定されたユーザーIDに紐づく、論理削除されていない最新の整備タスクを指定件数分検索します。
+	 * 非正規化したuser_idで絞り込むため、バイクと結合せずにインデックスの先頭から取得できます。
 	 *
 	 * @param userId   ユーザーID
 	 * @param pageable ページング情報
 	 * @return 整備タスクList
 	 */
-	List<MaintenanceTask> findByBike_UserIdAndIsDeletedFalse(Integer userId, Pageable pageable);
+	List<MaintenanceTask> findByUserIdAndIsDeletedFalse(Integer userId, Pageable pageable);
 
 	/**
-	 * 指定されたバイクIDに紐づく、論理削除されていないすべての整備タスクを検索します。
+	 * 指定されたバイクIDに紐づく、論理削除されていない整備タスクの最初のページを検索します。
+	 * 作成日時とIDの降順に並べ、インデックスの並び順のまま先頭から指定件数分を取得します。
 	 *
 	 * @param bikeId バイクID
-	 * @return 整備タスクList
+	 * @param limit  取得件数
+	 * @return 作成日時とIDの降順に並んだ整備タスクList
+	 */
+	@Query(value = """
+			SELECT * FROM maintenance_tasks t
+			WHERE t.bike_id = :bikeId AND t.is_deleted = false
+			ORDER BY t.created_at DESC, t.id DESC
+			LIMIT :limit
+			""", nativeQuery = true)
+	List<MaintenanceTask> findFirstPageByBikeId(@Param("bikeId") Integer bikeId, @Param("limit") int limit);
+
+	/**
+	 * 指定されたバイクIDに紐づく、論理削除されていない整備タスクのうち、カーソルより後のページを検索します。
+	 * 作成日時とIDの組をカーソルと比較するため、何ページ目でもインデックスの範囲検索で取得できます。
+	 *
+	 * @param bikeId          バイクID
+	 * @param cursorCreatedAt 前のページの最後の整備タスクの作成日時
+	 * @param cursorId        前のページの最後の整備タスクのID
+	 * @param limit           取得件数
+	 * @return 作成日時とIDの降順に並んだ整備タスクList
 	 */
-	List<MaintenanceTask> findByBikeIdAndIsDeletedFalse(Integer bikeId);
+	@Query(value = """
+			SELECT * FROM maintenance_tasks t
+			WHERE t.bike_id = :bikeId AND t.is_deleted = false
+			  AND (t.created_at, t.id) < (:cursorCreatedAt, :cursorId)
+			ORDER BY t.created_at DESC, t.id DESC
+			LIMIT :limit
+			""", nativeQuery = true)
+	List<MaintenanceTask> findPageByBikeIdAfter(@Param("bikeId") Integer bikeId,
+	                                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+	                                            @Param("cursorId") Integer cursorId,
+	                                            @Param("limit") int limit);
 
 	/**
-	 * 指定されたバイクIDとカテゴリーIDに紐づく、論理削除されていないすべての整備タスクを検索します。
+	 * 指定されたバイクIDとカテゴリーIDに紐づく、論理削除されていない整備タスクの最初のページを検索します。
 	 *
 	 * @param bikeId     バイクID
 	 * @param categoryId カテゴリーID
-	 * @return 整備タスクList
+	 * @param limit      取得件数
+	 * @return 作成日時とIDの降順に並んだ整備タスクList
+	 */
+	@Query(value = """
+			SELECT * FROM maintenance_tasks t
+			WHERE t.bike_id = :bikeId AND t.category_id = :categoryId AND t.is_deleted = false
+			ORDER BY t.created_at DESC, t.id DESC
+			LIMIT :limit
+			""", nativeQuery = true)
+	List<MaintenanceTask> findFirstPageByBikeIdAndCategoryId(@Param("bikeId") Integer bikeId,
+	                                                         @Param("categoryId") Integer categoryId,
+	                                                         @Param("limit") int limit);
+
+	/**
+	 * 指定されたバイクIDとカテゴリーIDに紐づく、論理削除されていない整備タスクのうち、カーソルより後のページを検索します。
+	 *
+	 * @param bikeId          バイクID
+	 * @param categoryId      カテゴリーID
+	 * @param cursorCreatedAt 前のページの最後の整備タスクの作成日時
+	 * @param cursorId        前のページの最後の整備タスクのID
+	 * @param limit           取得件数
+	 * @return 作成日時とIDの降順に並んだ整備タスクList
+	 */
+	@Query(value = """
+			SELECT * FROM maintenance_tasks t
+			WHERE t.bike_id = :bikeId AND t.category_id = :categoryId AND t.is_deleted = false
+			  AND (t.created_at, t.id) < (:cursorCreatedAt, :cursorId)
+			ORDER BY t.created_at DESC, t.id DESC
+			LIMIT :limit
+			""", nativeQuery = true)
+	List<MaintenanceTask> findPageByBikeIdAndCategoryIdAfter(@Param("bikeId") Integer bikeId,
+	                                                         @Param("categoryId") Integer categoryId,
+	                                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+	                                                         @Param("cursorId") Integer cursorId,
+	                                                         @Param("limit") int limit);
+
+	/**
+	 * 指定されたユーザーIDに紐づく、論理削除されていない最新の整備タスクを、詳細内容を除いて指定件数分検索します。
+	 * 一覧で詳細内容を返さない場合に、TEXT型の詳細内容の列を読み込まないよう、エンティティを経由せずレスポンスDTOとして取得します。
+	 *
+	 * @param userId   ユーザーID
+	 * @param pageable ページング情報
+	 * @return 詳細内容を含まない整備タスクのレスポンスList
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse(
+			    t.id, t.category.id, t.bike.id, t.name, t.createdAt, t.updatedAt)
+			FROM MaintenanceTask t
+			WHERE t.userId = :userId AND t.isDeleted = false
+			""")
+	List<MaintenanceTaskResponse> findSummaryByUserIdAndIsDeletedFalse(@Param("userId") Integer userId, Pageable pageable);
+
+	/**
+	 * 指定されたバイクIDに紐づく、論理削除されていない整備タスクの最初のページを、詳細内容を除いて検索します。
+	 *
+	 * @param bikeId バイクID
+	 * @param limit  取得件数
+	 * @return 作成日時とIDの降順に並んだ、詳細内容を含まない整備タスクのレスポンスList
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse(
+			    t.id, t.category.id, t.bike.id, t.name, t.createdAt, t.updatedAt)
+			FROM MaintenanceTask t
+			WHERE t.bike.id = :bikeId AND t.isDeleted = false
+			ORDER BY t.createdAt DESC, t.id DESC
+			LIMIT :limit
+			""")
+	List<MaintenanceTaskResponse> findFirstSummaryPageByBikeId(@Param("bikeId") Integer bikeId, @Param("limit") int limit);
+
+	/**
+	 * 指定されたバイクIDに紐づく、論理削除されていない整備タスクのうち、カーソルより後のページを詳細内容を除いて検索します。
+	 *
+	 * @param bikeId          バイクID
+	 * @param cursorCreatedAt 前のページの最後の整備タスクの作成日時
+	 * @param cursorId        前のページの最後の整備タスクのID
+	 * @param limit           取得件数
+	 * @return 作成日時とIDの降順に並んだ、詳細内容を含まない整備タスクのレスポンスList
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse(
+			    t.id, t.category.id, t.bike.id, t.name, t.createdAt, t.updatedAt)
+			FROM MaintenanceTask t
+			WHERE t.bike.id = :bikeId AND t.isDeleted = false
+			  AND (t.createdAt, t.id) < (:cursorCreatedAt, :cursorId)
+			ORDER BY t.createdAt DESC, t.id DESC
+			LIMIT :limit
+			""")
+	List<MaintenanceTaskResponse> findSummaryPageByBikeIdAfter(@Param("bikeId") Integer bikeId,
+	                                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+	                                                           @Param("cursorId") Integer cursorId,
+	                                                           @Param("limit") int limit);
+
+	/**
+	 * 指定されたバイクIDとカテゴリーIDに紐づく、論理削除されていない整備タスクの最初のページを、詳細内容を除いて検索します。
+	 *
+	 * @param bikeId     バイクID
+	 * @param categoryId カテゴリーID
+	 * @param limit      取得件数
+	 * @return 作成日時とIDの降順に並んだ、詳細内容を含まない整備タスクのレスポンスList
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse(
+			    t.id, t.category.id, t.bike.id, t.name, t.createdAt, t.updatedAt)
+			FROM MaintenanceTask t
+			WHERE t.bike.id = :bikeId AND t.category.id = :categoryId AND t.isDeleted = false
+			ORDER BY t.createdAt DESC, t.id DESC
+			LIMIT :limit
+			""")
+	List<MaintenanceTaskResponse> findFirstSummaryPageByBikeIdAndCategoryId(@Param("bikeId") Integer bikeId,
+	                                                                        @Param("categoryId") Integer categoryId,
+	                                                                        @Param("limit") int limit);
+
+	/**
+	 * 指定されたバイクIDとカテゴリーIDに紐づく、論理削除されていない整備タスクのうち、カーソルより後のページを詳細内容を除いて検索します。
+	 *
+	 * @param bikeId          バイクID
+	 * @param categoryId      カテゴリーID
+	 * @param cursorCreatedAt 前のページの最後の整備タスクの作成日時
+	 * @param cursorId        前のページの最後の整備タスクのID
+	 * @param limit           取得件数
+	 * @return 作成日時とIDの降順に並んだ、詳細内容を含まない整備タスクのレスポンスList
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse(
+			    t.id, t.category.id, t.bike.id, t.name, t.createdAt, t.updatedAt)
+			FROM MaintenanceTask t
+			WHERE t.bike.id = :bikeId AND t.category.id = :categoryId AND t.isDeleted = false
+			  AND (t.createdAt, t.id) < (:cursorCreatedAt, :cursorId)
+			ORDER BY t.createdAt DESC, t.id DESC
+			LIMIT :limit
+			""")
+	List<MaintenanceTaskResponse> findSummaryPageByBikeIdAndCategoryIdAfter(@Param("bikeId") Integer bikeId,
+	                                                                        @Param("categoryId") Integer categoryId,
+	                                                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+	                                                                        @Param("cursorId") Integer cursorId,
+	                                                                        @Param("limit") int limit);
+
+	/**
+	 * ユーザーが所有するバイクに紐づく整備タスクのバージョン情報を検索します。
+	 * 論理削除の前後でも値が変わるよう、論理削除済みの整備タスクも集計対象とします。
+	 *
+	 * @param userId ユーザーID
+	 * @return 件数と行バージョンの合計値
+	 */
+	@Query("SELECT new com.rikuto.revox.dto.version.ResourceVersion(COUNT(t), SUM(t.rowVersion)) FROM MaintenanceTask t WHERE t.userId = :userId")
+	ResourceVersion findVersionByBikeUserId(@Param("userId") Integer userId);
+
+	/**
+	 * 指定されたバイクIDに紐づく整備タスクのバージョン情報を検索します。
+	 * 論理削除の前後でも値が変わるよう、論理削除済みの整備タスクも集計対象とします。
+	 *
+	 * @param bikeId バイクID
+	 * @return 件数と行バージョンの合計値
+	 */
+	@Query("SELECT new com.rikuto.revox.dto.version.ResourceVersion(COUNT(t), SUM(t.rowVersion)) FROM MaintenanceTask t WHERE t.bike.id = :bikeId")
+	ResourceVersion findVersionByBikeId(@Param("bikeId") Integer bikeId);
+
+	/**
+	 * ユーザーが所有するバイクごとに、論理削除されていない最新の整備タスクを指定件数分検索します。
+	 * バイクごとのループを避けるため、ウィンドウ関数で一度に取得します。
+	 *
+	 * @param userId       ユーザーID
+	 * @param limitPerBike バイクごとの取得件数
+	 * @return バイクID順、作成日時の降順に並んだ整備タスクList
+	 */
+	@Query(value = """
+			SELECT mt.* FROM maintenance_tasks mt
+			WHERE mt.id IN (
+			    SELECT ranked.id FROM (
+			        SELECT t.id, ROW_NUMBER() OVER (PARTITION BY t.bike_id ORDER BY t.created_at DESC, t.id DESC) AS rn
+			        FROM maintenance_tasks t
+			        JOIN bikes b ON b.id = t.bike_id
+			        WHERE b.user_id = :userId AND b.is_deleted = false AND t.is_deleted = false
+			    ) ranked
+			    WHERE ranked.rn <= :limitPerBike
+			)
+			ORDER BY mt.bike_id, mt.created_at DESC, mt.id DESC
+			""", nativeQuery = true)
+	List<MaintenanceTask> findLatestPerBikeByUserId(@Param("userId") Integer userId,
+	                                                @Param("limitPerBike") int limitPerBike);
+
+	/**
+	 * ユーザーが所有するバイクの、論理削除されていない整備タスクの件数をカテゴリーごとに集計します。
+	 *
+	 * @param userId ユーザーID
+	 * @return カテゴリーごとの整備タスク件数List
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.dashboard.CategoryTaskCountResponse(t.category.id, COUNT(t))
+			FROM MaintenanceTask t
+			WHERE t.bike.user.id = :userId AND t.bike.isDeleted = false AND t.isDeleted = false
+			GROUP BY t.category.id
+			ORDER BY t.category.id
+			""")
+	List<CategoryTaskCountResponse> countByCategoryForUserId(@Param("userId") Integer userId);
+
+	/**
+	 * ユーザーIDに紐づく、論理削除されていない整備タスクを作成日時の古い順に、先頭から指定件数分取得します。
+	 * エクスポートで件数に関わらずメモリ使用量を一定に保ちつつ、読み込みのたびにトランザクションを終了できるよう、
+	 * 続きはfindExportChunkByUserIdAfterで前回取得した最後の整備タスクを起点に取得します。
+	 * エンティティを経由せず、レスポンスDTOとして取得します。
+	 *
+	 * @param userId ユーザーID
+	 * @param limit  取得件数
+	 * @return 作成日時とIDの昇順に並んだ整備タスクList
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse(
+			    t.id, t.category.id, t.bike.id, t.name, t.description, t.createdAt, t.updatedAt)
+			FROM MaintenanceTask t
+			WHERE t.userId = :userId AND t.isDeleted = false
+			ORDER BY t.createdAt, t.id
+			""")
+	List<MaintenanceTaskResponse> findExportFirstChunkByUserId(@Param("userId") Integer userId, Limit limit);
+
+	/**
+	 * ユーザーIDに紐づく、論理削除されていない整備タスクを作成日時の古い順に、カーソルの次から指定件数分取得します。
+	 * 作成日時とIDの組をカーソルと比較するため、何回目の読み込みでもインデックスの範囲検索で取得できます。
+	 *
+	 * @param userId          ユーザーID
+	 * @param cursorCreatedAt 前回取得した最後の整備タスクの作成日時
+	 * @param cursorId        前回取得した最後の整備タスクのID
+	 * @param limit           取得件数
+	 * @return 作成日時とIDの昇順に並んだ整備タスクList
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse(
+			    t.id, t.category.id, t.bike.id, t.name, t.description, t.createdAt, t.updatedAt)
+			FROM MaintenanceTask t
+			WHERE t.userId = :userId AND t.isDeleted = false
+			  AND (t.createdAt, t.id) > (:cursorCreatedAt, :cursorId)
+			ORDER BY t.createdAt, t.id
+			""")
+	List<MaintenanceTaskResponse> findExportChunkByUserIdAfter(@Param("userId") Integer userId,
+	                                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+	                                                           @Param("cursorId") Integer cursorId,
+	                                                           Limit limit);
+
+	/**
+	 * バイクIDに紐づく、論理削除されていない整備タスクを作成日時の古い順に、先頭から指定件数分取得します。
+	 *
+	 * @param bikeId バイクID
+	 * @param limit  取得件数
+	 * @return 作成日時とIDの昇順に並んだ整備タスクList
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse(
+			    t.id, t.category.id, t.bike.id, t.name, t.description, t.createdAt, t.updatedAt)
+			FROM MaintenanceTask t
+			WHERE t.bike.id = :bikeId AND t.isDeleted = false
+			ORDER BY t.createdAt, t.id
+			""")
+	List<MaintenanceTaskResponse> findExportFirstChunkByBikeId(@Param("bikeId") Integer bikeId, Limit limit);
+
+	/**
+	 * バイクIDに紐づく、論理削除されていない整備タスクを作成日時の古い順に、カーソルの次から指定件数分取得します。
+	 *
+	 * @param bikeId          バイクID
+	 * @param cursorCreatedAt 前回取得した最後の整備タスクの作成日時
+	 * @param cursorId        前回取得した最後の整備タスクのID
+	 * @param limit           取得件数
+	 * @return 作成日時とIDの昇順に並んだ整備タスクList
+	 */
+	@Query("""
+			SELECT new com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse(
+			    t.id, t.category.id, t.bike.id, t.name, t.description, t.createdAt, t.updatedAt)
+			FROM MaintenanceTask t
+			WHERE t.bike.id = :bikeId AND t.isDeleted = false
+			  AND (t.createdAt, t.id) > (:cursorCreatedAt, :cursorId)
+			ORDER BY t.createdAt, t.id
+			""")
+	List<MaintenanceTaskResponse> findExportChunkByBikeIdAfter(@Param("bikeId") Integer bikeId,
+	                                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+	                                                           @Param("cursorId") Integer cursorId,
+	                                                           Limit limit);
+
+	/**
+	 * ユーザーが保有するバイクに紐づく、論理削除されていない整備タスクを1回のUPDATE文で更新し、更新後の整備タスクを返します。
+	 * リクエストでnullの項目は更新せず、既存の値を保持します。
+	 *
+	 * @param maintenanceTaskId 整備タスクID
+	 * @param userId            ユーザーID
+	 * @param request           更新する整備タスク情報
+	 * @return 更新後の整備タスク（該当する整備タスクがない場合はOptional.empty()）
+	 */
+	@Query(value = """
+			UPDATE maintenance_tasks SET
+			    name = COALESCE(CAST(:#{#request.name} AS VARCHAR), name),
+			    description = COALESCE(CAST(:#{#request.description} AS TEXT), description)
+			WHERE id = :maintenanceTaskId AND is_deleted = false
+			  AND bike_id IN (SELECT b.id FROM bikes b WHERE b.user_id = :userId AND b.is_deleted = false)
+			RETURNING *
+			""", nativeQuery = true)
+	Optional<MaintenanceTask> updateByIdAndUserId(@Param("maintenanceTaskId") Integer maintenanceTaskId,
+	                                              @Param("userId") Integer userId,
+	                                              @Param("request") MaintenanceTaskUpdateRequest request);
+
+	/**
+	 * ユーザーが保有するバイクに紐づく、論理削除されていない整備タスクを1回のUPDATE文で論理削除します。
+	 *
+	 * @param maintenanceTaskId 整備タスクID
+	 * @param userId            ユーザーID
+	 * @return 論理削除した件数（該当する整備タスクがない場合は0）
+	 */
+	@Modifying
+	@Query("""
+			UPDATE MaintenanceTask t SET t.isDeleted = true
+			WHERE t.id = :maintenanceTaskId AND t.isDeleted = false
+			  AND t.bike.id IN (SELECT b.id FROM Bike b WHERE b.user.id = :userId AND b.isDeleted = false)
+			""")
+	int softDeleteByIdAndUserId(@Param("maintenanceTaskId") Integer maintenanceTaskId, @Param("userId") Integer userId);
+
+	/**
+	 * バイクIDに紐づく、論理削除されていない整備タスクを1回のUPDATE文で論理削除します。
+	 *
+	 * @param bikeId バイクID
+	 * @return 論理削除した件数
+	 */
+	@Modifying
+	@Query("UPDATE MaintenanceTask t SET t.isDeleted = true WHERE t.bike.id = :bikeId AND t.isDeleted = false")
+	int softDeleteByBikeId(@Param("bikeId") Integer bikeId);
+
+	/**
+	 * ユーザーが保有するすべてのバイクに紐づく、論理削除されていない整備タスクを1回のUPDATE文で論理削除します。
+	 * 論理削除済みのバイクに残っている整備タスクも対象とします。
+	 *
+	 * @param userId ユーザーID
+	 * @return 論理削除した件数
+	 */
+	@Modifying
+	@Query("UPDATE MaintenanceTask t SET t.isDeleted = true WHERE t.userId = :userId AND t.isDeleted = false")
+	int softDeleteByUserId(@Param("userId") Integer userId);
+
+	/**
+	 * ユーザーの論理削除と同じトランザクションで論理削除された、ユーザーIDに紐づく整備タスクを1回のUPDATE文で復元します。
+	 *
+	 * @param userId    ユーザーID
+	 * @param deletedAt ユーザーが論理削除された日時
+	 * @return 復元した件数
 	 */
-	List<MaintenanceTask> findByBikeIdAndCategoryIdAndIsDeletedFalse(Integer bikeId, Integer categoryId);
+	@Modifying
+	@Query("UPDATE MaintenanceTask t SET t.isDeleted = false WHERE t.userId = :userId AND t.isDeleted = true AND t.updatedAt = :deletedAt")
+	int restoreByUserIdAndDeletedAt(@Param("userId") Integer userId, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -0,0 +1,92 @@
+package com.rikuto.revox.repository;
+
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 整備タスクの名前と詳細内容を部分一致で検索するリポジトリです。
+ * 絞り込み条件の有無に応じてSQLを組み立てるため、JdbcTemplateで実装しています。
+ */
+@Repository
+public class MaintenanceTaskSearchRepository {
+
+	private static final RowMapper<MaintenanceTaskResponse> ROW_MAPPER = (rs, rowNum) -> MaintenanceTaskResponse.builder()
+			.id(rs.getInt("id"))
+			.categoryId(rs.getInt("category_id"))
+			.bikeId(rs.getInt("bike_id"))
+			.name(rs.getString("name"))
+			.description(rs.getString("description"))
+			.createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+			.updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+			.build();
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public MaintenanceTaskSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * ユーザーの論理削除されていない整備タスクから、名前または詳細内容に検索語を含むものを関連度の高い順に取得します。
+	 * 部分一致はトライグラムのGINインデックスで絞り込みます。
+	 * 検索語が2文字以下の場合はトライグラムを作れないため、ユーザーIDのインデックスで絞り込んだ行を照合します。
+	 * 関連度は検索語と名前の類似度を詳細内容の2倍に重み付けして算出し、同じ関連度の場合は作成日時の新しい順とします。
+	 *
+	 * @param userId     ユーザーID
+	 * @param query      検索語（大文字小文字を区別しません）
+	 * @param bikeId     絞り込むバイクID（nullの場合は絞り込まない）
+	 * @param categoryId 絞り込むカテゴリーID（nullの場合は絞り込まない）
+	 * @param limit      取得件数
+	 * @param offset     読み飛ばす件数
+	 * @return 関連度の高い順に並んだ整備タスクList
+	 */
+	public List<MaintenanceTaskResponse> search(Integer userId, String query, Integer bikeId, Integer categoryId,
+	                                            int limit, long offset) {
+		MapSqlParameterSource parameters = new MapSqlParameterSource()
+				.addValue("userId", userId)
+				.addValue("query", query)
+				.addValue("pattern", "%" + escapeLikePattern(query) + "%")
+				.addValue("limit", limit)
+				.addValue("offset", offset);
+
+		StringBuilder sql = new StringBuilder("""
+				SELECT t.id, t.category_id, t.bike_id, t.name, t.description, t.created_at, t.updated_at
+				FROM maintenance_tasks t
+				WHERE t.user_id = :userId AND t.is_deleted = false
+				  AND (t.name ILIKE :pattern OR t.description ILIKE :pattern)
+				""");
+		if(bikeId != null) {
+			sql.append("  AND t.bike_id = :bikeId\n");
+			parameters.addValue("bikeId", bikeId);
+		}
+		if(categoryId != null) {
+			sql.append("  AND t.category_id = :categoryId\n");
+			parameters.addValue("categoryId", categoryId);
+		}
+		sql.append("""
+				ORDER BY word_similarity(:query, t.name) * 2 + word_similarity(:query, t.description) DESC,
+				         t.created_at DESC, t.id DESC
+				LIMIT :limit OFFSET :offset
+				""");
+
+		return jdbcTemplate.query(sql.toString(), parameters, ROW_MAPPER);
+	}
+
+	/**
+	 * LIKEのワイルドカードとして解釈される文字をエスケープします。
+	 */
+	static String escapeLikePattern(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+
+	private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+		return timestamp == null ? null : timestamp.toLocalDateTime();
+	}
+}
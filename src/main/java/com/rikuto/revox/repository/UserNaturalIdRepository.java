@@ -0,0 +1,21 @@
+package com.rikuto.revox.repository;
+
+import com.rikuto.revox.domain.User;
+
+import java.util.Optional;
+
+/**
+ * 自然キー（uniqueUserId）でユーザーを検索するリポジトリです。
+ * UserRepositoryに組み込んで使用します。
+ */
+public interface UserNaturalIdRepository {
+
+	/**
+	 * アプリケーション独自の一意なユーザーIDで論理削除されたユーザー含む全件検索を行います。
+	 * 2次キャッシュにユーザーIDへの対応とユーザーが保持されている場合は、DBへ問い合わせません。
+	 *
+	 * @param uniqueUserId アプリケーション独自の一意なユーザーID
+	 * @return DBに存在する全てのユーザー情報
+	 */
+	Optional<User> findByUniqueUserId(String uniqueUserId);
+}
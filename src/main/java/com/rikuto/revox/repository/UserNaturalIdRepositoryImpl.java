@@ -0,0 +1,29 @@
+package com.rikuto.revox.repository;
+
+import com.rikuto.revox.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * UserNaturalIdRepositoryの実装クラスです。
+ * JPQLでの検索は2次キャッシュを経由しないため、Hibernateの自然キーによる読み込みを使用します。
+ */
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+	private final EntityManager entityManager;
+
+	UserNaturalIdRepositoryImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<User> findByUniqueUserId(String uniqueUserId) {
+		return entityManager.unwrap(Session.class)
+				.bySimpleNaturalId(User.class)
+				.loadOptional(uniqueUserId);
+	}
+}
@@ -2,6 +2,9 @@ package com.rikuto.revox.repository;
 
 import com.rikuto.revox.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,9 +12,10 @@ import java.util.Optional;
 /**
  * ユーザーに関するリポジトリです。
  * uniqueUserIdを主キーとして使用します。
+ * IDとuniqueUserIdでの検索は2次キャッシュを経由するため、論理削除の判定は読み込んだ後に行います。
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Integer> {
+public interface UserRepository extends JpaRepository<User, Integer>, UserNaturalIdRepository {
 
 	/**
 	 * ユーザーIDでの検索を行います。論理削除された情報は取得しません。
@@ -20,7 +24,9 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 	 * @param id 　ユーザーID
 	 * @return ユーザー情報
 	 */
-	Optional<User> findByIdAndIsDeletedFalse(Integer id);
+	default Optional<User> findByIdAndIsDeletedFalse(Integer id) {
+		return findById(id).filter(user -> ! user.isDeleted());
+	}
 
 	/**
 	 * アプリケーション独自の一意なユーザーIDでの検索を行います。
@@ -30,14 +36,33 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 	 * @param uniqueUserId アプリケーション独自の一意なユーザーID
 	 * @return アプリケーション独自の一意なユーザーIDに紐づいたユーザー情報
 	 */
-	Optional<User> findByUniqueUserIdAndIsDeletedFalse(String uniqueUserId);
+	default Optional<User> findByUniqueUserIdAndIsDeletedFalse(String uniqueUserId) {
+		return findByUniqueUserId(uniqueUserId).filter(user -> ! user.isDeleted());
+	}
 
 	/**
-	 * アプリケーション独自の一意なユーザーIDで論理削除されたユーザー含む全件検索を行います。
-	 * 論理削除されたユーザーを復元するために使用します。
+	 * 論理削除されていないユーザーのニックネームを1回のUPDATE文で更新し、更新後のユーザーを返します。
+	 * ニックネームがnullの場合は更新せず、既存の値を保持します。
+	 * 2次キャッシュは更新されないため、呼び出し側でユーザーをキャッシュから破棄してください。
 	 *
-	 * @param uniqueUserId アプリケーション独自の一意なユーザーID
-	 * @return DBに存在する全てのユーザー情報
+	 * @param userId   ユーザーID
+	 * @param nickname 新しいニックネーム
+	 * @return 更新後のユーザー情報（該当するユーザーがいない場合はOptional.empty()）
+	 */
+	@Query(value = """
+			UPDATE users SET nickname = COALESCE(CAST(:nickname AS VARCHAR), nickname)
+			WHERE id = :userId AND is_deleted = false
+			RETURNING *
+			""", nativeQuery = true)
+	Optional<User> updateNicknameById(@Param("userId") Integer userId, @Param("nickname") String nickname);
+
+	/**
+	 * 論理削除されていないユーザーを1回のUPDATE文で論理削除します。
+	 *
+	 * @param userId ユーザーID
+	 * @return 論理削除した件数（該当するユーザーがいない場合は0）
 	 */
-	Optional<User> findByUniqueUserId(String uniqueUserId);
+	@Modifying
+	@Query("UPDATE User u SET u.isDeleted = true WHERE u.id = :userId AND u.isDeleted = false")
+	int softDeleteById(@Param("userId") Integer userId);
 }
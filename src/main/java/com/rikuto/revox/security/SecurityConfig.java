@@ -1,16 +1,27 @@
 package com.rikuto.revox.security;
 
 import com.rikuto.revox.security.details.ExternalAuthUserDetailsService;
+import com.rikuto.revox.security.guest.GuestSnapshotFilter;
 import com.rikuto.revox.security.jwt.JwtAuthenticationFilter;
 import com.rikuto.revox.security.jwt.JwtTokenProvider;
+import com.rikuto.revox.service.GuestSnapshotService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -26,26 +37,73 @@ public class SecurityConfig {
 
 	private final JwtTokenProvider jwtTokenProvider;
 	private final ExternalAuthUserDetailsService userDetailsService;
+	private final GuestSnapshotService guestSnapshotService;
+	private final MeterRegistry meterRegistry;
 
 	public SecurityConfig(JwtTokenProvider jwtTokenProvider,
-	                      ExternalAuthUserDetailsService userDetailsService) {
+	                      ExternalAuthUserDetailsService userDetailsService,
+	                      GuestSnapshotService guestSnapshotService,
+	                      MeterRegistry meterRegistry) {
 		this.jwtTokenProvider = jwtTokenProvider;
 		this.userDetailsService = userDetailsService;
+		this.guestSnapshotService = guestSnapshotService;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@Bean
 	public JwtAuthenticationFilter jwtAuthenticationFilter() {
-		return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+		return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, meterRegistry);
 	}
 
 	@Bean
+	public GuestSnapshotFilter guestSnapshotFilter() {
+		return new GuestSnapshotFilter(guestSnapshotService);
+	}
+
+	/**
+	 * Prometheusのスクレイプ用エンドポイントへのアクセスを、Basic認証で制限するフィルターチェーンです。
+	 * 認証情報が設定されていない環境では、すべてのアクセスを拒否します。
+	 */
+	@Bean
+	@Order(1)
+	public SecurityFilterChain metricsSecurityFilterChain(HttpSecurity http,
+	                                                      @Value("${revox.metrics.username:}") String username,
+	                                                      @Value("${revox.metrics.password:}") String password) throws Exception {
+		http
+				.securityMatcher(EndpointRequest.to("prometheus"))
+				.csrf(AbstractHttpConfigurer::disable)
+				.sessionManagement(session -> session
+						.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+				);
+
+		if(username.isBlank() || password.isBlank()) {
+			http.authorizeHttpRequests(authorize -> authorize.anyRequest().denyAll());
+			return http.build();
+		}
+
+		InMemoryUserDetailsManager scraperDetailsService = new InMemoryUserDetailsManager(User.withUsername(username)
+				.password("{noop}" + password)
+				.roles("METRICS")
+				.build());
+		http
+				.authenticationManager(new ProviderManager(new DaoAuthenticationProvider(scraperDetailsService)))
+				.authorizeHttpRequests(authorize -> authorize.anyRequest().hasRole("METRICS"))
+				.httpBasic(basic -> {});
+		return http.build();
+	}
+
+	@Bean
+	@Order(2)
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 		http
 				.cors(cors -> cors.configurationSource(corsConfigurationSource()))
 				.csrf(AbstractHttpConfigurer::disable)
 				.authorizeHttpRequests(authorize -> authorize
+						// StreamingResponseBodyの書き込み完了後の非同期ディスパッチは、元のリクエストで認可済みのため許可する
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 						.requestMatchers("/api/auth/**").permitAll()
 						.requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+						.requestMatchers(EndpointRequest.to("health")).permitAll()
 						.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 						.anyRequest().authenticated()
 				)
@@ -54,6 +112,7 @@ public class SecurityConfig {
 				);
 
 		http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+		http.addFilterAfter(guestSnapshotFilter(), JwtAuthenticationFilter.class);
 
 		return http.build();
 	}
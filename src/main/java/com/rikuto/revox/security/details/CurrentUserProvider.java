@@ -0,0 +1,28 @@
+package com.rikuto.revox.security.details;
+
+import com.rikuto.revox.exception.AuthenticationException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 現在のリクエストで認証されているユーザーの情報を取得するクラスです。
+ * JWT認証フィルターがSecurityContextに設定したExternalAuthUserDetailsを参照します。
+ */
+@Component
+public class CurrentUserProvider {
+
+	/**
+	 * 認証済みユーザーのユーザーIDを取得します。
+	 *
+	 * @return 認証済みユーザーのユーザーID
+	 * @throws AuthenticationException 認証情報が存在しない場合
+	 */
+	public Integer getCurrentUserId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if(authentication == null || ! (authentication.getPrincipal() instanceof ExternalAuthUserDetails userDetails)) {
+			throw new AuthenticationException("認証情報が見つかりません。");
+		}
+		return userDetails.getId();
+	}
+}
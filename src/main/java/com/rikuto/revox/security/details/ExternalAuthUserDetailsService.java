@@ -2,10 +2,13 @@ package com.rikuto.revox.security.details;
 
 import com.rikuto.revox.domain.User;
 import com.rikuto.revox.repository.UserRepository;
+import com.rikuto.revox.service.GuestSnapshotService;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 /**
  * 外部認証専用のUserDetailsServiceです。
  * uniqueUserIdを使用してユーザー情報を取得します。
@@ -15,18 +18,28 @@ public class ExternalAuthUserDetailsService {
 
 	private final UserRepository userRepository;
 
-	public ExternalAuthUserDetailsService(UserRepository userRepository) {
+	private final GuestSnapshotService guestSnapshotService;
+
+	public ExternalAuthUserDetailsService(UserRepository userRepository,
+	                                      GuestSnapshotService guestSnapshotService) {
 		this.userRepository = userRepository;
+		this.guestSnapshotService = guestSnapshotService;
 	}
 
 	/**
 	 * uniqueUserIdでユーザー情報を検索し、UserDetailsを返します。
+	 * ゲストユーザーの場合はスナップショットの認証情報を返し、DBへの検索は行いません。
 	 *
 	 * @param uniqueUserId 外部認証システムの一意なユーザーID
 	 * @return UserDetails実装オブジェクト
 	 * @throws UsernameNotFoundException ユーザーが見つからない場合
 	 */
 	public UserDetails loadUserByUniqueUserId(String uniqueUserId) throws UsernameNotFoundException {
+		Optional<UserDetails> guestUserDetails = guestSnapshotService.findGuestUserDetails(uniqueUserId);
+		if(guestUserDetails.isPresent()) {
+			return guestUserDetails.get();
+		}
+
 		User uniqueUser = userRepository.findByUniqueUserIdAndIsDeletedFalse(uniqueUserId)
 				.orElseThrow(() -> new UsernameNotFoundException("ユーザーが見つかりません: " + uniqueUserId));
 
@@ -0,0 +1,124 @@
+package com.rikuto.revox.security.guest;
+
+import com.rikuto.revox.compression.PrecompressedBody;
+import com.rikuto.revox.service.GuestSnapshotService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * ゲストユーザーのGETリクエストにスナップショットから応答するフィルターです。
+ * JWT認証フィルターの後に実行され、ROLE_GUESTで認証されたリクエストのうち
+ * スナップショットに該当するパスが存在するものは、コントローラーおよびDBを経由せずに応答します。
+ * スナップショットはJSONのため、AcceptヘッダーでCBORなどのバイナリ形式を優先するリクエストはコントローラーで処理します。
+ * Accept-Encodingでgzipを受け付けるリクエストには、スナップショットの作成時に圧縮しておいたJSONを返します。
+ */
+@Slf4j
+public class GuestSnapshotFilter extends OncePerRequestFilter {
+
+	private static final String GUEST_AUTHORITY = "ROLE_GUEST";
+
+	private final GuestSnapshotService guestSnapshotService;
+
+	public GuestSnapshotFilter(GuestSnapshotService guestSnapshotService) {
+		this.guestSnapshotService = guestSnapshotService;
+	}
+
+	/**
+	 * ゲストユーザーのリクエストであればスナップショットを検索し、該当する場合はそのまま応答します。
+	 * 該当しない場合は次のフィルターへ処理が渡されます。
+	 *
+	 * @param request     HTTPリクエスト
+	 * @param response    HTTPレスポンス
+	 * @param filterChain フィルターチェーン
+	 * @throws ServletException Servlet例外
+	 * @throws IOException      入出力例外
+	 */
+	@Override
+	protected void doFilterInternal(@NotNull HttpServletRequest request,
+	                                @NotNull HttpServletResponse response,
+	                                @NotNull FilterChain filterChain) throws ServletException, IOException {
+		PrecompressedBody snapshotResponse = findSnapshotResponse(request);
+		if(snapshotResponse == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		log.debug("ゲストユーザーのリクエストにスナップショットから応答します。");
+		byte[] body = snapshotResponse.identity();
+		if(snapshotResponse.canServeGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+			body = snapshotResponse.gzip();
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, PrecompressedBody.GZIP);
+		}
+		response.setStatus(HttpServletResponse.SC_OK);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	/**
+	 * クエリパラメータを持たず、JSONでの応答を受け付けるゲストユーザーのGETリクエストに対応するスナップショットを検索します。
+	 *
+	 * @param request HTTPリクエスト
+	 * @return シリアライズ済みのレスポンス（該当しない場合はnull）
+	 */
+	private PrecompressedBody findSnapshotResponse(HttpServletRequest request) {
+		if(! HttpMethod.GET.matches(request.getMethod()) || request.getQueryString() != null
+				|| ! prefersJson(request) || ! isGuest()) {
+			return null;
+		}
+
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		return guestSnapshotService.findResponse(path).orElse(null);
+	}
+
+	/**
+	 * Acceptヘッダーで最も優先される形式がJSONと互換性があるかを判定します。
+	 * Acceptヘッダーが指定されていない場合は、JSONを受け付けるものとして扱います。
+	 *
+	 * @param request HTTPリクエスト
+	 * @return JSONで応答できる場合はtrue
+	 */
+	private boolean prefersJson(HttpServletRequest request) {
+		String accept = request.getHeader(HttpHeaders.ACCEPT);
+		if(accept == null || accept.isBlank()) {
+			return true;
+		}
+
+		List<MediaType> mediaTypes;
+		try {
+			mediaTypes = MediaType.parseMediaTypes(accept);
+		} catch(InvalidMediaTypeException e) {
+			return false;
+		}
+		MimeTypeUtils.sortBySpecificity(mediaTypes);
+		return mediaTypes.isEmpty() || mediaTypes.getFirst().isCompatibleWith(MediaType.APPLICATION_JSON);
+	}
+
+	private boolean isGuest() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if(authentication == null) {
+			return false;
+		}
+		return authentication.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.anyMatch(GUEST_AUTHORITY::equals);
+	}
+}
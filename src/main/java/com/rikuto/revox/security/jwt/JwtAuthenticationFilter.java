@@ -1,6 +1,8 @@
 package com.rikuto.revox.security.jwt;
 
 import com.rikuto.revox.security.details.ExternalAuthUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,17 +21,21 @@ import java.io.IOException;
 /**
  * JWT認証フィルターです。
  * JWTトークンからuniqueUserIdを抽出し、認証情報を設定します。
+ * 認証処理の所要時間は、結果ごとにrevox.jwt.authenticationとして記録します。
  */
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenProvider jwtTokenProvider;
 	private final ExternalAuthUserDetailsService userDetailsService;
+	private final MeterRegistry meterRegistry;
 
 	public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
-	                               ExternalAuthUserDetailsService userDetailsService) {
+	                               ExternalAuthUserDetailsService userDetailsService,
+	                               MeterRegistry meterRegistry) {
 		this.jwtTokenProvider = jwtTokenProvider;
 		this.userDetailsService = userDetailsService;
+		this.meterRegistry = meterRegistry;
 	}
 
 	/**
@@ -50,6 +56,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	protected void doFilterInternal(@NotNull HttpServletRequest request,
 	                                @NotNull HttpServletResponse response,
 	                                @NotNull FilterChain filterChain) throws ServletException, IOException {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "anonymous";
 		try {
 			log.info("JWTの検証を開始します。");
 			String jwt = getJwtFromRequest(request);
@@ -64,12 +72,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 				authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
 				SecurityContextHolder.getContext().setAuthentication(authentication);
+				outcome = "authenticated";
 				log.info("ユーザーが正常に認証されました。");
 			} else {
+				outcome = StringUtils.hasText(jwt) ? "invalid" : "anonymous";
 				log.debug("JWTトークンが見つかりませんでした。");
 			}
 		} catch(Exception ex) {
+			outcome = "failed";
 			log.error("セキュリティコンテキストにユーザー認証を設定できませんでした。");
+		} finally {
+			// 後続のフィルターとコントローラーの処理時間を含めないよう、認証処理の完了時点で記録する
+			sample.stop(Timer.builder("revox.jwt.authentication")
+					.description("JWTの検証とユーザー情報の読み込みの所要時間")
+					.tag("outcome", outcome)
+					.register(meterRegistry));
 		}
 		filterChain.doFilter(request, response);
 	}
@@ -7,16 +7,20 @@ import com.rikuto.revox.domain.User;
 import com.rikuto.revox.dto.ai.AiCreatePrompt;
 import com.rikuto.revox.dto.ai.AiQuestionCreateRequest;
 import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.fields.ResponseFields;
 import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.mapper.AiMapper;
 import com.rikuto.revox.repository.AiRepository;
 import com.rikuto.revox.repository.BikeRepository;
-import com.rikuto.revox.repository.CategoryRepository;
 import com.rikuto.revox.repository.UserRepository;
 import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.util.List;
@@ -33,7 +37,7 @@ public class AiService {
 	private final AiRepository aiRepository;
 	private final UserRepository userRepository;
 	private final BikeRepository bikeRepository;
-	private final CategoryRepository categoryRepository;
+	private final CategoryService categoryService;
 
 	private final AiMapper aiMapper;
 
@@ -41,18 +45,32 @@ public class AiService {
 
 	private final Map<Integer, Bucket> buckets = new ConcurrentHashMap<>();
 
+	private final Counter rateLimitRejections;
+
+	private final TransactionTemplate readOnlyTransaction;
+	private final TransactionTemplate transaction;
+
 	public AiService(AiRepository aiRepository,
 	                 UserRepository userRepository,
 	                 BikeRepository bikeRepository,
-	                 CategoryRepository categoryRepository,
+	                 CategoryService categoryService,
 	                 AiMapper aiMapper,
-	                 GeminiService geminiService) {
+	                 GeminiService geminiService,
+	                 MeterRegistry meterRegistry,
+	                 PlatformTransactionManager transactionManager) {
 		this.aiRepository = aiRepository;
 		this.userRepository = userRepository;
 		this.bikeRepository = bikeRepository;
-		this.categoryRepository = categoryRepository;
+		this.categoryService = categoryService;
 		this.aiMapper = aiMapper;
 		this.geminiService = geminiService;
+		this.rateLimitRejections = Counter.builder("revox.ai.rate.limit.rejections")
+				.description("レート制限により受け付けなかったAIへの質問の件数")
+				.register(meterRegistry);
+
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
 	}
 
 	// CREATE
@@ -61,34 +79,25 @@ public class AiService {
 	/**
 	 * AIへの質問に対する回答を同期で生成します。
 	 * ユーザーと紐づく単一のバイク情報とカテゴリー情報を渡して回答を生成します。
+	 * Gemini APIの呼び出しは最大90秒かかるため、トランザクションの外で実行し、その間はDBコネクションを保持しません。
 	 *
 	 * @param request    AIへの質問
 	 * @param userId     ユーザーID
 	 * @param bikeId     バイクID
 	 * @param categoryId カテゴリーID
 	 */
-	@Transactional
 	public AiQuestionResponse createAiQuestion(AiQuestionCreateRequest request,
 	                                           Integer userId,
 	                                           Integer bikeId,
 	                                           Integer categoryId) {
 		Bucket bucket = getBucketForUser(userId);
 		if(! bucket.tryConsume(1)) {
+			rateLimitRejections.increment();
 			throw new RuntimeException("レート制限を超過しました。");
 		}
 
-		log.info("各種IDで検索を開始します。");
-		User user = userRepository.findByIdAndIsDeletedFalse(userId)
-				.orElseThrow(() -> new ResourceNotFoundException("ユーザーID " + userId + " が見つかりません。"));
-		log.info("ユーザーIDでの検索が正常に実行されました。");
-
-		Bike bike = bikeRepository.findByIdAndUserIdAndIsDeletedFalse(bikeId, userId)
-				.orElseThrow(() -> new ResourceNotFoundException("ユーザー ID " + userId + " に紐づくバイクID " + bikeId + "が見つかりません。"));
-		log.info("バイクIDでの検索が正常に実行されました。");
-
-		Category category = categoryRepository.findById(categoryId)
-				.orElseThrow(() -> new ResourceNotFoundException("カテゴリーID " + categoryId + " が見つかりません。"));
-		log.info("カテゴリーIDでの検索が正常に実行されました。");
+		QuestionTarget target = readOnlyTransaction.execute(status -> findQuestionTarget(userId, bikeId, categoryId));
+		Bike bike = target.bike();
 
 		log.info("プロンプトを生成しAIの回答生成を開始します。");
 		AiCreatePrompt createQuestion = AiCreatePrompt.builder()
@@ -105,19 +114,48 @@ public class AiService {
 			log.warn("質問に対して空の回答が返されました。 Prompt={}", createQuestion);
 		}
 
-		Ai answerToDomain = Ai.builder()
-				.user(user)
-				.bike(bike)
-				.category(category)
+		return transaction.execute(status -> {
+			Ai answerToDomain = Ai.builder()
+					.user(target.user())
+					.bike(bike)
+					.category(target.category())
 
-				.question(createQuestion.getQuestion())
-				.answer(answer)
-				.build();
+					.question(createQuestion.getQuestion())
+					.answer(answer)
+					.build();
+
+			Ai savedAnswer = aiRepository.save(answerToDomain);
+			log.info("AIからの回答を正常に登録できました。");
+
+			return aiMapper.toResponse(savedAnswer);
+		});
+	}
+
+	/**
+	 * 質問の対象となるユーザー、バイク、カテゴリーを検索します。
+	 *
+	 * @param userId     ユーザーID
+	 * @param bikeId     バイクID
+	 * @param categoryId カテゴリーID
+	 * @return ユーザー、バイク、カテゴリーの参照
+	 */
+	private QuestionTarget findQuestionTarget(Integer userId, Integer bikeId, Integer categoryId) {
+		log.info("各種IDで検索を開始します。");
+		User user = userRepository.findByIdAndIsDeletedFalse(userId)
+				.orElseThrow(() -> new ResourceNotFoundException("ユーザーID " + userId + " が見つかりません。"));
+		log.info("ユーザーIDでの検索が正常に実行されました。");
+
+		Bike bike = bikeRepository.findByIdAndUserIdAndIsDeletedFalse(bikeId, userId)
+				.orElseThrow(() -> new ResourceNotFoundException("ユーザー ID " + userId + " に紐づくバイクID " + bikeId + "が見つかりません。"));
+		log.info("バイクIDでの検索が正常に実行されました。");
 
-		Ai savedAnswer = aiRepository.save(answerToDomain);
-		log.info("AIからの回答を正常に登録できました。");
+		Category category = categoryService.getReference(categoryId);
+		log.info("カテゴリーIDでの検索が正常に実行されました。");
+
+		return new QuestionTarget(user, bike, category);
+	}
 
-		return aiMapper.toResponse(savedAnswer);
+	private record QuestionTarget(User user, Bike bike, Category category) {
 	}
 
 
@@ -132,7 +170,24 @@ public class AiService {
 	 */
 	@Transactional(readOnly = true)
 	public List<AiQuestionResponse> getAiQuestionByUserId(Integer userId) {
-		List<Ai> questionList = aiRepository.findByUserId(userId);
+		return getAiQuestionByUserId(userId, ResponseFields.all());
+	}
+
+	/**
+	 * ユーザーのAI履歴を全件取得します。
+	 * レスポンスに回答内容を含めない場合は、回答内容の列を読み込みません。
+	 *
+	 * @param userId ユーザーID
+	 * @param fields レスポンスに含める項目
+	 * @return AI質問・回答履歴リスト
+	 */
+	@Transactional(readOnly = true)
+	public List<AiQuestionResponse> getAiQuestionByUserId(Integer userId, ResponseFields fields) {
+		if(! fields.includes("answer")) {
+			return aiRepository.findSummaryByUserIdAndIsDeletedFalse(userId);
+		}
+
+		List<Ai> questionList = aiRepository.findByUserIdAndIsDeletedFalse(userId);
 
 		return questionList.stream()
 				.map(aiMapper::toResponse)
@@ -0,0 +1,87 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.exception.ResourceNotFoundException;
+import com.rikuto.revox.repository.BikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * バイクの所有者を確認するサービスクラスです。
+ * バイクIDとユーザーIDの対応をメモリ上に保持し、整備タスクの操作ごとにDBへ問い合わせることなく所有者を確認します。
+ * バイクが論理削除された場合と所有者が変更された場合は、直ちに、およびコミット後に対応を破棄します。
+ */
+@Slf4j
+@Service
+public class BikeOwnershipService {
+
+	/**
+	 * 保持する対応の上限件数です。
+	 * 上限に達した場合は全件を破棄し、以降の確認で再度読み込みます。
+	 */
+	static final int MAX_CACHE_SIZE = 10_000;
+
+	private final BikeRepository bikeRepository;
+
+	private final Map<Integer, Integer> ownerByBikeId = new ConcurrentHashMap<>();
+
+	public BikeOwnershipService(BikeRepository bikeRepository) {
+		this.bikeRepository = bikeRepository;
+	}
+
+	/**
+	 * 指定されたバイクがユーザーの所有であることを確認します。
+	 * 他のユーザーのバイクの存在を推測されないよう、所有者が異なる場合もバイクが存在しない場合と同じ例外をスローします。
+	 *
+	 * @param bikeId バイクID
+	 * @param userId ユーザーID
+	 * @throws ResourceNotFoundException バイクが存在しない、またはユーザーの所有でない場合
+	 */
+	public void verifyOwnership(Integer bikeId, Integer userId) {
+		Integer ownerId = findOwnerId(bikeId);
+		if(ownerId == null || ! ownerId.equals(userId)) {
+			log.warn("所有者ではないバイクへのアクセスを拒否しました。");
+			throw new ResourceNotFoundException("ユーザーID " + userId + " に紐づくバイクID " + bikeId + " が見つかりません。");
+		}
+	}
+
+	/**
+	 * バイクIDと所有者の対応を破棄します。
+	 * トランザクション内で呼び出された場合は、コミット前に他のリクエストが変更前の状態を再度読み込まないよう、
+	 * コミット後にも破棄します。
+	 *
+	 * @param bikeId バイクID
+	 */
+	public void evict(Integer bikeId) {
+		ownerByBikeId.remove(bikeId);
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					ownerByBikeId.remove(bikeId);
+				}
+			});
+		}
+	}
+
+	private Integer findOwnerId(Integer bikeId) {
+		Integer ownerId = ownerByBikeId.get(bikeId);
+		if(ownerId != null) {
+			return ownerId;
+		}
+
+		ownerId = bikeRepository.findUserIdByIdAndIsDeletedFalse(bikeId).orElse(null);
+		if(ownerId != null) {
+			if(ownerByBikeId.size() >= MAX_CACHE_SIZE) {
+				ownerByBikeId.clear();
+			}
+			ownerByBikeId.put(bikeId, Objects.requireNonNull(ownerId));
+		}
+		return ownerId;
+	}
+}
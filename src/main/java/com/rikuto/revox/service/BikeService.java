@@ -5,9 +5,12 @@ import com.rikuto.revox.domain.User;
 import com.rikuto.revox.dto.bike.BikeCreateRequest;
 import com.rikuto.revox.dto.bike.BikeResponse;
 import com.rikuto.revox.dto.bike.BikeUpdateRequest;
+import com.rikuto.revox.dto.version.ResourceVersion;
 import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.mapper.BikeMapper;
+import com.rikuto.revox.repository.AiRepository;
 import com.rikuto.revox.repository.BikeRepository;
+import com.rikuto.revox.repository.MaintenanceTaskRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,17 +25,30 @@ import java.util.List;
 public class BikeService {
 
 	private final BikeRepository bikeRepository;
+	private final MaintenanceTaskRepository maintenanceTaskRepository;
+	private final AiRepository aiRepository;
 
 	private final UserService userService;
 
 	private final BikeMapper bikeMapper;
 
+	private final BikeOwnershipService bikeOwnershipService;
+	private final SecondLevelCacheService secondLevelCacheService;
+
 	public BikeService(UserService userService,
 	                   BikeRepository bikeRepository,
-	                   BikeMapper bikeMapper) {
+	                   BikeMapper bikeMapper,
+	                   BikeOwnershipService bikeOwnershipService,
+	                   SecondLevelCacheService secondLevelCacheService,
+	                   MaintenanceTaskRepository maintenanceTaskRepository,
+	                   AiRepository aiRepository) {
 		this.userService = userService;
 		this.bikeRepository = bikeRepository;
+		this.maintenanceTaskRepository = maintenanceTaskRepository;
+		this.aiRepository = aiRepository;
 		this.bikeMapper = bikeMapper;
+		this.bikeOwnershipService = bikeOwnershipService;
+		this.secondLevelCacheService = secondLevelCacheService;
 	}
 
 	// CREATE
@@ -72,6 +88,18 @@ public class BikeService {
 		return bikeMapper.toResponseList(bikeList);
 	}
 
+	/**
+	 * ユーザーIDに紐づくバイク一覧のバージョン情報を検索します。
+	 * バイクのエンティティは読み込まず、件数と行バージョンの合計値のみを集計します。
+	 *
+	 * @param userId ユーザーID
+	 * @return バイク一覧のバージョン情報
+	 */
+	@Transactional(readOnly = true)
+	public ResourceVersion findBikeListVersion(Integer userId) {
+		return bikeRepository.findVersionByUserId(userId);
+	}
+
 	/**
 	 * ユーザーが保有する特定のバイクを検索します。
 	 * 該当するバイクが見つからない場合は例外をスローします。
@@ -93,6 +121,8 @@ public class BikeService {
 
 	/**
 	 * 既存のバイク情報を更新します。
+	 * 所有者の確認と更新を1回のUPDATE文で行い、更新後のバイクをRETURNING句で取得します。
+	 * 2次キャッシュのバイクは更新されないため破棄します。
 	 *
 	 * @param bikeId  更新するバイクのID
 	 * @param request 更新されたバイク情報を含むリクエストDTO
@@ -102,43 +132,59 @@ public class BikeService {
 	@Transactional
 	public BikeResponse updateBike(BikeUpdateRequest request, Integer bikeId, Integer userId) {
 		log.info("バイク情報の更新を開始します。");
-		Bike existingBike = bikeRepository.findByIdAndUserIdAndIsDeletedFalse(bikeId, userId)
+		Bike savedBike = bikeRepository.updateByIdAndUserId(bikeId, userId, request)
 				.orElseThrow(() -> new ResourceNotFoundException("ユーザーID " + userId + " に紐づくバイクID " + bikeId + " が見つかりません。"));
-
-		BikeUpdateRequest updateBikeData = BikeUpdateRequest.builder()
-				.manufacturer(request.getManufacturer())
-				.modelName(request.getModelName())
-				.modelCode(request.getModelCode())
-				.modelYear(request.getModelYear())
-				.currentMileage(request.getCurrentMileage())
-				.purchaseDate(request.getPurchaseDate())
-				.imageUrl(request.getImageUrl())
-				.build();
-
-		existingBike.updateFrom(updateBikeData);
-
-		Bike savedBike = bikeRepository.save(existingBike);
+		secondLevelCacheService.evict(Bike.class, bikeId);
 
 		log.warn("バイク情報が正常に更新されました。");
 		return bikeMapper.toResponse(savedBike);
 	}
 
+	/**
+	 * ユーザーが保有するバイクの所有者を別のユーザーに変更します。
+	 * 所有者の確認と変更を1回のUPDATE文で行い、紐づく整備タスクのuser_idはDBのトリガーで新しい所有者に合わせられます。
+	 * AI質問履歴は質問したユーザーのものとして、元の所有者に残します。
+	 * 所有者の対応と2次キャッシュのバイクは変更前の所有者を保持しているため、論理削除と同様に破棄します。
+	 *
+	 * @param bikeId         所有者を変更するバイクID
+	 * @param userId         現在の所有者のユーザーID
+	 * @param newOwnerUserId 新しい所有者のユーザーID
+	 * @throws ResourceNotFoundException 指定されたバイク、または新しい所有者が見つからない場合
+	 */
+	@Transactional
+	public void transferBike(Integer bikeId, Integer userId, Integer newOwnerUserId) {
+		log.info("バイクの所有者の変更を開始します。");
+		User newOwner = userService.findById(newOwnerUserId);
+		int transferredCount = bikeRepository.transferByIdAndUserId(bikeId, userId, newOwner);
+		if(transferredCount == 0) {
+			throw new ResourceNotFoundException("ユーザーID " + userId + " に紐づくバイクID " + bikeId + " が見つかりません。");
+		}
+
+		bikeOwnershipService.evict(bikeId);
+		secondLevelCacheService.evict(Bike.class, bikeId);
+		log.info("バイクの所有者が正常に変更されました。");
+	}
+
 	// DELETE
 	//------------------------------------------------------------------------------------------------------------------
 
 	/**
-	 * 登録されているバイクを論理削除します。
+	 * 登録されているバイクと、バイクに紐づく整備タスク、AI質問履歴を論理削除します。
+	 * 所有者の確認と論理削除を1回のUPDATE文で行い、更新件数で存在を判定します。
+	 * 紐づくデータもエンティティを読み込まず、テーブルごとに1回のUPDATE文で論理削除します。
 	 *
 	 * @param bikeId 更新するバイクID
 	 * @throws ResourceNotFoundException 指定されたバイクが見つからない場合
 	 */
 	@Transactional
 	public void softDeleteBike(Integer bikeId, Integer userId) {
-		Bike existingBike = bikeRepository.findByIdAndUserIdAndIsDeletedFalse(bikeId, userId)
-				.orElseThrow(() -> new ResourceNotFoundException("ユーザー ID " + userId + " に紐づくバイクID " + bikeId + "が見つかりません。"));
-
-		existingBike.softDelete();
-
-		bikeRepository.save(existingBike);
+		int deletedCount = bikeRepository.softDeleteByIdAndUserId(bikeId, userId);
+		if(deletedCount == 0) {
+			throw new ResourceNotFoundException("ユーザー ID " + userId + " に紐づくバイクID " + bikeId + "が見つかりません。");
+		}
+
+		maintenanceTaskRepository.softDeleteByBikeId(bikeId);
+		aiRepository.softDeleteByBikeId(bikeId);
+		bikeOwnershipService.evict(bikeId);
 	}
 }
\ No newline at end of file
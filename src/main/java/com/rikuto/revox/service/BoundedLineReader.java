@@ -0,0 +1,77 @@
+package com.rikuto.revox.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 入力を1行ずつ読み込むリーダーです。
+ * 行末はLF、CRLF、CRのいずれにも対応します。
+ * 改行を含まない入力の残りすべてを1行として保持しないよう、上限の文字数を超えた部分は保持せずに行末まで読み飛ばします。
+ */
+class BoundedLineReader {
+
+	private static final int END_OF_STREAM = -1;
+
+	private final Reader reader;
+
+	private final int maxLineLength;
+
+	private boolean lineTooLong;
+
+	private int pushedBack = END_OF_STREAM;
+
+	BoundedLineReader(Reader reader, int maxLineLength) {
+		this.reader = reader;
+		this.maxLineLength = maxLineLength;
+	}
+
+	/**
+	 * 次の行を読み込みます。
+	 * 行の文字数が上限を超えた場合は、上限までの文字列を返し、{@link #isLineTooLong()}がtrueになります。
+	 *
+	 * @return 行末の改行を含まない行（入力の終端に達した場合はnull）
+	 * @throws IOException 読み込みに失敗した場合
+	 */
+	String readLine() throws IOException {
+		lineTooLong = false;
+		int c = read();
+		if(c == END_OF_STREAM) {
+			return null;
+		}
+
+		StringBuilder line = new StringBuilder();
+		while(c != END_OF_STREAM && c != '\n' && c != '\r') {
+			if(line.length() < maxLineLength) {
+				line.append((char) c);
+			} else {
+				lineTooLong = true;
+			}
+			c = read();
+		}
+		if(c == '\r') {
+			int next = read();
+			if(next != '\n') {
+				pushedBack = next;
+			}
+		}
+		return line.toString();
+	}
+
+	/**
+	 * 直前に読み込んだ行の文字数が上限を超えていたかを判定します。
+	 *
+	 * @return 上限を超えていた場合はtrue
+	 */
+	boolean isLineTooLong() {
+		return lineTooLong;
+	}
+
+	private int read() throws IOException {
+		if(pushedBack != END_OF_STREAM) {
+			int c = pushedBack;
+			pushedBack = END_OF_STREAM;
+			return c;
+		}
+		return reader.read();
+	}
+}
@@ -1,34 +1,163 @@
 package com.rikuto.revox.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rikuto.revox.compression.PrecompressedBody;
 import com.rikuto.revox.domain.Category;
 import com.rikuto.revox.dto.category.CategoryResponse;
+import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.mapper.CategoryMapper;
 import com.rikuto.revox.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
+/**
+ * カテゴリーに関するビジネスロジックを処理するサービスクラスです。
+ * カテゴリーはV003のマイグレーションで登録され、実行中に変更されないため、
+ * 起動時に一度だけDBから読み込み、不変のカタログとしてメモリ上に保持します。
+ */
+@Slf4j
 @Service
 public class CategoryService {
 
 	private final CategoryRepository categoryRepository;
 	private final CategoryMapper categoryMapper;
 
-	public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+	private final ObjectMapper objectMapper;
+
+	private final ReentrantLock loadLock = new ReentrantLock();
+
+	private volatile CategoryCatalog catalog;
+
+	public CategoryService(CategoryRepository categoryRepository,
+	                       CategoryMapper categoryMapper,
+	                       ObjectMapper objectMapper) {
 		this.categoryRepository = categoryRepository;
 		this.categoryMapper = categoryMapper;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 起動完了時にカテゴリーのカタログを読み込みます。
+	 * 失敗した場合は、最初にカテゴリーを参照した時点で再度読み込みます。
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		try {
+			getCatalog();
+		} catch(Exception e) {
+			log.warn("カテゴリーのカタログの読み込みに失敗しました。", e);
+		}
 	}
 
 	/**
 	 * すべてのカテゴリーを取得します。
 	 *
-	 * @return すべてのカテゴリーリスト
+	 * @return すべてのカテゴリーリスト（変更不可）
 	 */
-	@Transactional(readOnly = true)
 	public List<CategoryResponse> findAllCategories() {
-		List<Category> categorieList = categoryRepository.findAll();
+		return getCatalog().categories();
+	}
+
+	/**
+	 * すべてのカテゴリーをシリアライズ済みのJSONとETagで取得します。
+	 * JSONはgzipで圧縮したものも保持しており、リクエストごとに圧縮しません。
+	 *
+	 * @return シリアライズ済みのカテゴリーリスト
+	 */
+	public SerializedCategories findSerializedCategories() {
+		CategoryCatalog currentCatalog = getCatalog();
+		return new SerializedCategories(currentCatalog.json(), currentCatalog.eTag());
+	}
+
+	/**
+	 * カテゴリーIDをカタログで検証し、関連付け用のカテゴリーの参照を取得します。
+	 * 存在の確認はメモリ上で行い、参照の取得ではDBへ問い合わせません。
+	 *
+	 * @param categoryId カテゴリーID
+	 * @return カテゴリーの参照
+	 * @throws ResourceNotFoundException 指定されたカテゴリーが存在しない場合
+	 */
+	public Category getReference(Integer categoryId) {
+		if(categoryId == null || ! getCatalog().ids().contains(categoryId)) {
+			throw new ResourceNotFoundException("カテゴリーID " + categoryId + " が見つかりません。");
+		}
+		return categoryRepository.getReferenceById(categoryId);
+	}
+
+	private CategoryCatalog getCatalog() {
+		CategoryCatalog currentCatalog = catalog;
+		if(currentCatalog != null) {
+			return currentCatalog;
+		}
 
-		return categoryMapper.toResponseList(categorieList);
+		loadLock.lock();
+		try {
+			if(catalog == null) {
+				catalog = loadCatalog();
+			}
+			return catalog;
+		} finally {
+			loadLock.unlock();
+		}
+	}
+
+	private CategoryCatalog loadCatalog() {
+		log.info("カテゴリーのカタログを読み込みます。");
+		List<CategoryResponse> categoryList = List.copyOf(categoryMapper.toResponseList(categoryRepository.findAll()));
+
+		byte[] json;
+		try {
+			json = objectMapper.writeValueAsBytes(categoryList);
+		} catch(JsonProcessingException e) {
+			throw new IllegalStateException("カテゴリーのシリアライズに失敗しました。", e);
+		}
+
+		Set<Integer> ids = categoryList.stream()
+				.map(CategoryResponse::getId)
+				.collect(Collectors.toUnmodifiableSet());
+
+		log.info("カテゴリーのカタログを読み込みました。件数={}", categoryList.size());
+		return new CategoryCatalog(categoryList, PrecompressedBody.of(json), createETag(json), ids);
+	}
+
+	/**
+	 * シリアライズ済みのJSONから強いETagを生成します。
+	 *
+	 * @param json シリアライズ済みのJSON
+	 * @return ダブルクォートで囲まれたETag
+	 */
+	private String createETag(byte[] json) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+			return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+		} catch(NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256が利用できません。", e);
+		}
+	}
+
+	/**
+	 * シリアライズ済みのカテゴリーリストとそのETagです。
+	 *
+	 * @param json シリアライズ済みのJSONと、それをgzipで圧縮したもの
+	 * @param eTag ダブルクォートで囲まれた強いETag
+	 */
+	public record SerializedCategories(PrecompressedBody json, String eTag) {
+	}
+
+	/**
+	 * カテゴリーリスト、シリアライズ済みのJSON（gzipで圧縮したものを含む）、ETag、カテゴリーIDの集合を保持する不変のカタログです。
+	 */
+	private record CategoryCatalog(List<CategoryResponse> categories, PrecompressedBody json, String eTag, Set<Integer> ids) {
 	}
 }
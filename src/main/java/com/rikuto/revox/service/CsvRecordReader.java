@@ -0,0 +1,121 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.exception.InvalidRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180形式のCSVを1レコードずつ読み込むリーダーです。
+ * ダブルクォートで囲まれたフィールド内のカンマ、改行、エスケープされたダブルクォートに対応します。
+ * 入力全体をメモリに保持せず、呼び出しのたびに次のレコードの分だけ読み進めます。
+ * ダブルクォートが閉じられていない場合などに入力の残りすべてを1つのフィールドとして保持しないよう、
+ * 1レコードの文字数が上限を超えた時点で読み込みを中止します。
+ */
+class CsvRecordReader {
+
+	private static final int END_OF_STREAM = -1;
+
+	private final Reader reader;
+
+	private final int maxRecordLength;
+
+	private int lineNumber = 1;
+
+	private int recordLineNumber;
+
+	private int pushedBack = END_OF_STREAM;
+
+	CsvRecordReader(Reader reader) {
+		this(reader, Integer.MAX_VALUE);
+	}
+
+	CsvRecordReader(Reader reader, int maxRecordLength) {
+		this.reader = reader;
+		this.maxRecordLength = maxRecordLength;
+	}
+
+	/**
+	 * 次のレコードを読み込みます。
+	 *
+	 * @return フィールドのList（入力の終端に達した場合はnull）
+	 * @throws IOException             読み込みに失敗した場合
+	 * @throws InvalidRequestException ダブルクォートが閉じられていない場合、またはレコードの文字数が上限を超えた場合
+	 */
+	List<String> readRecord() throws IOException {
+		recordLineNumber = lineNumber;
+		int c = read();
+		if(c == END_OF_STREAM) {
+			return null;
+		}
+
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		int recordLength = 0;
+		while(true) {
+			if(c != END_OF_STREAM && ++recordLength > maxRecordLength) {
+				throw new InvalidRequestException(recordLineNumber + "行目のレコードの文字数が上限の" + maxRecordLength + "文字を超えています。");
+			}
+			if(quoted) {
+				if(c == END_OF_STREAM) {
+					throw new InvalidRequestException(recordLineNumber + "行目のダブルクォートが閉じられていません。");
+				}
+				if(c == '"') {
+					int next = read();
+					if(next == '"') {
+						field.append('"');
+					} else {
+						quoted = false;
+						pushedBack = next;
+					}
+				} else {
+					if(c == '\n') {
+						lineNumber++;
+					}
+					field.append((char) c);
+				}
+			} else if(c == '"' && field.isEmpty()) {
+				quoted = true;
+			} else if(c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if(c == '\r' || c == '\n' || c == END_OF_STREAM) {
+				if(c == '\r') {
+					int next = read();
+					if(next != '\n') {
+						pushedBack = next;
+					}
+				}
+				if(c != END_OF_STREAM) {
+					lineNumber++;
+				}
+				fields.add(field.toString());
+				return fields;
+			} else {
+				field.append((char) c);
+			}
+			c = read();
+		}
+	}
+
+	/**
+	 * 直前に読み込んだレコードの開始行の行番号を取得します。
+	 *
+	 * @return 1から始まる行番号
+	 */
+	int getRecordLineNumber() {
+		return recordLineNumber;
+	}
+
+	private int read() throws IOException {
+		if(pushedBack != END_OF_STREAM) {
+			int c = pushedBack;
+			pushedBack = END_OF_STREAM;
+			return c;
+		}
+		return reader.read();
+	}
+}
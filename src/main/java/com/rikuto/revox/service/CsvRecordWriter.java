@@ -0,0 +1,59 @@
+package com.rikuto.revox.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * RFC 4180形式のCSVを1レコードずつ書き込むライターです。
+ * カンマ、ダブルクォート、改行を含むフィールドはダブルクォートで囲み、フィールド内のダブルクォートはエスケープします。
+ * CsvRecordReaderで読み込める形式で出力します。
+ */
+class CsvRecordWriter {
+
+	private static final String RECORD_SEPARATOR = "\r\n";
+
+	private final Writer writer;
+
+	CsvRecordWriter(Writer writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * 1レコードを書き込みます。
+	 * nullのフィールドは空文字として書き込みます。
+	 *
+	 * @param fields フィールドのList
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	void writeRecord(List<?> fields) throws IOException {
+		for(int i = 0; i < fields.size(); i++) {
+			if(i > 0) {
+				writer.write(',');
+			}
+			writeField(fields.get(i) == null ? "" : fields.get(i).toString());
+		}
+		writer.write(RECORD_SEPARATOR);
+	}
+
+	private void writeField(String field) throws IOException {
+		if(! needsQuoting(field)) {
+			writer.write(field);
+			return;
+		}
+
+		writer.write('"');
+		writer.write(field.replace("\"", "\"\""));
+		writer.write('"');
+	}
+
+	private boolean needsQuoting(String field) {
+		for(int i = 0; i < field.length(); i++) {
+			char c = field.charAt(i);
+			if(c == ',' || c == '"' || c == '\r' || c == '\n') {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,140 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.bike.BikeResponse;
+import com.rikuto.revox.dto.dashboard.CategoryTaskCountResponse;
+import com.rikuto.revox.dto.dashboard.DashboardResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.mapper.AiMapper;
+import com.rikuto.revox.mapper.BikeMapper;
+import com.rikuto.revox.mapper.MaintenanceTaskMapper;
+import com.rikuto.revox.repository.AiRepository;
+import com.rikuto.revox.repository.BikeRepository;
+import com.rikuto.revox.repository.MaintenanceTaskRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * ホーム画面のダッシュボードに関するビジネスロジックを処理するサービスクラスです。
+ * バイク、バイクごとの最新整備タスク、カテゴリーごとの件数、最近のAI質問をそれぞれ1回のクエリで取得し、
+ * 互いに依存しないため別スレッドで並行して実行します。
+ * <p>
+ * 並行して実行するクエリはそれぞれDBコネクションを1つ使用するため、1リクエストで最大4つのコネクションを使用します。
+ * アプリケーション全体で同時に実行するクエリの数をrevox.dashboard.max-concurrent-queriesで制限し、
+ * 同時にダッシュボードを開くユーザーが増えてもコネクションプールを使い切らないようにします。
+ * この値はコネクションプールの最大数（spring.datasource.hikari.maximum-pool-size）より小さくし、
+ * 他のリクエストが使用するコネクションを残してください。
+ */
+@Service
+public class DashboardService {
+
+	/**
+	 * バイクごとに取得する最新の整備タスクの件数です。
+	 */
+	static final int LATEST_TASKS_PER_BIKE = 3;
+
+	private final BikeRepository bikeRepository;
+	private final MaintenanceTaskRepository maintenanceTaskRepository;
+	private final AiRepository aiRepository;
+
+	private final BikeMapper bikeMapper;
+	private final MaintenanceTaskMapper maintenanceTaskMapper;
+	private final AiMapper aiMapper;
+
+	private final TransactionTemplate readOnlyTransaction;
+	private final Executor taskExecutor;
+	private final Semaphore queryPermits;
+
+	public DashboardService(BikeRepository bikeRepository,
+	                        MaintenanceTaskRepository maintenanceTaskRepository,
+	                        AiRepository aiRepository,
+	                        BikeMapper bikeMapper,
+	                        MaintenanceTaskMapper maintenanceTaskMapper,
+	                        AiMapper aiMapper,
+	                        PlatformTransactionManager transactionManager,
+	                        @Qualifier("applicationTaskExecutor") Executor taskExecutor,
+	                        @Value("${revox.dashboard.max-concurrent-queries:4}") int maxConcurrentQueries) {
+		this.bikeRepository = bikeRepository;
+		this.maintenanceTaskRepository = maintenanceTaskRepository;
+		this.aiRepository = aiRepository;
+		this.bikeMapper = bikeMapper;
+		this.maintenanceTaskMapper = maintenanceTaskMapper;
+		this.aiMapper = aiMapper;
+		this.taskExecutor = taskExecutor;
+		this.queryPermits = new Semaphore(maxConcurrentQueries);
+
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	/**
+	 * ユーザーIDに紐づくダッシュボードの情報を取得します。
+	 * 各クエリは個別の読み取り専用トランザクションで並行して実行されます。
+	 * アプリケーション全体で同時に実行中のクエリが上限に達している場合は、空きが出るまで待機してから実行します。
+	 *
+	 * @param userId ユーザーID
+	 * @return ダッシュボードの情報
+	 */
+	public DashboardResponse getDashboard(Integer userId) {
+		CompletableFuture<List<BikeResponse>> bikes = supplyInReadOnlyTransaction(() ->
+				bikeMapper.toResponseList(bikeRepository.findByUserIdAndIsDeletedFalse(userId)));
+
+		CompletableFuture<List<MaintenanceTaskResponse>> latestMaintenanceTasks = supplyInReadOnlyTransaction(() ->
+				maintenanceTaskMapper.toResponseList(
+						maintenanceTaskRepository.findLatestPerBikeByUserId(userId, LATEST_TASKS_PER_BIKE)));
+
+		CompletableFuture<List<CategoryTaskCountResponse>> categoryTaskCounts = supplyInReadOnlyTransaction(() ->
+				maintenanceTaskRepository.countByCategoryForUserId(userId));
+
+		CompletableFuture<List<AiQuestionResponse>> recentAiQuestions = supplyInReadOnlyTransaction(() ->
+				aiRepository.findTop5ByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId).stream()
+						.map(aiMapper::toResponse)
+						.toList());
+
+		try {
+			CompletableFuture.allOf(bikes, latestMaintenanceTasks, categoryTaskCounts, recentAiQuestions).join();
+		} catch(CompletionException e) {
+			if(e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+
+		return DashboardResponse.builder()
+				.bikes(bikes.join())
+				.latestMaintenanceTasks(latestMaintenanceTasks.join())
+				.categoryTaskCounts(categoryTaskCounts.join())
+				.recentAiQuestions(recentAiQuestions.join())
+				.build();
+	}
+
+	private <T> CompletableFuture<T> supplyInReadOnlyTransaction(Supplier<T> query) {
+		return CompletableFuture.supplyAsync(() -> {
+			acquireQueryPermit();
+			try {
+				return readOnlyTransaction.execute(status -> query.get());
+			} finally {
+				queryPermits.release();
+			}
+		}, taskExecutor);
+	}
+
+	private void acquireQueryPermit() {
+		try {
+			queryPermits.acquire();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("ダッシュボードのクエリの実行待ちが中断されました。", e);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 履歴のエクスポートで出力する形式です。
+ */
+public enum ExportFormat {
+
+	/**
+	 * 1行に1件のJSONを記述するNDJSON形式です。
+	 */
+	NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+
+	/**
+	 * 1行目にヘッダー行を持つRFC 4180形式のCSVです。
+	 */
+	CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+	private final String fileExtension;
+
+	private final MediaType mediaType;
+
+	ExportFormat(String fileExtension, MediaType mediaType) {
+		this.fileExtension = fileExtension;
+		this.mediaType = mediaType;
+	}
+
+	public String getFileExtension() {
+		return fileExtension;
+	}
+
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+
+	/**
+	 * リクエストで指定された形式の名前から出力形式を取得します。
+	 *
+	 * @param value 形式の名前（ndjsonまたはcsv、大文字小文字は区別しません）
+	 * @return 出力形式
+	 * @throws InvalidRequestException 対応していない形式の場合
+	 */
+	public static ExportFormat from(String value) {
+		for(ExportFormat format : values()) {
+			if(format.fileExtension.equalsIgnoreCase(value)) {
+				return format;
+			}
+		}
+		throw new InvalidRequestException("対応していないエクスポート形式です: " + value);
+	}
+}
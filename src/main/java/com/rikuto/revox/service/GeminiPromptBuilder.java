@@ -0,0 +1,54 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.dto.ai.AiCreatePrompt;
+
+/**
+ * Gemini AIへ送信するプロンプトを生成するクラスです。
+ * Gemini APIのクライアントに依存せずに生成処理を検証、計測できるよう、GeminiServiceから分離しています。
+ */
+public final class GeminiPromptBuilder {
+
+	private static final String PROMPT_TEMPLATE = """
+			あなたは %s %s (%s年式) の整備士です。
+			以下の質問に回答してください。質問が作業手順に関するものであれば、以下の形式で回答してください。
+			それ以外の質問（例：部品の型番のみ）であれば、質問に直接的に、簡潔に回答してください。
+			
+			## 作業手順に関する回答形式
+			【必要な工具・部品】
+			- 工具の名称・サイズ（例: ソケットレンチ 14mm）
+			- 部品の品番・規格（例: エンジンオイル 10W-40 SN以上）
+			
+			【作業手順（簡潔に）】
+			1. 手順1
+			2. 手順2
+			
+			【注意事項(安全関連のみ)】
+			- 注意1
+			- 注意2
+			
+			【トルク値】
+			- 〇〇: 〇〇 Nm
+			
+			## 質問
+			%s
+			
+			※不明点は「車両の仕様書を確認してください」と明記し、推測は避けること。
+			""";
+
+	private GeminiPromptBuilder() {
+	}
+
+	/**
+	 * ユーザーからの質問と車両情報をもとに、整備士としての回答形式を指示するプロンプトを生成します。
+	 *
+	 * @param userQuestion ユーザーからの質問と車両情報
+	 * @return 生成したプロンプト
+	 */
+	public static String build(AiCreatePrompt userQuestion) {
+		return String.format(PROMPT_TEMPLATE,
+				userQuestion.getManufacturer(),
+				userQuestion.getModelName(),
+				userQuestion.getModelYear(),
+				userQuestion.getQuestion());
+	}
+}
@@ -8,58 +8,96 @@ import com.google.genai.types.GenerateContentResponse;
 import com.google.genai.types.HttpOptions;
 import com.google.genai.types.Part;
 import com.rikuto.revox.dto.ai.AiCreatePrompt;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.Lifecycle;
 import org.springframework.stereotype.Service;
 
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 /**
  * Google Gemini AI（Gen AI SDK）との外部API連携サービス
+ * APIの呼び出しの所要時間は、結果ごとにrevox.gemini.requestsとして記録します。
+ * CRaCのチェックポイントの前にクライアントを閉じて接続を破棄し、リストア後に認証情報を読み込み直して再作成します。
  */
 @Slf4j
 @Service
-public class GeminiService {
+public class GeminiService implements Lifecycle {
 
-	private final Client client;
+	private final Callable<Client> clientFactory;
+
+	private volatile Client client;
+
+	private final MeterRegistry meterRegistry;
 
 	/**
 	 * Gemini　AIへの認証およびクライアントの初期化を行います。
+	 * gemini.base-urlが設定されている場合は、Vertex AIの代わりに指定された接続先へAPIキーで接続します。
+	 * 負荷試験でスタブサーバーに接続する場合などに使用します。
+	 *
+	 * @param meterRegistry メトリクスの登録先
+	 * @param baseUrl       接続先のURL（空の場合はVertex AI）
+	 * @param apiKey        接続先に送信するAPIキー
 	 */
-	public GeminiService() {
-		try {
-			log.info("Gemini API へアクセスします。Render が認識する環境変数を使用します。");
-
-			String projectId = Optional.ofNullable(System.getenv("GOOGLE_CLOUD_PROJECT"))
-					.orElseThrow(() -> new IllegalArgumentException("GOOGLE_CLOUD_PROJECT が見つかりません。"));
-			String location = Optional.ofNullable(System.getenv("GOOGLE_CLOUD_LOCATION"))
-					.orElseThrow(() -> new IllegalArgumentException("GOOGLE_CLOUD_LOCATION が見つかりません。"));
-			String jsonPath = Optional.ofNullable(System.getenv("GOOGLE_APPLICATION_CREDENTIALS"))
-					.orElseThrow(() -> new IllegalArgumentException("GOOGLE_APPLICATION_CREDENTIALS が見つかりません。"));
-
-			GoogleCredentials creds = GoogleCredentials
-					.fromStream(new FileInputStream(jsonPath))
-					.createScoped(List.of(
-							"https://www.googleapis.com/auth/cloud-platform"
-					));
-
-			this.client = Client.builder()
-					.project(projectId)
-					.location(location)
-					.vertexAI(true)
-					.credentials(creds)
-					.httpOptions(HttpOptions.builder().apiVersion("v1").timeout(90_000).build())
-					.build();
+	public GeminiService(MeterRegistry meterRegistry,
+	                     @Value("${gemini.base-url:}") String baseUrl,
+	                     @Value("${gemini.api-key:}") String apiKey) {
+		this.meterRegistry = meterRegistry;
+		this.clientFactory = baseUrl.isBlank() ? GeminiService::createVertexAiClient : () -> createClient(baseUrl, apiKey);
+		this.client = openClient();
+	}
 
+	private Client openClient() {
+		try {
+			Client newClient = clientFactory.call();
 			log.info("Gemini Client を初期化しました。");
+			return newClient;
 
 		} catch (Exception e) {
 			throw new RuntimeException("クライアントの初期化に失敗しました。", e);
 		}
 	}
 
+	private static Client createVertexAiClient() throws IOException {
+		log.info("Gemini API へアクセスします。Render が認識する環境変数を使用します。");
+
+		String projectId = Optional.ofNullable(System.getenv("GOOGLE_CLOUD_PROJECT"))
+				.orElseThrow(() -> new IllegalArgumentException("GOOGLE_CLOUD_PROJECT が見つかりません。"));
+		String location = Optional.ofNullable(System.getenv("GOOGLE_CLOUD_LOCATION"))
+				.orElseThrow(() -> new IllegalArgumentException("GOOGLE_CLOUD_LOCATION が見つかりません。"));
+		String jsonPath = Optional.ofNullable(System.getenv("GOOGLE_APPLICATION_CREDENTIALS"))
+				.orElseThrow(() -> new IllegalArgumentException("GOOGLE_APPLICATION_CREDENTIALS が見つかりません。"));
+
+		GoogleCredentials creds = GoogleCredentials
+				.fromStream(new FileInputStream(jsonPath))
+				.createScoped(List.of(
+						"https://www.googleapis.com/auth/cloud-platform"
+				));
+
+		return Client.builder()
+				.project(projectId)
+				.location(location)
+				.vertexAI(true)
+				.credentials(creds)
+				.httpOptions(HttpOptions.builder().apiVersion("v1").timeout(90_000).build())
+				.build();
+	}
 
+	private static Client createClient(String baseUrl, String apiKey) {
+		log.info("Gemini API へアクセスします。接続先: {}", baseUrl);
+
+		return Client.builder()
+				.vertexAI(false)
+				.apiKey(apiKey)
+				.httpOptions(HttpOptions.builder().baseUrl(baseUrl).apiVersion("v1").timeout(90_000).build())
+				.build();
+	}
 
 	/**
 	 * AIからの回答を生成するためのビジネスロジックです。
@@ -71,38 +109,7 @@ public class GeminiService {
 	public String generateContent(AiCreatePrompt userQuestion) {
 		try {
 			log.info("質問内容の生成を開始します。");
-			String prompt = String.format(
-					"""
-							あなたは %s %s (%s年式) の整備士です。
-							以下の質問に回答してください。質問が作業手順に関するものであれば、以下の形式で回答してください。
-							それ以外の質問（例：部品の型番のみ）であれば、質問に直接的に、簡潔に回答してください。
-							
-							## 作業手順に関する回答形式
-							【必要な工具・部品】
-							- 工具の名称・サイズ（例: ソケットレンチ 14mm）
-							- 部品の品番・規格（例: エンジンオイル 10W-40 SN以上）
-							
-							【作業手順（簡潔に）】
-							1. 手順1
-							2. 手順2
-							
-							【注意事項(安全関連のみ)】
-							- 注意1
-							- 注意2
-							
-							【トルク値】
-							- 〇〇: 〇〇 Nm
-							
-							## 質問
-							%s
-							
-							※不明点は「車両の仕様書を確認してください」と明記し、推測は避けること。
-							""",
-					userQuestion.getManufacturer(),
-					userQuestion.getModelName(),
-					userQuestion.getModelYear(),
-					userQuestion.getQuestion()
-			);
+			String prompt = GeminiPromptBuilder.build(userQuestion);
 
 			Content content = Content.builder()
 					.role("user")
@@ -121,16 +128,30 @@ public class GeminiService {
 					.build();
 			log.info("詳細の設定が完了しました。");
 
-			GenerateContentResponse createAnswer = client.models.generateContent(
-					"gemini-2.5-flash",
-					List.of(content),
-					contentParameter);
+			Client currentClient = client;
+			if(currentClient == null) {
+				throw new IllegalStateException("Gemini Client が閉じられています。");
+			}
+
+			Timer.Sample sample = Timer.start(meterRegistry);
+			String answer;
+			try {
+				GenerateContentResponse createAnswer = currentClient.models.generateContent(
+						"gemini-2.5-flash",
+						List.of(content),
+						contentParameter);
+				answer = createAnswer.text();
+			} catch(Exception e) {
+				sample.stop(requestTimer("error"));
+				throw e;
+			}
 
-			String answer = createAnswer.text();
 			if(answer != null && ! answer.isEmpty()) {
+				sample.stop(requestTimer("success"));
 				log.info("回答を正常に取得しました。");
 				return answer;
 			} else {
+				sample.stop(requestTimer("empty"));
 				log.warn("Geminiからnullまたは空の回答が返されました。");
 				return "回答を取得できませんでした。";
 			}
@@ -140,4 +161,46 @@ public class GeminiService {
 			return "技術的な問題により回答できませんでした。";
 		}
 	}
+
+	/**
+	 * Gemini APIの呼び出しの所要時間を結果ごとに記録するタイマーを取得します。
+	 *
+	 * @param outcome 呼び出しの結果（success、empty、error）
+	 * @return タイマー
+	 */
+	private Timer requestTimer(String outcome) {
+		return Timer.builder("revox.gemini.requests")
+				.description("Gemini APIの呼び出しの所要時間")
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * CRaCのリストア後にクライアントを再作成します。
+	 * 起動時はコンストラクターで作成済みのため、何もしません。
+	 */
+	@Override
+	public void start() {
+		if(client == null) {
+			client = openClient();
+		}
+	}
+
+	/**
+	 * CRaCのチェックポイントの前やアプリケーションの終了時に、クライアントを閉じて接続を破棄します。
+	 */
+	@Override
+	public void stop() {
+		Client currentClient = client;
+		client = null;
+		if(currentClient != null) {
+			currentClient.close();
+			log.info("Gemini Client を閉じました。");
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return client != null;
+	}
 }
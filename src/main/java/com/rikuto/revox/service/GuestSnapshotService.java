@@ -0,0 +1,147 @@
+package com.rikuto.revox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rikuto.revox.compression.PrecompressedBody;
+import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.bike.BikeResponse;
+import com.rikuto.revox.dto.category.CategoryResponse;
+import com.rikuto.revox.repository.UserRepository;
+import com.rikuto.revox.security.details.ExternalAuthUserDetails;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ゲストユーザーの閲覧データをメモリ上のスナップショットとして保持するサービスクラスです。
+ * ゲストログインした全員が同じゲストアカウントを共有し、登録・更新・削除は行えないため、
+ * 起動時に一度だけDBから読み込み、シリアライズ済みのJSONとして保持します。
+ * AI質問履歴など日本語の長いテキストを含むため、JSONはgzipで圧縮したものも合わせて保持し、リクエストごとに圧縮しません。
+ */
+@Slf4j
+@Service
+public class GuestSnapshotService {
+
+	/**
+	 * ゲストユーザーのアプリケーション独自の一意なユーザーIDです。
+	 * V006のマイグレーションで登録されています。
+	 */
+	public static final String GUEST_UNIQUE_USER_ID = "guest-user";
+
+	private final UserRepository userRepository;
+
+	private final BikeService bikeService;
+	private final MaintenanceTaskService maintenanceTaskService;
+	private final AiService aiService;
+	private final CategoryService categoryService;
+	private final DashboardService dashboardService;
+
+	private final ObjectMapper objectMapper;
+
+	private volatile GuestSnapshot snapshot = GuestSnapshot.EMPTY;
+
+	public GuestSnapshotService(UserRepository userRepository,
+	                            BikeService bikeService,
+	                            MaintenanceTaskService maintenanceTaskService,
+	                            AiService aiService,
+	                            CategoryService categoryService,
+	                            DashboardService dashboardService,
+	                            ObjectMapper objectMapper) {
+		this.userRepository = userRepository;
+		this.bikeService = bikeService;
+		this.maintenanceTaskService = maintenanceTaskService;
+		this.aiService = aiService;
+		this.categoryService = categoryService;
+		this.dashboardService = dashboardService;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * ゲストユーザーのスナップショットを作成します。
+	 * 各GETエンドポイントと同じサービスを経由して取得し、パスごとにJSONへシリアライズして保持します。
+	 * 作成に失敗した場合はスナップショットを空のままとし、通常通りDBから応答します。
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadSnapshot() {
+		try {
+			log.info("ゲストユーザーのスナップショットの作成を開始します。");
+			Optional<User> guestUser = userRepository.findByUniqueUserIdAndIsDeletedFalse(GUEST_UNIQUE_USER_ID);
+			if(guestUser.isEmpty()) {
+				log.warn("ゲストユーザーが見つからないため、スナップショットを作成しません。");
+				return;
+			}
+
+			int userId = guestUser.get().getId();
+			Map<String, PrecompressedBody> responses = new HashMap<>();
+
+			List<BikeResponse> bikeList = bikeService.findBikeByUserId(userId);
+			List<CategoryResponse> categoryList = categoryService.findAllCategories();
+
+			responses.put("/api/bikes/user/" + userId, toJson(bikeList));
+			responses.put("/api/maintenance-task/user/" + userId,
+					toJson(maintenanceTaskService.findLatestMaintenanceTasksByUserId(userId)));
+			responses.put("/api/ai/user/" + userId, toJson(aiService.getAiQuestionByUserId(userId)));
+			responses.put("/api/dashboard/user/" + userId, toJson(dashboardService.getDashboard(userId)));
+
+			for(BikeResponse bike : bikeList) {
+				responses.put("/api/bikes/user/" + userId + "/bike/" + bike.getId(), toJson(bike));
+
+				responses.put("/api/maintenance-task/bike/" + bike.getId(),
+						toJson(maintenanceTaskService.findByBikeId(bike.getId(), null, null, userId)));
+
+				for(CategoryResponse category : categoryList) {
+					responses.put("/api/maintenance-task/bike/" + bike.getId() + "/category/" + category.getId(),
+							toJson(maintenanceTaskService.findByBikeIdAndCategoryId(bike.getId(), category.getId(), null, null, userId)));
+				}
+			}
+
+			this.snapshot = new GuestSnapshot(new ExternalAuthUserDetails(guestUser.get()), Map.copyOf(responses));
+			log.info("ゲストユーザーのスナップショットを作成しました。対象パス数={}", responses.size());
+		} catch(Exception e) {
+			log.warn("ゲストユーザーのスナップショットの作成に失敗しました。DBから応答します。", e);
+		}
+	}
+
+	/**
+	 * 指定されたパスに対応するシリアライズ済みのレスポンスを検索します。
+	 *
+	 * @param path コンテキストパスを除いたリクエストパス
+	 * @return シリアライズ済みのJSONと、それをgzipで圧縮したもの（スナップショットに存在しない場合はOptional.empty()）
+	 */
+	public Optional<PrecompressedBody> findResponse(String path) {
+		return Optional.ofNullable(snapshot.responses().get(path));
+	}
+
+	/**
+	 * ゲストユーザーの認証情報をスナップショットから取得します。
+	 * ゲストユーザー以外の場合やスナップショットが未作成の場合はOptional.empty()を返します。
+	 *
+	 * @param uniqueUserId アプリケーション独自の一意なユーザーID
+	 * @return ゲストユーザーのUserDetails
+	 */
+	public Optional<UserDetails> findGuestUserDetails(String uniqueUserId) {
+		if(! GUEST_UNIQUE_USER_ID.equals(uniqueUserId)) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(snapshot.userDetails());
+	}
+
+	private PrecompressedBody toJson(Object value) throws JsonProcessingException {
+		return PrecompressedBody.of(objectMapper.writeValueAsBytes(value));
+	}
+
+	/**
+	 * ゲストユーザーの認証情報とパスごとのシリアライズ済みレスポンスを保持する不変のスナップショットです。
+	 */
+	private record GuestSnapshot(UserDetails userDetails, Map<String, PrecompressedBody> responses) {
+
+		private static final GuestSnapshot EMPTY = new GuestSnapshot(null, Map.of());
+	}
+}
@@ -0,0 +1,214 @@
+package com.rikuto.revox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.repository.AiRepository;
+import com.rikuto.revox.repository.MaintenanceTaskRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * 整備タスクとAI質問履歴のエクスポートに関するビジネスロジックを処理するサービスクラスです。
+ * 履歴を一定件数ずつ作成日時とIDのキーセットページングで読み込み、読み込んだ順にレスポンスへ書き込むため、
+ * 件数に関わらずメモリ使用量は一定です。
+ * <p>
+ * 読み込みは一定件数ごとに個別の短い読み取り専用トランザクションで行い、レスポンスの書き込み中はDBコネクションを保持しません。
+ * 回線の遅いクライアントへの書き込みがspring.mvc.async.request-timeoutまで続いても、コネクションプールを占有しません。
+ * 一定件数ごとに別のトランザクションで読み込むため、エクスポート中に追加・削除された履歴は出力に含まれる場合と含まれない場合があります。
+ */
+@Service
+public class HistoryExportService {
+
+	/**
+	 * 整備タスクのCSVの列です。
+	 * 一括登録のCSVと同じ列名のため、エクスポートしたCSVをそのまま一括登録に利用できます。
+	 */
+	static final List<String> MAINTENANCE_TASK_CSV_COLUMNS =
+			List.of("id", "bikeId", "categoryId", "name", "description", "createdAt", "updatedAt");
+
+	/**
+	 * AI質問履歴のCSVの列です。
+	 */
+	static final List<String> AI_QUESTION_CSV_COLUMNS =
+			List.of("id", "bikeId", "categoryId", "question", "answer", "createdAt");
+
+	/**
+	 * 1回の読み込みで取得する件数です。
+	 */
+	static final int CHUNK_SIZE = 500;
+
+	private static final Limit CHUNK_LIMIT = Limit.of(CHUNK_SIZE);
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final MaintenanceTaskRepository maintenanceTaskRepository;
+	private final AiRepository aiRepository;
+	private final BikeOwnershipService bikeOwnershipService;
+	private final ObjectWriter ndjsonWriter;
+	private final TransactionTemplate readOnlyTransaction;
+
+	public HistoryExportService(MaintenanceTaskRepository maintenanceTaskRepository,
+	                            AiRepository aiRepository,
+	                            BikeOwnershipService bikeOwnershipService,
+	                            ObjectMapper objectMapper,
+	                            PlatformTransactionManager transactionManager) {
+		this.maintenanceTaskRepository = maintenanceTaskRepository;
+		this.aiRepository = aiRepository;
+		this.bikeOwnershipService = bikeOwnershipService;
+		this.ndjsonWriter = objectMapper.writer();
+
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	/**
+	 * ユーザーの整備タスクを作成日時の古い順に出力するレスポンスボディを生成します。
+	 * バイクの所有者の確認はこのメソッドの呼び出し時に行い、DBからの読み込みはレスポンスの書き込み時に行います。
+	 *
+	 * @param bikeId 対象のバイクID（nullの場合はユーザーのすべての整備タスク）
+	 * @param userId ユーザーID
+	 * @param format 出力形式
+	 * @return 整備タスクを書き込むレスポンスボディ
+	 * @throws com.rikuto.revox.exception.ResourceNotFoundException バイクがユーザーの所有でない場合
+	 */
+	public StreamingResponseBody exportMaintenanceTasks(Integer bikeId, Integer userId, ExportFormat format) {
+		if(bikeId != null) {
+			bikeOwnershipService.verifyOwnership(bikeId, userId);
+		}
+
+		Function<MaintenanceTaskResponse, List<MaintenanceTaskResponse>> nextChunk = last -> {
+			if(bikeId == null) {
+				return last == null
+						? maintenanceTaskRepository.findExportFirstChunkByUserId(userId, CHUNK_LIMIT)
+						: maintenanceTaskRepository.findExportChunkByUserIdAfter(userId, last.getCreatedAt(), last.getId(), CHUNK_LIMIT);
+			}
+			return last == null
+					? maintenanceTaskRepository.findExportFirstChunkByBikeId(bikeId, CHUNK_LIMIT)
+					: maintenanceTaskRepository.findExportChunkByBikeIdAfter(bikeId, last.getCreatedAt(), last.getId(), CHUNK_LIMIT);
+		};
+
+		return outputStream -> write(new ChunkIterator<>(nextChunk), format, MAINTENANCE_TASK_CSV_COLUMNS, task -> Arrays.asList(
+				task.getId(), task.getBikeId(), task.getCategoryId(), task.getName(), task.getDescription(),
+				task.getCreatedAt(), task.getUpdatedAt()), outputStream);
+	}
+
+	/**
+	 * ユーザーのAI質問履歴を作成日時の古い順に出力するレスポンスボディを生成します。
+	 * バイクの所有者の確認はこのメソッドの呼び出し時に行い、DBからの読み込みはレスポンスの書き込み時に行います。
+	 *
+	 * @param bikeId 対象のバイクID（nullの場合はユーザーのすべてのAI質問履歴）
+	 * @param userId ユーザーID
+	 * @param format 出力形式
+	 * @return AI質問履歴を書き込むレスポンスボディ
+	 * @throws com.rikuto.revox.exception.ResourceNotFoundException バイクがユーザーの所有でない場合
+	 */
+	public StreamingResponseBody exportAiQuestions(Integer bikeId, Integer userId, ExportFormat format) {
+		if(bikeId != null) {
+			bikeOwnershipService.verifyOwnership(bikeId, userId);
+		}
+
+		Function<AiQuestionResponse, List<AiQuestionResponse>> nextChunk = last -> {
+			if(bikeId == null) {
+				return last == null
+						? aiRepository.findExportFirstChunkByUserId(userId, CHUNK_LIMIT)
+						: aiRepository.findExportChunkByUserIdAfter(userId, last.getCreatedAt(), last.getId(), CHUNK_LIMIT);
+			}
+			return last == null
+					? aiRepository.findExportFirstChunkByUserIdAndBikeId(userId, bikeId, CHUNK_LIMIT)
+					: aiRepository.findExportChunkByUserIdAndBikeIdAfter(userId, bikeId, last.getCreatedAt(), last.getId(), CHUNK_LIMIT);
+		};
+
+		return outputStream -> write(new ChunkIterator<>(nextChunk), format, AI_QUESTION_CSV_COLUMNS, question -> Arrays.asList(
+				question.getId(), question.getBikeId(), question.getCategoryId(), question.getQuestion(),
+				question.getAnswer(), question.getCreatedAt()), outputStream);
+	}
+
+	private <T> void write(Iterator<T> records, ExportFormat format, List<String> csvColumns,
+	                       Function<T, List<?>> toCsvRecord, OutputStream outputStream) throws IOException {
+		if(format == ExportFormat.CSV) {
+			writeCsv(records, csvColumns, toCsvRecord, outputStream);
+		} else {
+			writeNdjson(records, outputStream);
+		}
+	}
+
+	private <T> void writeNdjson(Iterator<T> records, OutputStream outputStream) throws IOException {
+		OutputStream bufferedOutput = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+		while(records.hasNext()) {
+			bufferedOutput.write(ndjsonWriter.writeValueAsBytes(records.next()));
+			bufferedOutput.write('\n');
+		}
+		bufferedOutput.flush();
+	}
+
+	private <T> void writeCsv(Iterator<T> records, List<String> csvColumns,
+	                          Function<T, List<?>> toCsvRecord, OutputStream outputStream) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+		CsvRecordWriter csvWriter = new CsvRecordWriter(writer);
+		csvWriter.writeRecord(csvColumns);
+		while(records.hasNext()) {
+			csvWriter.writeRecord(toCsvRecord.apply(records.next()));
+		}
+		writer.flush();
+	}
+
+	/**
+	 * 履歴を一定件数ずつ読み込みながら順に返すIteratorです。
+	 * 読み込みのたびに読み取り専用トランザクションを開始し、読み込み後すぐに終了します。
+	 *
+	 * @param <T> 履歴のレスポンスDTO
+	 */
+	private class ChunkIterator<T> implements Iterator<T> {
+
+		/**
+		 * 前回取得した最後の履歴（最初の読み込みではnull）から、次の一定件数を読み込む関数です。
+		 */
+		private final Function<T, List<T>> nextChunk;
+
+		private Iterator<T> chunk = Collections.emptyIterator();
+		private T last;
+		private boolean exhausted;
+
+		private ChunkIterator(Function<T, List<T>> nextChunk) {
+			this.nextChunk = nextChunk;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if(! chunk.hasNext() && ! exhausted) {
+				List<T> records = readOnlyTransaction.execute(status -> nextChunk.apply(last));
+				exhausted = records.size() < CHUNK_SIZE;
+				chunk = records.iterator();
+			}
+			return chunk.hasNext();
+		}
+
+		@Override
+		public T next() {
+			if(! hasNext()) {
+				throw new NoSuchElementException();
+			}
+			last = chunk.next();
+			return last;
+		}
+	}
+}
@@ -0,0 +1,332 @@
+package com.rikuto.revox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rikuto.revox.dto.category.CategoryResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportError;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportRow;
+import com.rikuto.revox.exception.InvalidRequestException;
+import com.rikuto.revox.repository.BikeRepository;
+import com.rikuto.revox.repository.MaintenanceTaskBatchRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 整備タスクの一括インポートを処理するサービスクラスです。
+ * アップロードされたNDJSONまたはCSVを1行ずつ読み込みながら検証し、一定件数ごとにJDBCのバッチで登録します。
+ * 入力全体をメモリに保持しないため、件数が多い場合でも使用メモリは一定です。
+ * 検証に失敗した行は登録せず、行番号とエラーメッセージを結果として返します。
+ * <p>
+ * アップロードの読み込みはクライアントの送信速度に依存するため、読み込みと検証はトランザクションの外で行い、
+ * バッチの登録ごとに短いトランザクションを開始します。アップロード中にDBコネクションを保持し続けないため、
+ * 件数が多い場合や回線が遅い場合でもコネクションプールを占有しません。
+ * 途中で読み込みに失敗した場合は、それまでに登録したバッチを取り消さずに読み込みを中断し、
+ * 失敗した行のエラーと登録済みの件数を通常の結果として返します。
+ */
+@Slf4j
+@Service
+public class MaintenanceTaskImportService {
+
+	/**
+	 * 1回のバッチで登録する件数です。
+	 */
+	static final int BATCH_SIZE = 1000;
+
+	/**
+	 * 結果に含めるエラーの最大件数です。
+	 */
+	static final int MAX_REPORTED_ERRORS = 100;
+
+	/**
+	 * NDJSONの1行、またはCSVの1レコードの最大の文字数です。
+	 * 上限の文字数の詳細内容とタスク名をすべてJSONのUnicodeエスケープ（1文字あたり6文字）で記述した場合に、他の項目の分を加えた値です。
+	 */
+	static final int MAX_RECORD_LENGTH = 32_000;
+
+	private static final List<String> REQUIRED_CSV_COLUMNS = List.of("bikeId", "categoryId", "name", "description");
+
+	private final MaintenanceTaskBatchRepository maintenanceTaskBatchRepository;
+	private final BikeRepository bikeRepository;
+
+	private final CategoryService categoryService;
+
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+
+	private final TransactionTemplate batchTransaction;
+	private final TransactionTemplate readOnlyTransaction;
+
+	public MaintenanceTaskImportService(MaintenanceTaskBatchRepository maintenanceTaskBatchRepository,
+	                                    BikeRepository bikeRepository,
+	                                    CategoryService categoryService,
+	                                    ObjectMapper objectMapper,
+	                                    Validator validator,
+	                                    PlatformTransactionManager transactionManager) {
+		this.maintenanceTaskBatchRepository = maintenanceTaskBatchRepository;
+		this.bikeRepository = bikeRepository;
+		this.categoryService = categoryService;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+
+		this.batchTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	// CREATE
+	//------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * 1行に1件の整備タスクをJSONで記述したNDJSONを読み込み、整備タスクを一括登録します。
+	 * 空行は読み飛ばします。文字数が上限を超えた行は、行末まで読み飛ばしてエラーとします。
+	 *
+	 * @param inputStream NDJSONの入力ストリーム
+	 * @param userId      操作を行うユーザーID
+	 * @return インポートの結果
+	 */
+	public MaintenanceTaskImportResponse importNdjson(InputStream inputStream, Integer userId) {
+		log.info("NDJSONによる整備タスクの一括インポートを開始します。");
+		ImportBatch batch = newBatch(userId);
+
+		BoundedLineReader reader = new BoundedLineReader(
+				new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), MAX_RECORD_LENGTH);
+		int lineNumber = 0;
+		try {
+			String line;
+			while((line = reader.readLine()) != null) {
+				lineNumber++;
+				if(reader.isLineTooLong()) {
+					batch.reject(lineNumber, "1行の文字数が上限の" + MAX_RECORD_LENGTH + "文字を超えています。");
+					continue;
+				}
+				if(line.isBlank()) {
+					continue;
+				}
+				try {
+					batch.add(lineNumber, objectMapper.readValue(line, MaintenanceTaskImportRow.class));
+				} catch(JsonProcessingException e) {
+					batch.reject(lineNumber, "JSONの形式が不正です。");
+				}
+			}
+		} catch(IOException e) {
+			batch.abort(lineNumber + 1, "入力の読み込みに失敗しました。", e);
+		}
+
+		return batch.finish();
+	}
+
+	/**
+	 * ヘッダー行を持つCSVを読み込み、整備タスクを一括登録します。
+	 * ヘッダー行にはbikeId、categoryId、name、descriptionの列が必須で、createdAtの列は任意です。
+	 * 列の順序は問いません。
+	 * 1レコードの文字数が上限を超えた場合は、ダブルクォートが閉じられていない場合と同様に読み込みを中断します。
+	 *
+	 * @param inputStream CSVの入力ストリーム
+	 * @param userId      操作を行うユーザーID
+	 * @return インポートの結果
+	 * @throws IOException             ヘッダー行の読み込みに失敗した場合
+	 * @throws InvalidRequestException ヘッダー行に必須の列がない場合、またはヘッダー行のCSVの形式が不正な場合
+	 */
+	public MaintenanceTaskImportResponse importCsv(InputStream inputStream, Integer userId) throws IOException {
+		log.info("CSVによる整備タスクの一括インポートを開始します。");
+		CsvRecordReader reader = new CsvRecordReader(
+				new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)), MAX_RECORD_LENGTH);
+		Map<String, Integer> columnIndexes = readCsvHeader(reader.readRecord());
+		ImportBatch batch = newBatch(userId);
+
+		try {
+			List<String> record;
+			while((record = reader.readRecord()) != null) {
+				int lineNumber = reader.getRecordLineNumber();
+				if(record.size() == 1 && record.getFirst().isBlank()) {
+					continue;
+				}
+				try {
+					batch.add(lineNumber, toImportRow(record, columnIndexes));
+				} catch(IllegalArgumentException | DateTimeParseException e) {
+					batch.reject(lineNumber, "数値または日時の形式が不正です。");
+				}
+			}
+		} catch(InvalidRequestException e) {
+			batch.abort(reader.getRecordLineNumber(), e.getMessage(), e);
+		} catch(IOException e) {
+			batch.abort(reader.getRecordLineNumber(), "入力の読み込みに失敗しました。", e);
+		}
+
+		return batch.finish();
+	}
+
+	/**
+	 * ユーザーが所有するバイクと全カテゴリーのIDを読み込み、インポートの状態を初期化します。
+	 * 各行の存在確認はこのIDの集合に対して行うため、行ごとのDBアクセスは発生しません。
+	 */
+	private ImportBatch newBatch(Integer userId) {
+		Set<Integer> bikeIds = readOnlyTransaction.execute(status -> bikeRepository.findIdsByUserIdAndIsDeletedFalse(userId));
+		Set<Integer> categoryIds = categoryService.findAllCategories().stream()
+				.map(CategoryResponse::getId)
+				.collect(Collectors.toSet());
+		return new ImportBatch(bikeIds, categoryIds);
+	}
+
+	private Map<String, Integer> readCsvHeader(List<String> header) {
+		if(header == null) {
+			throw new InvalidRequestException("CSVのヘッダー行がありません。");
+		}
+
+		Map<String, Integer> columnIndexes = new HashMap<>();
+		for(int i = 0; i < header.size(); i++) {
+			columnIndexes.put(header.get(i).strip(), i);
+		}
+		for(String column : REQUIRED_CSV_COLUMNS) {
+			if(! columnIndexes.containsKey(column)) {
+				throw new InvalidRequestException("CSVのヘッダー行に" + column + "の列がありません。");
+			}
+		}
+		return columnIndexes;
+	}
+
+	private MaintenanceTaskImportRow toImportRow(List<String> record, Map<String, Integer> columnIndexes) {
+		String createdAt = field(record, columnIndexes, "createdAt");
+		return MaintenanceTaskImportRow.builder()
+				.bikeId(toInteger(field(record, columnIndexes, "bikeId")))
+				.categoryId(toInteger(field(record, columnIndexes, "categoryId")))
+				.name(field(record, columnIndexes, "name"))
+				.description(field(record, columnIndexes, "description"))
+				.createdAt(createdAt == null || createdAt.isBlank() ? null : LocalDateTime.parse(createdAt.strip()))
+				.build();
+	}
+
+	private String field(List<String> record, Map<String, Integer> columnIndexes, String column) {
+		Integer index = columnIndexes.get(column);
+		if(index == null || index >= record.size()) {
+			return null;
+		}
+		return record.get(index);
+	}
+
+	private Integer toInteger(String value) {
+		if(value == null || value.isBlank()) {
+			return null;
+		}
+		return Integer.valueOf(value.strip());
+	}
+
+	/**
+	 * インポート中の状態を保持し、検証を通過した行を一定件数ごとに登録します。
+	 */
+	private class ImportBatch {
+
+		private final Set<Integer> bikeIds;
+		private final Set<Integer> categoryIds;
+
+		private final List<MaintenanceTaskImportRow> pendingRows = new ArrayList<>(BATCH_SIZE);
+		private final List<MaintenanceTaskImportError> errors = new ArrayList<>();
+
+		private int importedCount;
+		private int errorCount;
+
+		private ImportBatch(Set<Integer> bikeIds, Set<Integer> categoryIds) {
+			this.bikeIds = bikeIds;
+			this.categoryIds = categoryIds;
+		}
+
+		/**
+		 * 行を検証し、問題がなければ登録待ちに追加します。
+		 * 登録待ちがバッチの件数に達した場合はまとめて登録します。
+		 */
+		private void add(int lineNumber, MaintenanceTaskImportRow row) {
+			String error = validate(row);
+			if(error != null) {
+				reject(lineNumber, error);
+				return;
+			}
+
+			pendingRows.add(row);
+			if(pendingRows.size() >= BATCH_SIZE) {
+				flush();
+			}
+		}
+
+		private String validate(MaintenanceTaskImportRow row) {
+			Set<ConstraintViolation<MaintenanceTaskImportRow>> violations = validator.validate(row);
+			if(! violations.isEmpty()) {
+				return violations.stream()
+						.map(ConstraintViolation::getMessage)
+						.sorted()
+						.collect(Collectors.joining(" "));
+			}
+			if(! bikeIds.contains(row.getBikeId())) {
+				return "バイクID " + row.getBikeId() + " が見つかりません。";
+			}
+			if(! categoryIds.contains(row.getCategoryId())) {
+				return "カテゴリーID " + row.getCategoryId() + " が見つかりません。";
+			}
+			return null;
+		}
+
+		private void reject(int lineNumber, String message) {
+			errorCount++;
+			if(errors.size() < MAX_REPORTED_ERRORS) {
+				errors.add(MaintenanceTaskImportError.builder().line(lineNumber).message(message).build());
+			}
+		}
+
+		/**
+		 * 読み込みに失敗した行をエラーとして記録します。
+		 * 以降の行は読み込めないため、呼び出し元は読み込みを中断してそれまでの結果を返します。
+		 * インポートが中断されたことを必ず伝えるため、このエラーは上限件数に関わらず結果に含めます。
+		 */
+		private void abort(int lineNumber, String message, Exception cause) {
+			log.warn("{}行目の読み込みに失敗したため、整備タスクの一括インポートを中断します。", lineNumber, cause);
+			errorCount++;
+			errors.add(MaintenanceTaskImportError.builder()
+					.line(lineNumber)
+					.message(message + "この行以降は登録されていません。")
+					.build());
+		}
+
+		/**
+		 * 登録待ちの行を1つのトランザクションで登録します。
+		 */
+		private void flush() {
+			if(pendingRows.isEmpty()) {
+				return;
+			}
+			batchTransaction.executeWithoutResult(status -> maintenanceTaskBatchRepository.insertAll(pendingRows));
+			importedCount += pendingRows.size();
+			pendingRows.clear();
+		}
+
+		/**
+		 * 残りの登録待ちを登録し、インポートの結果を返します。
+		 */
+		private MaintenanceTaskImportResponse finish() {
+			flush();
+			log.info("整備タスクの一括インポートが完了しました。登録件数={}, エラー件数={}", importedCount, errorCount);
+			return MaintenanceTaskImportResponse.builder()
+					.importedCount(importedCount)
+					.errorCount(errorCount)
+					.errors(errors)
+					.build();
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchHighlight;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchHit;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchSnippet;
+import com.rikuto.revox.exception.InvalidRequestException;
+import com.rikuto.revox.repository.MaintenanceTaskSearchRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 整備タスクの検索に関するビジネスロジックを処理するサービスクラスです。
+ * 検索結果には詳細内容の全文ではなく、検索語の周辺の抜粋と一致した範囲を返します。
+ */
+@Service
+public class MaintenanceTaskSearchService {
+
+	/**
+	 * 件数を指定しない場合の検索結果の1ページの件数です。
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 20;
+
+	/**
+	 * 詳細内容の抜粋の最大文字数です。
+	 */
+	static final int DESCRIPTION_SNIPPET_LENGTH = 120;
+
+	private static final String ELLIPSIS = "…";
+
+	private final MaintenanceTaskSearchRepository maintenanceTaskSearchRepository;
+	private final BikeOwnershipService bikeOwnershipService;
+
+	public MaintenanceTaskSearchService(MaintenanceTaskSearchRepository maintenanceTaskSearchRepository,
+	                                    BikeOwnershipService bikeOwnershipService) {
+		this.maintenanceTaskSearchRepository = maintenanceTaskSearchRepository;
+		this.bikeOwnershipService = bikeOwnershipService;
+	}
+
+	/**
+	 * ユーザーの整備タスクから、名前または詳細内容に検索語を含むものを関連度の高い順に1ページ分検索します。
+	 *
+	 * @param query      検索語
+	 * @param bikeId     絞り込むバイクID（nullの場合はユーザーのすべてのバイク）
+	 * @param categoryId 絞り込むカテゴリーID（nullの場合はすべてのカテゴリー）
+	 * @param page       ページ番号（0始まり、nullの場合は0）
+	 * @param size       1ページの件数（nullの場合はDEFAULT_PAGE_SIZE）
+	 * @param userId     ユーザーID
+	 * @return 検索結果の1ページ分
+	 * @throws InvalidRequestException                               検索語が空白のみの場合
+	 * @throws com.rikuto.revox.exception.ResourceNotFoundException バイクがユーザーの所有でない場合
+	 */
+	public MaintenanceTaskSearchResponse search(String query, Integer bikeId, Integer categoryId,
+	                                            Integer page, Integer size, Integer userId) {
+		String normalizedQuery = query == null ? "" : query.strip();
+		if(normalizedQuery.isEmpty()) {
+			throw new InvalidRequestException("検索語を指定してください。");
+		}
+		if(bikeId != null) {
+			bikeOwnershipService.verifyOwnership(bikeId, userId);
+		}
+
+		int pageNumber = page == null ? 0 : page;
+		int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+		List<MaintenanceTaskResponse> tasks = maintenanceTaskSearchRepository.search(
+				userId, normalizedQuery, bikeId, categoryId, pageSize + 1, (long) pageNumber * pageSize);
+
+		List<MaintenanceTaskSearchHit> hits = tasks.stream()
+				.limit(pageSize)
+				.map(task -> toHit(task, normalizedQuery))
+				.toList();
+		return MaintenanceTaskSearchResponse.builder()
+				.hits(hits)
+				.page(pageNumber)
+				.hasNext(tasks.size() > pageSize)
+				.build();
+	}
+
+	private MaintenanceTaskSearchHit toHit(MaintenanceTaskResponse task, String query) {
+		return MaintenanceTaskSearchHit.builder()
+				.id(task.getId())
+				.categoryId(task.getCategoryId())
+				.bikeId(task.getBikeId())
+				.name(toSnippet("", task.getName(), "", query))
+				.description(excerpt(task.getDescription(), query))
+				.createdAt(task.getCreatedAt())
+				.updatedAt(task.getUpdatedAt())
+				.build();
+	}
+
+	/**
+	 * 最初に検索語が現れる位置を中心に、DESCRIPTION_SNIPPET_LENGTH文字以内で抜粋します。
+	 * 検索語が現れない場合は先頭から抜粋します。
+	 */
+	private MaintenanceTaskSearchSnippet excerpt(String text, String query) {
+		if(text.length() <= DESCRIPTION_SNIPPET_LENGTH) {
+			return toSnippet("", text, "", query);
+		}
+
+		int firstMatch = indexOfIgnoreCase(text, query, 0);
+		int start = firstMatch < 0 ? 0 : Math.max(0, firstMatch - (DESCRIPTION_SNIPPET_LENGTH - query.length()) / 2);
+		int end = Math.min(text.length(), start + DESCRIPTION_SNIPPET_LENGTH);
+		start = Math.max(0, end - DESCRIPTION_SNIPPET_LENGTH);
+
+		// サロゲートペアの途中で切らないよう、境界を内側に寄せる
+		if(start > 0 && Character.isLowSurrogate(text.charAt(start))) {
+			start++;
+		}
+		if(end < text.length() && Character.isLowSurrogate(text.charAt(end))) {
+			end--;
+		}
+
+		return toSnippet(start > 0 ? ELLIPSIS : "", text.substring(start, end), end < text.length() ? ELLIPSIS : "", query);
+	}
+
+	private MaintenanceTaskSearchSnippet toSnippet(String prefix, String body, String suffix, String query) {
+		List<MaintenanceTaskSearchHighlight> highlights = new ArrayList<>();
+		int matchIndex = indexOfIgnoreCase(body, query, 0);
+		while(matchIndex >= 0) {
+			highlights.add(new MaintenanceTaskSearchHighlight(prefix.length() + matchIndex, prefix.length() + matchIndex + query.length()));
+			matchIndex = indexOfIgnoreCase(body, query, matchIndex + query.length());
+		}
+		return new MaintenanceTaskSearchSnippet(prefix + body + suffix, highlights);
+	}
+
+	private int indexOfIgnoreCase(String text, String query, int fromIndex) {
+		for(int i = fromIndex; i <= text.length() - query.length(); i++) {
+			if(text.regionMatches(true, i, query, 0, query.length())) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -3,13 +3,17 @@ package com.rikuto.revox.service;
 import com.rikuto.revox.domain.Category;
 import com.rikuto.revox.domain.Bike;
 import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.dto.fields.ResponseFields;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskCursor;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskPageResponse;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskRequest;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskUpdateRequest;
+import com.rikuto.revox.dto.version.ResourceVersion;
+import com.rikuto.revox.exception.InvalidRequestException;
 import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.mapper.MaintenanceTaskMapper;
 import com.rikuto.revox.repository.BikeRepository;
-import com.rikuto.revox.repository.CategoryRepository;
 import com.rikuto.revox.repository.MaintenanceTaskRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -27,20 +31,29 @@ import java.util.List;
 @Service
 public class MaintenanceTaskService {
 
-	private final CategoryRepository categoryRepository;
+	/**
+	 * 整備タスクリストの1ページの件数を指定しなかった場合の件数です。
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 20;
+
+	private final CategoryService categoryService;
 	private final MaintenanceTaskRepository maintenanceTaskRepository;
 	private final BikeRepository bikeRepository;
 
+	private final BikeOwnershipService bikeOwnershipService;
+
 	private final MaintenanceTaskMapper maintenanceTaskMapper;
 
-	public MaintenanceTaskService(CategoryRepository categoryRepository,
+	public MaintenanceTaskService(CategoryService categoryService,
 	                              MaintenanceTaskRepository maintenanceTaskRepository,
 	                              MaintenanceTaskMapper maintenanceTaskMapper,
-	                              BikeRepository bikeRepository) {
-		this.categoryRepository = categoryRepository;
+	                              BikeRepository bikeRepository,
+	                              BikeOwnershipService bikeOwnershipService) {
+		this.categoryService = categoryService;
 		this.maintenanceTaskRepository = maintenanceTaskRepository;
 		this.maintenanceTaskMapper = maintenanceTaskMapper;
 		this.bikeRepository = bikeRepository;
+		this.bikeOwnershipService = bikeOwnershipService;
 	}
 
 	// CREATE
@@ -48,18 +61,20 @@ public class MaintenanceTaskService {
 
 	/**
 	 * カテゴリーIDに紐づけて整備タスクを新規登録します。
+	 * カテゴリーとバイクは確認済みのため、エンティティを読み込まずに参照のみを設定します。
 	 *
 	 * @param request 登録する整備タスクのリクエスト情報
+	 * @param userId  操作を行うユーザーID
 	 * @return 登録後の整備タスク情報
+	 * @throws ResourceNotFoundException カテゴリーが見つからない場合、またはバイクがユーザーの所有でない場合
 	 */
 	@Transactional
-	public MaintenanceTaskResponse registerMaintenanceTask(MaintenanceTaskRequest request) {
+	public MaintenanceTaskResponse registerMaintenanceTask(MaintenanceTaskRequest request, Integer userId) {
 		log.info("新しい整備タスクの登録を開始します。");
-		Category category = categoryRepository.findById(request.getCategoryId())
-				.orElseThrow(() -> new ResourceNotFoundException("カテゴリーID " + request.getCategoryId() + " が見つかりません。"));
+		Category category = categoryService.getReference(request.getCategoryId());
 
-		Bike bike = bikeRepository.findById(request.getBikeId())
-				.orElseThrow(() -> new ResourceNotFoundException("バイクID " + request.getBikeId() + " が見つかりません。"));
+		bikeOwnershipService.verifyOwnership(request.getBikeId(), userId);
+		Bike bike = bikeRepository.getReferenceById(request.getBikeId());
 
 		MaintenanceTask maintenanceTaskToDomain = maintenanceTaskMapper.toDomain(request, bike, category);
 		MaintenanceTask savedMaintenanceTask = maintenanceTaskRepository.save(maintenanceTaskToDomain);
@@ -79,38 +94,204 @@ public class MaintenanceTaskService {
 	 */
 	@Transactional(readOnly = true)
 	public List<MaintenanceTaskResponse> findLatestMaintenanceTasksByUserId(Integer userId) {
-		Pageable pageable = PageRequest.of(0, 5, Sort.by("createdAt").descending());
+		return findLatestMaintenanceTasksByUserId(userId, ResponseFields.all());
+	}
 
-		List<MaintenanceTask> maintenanceTaskListByUserId = maintenanceTaskRepository.findByBike_UserIdAndIsDeletedFalse(userId, pageable);
+	/**
+	 * ユーザーIDに紐づく最新の整備タスクを指定件数分検索します。
+	 * レスポンスに詳細内容を含めない場合は、詳細内容の列を読み込みません。
+	 *
+	 * @param userId ユーザーID
+	 * @param fields レスポンスに含める項目
+	 * @return ユーザーIDに紐づく最新の整備タスクリスト
+	 */
+	@Transactional(readOnly = true)
+	public List<MaintenanceTaskResponse> findLatestMaintenanceTasksByUserId(Integer userId, ResponseFields fields) {
+		Pageable pageable = PageRequest.of(0, 5, Sort.by("createdAt").descending().and(Sort.by("id").descending()));
+
+		if(! fields.includes("description")) {
+			return maintenanceTaskRepository.findSummaryByUserIdAndIsDeletedFalse(userId, pageable);
+		}
+
+		List<MaintenanceTask> maintenanceTaskListByUserId = maintenanceTaskRepository.findByUserIdAndIsDeletedFalse(userId, pageable);
 
 		return maintenanceTaskMapper.toResponseList(maintenanceTaskListByUserId);
 	}
 
 	/**
-	 * 指定されたバイクIDに紐づく、論理削除されていないすべての整備タスクを検索します。
+	 * ユーザーIDに紐づく整備タスクのバージョン情報を検索します。
+	 * 整備タスクのエンティティは読み込まず、件数と行バージョンの合計値のみを集計します。
+	 *
+	 * @param userId ユーザーID
+	 * @return 整備タスクのバージョン情報
+	 */
+	@Transactional(readOnly = true)
+	public ResourceVersion findVersionByUserId(Integer userId) {
+		return maintenanceTaskRepository.findVersionByBikeUserId(userId);
+	}
+
+	/**
+	 * 指定されたバイクIDに紐づく整備タスクのバージョン情報を検索します。
+	 * 整備タスクのエンティティは読み込まず、件数と行バージョンの合計値のみを集計します。
 	 *
 	 * @param bikeId バイクID
-	 * @return バイクIDに紐づく整備タスクリスト
+	 * @param userId 操作を行うユーザーID
+	 * @return 整備タスクのバージョン情報
+	 * @throws ResourceNotFoundException バイクがユーザーの所有でない場合
 	 */
 	@Transactional(readOnly = true)
-	public List<MaintenanceTaskResponse> findByBikeId(Integer bikeId) {
-		List<MaintenanceTask> maintenanceTaskListByBikeId = maintenanceTaskRepository.findByBikeIdAndIsDeletedFalse(bikeId);
+	public ResourceVersion findVersionByBikeId(Integer bikeId, Integer userId) {
+		bikeOwnershipService.verifyOwnership(bikeId, userId);
+		return maintenanceTaskRepository.findVersionByBikeId(bikeId);
+	}
 
-		return maintenanceTaskMapper.toResponseList(maintenanceTaskListByBikeId);
+	/**
+	 * 指定されたバイクIDに紐づく、論理削除されていない整備タスクを作成日時の新しい順に1ページ分検索します。
+	 *
+	 * @param bikeId バイクID
+	 * @param cursor 前のページのレスポンスに含まれるカーソル（最初のページの場合はnull）
+	 * @param size   1ページの件数（nullの場合はDEFAULT_PAGE_SIZE）
+	 * @param userId 操作を行うユーザーID
+	 * @return バイクIDに紐づく整備タスクの1ページ分
+	 * @throws InvalidRequestException   カーソルが不正な場合
+	 * @throws ResourceNotFoundException バイクがユーザーの所有でない場合
+	 */
+	@Transactional(readOnly = true)
+	public MaintenanceTaskPageResponse findByBikeId(Integer bikeId, String cursor, Integer size, Integer userId) {
+		return findByBikeId(bikeId, cursor, size, userId, ResponseFields.all());
 	}
 
 	/**
-	 * 指定されたバイクIDとカテゴリーIDに紐づく、論理削除されていないすべての整備タスクを検索します。
+	 * 指定されたバイクIDに紐づく、論理削除されていない整備タスクを作成日時の新しい順に1ページ分検索します。
+	 * レスポンスに詳細内容を含めない場合は、詳細内容の列を読み込みません。
+	 *
+	 * @param bikeId バイクID
+	 * @param cursor 前のページのレスポンスに含まれるカーソル（最初のページの場合はnull）
+	 * @param size   1ページの件数（nullの場合はDEFAULT_PAGE_SIZE）
+	 * @param userId 操作を行うユーザーID
+	 * @param fields レスポンスに含める項目
+	 * @return バイクIDに紐づく整備タスクの1ページ分
+	 * @throws InvalidRequestException   カーソルが不正な場合
+	 * @throws ResourceNotFoundException バイクがユーザーの所有でない場合
+	 */
+	@Transactional(readOnly = true)
+	public MaintenanceTaskPageResponse findByBikeId(Integer bikeId, String cursor, Integer size, Integer userId,
+	                                                ResponseFields fields) {
+		MaintenanceTaskCursor after = cursor == null ? null : MaintenanceTaskCursor.decode(cursor);
+		int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+
+		bikeOwnershipService.verifyOwnership(bikeId, userId);
+		if(! fields.includes("description")) {
+			List<MaintenanceTaskResponse> summaryListByBikeId = after == null
+					? maintenanceTaskRepository.findFirstSummaryPageByBikeId(bikeId, pageSize + 1)
+					: maintenanceTaskRepository.findSummaryPageByBikeIdAfter(bikeId, after.getCreatedAt(), after.getId(), pageSize + 1);
+			return toSummaryPageResponse(summaryListByBikeId, pageSize);
+		}
+
+		List<MaintenanceTask> maintenanceTaskListByBikeId = after == null
+				? maintenanceTaskRepository.findFirstPageByBikeId(bikeId, pageSize + 1)
+				: maintenanceTaskRepository.findPageByBikeIdAfter(bikeId, after.getCreatedAt(), after.getId(), pageSize + 1);
+
+		return toPageResponse(maintenanceTaskListByBikeId, pageSize);
+	}
+
+	/**
+	 * 指定されたバイクIDとカテゴリーIDに紐づく、論理削除されていない整備タスクを作成日時の新しい順に1ページ分検索します。
 	 *
 	 * @param bikeId     バイクID
 	 * @param categoryId カテゴリーID
-	 * @return バイクIDとカテゴリーIDで絞り込んだ整備タスクリスト
+	 * @param cursor     前のページのレスポンスに含まれるカーソル（最初のページの場合はnull）
+	 * @param size       1ページの件数（nullの場合はDEFAULT_PAGE_SIZE）
+	 * @param userId     操作を行うユーザーID
+	 * @return バイクIDとカテゴリーIDで絞り込んだ整備タスクの1ページ分
+	 * @throws InvalidRequestException   カーソルが不正な場合
+	 * @throws ResourceNotFoundException バイクがユーザーの所有でない場合
 	 */
 	@Transactional(readOnly = true)
-	public List<MaintenanceTaskResponse> findByBikeIdAndCategoryId(Integer bikeId, Integer categoryId) {
-		List<MaintenanceTask> maintenanceTaskList = maintenanceTaskRepository.findByBikeIdAndCategoryIdAndIsDeletedFalse(bikeId, categoryId);
+	public MaintenanceTaskPageResponse findByBikeIdAndCategoryId(Integer bikeId, Integer categoryId,
+	                                                             String cursor, Integer size, Integer userId) {
+		return findByBikeIdAndCategoryId(bikeId, categoryId, cursor, size, userId, ResponseFields.all());
+	}
 
-		return maintenanceTaskMapper.toResponseList(maintenanceTaskList);
+	/**
+	 * 指定されたバイクIDとカテゴリーIDに紐づく、論理削除されていない整備タスクを作成日時の新しい順に1ページ分検索します。
+	 * レスポンスに詳細内容を含めない場合は、詳細内容の列を読み込みません。
+	 *
+	 * @param bikeId     バイクID
+	 * @param categoryId カテゴリーID
+	 * @param cursor     前のページのレスポンスに含まれるカーソル（最初のページの場合はnull）
+	 * @param size       1ページの件数（nullの場合はDEFAULT_PAGE_SIZE）
+	 * @param userId     操作を行うユーザーID
+	 * @param fields     レスポンスに含める項目
+	 * @return バイクIDとカテゴリーIDで絞り込んだ整備タスクの1ページ分
+	 * @throws InvalidRequestException   カーソルが不正な場合
+	 * @throws ResourceNotFoundException バイクがユーザーの所有でない場合
+	 */
+	@Transactional(readOnly = true)
+	public MaintenanceTaskPageResponse findByBikeIdAndCategoryId(Integer bikeId, Integer categoryId,
+	                                                             String cursor, Integer size, Integer userId,
+	                                                             ResponseFields fields) {
+		MaintenanceTaskCursor after = cursor == null ? null : MaintenanceTaskCursor.decode(cursor);
+		int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+
+		bikeOwnershipService.verifyOwnership(bikeId, userId);
+		if(! fields.includes("description")) {
+			List<MaintenanceTaskResponse> summaryList = after == null
+					? maintenanceTaskRepository.findFirstSummaryPageByBikeIdAndCategoryId(bikeId, categoryId, pageSize + 1)
+					: maintenanceTaskRepository.findSummaryPageByBikeIdAndCategoryIdAfter(
+							bikeId, categoryId, after.getCreatedAt(), after.getId(), pageSize + 1);
+			return toSummaryPageResponse(summaryList, pageSize);
+		}
+
+		List<MaintenanceTask> maintenanceTaskList = after == null
+				? maintenanceTaskRepository.findFirstPageByBikeIdAndCategoryId(bikeId, categoryId, pageSize + 1)
+				: maintenanceTaskRepository.findPageByBikeIdAndCategoryIdAfter(
+						bikeId, categoryId, after.getCreatedAt(), after.getId(), pageSize + 1);
+
+		return toPageResponse(maintenanceTaskList, pageSize);
+	}
+
+	/**
+	 * 1件多く取得した整備タスクリストから1ページ分のレスポンスを生成します。
+	 * 1ページの件数を超えて取得できた場合のみ次のページがあるとみなし、ページの最後の整備タスクからカーソルを生成します。
+	 *
+	 * @param maintenanceTaskList 1ページの件数より1件多く取得した整備タスクList
+	 * @param pageSize            1ページの件数
+	 * @return 整備タスクの1ページ分
+	 */
+	private MaintenanceTaskPageResponse toPageResponse(List<MaintenanceTask> maintenanceTaskList, int pageSize) {
+		if(maintenanceTaskList.size() <= pageSize) {
+			return MaintenanceTaskPageResponse.builder()
+					.maintenanceTasks(maintenanceTaskMapper.toResponseList(maintenanceTaskList))
+					.build();
+		}
+
+		List<MaintenanceTask> page = maintenanceTaskList.subList(0, pageSize);
+		return MaintenanceTaskPageResponse.builder()
+				.maintenanceTasks(maintenanceTaskMapper.toResponseList(page))
+				.nextCursor(MaintenanceTaskCursor.of(page.getLast()).encode())
+				.build();
+	}
+
+	/**
+	 * 詳細内容を除いて1件多く取得した整備タスクのレスポンスリストから1ページ分のレスポンスを生成します。
+	 *
+	 * @param summaryList 1ページの件数より1件多く取得した、詳細内容を含まない整備タスクのレスポンスList
+	 * @param pageSize    1ページの件数
+	 * @return 整備タスクの1ページ分
+	 */
+	private MaintenanceTaskPageResponse toSummaryPageResponse(List<MaintenanceTaskResponse> summaryList, int pageSize) {
+		if(summaryList.size() <= pageSize) {
+			return MaintenanceTaskPageResponse.builder()
+					.maintenanceTasks(summaryList)
+					.build();
+		}
+
+		List<MaintenanceTaskResponse> page = summaryList.subList(0, pageSize);
+		return MaintenanceTaskPageResponse.builder()
+				.maintenanceTasks(page)
+				.nextCursor(MaintenanceTaskCursor.of(page.getLast()).encode())
+				.build();
 	}
 
 	// UPDATE
@@ -118,26 +299,22 @@ public class MaintenanceTaskService {
 
 	/**
 	 * 整備タスクの更新を行います。
+	 * 所有者の確認と更新を1回のUPDATE文で行い、更新後の整備タスクをRETURNING句で取得します。
 	 *
 	 * @param maintenanceTaskId 整備タスクID
 	 * @param request           更新するリクエスト情報
+	 * @param userId            操作を行うユーザーID
 	 * @return 更新後の整備タスク情報
+	 * @throws ResourceNotFoundException 整備タスクが見つからない場合、またはバイクがユーザーの所有でない場合
 	 */
 	@Transactional
 	public MaintenanceTaskResponse updateMaintenanceTask(Integer maintenanceTaskId,
-	                                                     MaintenanceTaskUpdateRequest request) {
+	                                                     MaintenanceTaskUpdateRequest request,
+	                                                     Integer userId) {
 		log.info("整備タスクの更新を開始します。");
-		MaintenanceTask existingMaintenanceTask = maintenanceTaskRepository.findById(maintenanceTaskId)
+		MaintenanceTask savedMaintenanceTask = maintenanceTaskRepository.updateByIdAndUserId(maintenanceTaskId, userId, request)
 				.orElseThrow(() -> new ResourceNotFoundException("整備タスクID " + maintenanceTaskId + " が見つかりません。"));
 
-		MaintenanceTaskUpdateRequest updateMaintenanceTask = MaintenanceTaskUpdateRequest.builder()
-				.name(request.getName())
-				.description(request.getDescription())
-				.build();
-
-		existingMaintenanceTask.updateFrom(updateMaintenanceTask);
-		MaintenanceTask savedMaintenanceTask = maintenanceTaskRepository.save(existingMaintenanceTask);
-
 		log.info("整備タスクが正常に更新されました。");
 		return maintenanceTaskMapper.toResponse(savedMaintenanceTask);
 	}
@@ -147,16 +324,17 @@ public class MaintenanceTaskService {
 
 	/**
 	 * 整備タスクの論理削除を行います。
+	 * 所有者の確認と論理削除を1回のUPDATE文で行い、更新件数で存在を判定します。
 	 *
 	 * @param maintenanceTaskId 整備タスクID
+	 * @param userId            操作を行うユーザーID
+	 * @throws ResourceNotFoundException 整備タスクが見つからない場合、またはバイクがユーザーの所有でない場合
 	 */
 	@Transactional
-	public void softDeleteMaintenanceTask(Integer maintenanceTaskId) {
-		MaintenanceTask existingMaintenanceTask = maintenanceTaskRepository.findById(maintenanceTaskId)
-				.orElseThrow(() -> new ResourceNotFoundException("整備タスクID " + maintenanceTaskId + " が見つかりません。"));
-
-		existingMaintenanceTask.softDelete();
-
-		maintenanceTaskRepository.save(existingMaintenanceTask);
+	public void softDeleteMaintenanceTask(Integer maintenanceTaskId, Integer userId) {
+		int deletedCount = maintenanceTaskRepository.softDeleteByIdAndUserId(maintenanceTaskId, userId);
+		if(deletedCount == 0) {
+			throw new ResourceNotFoundException("整備タスクID " + maintenanceTaskId + " が見つかりません。");
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.rikuto.revox.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.context.Lifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernateの2次キャッシュからエンティティとクエリキャッシュの検索結果を破棄するサービスクラスです。
+ * RETURNING句で更新後の行を受け取るネイティブクエリはHibernateから検索として扱われ、2次キャッシュが更新されないため、
+ * 更新の後にこのクラスで破棄します。
+ * CRaCのチェックポイントの前にはすべての2次キャッシュを破棄し、チェックポイント以降の他のインスタンスでの更新がリストア後に反映されるようにします。
+ */
+@Service
+public class SecondLevelCacheService implements Lifecycle {
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	private volatile boolean running = true;
+
+	public SecondLevelCacheService(EntityManagerFactory entityManagerFactory) {
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	/**
+	 * 指定されたエンティティを2次キャッシュから破棄します。
+	 * トランザクション内で呼び出された場合は、コミット前に他のリクエストが更新前の状態を再度読み込まないよう、
+	 * コミット後にも破棄します。
+	 *
+	 * @param entityClass エンティティのクラス
+	 * @param id          エンティティのID
+	 */
+	public void evict(Class<?> entityClass, Object id) {
+		runNowAndAfterCommit(() -> entityManagerFactory.getCache().evict(entityClass, id));
+	}
+
+	/**
+	 * クエリキャッシュに保持しているすべての検索結果を破棄します。
+	 * 検索結果の件数が変わる更新をネイティブクエリで行った後に使用します。
+	 */
+	public void evictQueryResults() {
+		runNowAndAfterCommit(() -> entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion());
+	}
+
+	private void runNowAndAfterCommit(Runnable eviction) {
+		eviction.run();
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					eviction.run();
+				}
+			});
+		}
+	}
+
+	@Override
+	public void start() {
+		running = true;
+	}
+
+	/**
+	 * CRaCのチェックポイントの前やアプリケーションの終了時に、エンティティとクエリキャッシュの検索結果をすべて破棄します。
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+}
@@ -1,15 +1,21 @@
 package com.rikuto.revox.service;
 
+import com.rikuto.revox.domain.Bike;
 import com.rikuto.revox.domain.User;
 import com.rikuto.revox.dto.user.UserResponse;
 import com.rikuto.revox.dto.user.UserUpdateRequest;
 import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.mapper.UserResponseMapper;
+import com.rikuto.revox.repository.AiRepository;
+import com.rikuto.revox.repository.BikeRepository;
+import com.rikuto.revox.repository.MaintenanceTaskRepository;
 import com.rikuto.revox.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,13 +26,29 @@ import java.util.Optional;
 public class UserService {
 
 	private final UserRepository userRepository;
+	private final BikeRepository bikeRepository;
+	private final MaintenanceTaskRepository maintenanceTaskRepository;
+	private final AiRepository aiRepository;
 
 	private final UserResponseMapper userResponseMapper;
 
+	private final BikeOwnershipService bikeOwnershipService;
+	private final SecondLevelCacheService secondLevelCacheService;
+
 	public UserService(UserRepository userRepository,
-	                   UserResponseMapper userResponseMapper) {
+	                   BikeRepository bikeRepository,
+	                   MaintenanceTaskRepository maintenanceTaskRepository,
+	                   AiRepository aiRepository,
+	                   UserResponseMapper userResponseMapper,
+	                   BikeOwnershipService bikeOwnershipService,
+	                   SecondLevelCacheService secondLevelCacheService) {
 		this.userRepository = userRepository;
+		this.bikeRepository = bikeRepository;
+		this.maintenanceTaskRepository = maintenanceTaskRepository;
+		this.aiRepository = aiRepository;
 		this.userResponseMapper = userResponseMapper;
+		this.bikeOwnershipService = bikeOwnershipService;
+		this.secondLevelCacheService = secondLevelCacheService;
 	}
 
 	// CREATE
@@ -35,6 +57,9 @@ public class UserService {
 	/**
 	 * 外部認証でのユーザー検索または新規登録を行います。
 	 * 登録履歴のあるユーザーが再登録する場合、論理削除をfalseに変更して取得します。
+	 * ユーザーの論理削除と同じトランザクションで論理削除されたバイク、整備タスク、AI質問履歴も復元します。
+	 * 同じトランザクション内のupdated_atはトリガーで同じ日時が設定されるため、ユーザーのupdated_atと一致するものだけを復元し、
+	 * ユーザーの削除前に個別に削除されていたデータは削除されたままにします。
 	 *
 	 * @param uniqueUserId 外部認証での各一意のID（Googleのsubクレームなど）
 	 * @param name         外部認証先のユーザーネーム
@@ -49,10 +74,16 @@ public class UserService {
 		if(allUser.isPresent()) {
 			User existingUser = allUser.get();
 			if(existingUser.isDeleted()) {
+				LocalDateTime deletedAt = existingUser.getUpdatedAt();
 				existingUser.restoreUser();
 				userRepository.save(existingUser);
+
+				int restoredBikeCount = bikeRepository.restoreByUserIdAndDeletedAt(existingUser.getId(), deletedAt);
+				int restoredTaskCount = maintenanceTaskRepository.restoreByUserIdAndDeletedAt(existingUser.getId(), deletedAt);
+				int restoredAiQuestionCount = aiRepository.restoreByUserIdAndDeletedAt(existingUser.getId(), deletedAt);
+				log.info("ユーザー情報が復元されました。バイク={}件, 整備タスク={}件, AI質問履歴={}件",
+						restoredBikeCount, restoredTaskCount, restoredAiQuestionCount);
 			}
-			log.info("ユーザー情報が復元されました。");
 			return existingUser;
 		} else {
 			User newUser = User.builder()
@@ -86,6 +117,8 @@ public class UserService {
 	/**
 	 * ユーザー情報の更新を行います。
 	 * 外部認証のためニックネームのみ更新可能です。
+	 * 更新は1回のUPDATE文で行い、更新後のユーザーをRETURNING句で取得します。
+	 * 2次キャッシュのユーザーは更新されないため破棄します。
 	 *
 	 * @param updateRequest 更新リクエスト
 	 * @param userId        一意のユーザーID
@@ -94,15 +127,9 @@ public class UserService {
 	@Transactional
 	public UserResponse updateUser(UserUpdateRequest updateRequest, Integer userId) {
 		log.info("ユーザー情報の更新を開始します。");
-		User existingUser = userRepository.findByIdAndIsDeletedFalse(userId)
+		User savedUser = userRepository.updateNicknameById(userId, updateRequest.getNickname())
 				.orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません" + userId));
-
-		UserUpdateRequest updateUser = UserUpdateRequest.builder()
-				.nickname(updateRequest.getNickname())
-				.build();
-
-		existingUser.updateFrom(updateUser);
-		User savedUser = userRepository.save(existingUser);
+		secondLevelCacheService.evict(User.class, userId);
 
 		log.info("ユーザー情報が正常に更新されました。");
 		return userResponseMapper.toResponse(savedUser);
@@ -112,17 +139,29 @@ public class UserService {
 	//------------------------------------------------------------------------------------------------------------------
 
 	/**
-	 * ユーザー情報を論理削除します。
+	 * ユーザー情報と、ユーザーに紐づくバイク、整備タスク、AI質問履歴を論理削除します。
+	 * エンティティを読み込まず、テーブルごとに1回のUPDATE文で論理削除するため、
+	 * 紐づくデータの件数に関わらず発行するSQLは4回です。
+	 * バイクはネイティブクエリで論理削除するため、2次キャッシュのバイクとバイク一覧の検索結果を破棄します。
 	 *
 	 * @param userId 一意のユーザーID
 	 */
 	@Transactional
 	public void softDeleteUser(Integer userId) {
-		User existingUser = userRepository.findByIdAndIsDeletedFalse(userId)
-				.orElseThrow(() -> new ResourceNotFoundException("ユーザーが見つかりません" + userId));
+		log.info("ユーザーの論理削除を開始します。");
+		int deletedCount = userRepository.softDeleteById(userId);
+		if(deletedCount == 0) {
+			throw new ResourceNotFoundException("ユーザーが見つかりません" + userId);
+		}
 
-		existingUser.softDelete();
+		int deletedTaskCount = maintenanceTaskRepository.softDeleteByUserId(userId);
+		List<Integer> deletedBikeIds = bikeRepository.softDeleteByUserId(userId);
+		int deletedAiQuestionCount = aiRepository.softDeleteByUserId(userId);
+		deletedBikeIds.forEach(bikeOwnershipService::evict);
+		deletedBikeIds.forEach(bikeId -> secondLevelCacheService.evict(Bike.class, bikeId));
+		secondLevelCacheService.evictQueryResults();
 
-		userRepository.save(existingUser);
+		log.info("ユーザーを論理削除しました。バイク={}件, 整備タスク={}件, AI質問履歴={}件",
+				deletedBikeIds.size(), deletedTaskCount, deletedAiQuestionCount);
 	}
 }
\ No newline at end of file
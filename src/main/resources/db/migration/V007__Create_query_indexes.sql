@@ -0,0 +1,28 @@
+-- users: unique_user_id は UNIQUE 制約のインデックスと重複し、is_deleted は選択性が低いため削除
+DROP INDEX IF EXISTS idx_users_unique_user_id;
+DROP INDEX IF EXISTS idx_users_is_deleted;
+
+-- bikes
+-- BikeRepository.findByUserIdAndIsDeletedFalse, ダッシュボードの集計クエリ
+CREATE INDEX idx_bikes_user_id_active ON bikes(user_id) WHERE is_deleted = false;
+-- BikeRepository.findVersionByUserId, MaintenanceTaskRepository.findByBike_UserIdAndIsDeletedFalse, 外部キー
+CREATE INDEX idx_bikes_user_id_updated_at ON bikes(user_id, updated_at);
+
+-- maintenance_tasks
+-- MaintenanceTaskRepository.findByBikeIdAndIsDeletedFalse, findByBike_UserIdAndIsDeletedFalse, findLatestPerBikeByUserId
+CREATE INDEX idx_maintenance_tasks_bike_id_created_at_active
+    ON maintenance_tasks(bike_id, created_at DESC, id DESC) WHERE is_deleted = false;
+-- MaintenanceTaskRepository.findByBikeIdAndCategoryIdAndIsDeletedFalse, countByCategoryForUserId
+CREATE INDEX idx_maintenance_tasks_bike_id_category_id_active
+    ON maintenance_tasks(bike_id, category_id) WHERE is_deleted = false;
+-- MaintenanceTaskRepository.findVersionByBikeId, findVersionByBikeUserId, 外部キー
+CREATE INDEX idx_maintenance_tasks_bike_id_updated_at ON maintenance_tasks(bike_id, updated_at);
+-- 外部キー
+CREATE INDEX idx_maintenance_tasks_category_id ON maintenance_tasks(category_id);
+
+-- ai_questions
+-- AiRepository.findByUserId, findTop5ByUserIdOrderByCreatedAtDesc, 外部キー
+DROP INDEX IF EXISTS idx_ai_questions_user_id;
+CREATE INDEX idx_ai_questions_user_id_created_at ON ai_questions(user_id, created_at DESC);
+-- 外部キー
+CREATE INDEX idx_ai_questions_category_id ON ai_questions(category_id);
@@ -0,0 +1,6 @@
+-- maintenance_tasks
+-- MaintenanceTaskRepository.findFirstPageByBikeIdAndCategoryId, findPageByBikeIdAndCategoryIdAfter, countByCategoryForUserId
+-- カテゴリーで絞り込んだページングでも (created_at, id) の並び順のまま範囲検索できるよう、並び順の列を追加して作り直す
+DROP INDEX IF EXISTS idx_maintenance_tasks_bike_id_category_id_active;
+CREATE INDEX idx_maintenance_tasks_bike_id_category_id_created_at_active
+    ON maintenance_tasks(bike_id, category_id, created_at DESC, id DESC) WHERE is_deleted = false;
@@ -0,0 +1,47 @@
+-- maintenance_tasks.user_id
+-- ユーザー単位の最新整備タスク検索でbikesとの結合と全件ソートを避けるため、バイクの所有者を非正規化して保持する
+ALTER TABLE maintenance_tasks ADD COLUMN user_id INT;
+
+UPDATE maintenance_tasks t
+SET user_id = b.user_id
+FROM bikes b
+WHERE b.id = t.bike_id;
+
+ALTER TABLE maintenance_tasks ALTER COLUMN user_id SET NOT NULL;
+ALTER TABLE maintenance_tasks
+    ADD CONSTRAINT fk_maintenance_tasks_user_id
+        FOREIGN KEY (user_id) REFERENCES users(id)
+        ON DELETE RESTRICT;
+
+-- 登録時とバイクの付け替え時に、整備タスクのuser_idをバイクの所有者に合わせる
+CREATE OR REPLACE FUNCTION set_maintenance_task_user_id()
+RETURNS TRIGGER AS $$
+BEGIN
+    SELECT user_id INTO NEW.user_id FROM bikes WHERE id = NEW.bike_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER set_maintenance_tasks_user_id
+BEFORE INSERT OR UPDATE OF bike_id ON maintenance_tasks
+FOR EACH ROW
+EXECUTE FUNCTION set_maintenance_task_user_id();
+
+-- バイクの所有者が変わった場合に、紐づく整備タスクのuser_idを追従させる
+CREATE OR REPLACE FUNCTION propagate_bike_user_id_to_maintenance_tasks()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE maintenance_tasks SET user_id = NEW.user_id WHERE bike_id = NEW.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER propagate_bikes_user_id_to_maintenance_tasks
+AFTER UPDATE OF user_id ON bikes
+FOR EACH ROW
+WHEN (OLD.user_id IS DISTINCT FROM NEW.user_id)
+EXECUTE FUNCTION propagate_bike_user_id_to_maintenance_tasks();
+
+-- MaintenanceTaskRepository.findByUserIdAndIsDeletedFalse, softDeleteByUserId
+CREATE INDEX idx_maintenance_tasks_user_id_created_at_active
+    ON maintenance_tasks(user_id, created_at DESC, id DESC) WHERE is_deleted = false;
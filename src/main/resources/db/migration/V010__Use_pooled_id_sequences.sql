@@ -0,0 +1,7 @@
+-- Hibernateのpooled-loオプティマイザで採番するため、各シーケンスの増分をエンティティのallocationSizeと揃える
+-- nextvalで得た値から増分の件数分をアプリケーション側で割り当てるため、既存のIDとは重複しない
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE bikes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE categories_id_seq INCREMENT BY 50;
+ALTER SEQUENCE maintenance_tasks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ai_questions_id_seq INCREMENT BY 50;
@@ -0,0 +1,9 @@
+-- 整備タスクの名前と詳細内容の部分一致検索（MaintenanceTaskSearchRepository.search）
+-- 日本語は単語の区切りがなく全文検索の辞書に依存するため、3文字ずつの部分文字列で索引付けするトライグラムを使用する
+-- 日本語の文字がトライグラムに含まれるよう、データベースはUTF-8のロケール（LC_CTYPE）で作成されている必要がある
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_maintenance_tasks_name_trgm_active
+    ON maintenance_tasks USING gin (name gin_trgm_ops) WHERE is_deleted = false;
+CREATE INDEX idx_maintenance_tasks_description_trgm_active
+    ON maintenance_tasks USING gin (description gin_trgm_ops) WHERE is_deleted = false;
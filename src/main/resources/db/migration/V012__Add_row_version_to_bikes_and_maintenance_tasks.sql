@@ -0,0 +1,26 @@
+-- 一覧の条件付きGETで使用する行バージョン
+-- updated_atはトランザクション開始時刻のため、後からコミットされた更新でMAX(updated_at)が変わらない場合がある
+-- 登録・更新のたびにシーケンスから新しい値を割り当て、件数と合計値から一覧のETagを算出する
+-- 合計値はコミット順に関係なく更新のたびに変わり、別の行との入れ替わりでも新しい値によって変わる
+CREATE SEQUENCE row_version_seq;
+
+ALTER TABLE bikes ADD COLUMN row_version BIGINT NOT NULL DEFAULT nextval('row_version_seq');
+ALTER TABLE maintenance_tasks ADD COLUMN row_version BIGINT NOT NULL DEFAULT nextval('row_version_seq');
+
+CREATE OR REPLACE FUNCTION set_row_version_to_next()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.row_version = nextval('row_version_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER update_bikes_row_version
+BEFORE UPDATE ON bikes
+FOR EACH ROW
+EXECUTE FUNCTION set_row_version_to_next();
+
+CREATE TRIGGER update_maintenance_tasks_row_version
+BEFORE UPDATE ON maintenance_tasks
+FOR EACH ROW
+EXECUTE FUNCTION set_row_version_to_next();
@@ -0,0 +1,70 @@
+package com.rikuto.revox.compression;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrecompressedBodyTest {
+
+	private final byte[] largeBody = "{\"answer\":\"エンジンオイルは3,000km～5,000kmまたは6ヶ月ごとに交換することをお勧めします。\"}".repeat(50)
+			.getBytes(StandardCharsets.UTF_8);
+
+	@Nested
+	class OfTests {
+		@Test
+		void 圧縮したレスポンスを展開すると圧縮前のレスポンスと一致すること() throws IOException {
+			PrecompressedBody body = PrecompressedBody.of(largeBody);
+
+			assertThat(body.identity()).isSameAs(largeBody);
+			assertThat(body.gzip()).hasSizeLessThan(largeBody.length);
+			try(GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body.gzip()))) {
+				assertThat(inputStream.readAllBytes()).isEqualTo(largeBody);
+			}
+		}
+
+		@Test
+		void 圧縮してもサイズが小さくならない場合は圧縮したレスポンスを保持しないこと() {
+			PrecompressedBody body = PrecompressedBody.of("[]".getBytes(StandardCharsets.UTF_8));
+
+			assertThat(body.gzip()).isNull();
+			assertThat(body.canServeGzip("gzip")).isFalse();
+		}
+	}
+
+	@Nested
+	class CanServeGzipTests {
+		@Test
+		void AcceptEncodingにgzipが含まれる場合は圧縮したレスポンスを返せること() {
+			PrecompressedBody body = PrecompressedBody.of(largeBody);
+
+			assertThat(body.canServeGzip("gzip, deflate, br")).isTrue();
+			assertThat(body.canServeGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+			assertThat(body.canServeGzip("*")).isTrue();
+		}
+
+		@Test
+		void AcceptEncodingでgzipが受け付けられていない場合は圧縮したレスポンスを返さないこと() {
+			PrecompressedBody body = PrecompressedBody.of(largeBody);
+
+			assertThat(body.canServeGzip(null)).isFalse();
+			assertThat(body.canServeGzip("identity")).isFalse();
+			assertThat(body.canServeGzip("br, deflate")).isFalse();
+			assertThat(body.canServeGzip("gzip;q=0")).isFalse();
+			assertThat(body.canServeGzip("gzip;q=0.0, *")).isFalse();
+		}
+	}
+
+	@Nested
+	class GzipETagTests {
+		@Test
+		void 圧縮前のETagの末尾にgzipを付けた強いETagを返すこと() {
+			assertThat(PrecompressedBody.gzipETag("\"abc123\"")).isEqualTo("\"abc123-gzip\"");
+		}
+	}
+}
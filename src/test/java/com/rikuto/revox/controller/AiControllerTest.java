@@ -1,26 +1,39 @@
 package com.rikuto.revox.controller;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.rikuto.revox.config.MessagePackHttpMessageConverter;
 import com.rikuto.revox.dto.ai.AiQuestionCreateRequest;
 import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.fields.ResponseFields;
 import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.service.AiService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -28,6 +41,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -118,7 +132,7 @@ class AiControllerTest {
 	class GetAiHistoryTests {
 		@Test
 		void ユーザーIDに紐づくAI質問履歴を正常に取得できること() throws Exception {
-			when(aiService.getAiQuestionByUserId(testUserId)).thenReturn(List.of(commonAiQuestionResponse));
+			when(aiService.getAiQuestionByUserId(testUserId, ResponseFields.all())).thenReturn(List.of(commonAiQuestionResponse));
 
 			mockMvc.perform(get("/api/ai/user/{userId}", testUserId)
 							.accept(MediaType.APPLICATION_JSON))
@@ -127,18 +141,140 @@ class AiControllerTest {
 					.andExpect(jsonPath("$[0].id").value(testAiId))
 					.andExpect(jsonPath("$[0].question").value("エンジンオイルの交換時期はいつですか？"));
 
-			verify(aiService).getAiQuestionByUserId(testUserId);
+			verify(aiService).getAiQuestionByUserId(testUserId, ResponseFields.all());
 		}
 
 		@Test
 		void 存在しないユーザーのAI質問履歴取得時に404を返すこと() throws Exception {
-			when(aiService.getAiQuestionByUserId(anyInt()))
+			when(aiService.getAiQuestionByUserId(anyInt(), any()))
 					.thenThrow(new ResourceNotFoundException("ユーザーが見つかりません"));
 
 			mockMvc.perform(get("/api/ai/user/{userId}", testUserId))
 					.andExpect(status().isNotFound());
 
-			verify(aiService).getAiQuestionByUserId(testUserId);
+			verify(aiService).getAiQuestionByUserId(testUserId, ResponseFields.all());
+		}
+
+		@Test
+		void fieldsを指定した場合は指定された項目のみを返すこと() throws Exception {
+			ResponseFields fields = ResponseFields.parse("id,question,createdAt", AiQuestionResponse.class);
+			when(aiService.getAiQuestionByUserId(testUserId, fields)).thenReturn(List.of(commonAiQuestionResponse));
+
+			mockMvc.perform(get("/api/ai/user/{userId}", testUserId)
+							.param("fields", "id,question,createdAt")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$[0].id").value(testAiId))
+					.andExpect(jsonPath("$[0].question").value("エンジンオイルの交換時期はいつですか？"))
+					.andExpect(jsonPath("$[0].createdAt").exists())
+					.andExpect(jsonPath("$[0].answer").doesNotExist())
+					.andExpect(jsonPath("$[0].userId").doesNotExist());
+
+			verify(aiService).getAiQuestionByUserId(testUserId, fields);
+		}
+
+		@Test
+		void fieldsに存在しない項目を指定した場合は400を返すこと() throws Exception {
+			mockMvc.perform(get("/api/ai/user/{userId}", testUserId)
+							.param("fields", "id,unknown"))
+					.andExpect(status().isBadRequest());
+
+			verify(aiService, never()).getAiQuestionByUserId(any(), any());
+		}
+	}
+
+	@Nested
+	class BinaryFormatTests {
+
+		private final TypeReference<List<AiQuestionResponse>> responseListType = new TypeReference<>() {
+		};
+
+		private List<AiQuestionResponse> getHistory(MediaType mediaType, JsonFactory factory) throws Exception {
+			when(aiService.getAiQuestionByUserId(testUserId, ResponseFields.all())).thenReturn(List.of(commonAiQuestionResponse));
+
+			MvcResult result = mockMvc.perform(get("/api/ai/user/{userId}", testUserId)
+							.accept(mediaType))
+					.andExpect(status().isOk())
+					.andExpect(content().contentType(mediaType))
+					.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+					.andReturn();
+
+			return objectMapper.copyWith(factory).readValue(result.getResponse().getContentAsByteArray(), responseListType);
+		}
+
+		@Test
+		void AcceptがCBORの場合はCBORでAI質問履歴を返すこと() throws Exception {
+			List<AiQuestionResponse> responses = getHistory(MediaType.APPLICATION_CBOR, new CBORFactory());
+
+			assertThat(responses).usingRecursiveFieldByFieldElementComparator().containsExactly(commonAiQuestionResponse);
+		}
+
+		@Test
+		void AcceptがSmileの場合はSmileでAI質問履歴を返すこと() throws Exception {
+			List<AiQuestionResponse> responses = getHistory(new MediaType("application", "x-jackson-smile"), new SmileFactory());
+
+			assertThat(responses).usingRecursiveFieldByFieldElementComparator().containsExactly(commonAiQuestionResponse);
+		}
+
+		@Test
+		void AcceptがMessagePackの場合はMessagePackでAI質問履歴を返すこと() throws Exception {
+			List<AiQuestionResponse> responses = getHistory(MessagePackHttpMessageConverter.APPLICATION_MSGPACK, new MessagePackFactory());
+
+			assertThat(responses).usingRecursiveFieldByFieldElementComparator().containsExactly(commonAiQuestionResponse);
+		}
+
+		@Test
+		void Acceptが指定されていない場合はJSONで返すこと() throws Exception {
+			when(aiService.getAiQuestionByUserId(testUserId, ResponseFields.all())).thenReturn(List.of(commonAiQuestionResponse));
+
+			mockMvc.perform(get("/api/ai/user/{userId}", testUserId))
+					.andExpect(status().isOk())
+					.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+					.andExpect(jsonPath("$[0].id").value(testAiId));
+		}
+
+		@Test
+		void fieldsを指定した場合もCBORで指定された項目のみを返すこと() throws Exception {
+			ResponseFields fields = ResponseFields.parse("id,question", AiQuestionResponse.class);
+			when(aiService.getAiQuestionByUserId(testUserId, fields)).thenReturn(List.of(commonAiQuestionResponse));
+
+			MvcResult result = mockMvc.perform(get("/api/ai/user/{userId}", testUserId)
+							.param("fields", "id,question")
+							.accept(MediaType.APPLICATION_CBOR))
+					.andExpect(status().isOk())
+					.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+					.andReturn();
+
+			JsonNode responses = objectMapper.copyWith(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray());
+			assertThat(responses.get(0).get("id").asInt()).isEqualTo(testAiId);
+			assertThat(responses.get(0).has("answer")).isFalse();
+		}
+
+		@Test
+		void MessagePackのリクエストボディからAIへの質問を作成しMessagePackで返すこと() throws Exception {
+			ObjectMapper messagePackMapper = objectMapper.copyWith(new MessagePackFactory());
+			when(aiService.createAiQuestion(
+					any(AiQuestionCreateRequest.class),
+					eq(testUserId),
+					eq(testBikeId),
+					eq(testCategoryId)
+			)).thenReturn(commonAiQuestionResponse);
+
+			MvcResult result = mockMvc.perform(post("/api/ai/user/{userId}/bike/{bikeId}/category/{categoryId}",
+							testUserId, testBikeId, testCategoryId)
+							.contentType(MessagePackHttpMessageConverter.APPLICATION_MSGPACK)
+							.accept(MessagePackHttpMessageConverter.APPLICATION_MSGPACK)
+							.content(messagePackMapper.writeValueAsBytes(commonAiQuestionCreateRequest)))
+					.andExpect(status().isOk())
+					.andExpect(content().contentType(MessagePackHttpMessageConverter.APPLICATION_MSGPACK))
+					.andReturn();
+
+			assertThat(messagePackMapper.readValue(result.getResponse().getContentAsByteArray(), AiQuestionResponse.class))
+					.usingRecursiveComparison()
+					.isEqualTo(commonAiQuestionResponse);
+			verify(aiService).createAiQuestion(
+					argThat(request -> request.getQuestion().equals(commonAiQuestionCreateRequest.getQuestion())),
+					eq(testUserId), eq(testBikeId), eq(testCategoryId));
 		}
 	}
-}
\ No newline at end of file
+}
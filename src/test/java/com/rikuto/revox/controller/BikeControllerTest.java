@@ -3,6 +3,7 @@ package com.rikuto.revox.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rikuto.revox.dto.bike.BikeCreateRequest;
 import com.rikuto.revox.dto.bike.BikeResponse;
+import com.rikuto.revox.dto.version.ResourceVersion;
 import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.service.BikeService;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -30,6 +32,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -87,6 +90,14 @@ class BikeControllerTest {
 
 	@Nested
 	class GetTests {
+		private ResourceVersion bikeListVersion;
+
+		@BeforeEach
+		void setUp() {
+			bikeListVersion = new ResourceVersion(2L, 202L);
+			when(bikeService.findBikeListVersion(testUserId)).thenReturn(bikeListVersion);
+		}
+
 		@Test
 		void ユーザーIDに紐づくバイク一覧を正常に取得できること() throws Exception {
 			BikeResponse secondBike = BikeResponse.builder()
@@ -107,6 +118,68 @@ class BikeControllerTest {
 			verify(bikeService).findBikeByUserId(testUserId);
 		}
 
+		@Test
+		void バイク一覧のレスポンスにETagが設定されること() throws Exception {
+			when(bikeService.findBikeByUserId(testUserId)).thenReturn(List.of(commonBikeResponse));
+
+			mockMvc.perform(get("/api/bikes/user/{userId}", testUserId)
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(header().string(HttpHeaders.ETAG, bikeListVersion.getETag()))
+					.andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+					.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+		}
+
+		@Test
+		void バイク一覧に変更がない場合はバイク情報を読み込まずに304を返すこと() throws Exception {
+			mockMvc.perform(get("/api/bikes/user/{userId}", testUserId)
+							.header(HttpHeaders.IF_NONE_MATCH, bikeListVersion.getETag())
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isNotModified())
+					.andExpect(content().string(""));
+
+			verify(bikeService, never()).findBikeByUserId(any());
+		}
+
+		@Test
+		void バイク一覧に変更がある場合は200を返すこと() throws Exception {
+			when(bikeService.findBikeByUserId(testUserId)).thenReturn(List.of(commonBikeResponse));
+
+			mockMvc.perform(get("/api/bikes/user/{userId}", testUserId)
+							.header(HttpHeaders.IF_NONE_MATCH, new ResourceVersion(1L, 101L).getETag())
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$[0].id").value(testBikeId));
+
+			verify(bikeService).findBikeByUserId(testUserId);
+		}
+
+		@Test
+		void fieldsを指定した場合は指定された項目のみを返すこと() throws Exception {
+			when(bikeService.findBikeByUserId(testUserId)).thenReturn(List.of(commonBikeResponse));
+
+			mockMvc.perform(get("/api/bikes/user/{userId}", testUserId)
+							.param("fields", "id, modelName")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$[0].id").value(testBikeId))
+					.andExpect(jsonPath("$[0].modelName").value("TestBike"))
+					.andExpect(jsonPath("$[0].manufacturer").doesNotExist())
+					.andExpect(jsonPath("$[0].createdAt").doesNotExist())
+					.andExpect(header().string(HttpHeaders.ETAG, bikeListVersion.getETag()));
+		}
+
+		@Test
+		void fieldsに存在しない項目を指定した場合はバイク情報を読み込まずに400を返すこと() throws Exception {
+			mockMvc.perform(get("/api/bikes/user/{userId}", testUserId)
+							.param("fields", "id,owner")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isBadRequest());
+
+			verify(bikeService, never()).findBikeListVersion(any());
+			verify(bikeService, never()).findBikeByUserId(any());
+		}
+
 		@Test
 		void 指定されたユーザーIDとバイクIDで単一のバイク情報を取得できること() throws Exception {
 			when(bikeService.findByIdAndUserId(testBikeId, testUserId)).thenReturn(commonBikeResponse);
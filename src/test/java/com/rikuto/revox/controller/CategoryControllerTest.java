@@ -1,5 +1,9 @@
 package com.rikuto.revox.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.rikuto.revox.compression.PrecompressedBody;
 import com.rikuto.revox.dto.category.CategoryResponse;
 import com.rikuto.revox.service.CategoryService;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,17 +11,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -28,10 +40,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class CategoryControllerTest {
 
 	private final Integer testCategoryId = 1;
+	private final String testETag = "\"test-etag\"";
 
 	@Autowired
 	private MockMvc mockMvc;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
 	@MockitoBean
 	private CategoryService categoryService;
 
@@ -46,34 +62,171 @@ class CategoryControllerTest {
 
 	}
 
-	@Test
-	void 全カテゴリー情報を正常に取得し200を返すこと() throws Exception {
+	private void stubSerializedCategories() throws Exception {
 		CategoryResponse secondCategory = CategoryResponse.builder()
 				.name("SecondCategory")
 				.build();
 
-		List<CategoryResponse> expectedList = List.of(commonCategoryResponse, secondCategory);
-		when(categoryService.findAllCategories()).thenReturn(expectedList);
+		List<CategoryResponse> categories = List.of(commonCategoryResponse, secondCategory);
+		byte[] json = objectMapper.writeValueAsBytes(categories);
+		when(categoryService.findSerializedCategories()).thenReturn(new CategoryService.SerializedCategories(PrecompressedBody.of(json), testETag));
+		when(categoryService.findAllCategories()).thenReturn(categories);
+	}
+
+	private void stubLargeSerializedCategories() throws Exception {
+		List<CategoryResponse> categories = IntStream.rangeClosed(1, 50)
+				.mapToObj(id -> CategoryResponse.builder().id(id).name("カテゴリー" + id).displayOrder(id).build())
+				.toList();
+		byte[] json = objectMapper.writeValueAsBytes(categories);
+		when(categoryService.findSerializedCategories()).thenReturn(new CategoryService.SerializedCategories(PrecompressedBody.of(json), testETag));
+	}
+
+	@Test
+	void 全カテゴリー情報を正常に取得し200を返すこと() throws Exception {
+		stubSerializedCategories();
 
 		mockMvc.perform(get("/api/categories")
 						.accept(MediaType.APPLICATION_JSON))
 				.andExpect(status().isOk())
 				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(header().string(HttpHeaders.ETAG, testETag))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
 				.andExpect(jsonPath("$[0].id").value(testCategoryId))
 				.andExpect(jsonPath("$[0].name").value("TestCategory"))
 				.andExpect(jsonPath("$[1].name").value("SecondCategory"));
 
-		verify(categoryService, times(1)).findAllCategories();
+		verify(categoryService, times(1)).findSerializedCategories();
+	}
+
+	@Test
+	void IfNoneMatchがETagと一致する場合は304を返すこと() throws Exception {
+		stubSerializedCategories();
+
+		mockMvc.perform(get("/api/categories")
+						.header(HttpHeaders.IF_NONE_MATCH, testETag)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, testETag))
+				.andExpect(content().string(""));
+	}
+
+	@Test
+	void IfNoneMatchがETagと一致しない場合は200を返すこと() throws Exception {
+		stubSerializedCategories();
+
+		mockMvc.perform(get("/api/categories")
+						.header(HttpHeaders.IF_NONE_MATCH, "\"old-etag\"")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].name").value("TestCategory"));
+	}
+
+	@Test
+	void AcceptEncodingにgzipが含まれる場合は圧縮済みのJSONを返すこと() throws Exception {
+		List<CategoryResponse> categories = IntStream.rangeClosed(1, 50)
+				.mapToObj(id -> CategoryResponse.builder().id(id).name("カテゴリー" + id).displayOrder(id).build())
+				.toList();
+		byte[] json = objectMapper.writeValueAsBytes(categories);
+		when(categoryService.findSerializedCategories()).thenReturn(new CategoryService.SerializedCategories(PrecompressedBody.of(json), testETag));
+
+		MvcResult result = mockMvc.perform(get("/api/categories")
+						.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+				.andExpect(header().string(HttpHeaders.ETAG, "\"test-etag-gzip\""))
+				.andReturn();
+
+		try(GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+			assertThat(inputStream.readAllBytes()).isEqualTo(json);
+		}
+	}
+
+	@Test
+	void 圧縮済みのJSONを要求しIfNoneMatchが圧縮前のETagと一致する場合は304を返すこと() throws Exception {
+		stubLargeSerializedCategories();
+
+		mockMvc.perform(get("/api/categories")
+						.header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+						.header(HttpHeaders.IF_NONE_MATCH, testETag)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, testETag))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(content().string(""));
+	}
+
+	@Test
+	void 圧縮前のJSONを要求しIfNoneMatchが圧縮済みのETagと一致する場合は304を返すこと() throws Exception {
+		stubLargeSerializedCategories();
+
+		mockMvc.perform(get("/api/categories")
+						.header(HttpHeaders.IF_NONE_MATCH, "\"test-etag-gzip\"")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"test-etag-gzip\""))
+				.andExpect(content().string(""));
+	}
+
+	@Test
+	void AcceptEncodingが指定されていない場合は圧縮せずに返すこと() throws Exception {
+		stubSerializedCategories();
+
+		mockMvc.perform(get("/api/categories")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(jsonPath("$[0].name").value("TestCategory"));
+	}
+
+	@Test
+	void Acceptが指定されていない場合はJSONを返すこと() throws Exception {
+		stubSerializedCategories();
+
+		mockMvc.perform(get("/api/categories"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(header().string(HttpHeaders.ETAG, testETag))
+				.andExpect(jsonPath("$[0].name").value("TestCategory"));
+	}
+
+	@Test
+	void AcceptがCBORの場合はCBORと弱いETagを返すこと() throws Exception {
+		stubSerializedCategories();
+
+		MvcResult result = mockMvc.perform(get("/api/categories")
+						.accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+				.andExpect(header().string(HttpHeaders.ETAG, "W/" + testETag))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+				.andReturn();
+
+		List<CategoryResponse> categories = objectMapper.copyWith(new CBORFactory())
+				.readValue(result.getResponse().getContentAsByteArray(), new TypeReference<>() {
+				});
+		assertThat(categories).extracting(CategoryResponse::getName).containsExactly("TestCategory", "SecondCategory");
+	}
+
+	@Test
+	void AcceptがCBORでIfNoneMatchが弱いETagと一致する場合は304を返すこと() throws Exception {
+		stubSerializedCategories();
+
+		mockMvc.perform(get("/api/categories")
+						.header(HttpHeaders.IF_NONE_MATCH, "W/" + testETag)
+						.accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isNotModified());
 	}
 
 	@Test
 	void サービスで予期せぬ例外が発生した場合500を返すこと() throws Exception {
-		when(categoryService.findAllCategories()).thenThrow(new RuntimeException("データベース接続エラー"));
+		when(categoryService.findSerializedCategories()).thenThrow(new RuntimeException("データベース接続エラー"));
 
 		mockMvc.perform(get("/api/categories")
 						.accept(MediaType.APPLICATION_JSON))
 				.andExpect(status().isInternalServerError());
 
-		verify(categoryService, times(1)).findAllCategories();
+		verify(categoryService, times(1)).findSerializedCategories();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.rikuto.revox.controller;
+
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.bike.BikeResponse;
+import com.rikuto.revox.dto.dashboard.CategoryTaskCountResponse;
+import com.rikuto.revox.dto.dashboard.DashboardResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.service.DashboardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+		controllers = DashboardController.class,
+		excludeAutoConfiguration = SecurityAutoConfiguration.class
+)
+class DashboardControllerTest {
+
+	private final Integer testUserId = 1;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private DashboardService dashboardService;
+
+	@Test
+	void ダッシュボード情報を正常に取得し200を返すこと() throws Exception {
+		DashboardResponse dashboard = DashboardResponse.builder()
+				.bikes(List.of(BikeResponse.builder().id(2).modelName("TestBike").build()))
+				.latestMaintenanceTasks(List.of(MaintenanceTaskResponse.builder().id(10).bikeId(2).name("オイル交換").build()))
+				.categoryTaskCounts(List.of(new CategoryTaskCountResponse(1, 3L)))
+				.recentAiQuestions(List.of(AiQuestionResponse.builder().id(20).question("エンジンオイルの選び方").build()))
+				.build();
+		when(dashboardService.getDashboard(testUserId)).thenReturn(dashboard);
+
+		mockMvc.perform(get("/api/dashboard/user/{userId}", testUserId)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.bikes[0].modelName").value("TestBike"))
+				.andExpect(jsonPath("$.latestMaintenanceTasks[0].name").value("オイル交換"))
+				.andExpect(jsonPath("$.categoryTaskCounts[0].taskCount").value(3))
+				.andExpect(jsonPath("$.recentAiQuestions[0].question").value("エンジンオイルの選び方"));
+
+		verify(dashboardService).getDashboard(testUserId);
+	}
+
+	@Test
+	void ユーザーIDが不正な場合は400を返すこと() throws Exception {
+		mockMvc.perform(get("/api/dashboard/user/{userId}", 0)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isBadRequest());
+
+		verify(dashboardService, never()).getDashboard(any());
+	}
+
+	@Test
+	void サービスで予期せぬ例外が発生した場合500を返すこと() throws Exception {
+		when(dashboardService.getDashboard(testUserId)).thenThrow(new RuntimeException("データベース接続エラー"));
+
+		mockMvc.perform(get("/api/dashboard/user/{userId}", testUserId)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isInternalServerError());
+	}
+}
@@ -0,0 +1,127 @@
+package com.rikuto.revox.controller;
+
+import com.rikuto.revox.exception.ResourceNotFoundException;
+import com.rikuto.revox.security.details.CurrentUserProvider;
+import com.rikuto.revox.service.ExportFormat;
+import com.rikuto.revox.service.HistoryExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+		controllers = HistoryExportController.class,
+		excludeAutoConfiguration = SecurityAutoConfiguration.class
+)
+class HistoryExportControllerTest {
+
+	private final Integer testUserId = 1;
+	private final Integer testBikeId = 101;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private HistoryExportService historyExportService;
+
+	@MockitoBean
+	private CurrentUserProvider currentUserProvider;
+
+	@BeforeEach
+	void setUp() {
+		when(currentUserProvider.getCurrentUserId()).thenReturn(testUserId);
+	}
+
+	@Nested
+	class ExportMaintenanceTasksTests {
+		@Test
+		void 形式を省略した場合はNDJSONの添付ファイルとして出力されること() throws Exception {
+			when(historyExportService.exportMaintenanceTasks(null, testUserId, ExportFormat.NDJSON))
+					.thenReturn(outputStream -> outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8)));
+
+			MvcResult result = mockMvc.perform(get("/api/export/maintenance-tasks"))
+					.andExpect(request().asyncStarted())
+					.andReturn();
+
+			mockMvc.perform(asyncDispatch(result))
+					.andExpect(status().isOk())
+					.andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+					.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"maintenance-tasks.ndjson\""))
+					.andExpect(content().string("{\"id\":1}\n"));
+		}
+
+		@Test
+		void バイクIDとCSV形式を指定した場合はCSVの添付ファイルとして出力されること() throws Exception {
+			when(historyExportService.exportMaintenanceTasks(testBikeId, testUserId, ExportFormat.CSV))
+					.thenReturn(outputStream -> outputStream.write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8)));
+
+			MvcResult result = mockMvc.perform(get("/api/export/maintenance-tasks")
+							.param("bikeId", testBikeId.toString())
+							.param("format", "CSV"))
+					.andExpect(request().asyncStarted())
+					.andReturn();
+
+			mockMvc.perform(asyncDispatch(result))
+					.andExpect(status().isOk())
+					.andExpect(content().contentTypeCompatibleWith("text/csv"))
+					.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"maintenance-tasks.csv\""))
+					.andExpect(content().string("id\r\n1\r\n"));
+		}
+
+		@Test
+		void 対応していない形式の場合は400を返すこと() throws Exception {
+			mockMvc.perform(get("/api/export/maintenance-tasks").param("format", "xml"))
+					.andExpect(status().isBadRequest());
+
+			verify(historyExportService, never()).exportMaintenanceTasks(any(), any(), any());
+		}
+
+		@Test
+		void 所有していないバイクを指定した場合は404を返すこと() throws Exception {
+			when(historyExportService.exportMaintenanceTasks(testBikeId, testUserId, ExportFormat.NDJSON))
+					.thenThrow(new ResourceNotFoundException("バイクが見つかりません"));
+
+			mockMvc.perform(get("/api/export/maintenance-tasks").param("bikeId", testBikeId.toString()))
+					.andExpect(status().isNotFound());
+		}
+	}
+
+	@Nested
+	class ExportAiQuestionsTests {
+		@Test
+		void AI質問履歴が添付ファイルとして出力されること() throws Exception {
+			when(historyExportService.exportAiQuestions(eq(null), eq(testUserId), eq(ExportFormat.NDJSON)))
+					.thenReturn(outputStream -> outputStream.write("{\"id\":5}\n".getBytes(StandardCharsets.UTF_8)));
+
+			MvcResult result = mockMvc.perform(get("/api/export/ai-questions"))
+					.andExpect(request().asyncStarted())
+					.andReturn();
+
+			mockMvc.perform(asyncDispatch(result))
+					.andExpect(status().isOk())
+					.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"ai-questions.ndjson\""))
+					.andExpect(content().string("{\"id\":5}\n"));
+		}
+	}
+}
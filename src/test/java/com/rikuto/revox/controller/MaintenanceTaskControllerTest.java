@@ -1,10 +1,23 @@
 package com.rikuto.revox.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rikuto.revox.dto.fields.ResponseFields;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportError;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskPageResponse;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskRequest;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchHighlight;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchHit;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchSnippet;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskUpdateRequest;
+import com.rikuto.revox.dto.version.ResourceVersion;
+import com.rikuto.revox.exception.InvalidRequestException;
 import com.rikuto.revox.exception.ResourceNotFoundException;
+import com.rikuto.revox.security.details.CurrentUserProvider;
+import com.rikuto.revox.service.MaintenanceTaskImportService;
+import com.rikuto.revox.service.MaintenanceTaskSearchService;
 import com.rikuto.revox.service.MaintenanceTaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -12,10 +25,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -30,6 +45,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,6 +58,7 @@ class MaintenanceTaskControllerTest {
 	private final Integer testBikeId = 101;
 	private final Integer testCategoryId = 1;
 	private final Integer testMaintenanceTaskId = 301;
+	private final Integer testUserId = 1;
 
 	@Autowired
 	private MockMvc mockMvc;
@@ -52,13 +69,25 @@ class MaintenanceTaskControllerTest {
 	@MockitoBean
 	private MaintenanceTaskService maintenanceTaskService;
 
+	@MockitoBean
+	private MaintenanceTaskImportService maintenanceTaskImportService;
+
+	@MockitoBean
+	private MaintenanceTaskSearchService maintenanceTaskSearchService;
+
+	@MockitoBean
+	private CurrentUserProvider currentUserProvider;
+
 	private MaintenanceTaskRequest commonMaintenanceTaskRequest;
 	private MaintenanceTaskUpdateRequest commonMaintenanceTaskUpdateRequest;
 	private MaintenanceTaskResponse commonMaintenanceTaskResponse;
 	private List<MaintenanceTaskResponse> commonMaintenanceTaskResponseList;
+	private MaintenanceTaskPageResponse commonMaintenanceTaskPageResponse;
 
 	@BeforeEach
 	void setUp() {
+		when(currentUserProvider.getCurrentUserId()).thenReturn(testUserId);
+
 		commonMaintenanceTaskRequest = MaintenanceTaskRequest.builder()
 				.categoryId(testCategoryId)
 				.bikeId(testBikeId)
@@ -81,13 +110,18 @@ class MaintenanceTaskControllerTest {
 				.build();
 
 		commonMaintenanceTaskResponseList = List.of(commonMaintenanceTaskResponse);
+
+		commonMaintenanceTaskPageResponse = MaintenanceTaskPageResponse.builder()
+				.maintenanceTasks(commonMaintenanceTaskResponseList)
+				.nextCursor("next-cursor")
+				.build();
 	}
 
 	@Nested
 	class PostTests {
 		@Test
 		void 新しい整備タスクが正常に登録され201を返すこと() throws Exception {
-			when(maintenanceTaskService.registerMaintenanceTask(any())).thenReturn(commonMaintenanceTaskResponse);
+			when(maintenanceTaskService.registerMaintenanceTask(any(), eq(testUserId))).thenReturn(commonMaintenanceTaskResponse);
 
 			mockMvc.perform(post("/api/maintenance-task")
 							.contentType(MediaType.APPLICATION_JSON)
@@ -96,7 +130,7 @@ class MaintenanceTaskControllerTest {
 					.andExpect(jsonPath("$.id").value(testMaintenanceTaskId))
 					.andExpect(jsonPath("$.name").value("オイル交換手順"));
 
-			verify(maintenanceTaskService).registerMaintenanceTask(any());
+			verify(maintenanceTaskService).registerMaintenanceTask(any(), eq(testUserId));
 		}
 
 		@Test
@@ -113,12 +147,12 @@ class MaintenanceTaskControllerTest {
 							.content(objectMapper.writeValueAsString(invalidRequest)))
 					.andExpect(status().isBadRequest());
 
-			verify(maintenanceTaskService, never()).registerMaintenanceTask(any());
+			verify(maintenanceTaskService, never()).registerMaintenanceTask(any(), any());
 		}
 
 		@Test
 		void 紐づくリソースが見つからない場合は404を返すこと() throws Exception {
-			when(maintenanceTaskService.registerMaintenanceTask(any()))
+			when(maintenanceTaskService.registerMaintenanceTask(any(), eq(testUserId)))
 					.thenThrow(new ResourceNotFoundException("リソースが見つかりません"));
 
 			mockMvc.perform(post("/api/maintenance-task")
@@ -126,16 +160,72 @@ class MaintenanceTaskControllerTest {
 							.content(objectMapper.writeValueAsString(commonMaintenanceTaskRequest)))
 					.andExpect(status().isNotFound());
 
-			verify(maintenanceTaskService).registerMaintenanceTask(any());
+			verify(maintenanceTaskService).registerMaintenanceTask(any(), eq(testUserId));
+		}
+	}
+
+	@Nested
+	class ImportTests {
+		@Test
+		void NDJSONの一括登録が成功し200と登録結果を返すこと() throws Exception {
+			when(maintenanceTaskImportService.importNdjson(any(InputStream.class), eq(testUserId)))
+					.thenReturn(MaintenanceTaskImportResponse.builder()
+							.importedCount(1)
+							.errorCount(1)
+							.errors(List.of(new MaintenanceTaskImportError(2, "JSONの形式が不正です。")))
+							.build());
+
+			mockMvc.perform(post("/api/maintenance-task/import")
+							.contentType(MediaType.APPLICATION_NDJSON)
+							.content("{\"bikeId\":101,\"categoryId\":1,\"name\":\"オイル交換\",\"description\":\"説明\"}\n{不正なJSON}\n"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.importedCount").value(1))
+					.andExpect(jsonPath("$.errorCount").value(1))
+					.andExpect(jsonPath("$.errors[0].line").value(2));
+
+			verify(maintenanceTaskImportService).importNdjson(any(InputStream.class), eq(testUserId));
+		}
+
+		@Test
+		void CSVの一括登録が成功し200と登録結果を返すこと() throws Exception {
+			when(maintenanceTaskImportService.importCsv(any(InputStream.class), eq(testUserId)))
+					.thenReturn(MaintenanceTaskImportResponse.builder().importedCount(1).errorCount(0).errors(List.of()).build());
+
+			mockMvc.perform(post("/api/maintenance-task/import")
+							.contentType("text/csv")
+							.content("bikeId,categoryId,name,description\n101,1,オイル交換,説明\n"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.importedCount").value(1));
+
+			verify(maintenanceTaskImportService).importCsv(any(InputStream.class), eq(testUserId));
+		}
+
+		@Test
+		void CSVのヘッダー行が不正な場合は400を返すこと() throws Exception {
+			when(maintenanceTaskImportService.importCsv(any(InputStream.class), eq(testUserId)))
+					.thenThrow(new InvalidRequestException("ヘッダー行に必須の列がありません。"));
+
+			mockMvc.perform(post("/api/maintenance-task/import")
+							.contentType("text/csv")
+							.content("bikeId,name\n101,オイル交換\n"))
+					.andExpect(status().isBadRequest());
 		}
 	}
 
 	@Nested
 	class GetTests {
+		private ResourceVersion taskVersion;
+
+		@BeforeEach
+		void setUp() {
+			taskVersion = new ResourceVersion(3L, 303L);
+			when(maintenanceTaskService.findVersionByUserId(testUserId)).thenReturn(taskVersion);
+			when(maintenanceTaskService.findVersionByBikeId(testBikeId, testUserId)).thenReturn(taskVersion);
+		}
+
 		@Test
 		void ユーザーIDに紐づくタスクを正常に取得し200を返すこと() throws Exception {
-			Integer testUserId = 1;
-			when(maintenanceTaskService.findLatestMaintenanceTasksByUserId(testUserId))
+			when(maintenanceTaskService.findLatestMaintenanceTasksByUserId(testUserId, ResponseFields.all()))
 					.thenReturn(commonMaintenanceTaskResponseList);
 
 			mockMvc.perform(get("/api/maintenance-task/user/{userId}", testUserId)
@@ -145,35 +235,272 @@ class MaintenanceTaskControllerTest {
 					.andExpect(jsonPath("$[0].id").value(testMaintenanceTaskId))
 					.andExpect(jsonPath("$[0].name").value("オイル交換手順"));
 
-			verify(maintenanceTaskService).findLatestMaintenanceTasksByUserId(testUserId);
+			verify(maintenanceTaskService).findLatestMaintenanceTasksByUserId(testUserId, ResponseFields.all());
 		}
 
 		@Test
 		void バイクIDに紐づくタスクを正常に取得し200を返すこと() throws Exception {
-			when(maintenanceTaskService.findByBikeId(testBikeId))
-					.thenReturn(commonMaintenanceTaskResponseList);
+			when(maintenanceTaskService.findByBikeId(testBikeId, null, null, testUserId, ResponseFields.all()))
+					.thenReturn(commonMaintenanceTaskPageResponse);
 
 			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}", testBikeId)
 							.accept(MediaType.APPLICATION_JSON))
 					.andExpect(status().isOk())
 					.andExpect(content().contentType(MediaType.APPLICATION_JSON))
-					.andExpect(jsonPath("$[0].id").value(testMaintenanceTaskId));
+					.andExpect(jsonPath("$.maintenanceTasks[0].id").value(testMaintenanceTaskId))
+					.andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+
+			verify(maintenanceTaskService).findByBikeId(testBikeId, null, null, testUserId, ResponseFields.all());
+		}
+
+		@Test
+		void カーソルと件数を指定してバイクIDに紐づくタスクを取得できること() throws Exception {
+			when(maintenanceTaskService.findByBikeId(testBikeId, "cursor", 50, testUserId, ResponseFields.all()))
+					.thenReturn(commonMaintenanceTaskPageResponse);
+
+			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}", testBikeId)
+							.param("cursor", "cursor")
+							.param("size", "50")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.maintenanceTasks[0].id").value(testMaintenanceTaskId));
+
+			verify(maintenanceTaskService).findByBikeId(testBikeId, "cursor", 50, testUserId, ResponseFields.all());
+		}
+
+		@Test
+		void 件数が上限を超える場合は400を返すこと() throws Exception {
+			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}", testBikeId)
+							.param("size", "101")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isBadRequest());
+
+			verify(maintenanceTaskService, never()).findByBikeId(any(), any(), any(), any(), any());
+		}
+
+		@Test
+		void 不正なカーソルの場合は400を返すこと() throws Exception {
+			when(maintenanceTaskService.findByBikeId(testBikeId, "invalid", null, testUserId, ResponseFields.all()))
+					.thenThrow(new InvalidRequestException("カーソルが不正です。"));
+
+			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}", testBikeId)
+							.param("cursor", "invalid")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isBadRequest());
+		}
+
+		@Test
+		void 所有していないバイクのタスクを取得する場合は404を返すこと() throws Exception {
+			when(maintenanceTaskService.findVersionByBikeId(testBikeId, testUserId))
+					.thenThrow(new ResourceNotFoundException("バイクが見つかりません"));
+
+			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}", testBikeId)
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isNotFound());
+
+			verify(maintenanceTaskService, never()).findByBikeId(any(), any(), any(), any(), any());
+		}
+
+		@Test
+		void ユーザーIDに紐づくタスクに変更がない場合は304を返すこと() throws Exception {
+			mockMvc.perform(get("/api/maintenance-task/user/{userId}", testUserId)
+							.header(HttpHeaders.IF_NONE_MATCH, taskVersion.getETag())
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isNotModified());
+
+			verify(maintenanceTaskService, never()).findLatestMaintenanceTasksByUserId(any(), any());
+		}
+
+		@Test
+		void バイクIDに紐づくタスクに変更がない場合は304を返すこと() throws Exception {
+			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}", testBikeId)
+							.header(HttpHeaders.IF_NONE_MATCH, taskVersion.getETag())
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isNotModified());
+
+			verify(maintenanceTaskService, never()).findByBikeId(any(), any(), any(), any(), any());
+		}
+
+		@Test
+		void バイクIDとカテゴリIDに紐づくタスクに変更がない場合は304を返すこと() throws Exception {
+			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}/category/{categoryId}", testBikeId, testCategoryId)
+							.header(HttpHeaders.IF_NONE_MATCH, taskVersion.getETag())
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isNotModified());
 
-			verify(maintenanceTaskService).findByBikeId(testBikeId);
+			verify(maintenanceTaskService, never()).findByBikeIdAndCategoryId(any(), any(), any(), any(), any(), any());
+		}
+
+		@Test
+		void IfModifiedSinceのみでは304を返さないこと() throws Exception {
+			when(maintenanceTaskService.findByBikeId(testBikeId, null, null, testUserId, ResponseFields.all()))
+					.thenReturn(commonMaintenanceTaskPageResponse);
+
+			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}", testBikeId)
+							.header(HttpHeaders.IF_MODIFIED_SINCE, System.currentTimeMillis())
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk());
+
+			verify(maintenanceTaskService).findByBikeId(testBikeId, null, null, testUserId, ResponseFields.all());
+		}
+
+		@Test
+		void タスクのレスポンスにETagが設定されること() throws Exception {
+			when(maintenanceTaskService.findByBikeId(testBikeId, null, null, testUserId, ResponseFields.all()))
+					.thenReturn(commonMaintenanceTaskPageResponse);
+
+			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}", testBikeId)
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(header().string(HttpHeaders.ETAG, taskVersion.getETag()));
 		}
 
 		@Test
 		void バイクIDとカテゴリIDに紐づくタスクを正常に取得し200を返すこと() throws Exception {
-			when(maintenanceTaskService.findByBikeIdAndCategoryId(testBikeId, testCategoryId))
-					.thenReturn(commonMaintenanceTaskResponseList);
+			when(maintenanceTaskService.findByBikeIdAndCategoryId(testBikeId, testCategoryId, null, null, testUserId, ResponseFields.all()))
+					.thenReturn(commonMaintenanceTaskPageResponse);
 
 			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}/category/{categoryId}", testBikeId, testCategoryId)
 							.accept(MediaType.APPLICATION_JSON))
 					.andExpect(status().isOk())
 					.andExpect(content().contentType(MediaType.APPLICATION_JSON))
-					.andExpect(jsonPath("$[0].id").value(testMaintenanceTaskId));
+					.andExpect(jsonPath("$.maintenanceTasks[0].id").value(testMaintenanceTaskId));
+
+			verify(maintenanceTaskService).findByBikeIdAndCategoryId(testBikeId, testCategoryId, null, null, testUserId, ResponseFields.all());
+		}
+
+		@Test
+		void fieldsを指定した場合は指定された項目とカーソルのみを返すこと() throws Exception {
+			ResponseFields fields = ResponseFields.parse("id,name,createdAt", MaintenanceTaskResponse.class);
+			when(maintenanceTaskService.findByBikeId(testBikeId, null, null, testUserId, fields))
+					.thenReturn(commonMaintenanceTaskPageResponse);
+
+			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}", testBikeId)
+							.param("fields", "id,name,createdAt")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.maintenanceTasks[0].id").value(testMaintenanceTaskId))
+					.andExpect(jsonPath("$.maintenanceTasks[0].name").value("オイル交換手順"))
+					.andExpect(jsonPath("$.maintenanceTasks[0].createdAt").exists())
+					.andExpect(jsonPath("$.maintenanceTasks[0].description").doesNotExist())
+					.andExpect(jsonPath("$.maintenanceTasks[0].updatedAt").doesNotExist())
+					.andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+
+			verify(maintenanceTaskService).findByBikeId(testBikeId, null, null, testUserId, fields);
+		}
+
+		@Test
+		void ユーザーIDに紐づくタスクでfieldsを指定した場合は指定された項目のみを返すこと() throws Exception {
+			ResponseFields fields = ResponseFields.parse("id,name", MaintenanceTaskResponse.class);
+			when(maintenanceTaskService.findLatestMaintenanceTasksByUserId(testUserId, fields))
+					.thenReturn(commonMaintenanceTaskResponseList);
+
+			mockMvc.perform(get("/api/maintenance-task/user/{userId}", testUserId)
+							.param("fields", "id,name")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$[0].id").value(testMaintenanceTaskId))
+					.andExpect(jsonPath("$[0].name").value("オイル交換手順"))
+					.andExpect(jsonPath("$[0].description").doesNotExist())
+					.andExpect(jsonPath("$[0].bikeId").doesNotExist());
+		}
+
+		@Test
+		void fieldsに存在しない項目を指定した場合は400を返すこと() throws Exception {
+			mockMvc.perform(get("/api/maintenance-task/bike/{bikeId}/category/{categoryId}", testBikeId, testCategoryId)
+							.param("fields", "id,password")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isBadRequest());
 
-			verify(maintenanceTaskService).findByBikeIdAndCategoryId(testBikeId, testCategoryId);
+			verify(maintenanceTaskService, never()).findByBikeIdAndCategoryId(any(), any(), any(), any(), any(), any());
+		}
+	}
+
+	@Nested
+	class SearchTests {
+		@Test
+		void 検索語に一致したタスクを一致範囲とともに返し200を返すこと() throws Exception {
+			MaintenanceTaskSearchHit hit = MaintenanceTaskSearchHit.builder()
+					.id(testMaintenanceTaskId)
+					.categoryId(testCategoryId)
+					.bikeId(testBikeId)
+					.name(new MaintenanceTaskSearchSnippet("オイル交換手順", List.of(new MaintenanceTaskSearchHighlight(0, 3))))
+					.description(new MaintenanceTaskSearchSnippet("新しいオイルを注入する", List.of(new MaintenanceTaskSearchHighlight(3, 6))))
+					.build();
+			when(maintenanceTaskSearchService.search("オイル", testBikeId, testCategoryId, 1, 10, testUserId))
+					.thenReturn(MaintenanceTaskSearchResponse.builder().hits(List.of(hit)).page(1).hasNext(true).build());
+
+			mockMvc.perform(get("/api/maintenance-task/search")
+							.param("q", "オイル")
+							.param("bikeId", String.valueOf(testBikeId))
+							.param("categoryId", String.valueOf(testCategoryId))
+							.param("page", "1")
+							.param("size", "10")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.hits[0].id").value(testMaintenanceTaskId))
+					.andExpect(jsonPath("$.hits[0].name.text").value("オイル交換手順"))
+					.andExpect(jsonPath("$.hits[0].name.highlights[0].start").value(0))
+					.andExpect(jsonPath("$.hits[0].name.highlights[0].end").value(3))
+					.andExpect(jsonPath("$.page").value(1))
+					.andExpect(jsonPath("$.hasNext").value(true));
+		}
+
+		@Test
+		void 絞り込み条件を省略した場合はnullとして検索すること() throws Exception {
+			when(maintenanceTaskSearchService.search("オイル", null, null, null, null, testUserId))
+					.thenReturn(MaintenanceTaskSearchResponse.builder().hits(List.of()).page(0).hasNext(false).build());
+
+			mockMvc.perform(get("/api/maintenance-task/search")
+							.param("q", "オイル")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.hits").isEmpty());
+
+			verify(maintenanceTaskSearchService).search("オイル", null, null, null, null, testUserId);
+		}
+
+		@Test
+		void 検索語が空白の場合は400を返すこと() throws Exception {
+			mockMvc.perform(get("/api/maintenance-task/search")
+							.param("q", " ")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isBadRequest());
+
+			verify(maintenanceTaskSearchService, never()).search(any(), any(), any(), any(), any(), any());
+		}
+
+		@Test
+		void 検索語が上限の文字数を超える場合は400を返すこと() throws Exception {
+			mockMvc.perform(get("/api/maintenance-task/search")
+							.param("q", "あ".repeat(101))
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isBadRequest());
+
+			verify(maintenanceTaskSearchService, never()).search(any(), any(), any(), any(), any(), any());
+		}
+
+		@Test
+		void ページ番号が負の場合は400を返すこと() throws Exception {
+			mockMvc.perform(get("/api/maintenance-task/search")
+							.param("q", "オイル")
+							.param("page", "-1")
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isBadRequest());
+
+			verify(maintenanceTaskSearchService, never()).search(any(), any(), any(), any(), any(), any());
+		}
+
+		@Test
+		void 所有していないバイクで絞り込む場合は404を返すこと() throws Exception {
+			when(maintenanceTaskSearchService.search("オイル", testBikeId, null, null, null, testUserId))
+					.thenThrow(new ResourceNotFoundException("バイクが見つかりません"));
+
+			mockMvc.perform(get("/api/maintenance-task/search")
+							.param("q", "オイル")
+							.param("bikeId", String.valueOf(testBikeId))
+							.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isNotFound());
 		}
 	}
 
@@ -181,7 +508,7 @@ class MaintenanceTaskControllerTest {
 	class UpdateTests {
 		@Test
 		void 既存の整備タスクが正常に更新され200を返すこと() throws Exception {
-			when(maintenanceTaskService.updateMaintenanceTask(eq(testMaintenanceTaskId), any(MaintenanceTaskUpdateRequest.class)))
+			when(maintenanceTaskService.updateMaintenanceTask(eq(testMaintenanceTaskId), any(MaintenanceTaskUpdateRequest.class), eq(testUserId)))
 					.thenReturn(commonMaintenanceTaskResponse);
 
 			mockMvc.perform(patch("/api/maintenance-task/{maintenanceTaskId}", testMaintenanceTaskId)
@@ -191,12 +518,12 @@ class MaintenanceTaskControllerTest {
 					.andExpect(jsonPath("$.id").value(testMaintenanceTaskId))
 					.andExpect(jsonPath("$.name").value("オイル交換手順"));
 
-			verify(maintenanceTaskService).updateMaintenanceTask(eq(testMaintenanceTaskId), any(MaintenanceTaskUpdateRequest.class));
+			verify(maintenanceTaskService).updateMaintenanceTask(eq(testMaintenanceTaskId), any(MaintenanceTaskUpdateRequest.class), eq(testUserId));
 		}
 
 		@Test
 		void 更新時に整備タスクが見つからない場合は404を返すこと() throws Exception {
-			when(maintenanceTaskService.updateMaintenanceTask(eq(testMaintenanceTaskId), any(MaintenanceTaskUpdateRequest.class)))
+			when(maintenanceTaskService.updateMaintenanceTask(eq(testMaintenanceTaskId), any(MaintenanceTaskUpdateRequest.class), eq(testUserId)))
 					.thenThrow(new ResourceNotFoundException("整備タスクが見つかりません"));
 
 			mockMvc.perform(patch("/api/maintenance-task/{maintenanceTaskId}", testMaintenanceTaskId)
@@ -204,7 +531,7 @@ class MaintenanceTaskControllerTest {
 							.content(objectMapper.writeValueAsString(commonMaintenanceTaskUpdateRequest)))
 					.andExpect(status().isNotFound());
 
-			verify(maintenanceTaskService).updateMaintenanceTask(eq(testMaintenanceTaskId), any(MaintenanceTaskUpdateRequest.class));
+			verify(maintenanceTaskService).updateMaintenanceTask(eq(testMaintenanceTaskId), any(MaintenanceTaskUpdateRequest.class), eq(testUserId));
 		}
 	}
 
@@ -212,23 +539,23 @@ class MaintenanceTaskControllerTest {
 	class SoftDeleteTests {
 		@Test
 		void 論理削除が成功し204を返すこと() throws Exception {
-			doNothing().when(maintenanceTaskService).softDeleteMaintenanceTask(testMaintenanceTaskId);
+			doNothing().when(maintenanceTaskService).softDeleteMaintenanceTask(testMaintenanceTaskId, testUserId);
 
 			mockMvc.perform(patch("/api/maintenance-task/{maintenanceTaskId}/softDelete", testMaintenanceTaskId))
 					.andExpect(status().isNoContent());
 
-			verify(maintenanceTaskService).softDeleteMaintenanceTask(testMaintenanceTaskId);
+			verify(maintenanceTaskService).softDeleteMaintenanceTask(testMaintenanceTaskId, testUserId);
 		}
 
 		@Test
 		void 存在しない整備タスクの削除時に404を返すこと() throws Exception {
 			doThrow(new ResourceNotFoundException("整備タスクが見つかりません"))
-					.when(maintenanceTaskService).softDeleteMaintenanceTask(testMaintenanceTaskId);
+					.when(maintenanceTaskService).softDeleteMaintenanceTask(testMaintenanceTaskId, testUserId);
 
 			mockMvc.perform(patch("/api/maintenance-task/{maintenanceTaskId}/softDelete", testMaintenanceTaskId))
 					.andExpect(status().isNotFound());
 
-			verify(maintenanceTaskService).softDeleteMaintenanceTask(testMaintenanceTaskId);
+			verify(maintenanceTaskService).softDeleteMaintenanceTask(testMaintenanceTaskId, testUserId);
 		}
 	}
 }
\ No newline at end of file
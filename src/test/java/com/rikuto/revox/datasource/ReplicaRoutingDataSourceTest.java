@@ -0,0 +1,173 @@
+package com.rikuto.revox.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+	@Mock
+	private DataSource primaryDataSource;
+
+	@Mock
+	private DataSource replicaDataSource;
+
+	@Mock
+	private ReplicaLagMonitor lagMonitor;
+
+	@Mock
+	private Connection primaryConnection;
+
+	@Mock
+	private Connection replicaConnection;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private ReadYourWritesTracker readYourWritesTracker;
+
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@BeforeEach
+	void setUp() {
+		readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+		routingDataSource = new ReplicaRoutingDataSource(
+				primaryDataSource, replicaDataSource, lagMonitor, readYourWritesTracker, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	private void authenticateAs(String uniqueUserId) {
+		SecurityContextHolder.getContext().setAuthentication(
+				UsernamePasswordAuthenticationToken.authenticated(uniqueUserId, null, List.of()));
+	}
+
+	private void commitTransaction(boolean readOnly) {
+		TransactionExecution transaction = mock(TransactionExecution.class);
+		when(transaction.isReadOnly()).thenReturn(readOnly);
+		if(! readOnly) {
+			when(transaction.isNewTransaction()).thenReturn(true);
+		}
+		readYourWritesTracker.afterCommit(transaction, null);
+	}
+
+	private double routeCount(String target, String reason) {
+		return meterRegistry.get("revox.datasource.routing").tag("target", target).tag("reason", reason).counter().count();
+	}
+
+	@Nested
+	class GetConnectionTests {
+		@Test
+		void レプリカが使用できる場合はレプリカから接続を取得すること() throws SQLException {
+			when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+			when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+			assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+			assertThat(routeCount("replica", "replica")).isEqualTo(1.0);
+			verify(primaryDataSource, never()).getConnection();
+		}
+
+		@Test
+		void レプリカの遅延が上限を超えている場合はプライマリから接続を取得すること() throws SQLException {
+			when(lagMonitor.isReplicaAvailable()).thenReturn(false);
+			when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+			assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+			assertThat(routeCount("primary", "replica_unavailable")).isEqualTo(1.0);
+			verify(replicaDataSource, never()).getConnection();
+		}
+
+		@Test
+		void レプリカへの接続に失敗した場合はプライマリにフォールバックしレプリカを使用不可にすること() throws SQLException {
+			SQLException failure = new SQLException("Connection refused");
+			when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+			when(replicaDataSource.getConnection()).thenThrow(failure);
+			when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+			assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+			assertThat(routeCount("primary", "connection_failure")).isEqualTo(1.0);
+			verify(lagMonitor).markUnavailable(failure);
+		}
+
+		@Test
+		void ユーザー名とパスワードを指定した場合はプライマリから指定した認証情報で接続を取得すること() throws SQLException {
+			when(primaryDataSource.getConnection("revox", "secret")).thenReturn(primaryConnection);
+
+			assertThat(routingDataSource.getConnection("revox", "secret")).isSameAs(primaryConnection);
+			verify(replicaDataSource, never()).getConnection("revox", "secret");
+			verify(replicaDataSource, never()).getConnection();
+		}
+	}
+
+	@Nested
+	class ReadYourWritesTests {
+		@Test
+		void 書き込みをコミットした直後の同じユーザーの読み取りはプライマリから接続を取得すること() throws SQLException {
+			authenticateAs("google-sub-writer");
+			commitTransaction(false);
+			when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+			assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+			assertThat(routeCount("primary", "read_your_writes")).isEqualTo(1.0);
+			verify(replicaDataSource, never()).getConnection();
+		}
+
+		@Test
+		void 他のユーザーの書き込みの直後でもレプリカから接続を取得すること() throws SQLException {
+			authenticateAs("google-sub-writer");
+			commitTransaction(false);
+			authenticateAs("google-sub-reader");
+			when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+			when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+			assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+		}
+
+		@Test
+		void 読み取り専用トランザクションのコミットは書き込みとして記録しないこと() throws SQLException {
+			authenticateAs("google-sub-reader");
+			commitTransaction(true);
+			when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+			when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+			assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+		}
+
+		@Test
+		void 期間を過ぎた書き込みはプライマリで読み取る対象にしないこと() throws Exception {
+			readYourWritesTracker = new ReadYourWritesTracker(Duration.ZERO);
+			routingDataSource = new ReplicaRoutingDataSource(
+					primaryDataSource, replicaDataSource, lagMonitor, readYourWritesTracker, meterRegistry);
+			authenticateAs("google-sub-writer");
+			commitTransaction(false);
+			Thread.sleep(1);
+			when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+			when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+			assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package com.rikuto.revox.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ストリーミングレプリケーションで構成した2台のPostgreSQLに対して、読み取り専用トランザクションの接続先を確認するテストです。
+ * 接続先は、スタンバイでのみtrueを返すpg_is_in_recovery()で判定します。
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+	private static final Network network = Network.newNetwork();
+
+	@SuppressWarnings("resource")
+	@Container
+	static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16")
+			.withNetwork(network)
+			.withNetworkAliases("primary")
+			.withDatabaseName("test")
+			.withUsername("user")
+			.withPassword("pass")
+			.withCopyToContainer(Transferable.of("""
+					#!/bin/bash
+					echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
+					""", 0755), "/docker-entrypoint-initdb.d/allow-replication.sh")
+			.withCommand("postgres", "-c", "wal_level=replica", "-c", "max_wal_senders=5");
+
+	@SuppressWarnings("resource")
+	@Container
+	static GenericContainer<?> replica = new GenericContainer<>("postgres:16")
+			.withNetwork(network)
+			.withEnv("PGPASSWORD", "pass")
+			.withExposedPorts(5432)
+			.withCommand("bash", "-c", """
+					mkdir -p /tmp/replica && chown postgres:postgres /tmp/replica && chmod 700 /tmp/replica
+					until gosu postgres pg_basebackup -h primary -U user -D /tmp/replica -X stream -R; do
+					  rm -rf /tmp/replica/*; sleep 1
+					done
+					exec gosu postgres postgres -D /tmp/replica -c hot_standby=on
+					""")
+			.waitingFor(Wait.forLogMessage(".*database system is ready to accept read-only connections.*\\s", 1)
+					.withStartupTimeout(Duration.ofMinutes(2)))
+			.dependsOn(primary);
+
+	@DynamicPropertySource
+	static void overrideProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", primary::getJdbcUrl);
+		registry.add("spring.datasource.username", primary::getUsername);
+		registry.add("spring.datasource.password", primary::getPassword);
+		registry.add("revox.datasource.replica.url",
+				() -> "jdbc:postgresql://" + replica.getHost() + ":" + replica.getMappedPort(5432) + "/test");
+		registry.add("revox.datasource.replica.max-lag", () -> "1s");
+		registry.add("revox.datasource.replica.check-interval", () -> "200ms");
+		registry.add("google.client-id", () -> "test-client-id");
+		registry.add("JWT_SECRET_KEY", () -> "test-secret-key-test-secret-key-test");
+		registry.add("JWT_EXPIRATION", () -> 3_600_000);
+		registry.add("gemini.base-url", () -> "http://localhost:1");
+		registry.add("gemini.api-key", () -> "test");
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private DataSource replicaDataSource;
+
+	@Autowired
+	private ReplicaLagMonitor replicaLagMonitor;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate readOnlyTransaction;
+
+	private TransactionTemplate transaction;
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+
+		awaitUntil(replicaLagMonitor::isReplicaAvailable);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	private void authenticateAs(String uniqueUserId) {
+		SecurityContextHolder.getContext().setAuthentication(
+				UsernamePasswordAuthenticationToken.authenticated(uniqueUserId, null, List.of()));
+	}
+
+	private boolean isStandby(TransactionTemplate template) {
+		return Boolean.TRUE.equals(template.execute(status -> jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class)));
+	}
+
+	private void insertUser(String uniqueUserId) {
+		transaction.executeWithoutResult(status -> jdbcTemplate.update(
+				"INSERT INTO users (nickname, unique_user_id) VALUES (?, ?)", uniqueUserId, uniqueUserId));
+	}
+
+	private Integer countUsers(TransactionTemplate template, String uniqueUserId) {
+		return template.execute(status -> jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM users WHERE unique_user_id = ?", Integer.class, uniqueUserId));
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+		while(! condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("条件を満たすまでの待ち時間が上限を超えました。").isLessThan(deadline);
+			try {
+				Thread.sleep(100);
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	@Test
+	void 読み取り専用トランザクションはレプリカで実行されること() {
+		assertThat(isStandby(readOnlyTransaction)).isTrue();
+	}
+
+	@Test
+	void 読み書き可能なトランザクションはプライマリで実行されること() {
+		assertThat(isStandby(transaction)).isFalse();
+	}
+
+	@Test
+	void プライマリへの書き込みがレプリカに反映されること() {
+		insertUser("replicated-user");
+
+		awaitUntil(() -> countUsers(readOnlyTransaction, "replicated-user") == 1);
+		assertThat(isStandby(readOnlyTransaction)).isTrue();
+	}
+
+	@Test
+	void 書き込みの直後は同じユーザーの読み取りがプライマリで実行され書き込んだ内容を読み取れること() {
+		authenticateAs("ryw-user");
+		insertUser("ryw-user");
+
+		assertThat(isStandby(readOnlyTransaction)).isFalse();
+		assertThat(countUsers(readOnlyTransaction, "ryw-user")).isEqualTo(1);
+
+		authenticateAs("other-user");
+		assertThat(isStandby(readOnlyTransaction)).isTrue();
+	}
+
+	@Test
+	void レプリカの遅延が上限を超えた場合はプライマリで読み取りその後レプリカに戻ること() {
+		JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		replicaJdbcTemplate.execute("SELECT pg_wal_replay_pause()");
+		try {
+			insertUser("lagging-user");
+
+			awaitUntil(() -> ! replicaLagMonitor.isReplicaAvailable());
+			assertThat(isStandby(readOnlyTransaction)).isFalse();
+			assertThat(countUsers(readOnlyTransaction, "lagging-user")).isEqualTo(1);
+		} finally {
+			replicaJdbcTemplate.execute("SELECT pg_wal_replay_resume()");
+		}
+
+		awaitUntil(replicaLagMonitor::isReplicaAvailable);
+		assertThat(isStandby(readOnlyTransaction)).isTrue();
+	}
+
+	@Test
+	void レプリカがプライマリからWALを受信していない場合はプライマリで読み取りその後レプリカに戻ること() {
+		JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		String primaryConninfo = replicaJdbcTemplate.queryForObject("SHOW primary_conninfo", String.class);
+		replicaJdbcTemplate.execute("ALTER SYSTEM SET primary_conninfo = ''");
+		replicaJdbcTemplate.execute("SELECT pg_reload_conf()");
+		try {
+			awaitUntil(() -> ! replicaLagMonitor.isReplicaAvailable());
+			assertThat(isStandby(readOnlyTransaction)).isFalse();
+		} finally {
+			replicaJdbcTemplate.execute("ALTER SYSTEM SET primary_conninfo = '" + primaryConninfo.replace("'", "''") + "'");
+			replicaJdbcTemplate.execute("SELECT pg_reload_conf()");
+		}
+
+		awaitUntil(replicaLagMonitor::isReplicaAvailable);
+		assertThat(isStandby(readOnlyTransaction)).isTrue();
+	}
+}
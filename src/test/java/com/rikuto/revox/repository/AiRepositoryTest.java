@@ -4,10 +4,12 @@ import com.rikuto.revox.domain.Ai;
 import com.rikuto.revox.domain.Bike;
 import com.rikuto.revox.domain.Category;
 import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -93,7 +95,7 @@ class AiRepositoryTest {
 		createAiConversation(user, bike, category, "質問1", "回答1");
 		createAiConversation(user, bike, category, "質問2", "回答2");
 
-		List<Ai> result = aiRepository.findByUserId(user.getId());
+		List<Ai> result = aiRepository.findByUserIdAndIsDeletedFalse(user.getId());
 
 		assertThat(result).hasSize(2);
 		assertThat(result).extracting(Ai::getQuestion)
@@ -111,7 +113,7 @@ class AiRepositoryTest {
 		Bike anotherbike = createBike(anotherUser, "AnotherBike", "Another");
 		createAiConversation(anotherUser, anotherbike, category, "別ユーザーの質問", "別ユーザーの回答");
 
-		List<Ai> result = aiRepository.findByUserId(user.getId());
+		List<Ai> result = aiRepository.findByUserIdAndIsDeletedFalse(user.getId());
 
 		assertThat(result).hasSize(1);
 		assertThat(result.getFirst().getId()).isEqualTo(aiConversation.getId());
@@ -119,7 +121,7 @@ class AiRepositoryTest {
 
 	@Test
 	void 存在しないユーザーIDに対して空のリストを返すこと() {
-		List<Ai> result = aiRepository.findByUserId(9999);
+		List<Ai> result = aiRepository.findByUserIdAndIsDeletedFalse(9999);
 
 		assertThat(result).isEmpty();
 	}
@@ -128,7 +130,7 @@ class AiRepositoryTest {
 	void AI質問履歴がないユーザーには空のリストを返すこと() {
 		User user = createUser("EmptyAnswer");
 
-		List<Ai> result = aiRepository.findByUserId(user.getId());
+		List<Ai> result = aiRepository.findByUserIdAndIsDeletedFalse(user.getId());
 
 		assertThat(result).isEmpty();
 	}
@@ -146,10 +148,96 @@ class AiRepositoryTest {
 		createAiConversation(owner, firseBike, categoryEngine, "バイク1エンジン質問", "バイク1エンジン回答");
 		createAiConversation(owner, secondBike, categoryBrake, "バイク2ブレーキ質問", "バイク2ブレーキ回答");
 
-		List<Ai> result = aiRepository.findByUserId(owner.getId());
+		List<Ai> result = aiRepository.findByUserIdAndIsDeletedFalse(owner.getId());
 
 		assertThat(result).hasSize(2);
 		assertThat(result).extracting(Ai::getQuestion)
 				.containsExactlyInAnyOrder("バイク1エンジン質問", "バイク2ブレーキ質問");
 	}
-}
\ No newline at end of file
+
+	@Test
+	void 論理削除されたAI質問履歴は検索結果に含まれないこと() {
+		User user = createUser("TestUser");
+		Bike bike = createBike(user, "TestBike", "Test");
+		Bike deletedBike = createBike(user, "DeletedBike", "Deleted");
+		Category category = createCategory("TestCategory", 1);
+		createAiConversation(user, bike, category, "残る質問", "回答");
+		createAiConversation(user, deletedBike, category, "削除される質問", "回答");
+
+		int deletedCount = aiRepository.softDeleteByBikeId(deletedBike.getId());
+		List<Ai> result = aiRepository.findByUserIdAndIsDeletedFalse(user.getId());
+
+		assertThat(deletedCount).isEqualTo(1);
+		assertThat(result).extracting(Ai::getQuestion).containsExactly("残る質問");
+	}
+
+	@Test
+	void ユーザーIDに紐づくAI質問履歴を回答内容を除いて取得できること() {
+		User user = createUser("TestUser");
+		User otherUser = createUser("OtherUser");
+		Bike bike = createBike(user, "TestBike", "Test");
+		Bike otherBike = createBike(otherUser, "OtherBike", "Other");
+		Category category = createCategory("TestCategory", 1);
+		createAiConversation(user, bike, category, "質問1", "回答1");
+		createAiConversation(otherUser, otherBike, category, "他ユーザーの質問", "回答");
+
+		List<AiQuestionResponse> result = aiRepository.findSummaryByUserIdAndIsDeletedFalse(user.getId());
+
+		assertThat(result).extracting(AiQuestionResponse::getQuestion).containsExactly("質問1");
+		assertThat(result).extracting(AiQuestionResponse::getAnswer).containsOnlyNulls();
+		assertThat(result).extracting(AiQuestionResponse::getBikeId).containsOnly(bike.getId());
+	}
+
+	@Test
+	void ユーザーIDに紐づくAI質問履歴を作成日時とIDの昇順に読み込めること() {
+		User user = createUser("TestUser");
+		User otherUser = createUser("OtherUser");
+		Bike bike = createBike(user, "TestBike", "Test");
+		Bike secondBike = createBike(user, "SecondBike", "Second");
+		Bike otherBike = createBike(otherUser, "OtherBike", "Other");
+		Category category = createCategory("TestCategory", 1);
+		createAiConversation(user, bike, category, "質問1", "回答1");
+		createAiConversation(user, secondBike, category, "質問2", "回答2");
+		createAiConversation(otherUser, otherBike, category, "他ユーザーの質問", "回答");
+
+		List<AiQuestionResponse> result = aiRepository.findExportFirstChunkByUserId(user.getId(), Limit.of(10));
+
+		assertThat(result).extracting(AiQuestionResponse::getQuestion).containsExactly("質問1", "質問2");
+		assertThat(result).extracting(AiQuestionResponse::getUserId).containsOnly(user.getId());
+	}
+
+	@Test
+	void ユーザーIDとバイクIDに紐づくAI質問履歴のみを読み込めること() {
+		User user = createUser("TestUser");
+		Bike bike = createBike(user, "TestBike", "Test");
+		Bike secondBike = createBike(user, "SecondBike", "Second");
+		Category category = createCategory("TestCategory", 1);
+		createAiConversation(user, bike, category, "質問1", "回答1");
+		createAiConversation(user, secondBike, category, "質問2", "回答2");
+
+		List<AiQuestionResponse> result = aiRepository.findExportFirstChunkByUserIdAndBikeId(user.getId(), bike.getId(), Limit.of(10));
+
+		assertThat(result).extracting(AiQuestionResponse::getQuestion).containsExactly("質問1");
+	}
+
+	@Test
+	void 前回取得した最後のAI質問履歴の次から指定件数分を読み込めること() {
+		User user = createUser("TestUser");
+		Bike bike = createBike(user, "TestBike", "Test");
+		Category category = createCategory("TestCategory", 1);
+		createAiConversation(user, bike, category, "質問1", "回答1");
+		createAiConversation(user, bike, category, "質問2", "回答2");
+		createAiConversation(user, bike, category, "質問3", "回答3");
+
+		List<AiQuestionResponse> firstChunk = aiRepository.findExportFirstChunkByUserId(user.getId(), Limit.of(2));
+		AiQuestionResponse last = firstChunk.getLast();
+		List<AiQuestionResponse> secondChunk = aiRepository.findExportChunkByUserIdAfter(
+				user.getId(), last.getCreatedAt(), last.getId(), Limit.of(2));
+		List<AiQuestionResponse> bikeChunk = aiRepository.findExportChunkByUserIdAndBikeIdAfter(
+				user.getId(), bike.getId(), last.getCreatedAt(), last.getId(), Limit.of(2));
+
+		assertThat(firstChunk).extracting(AiQuestionResponse::getQuestion).containsExactly("質問1", "質問2");
+		assertThat(secondChunk).extracting(AiQuestionResponse::getQuestion).containsExactly("質問3");
+		assertThat(bikeChunk).extracting(AiQuestionResponse::getQuestion).containsExactly("質問3");
+	}
+}
@@ -2,12 +2,14 @@ package com.rikuto.revox.repository;
 
 import com.rikuto.revox.domain.Bike;
 import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.bike.BikeUpdateRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -34,6 +36,9 @@ class BikeRepositoryTest {
 	@Autowired
 	private BikeRepository bikeRepository;
 
+	@Autowired
+	private TestEntityManager entityManager;
+
 	private User user;
 	private User anotherUser;
 
@@ -155,4 +160,86 @@ class BikeRepositoryTest {
 			assertFalse(result.isPresent());
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	class UpdateByIdAndUserIdTests {
+		@Test
+		void 指定した項目のみが更新され更新後のバイクが返されること() {
+			Bike bike = createBike(user, "TestBike", "Bike", "test", 2023, false);
+			entityManager.clear();
+			BikeUpdateRequest request = BikeUpdateRequest.builder()
+					.manufacturer("UpdatedBike")
+					.currentMileage(12000)
+					.build();
+
+			Optional<Bike> result = bikeRepository.updateByIdAndUserId(bike.getId(), user.getId(), request);
+
+			assertTrue(result.isPresent());
+			assertThat(result.get().getManufacturer()).isEqualTo("UpdatedBike");
+			assertThat(result.get().getCurrentMileage()).isEqualTo(12000);
+			assertThat(result.get().getModelName()).isEqualTo("Bike");
+			assertThat(result.get().getModelYear()).isEqualTo(2023);
+		}
+
+		@Test
+		void 論理削除されたバイクと他ユーザーのバイクは更新されないこと() {
+			Bike deletedBike = createBike(user, "TestBike", "Bike", "test", 2023, true);
+			Bike anotherUsersBike = createBike(anotherUser, "TestBike", "Bike", "test", 2023, false);
+			entityManager.clear();
+			BikeUpdateRequest request = BikeUpdateRequest.builder().manufacturer("UpdatedBike").build();
+
+			assertFalse(bikeRepository.updateByIdAndUserId(deletedBike.getId(), user.getId(), request).isPresent());
+			assertFalse(bikeRepository.updateByIdAndUserId(anotherUsersBike.getId(), user.getId(), request).isPresent());
+		}
+	}
+
+	@Nested
+	class SoftDeleteByIdAndUserIdTests {
+		@Test
+		void 論理削除されていないバイクが論理削除され更新件数が1であること() {
+			Bike bike = createBike(user, "TestBike", "Bike", "test", 2023, false);
+
+			int result = bikeRepository.softDeleteByIdAndUserId(bike.getId(), user.getId());
+
+			assertThat(result).isEqualTo(1);
+			assertFalse(bikeRepository.findByIdAndUserIdAndIsDeletedFalse(bike.getId(), user.getId()).isPresent());
+		}
+
+		@Test
+		void 論理削除済みのバイクと他ユーザーのバイクは更新件数が0であること() {
+			Bike deletedBike = createBike(user, "TestBike", "Bike", "test", 2023, true);
+			Bike anotherUsersBike = createBike(anotherUser, "TestBike", "Bike", "test", 2023, false);
+
+			assertThat(bikeRepository.softDeleteByIdAndUserId(deletedBike.getId(), user.getId())).isZero();
+			assertThat(bikeRepository.softDeleteByIdAndUserId(anotherUsersBike.getId(), user.getId())).isZero();
+			assertTrue(bikeRepository.findByIdAndUserIdAndIsDeletedFalse(anotherUsersBike.getId(), anotherUser.getId()).isPresent());
+		}
+	}
+
+	@Nested
+	class FindVersionByUserIdTests {
+		@Test
+		void バイクが更新された場合に件数が同じでもETagが変わること() {
+			Bike bike = createBike(user, "TestBike", "Bike", "test", 2023, false);
+			entityManager.flush();
+			String before = bikeRepository.findVersionByUserId(user.getId()).getETag();
+
+			bikeRepository.updateByIdAndUserId(bike.getId(), user.getId(), BikeUpdateRequest.builder().currentMileage(12000).build());
+
+			assertThat(bikeRepository.findVersionByUserId(user.getId()).getETag()).isNotEqualTo(before);
+		}
+
+		@Test
+		void バイクの所有者が変わり同じ件数のバイクが登録された場合にもETagが変わること() {
+			Bike bike = createBike(user, "TestBike", "Bike", "test", 2023, false);
+			entityManager.flush();
+			String before = bikeRepository.findVersionByUserId(user.getId()).getETag();
+
+			bikeRepository.transferByIdAndUserId(bike.getId(), user.getId(), anotherUser);
+			createBike(user, "TestSecondBike", "SecondBike", "Test", 2024, false);
+			entityManager.flush();
+
+			assertThat(bikeRepository.findVersionByUserId(user.getId()).getETag()).isNotEqualTo(before);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.rikuto.revox.repository;
+
+import com.rikuto.revox.domain.Ai;
+import com.rikuto.revox.domain.Bike;
+import com.rikuto.revox.domain.Category;
+import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * シーケンスでの採番により、エンティティの登録がJDBCのバッチでまとめて送信されることを確認するテストです。
+ * 100件の整備タスクとAI質問を登録し、発行されたSQLの回数が件数に比例しないことを検証します。
+ */
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class EntityBatchInsertTest {
+
+	private static final int ROW_COUNT = 100;
+
+	@SuppressWarnings("resource")
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+			.withDatabaseName("test")
+			.withUsername("user")
+			.withPassword("pass");
+
+	@DynamicPropertySource
+	static void overrideProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private BikeRepository bikeRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MaintenanceTaskRepository maintenanceTaskRepository;
+
+	@Autowired
+	private AiRepository aiRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User user;
+	private Bike bike;
+	private Category category;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(User.builder().nickname("TestUser").uniqueUserId(UUID.randomUUID().toString()).build());
+		bike = bikeRepository.save(Bike.builder().user(user).manufacturer("Honda").modelName("CBR").build());
+		category = categoryRepository.save(Category.builder().name("testCategory").displayOrder(1).build());
+		entityManager.flush();
+
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void 整備タスクの登録がバッチでまとめて送信されること() {
+		List<MaintenanceTask> tasks = new ArrayList<>();
+		for(int i = 0; i < ROW_COUNT; i++) {
+			tasks.add(MaintenanceTask.builder().bike(bike).category(category).name("task" + i).description("description").build());
+		}
+
+		maintenanceTaskRepository.saveAll(tasks);
+		entityManager.flush();
+
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+		assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+		assertThat(tasks).extracting(MaintenanceTask::getId).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void AI質問の登録がバッチでまとめて送信されること() {
+		List<Ai> answers = new ArrayList<>();
+		for(int i = 0; i < ROW_COUNT; i++) {
+			answers.add(Ai.builder().user(user).bike(bike).category(category).question("question" + i).answer("answer").build());
+		}
+
+		aiRepository.saveAll(answers);
+		entityManager.flush();
+
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+		assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+		assertThat(answers).extracting(Ai::getId).doesNotHaveDuplicates();
+	}
+}
@@ -0,0 +1,137 @@
+package com.rikuto.revox.repository;
+
+import com.rikuto.revox.domain.Bike;
+import com.rikuto.revox.domain.Category;
+import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(MaintenanceTaskBatchRepository.class)
+class MaintenanceTaskBatchRepositoryTest {
+
+	private static final int ROW_COUNT = 10_000;
+
+	@SuppressWarnings("resource")
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+			.withDatabaseName("test")
+			.withUsername("user")
+			.withPassword("pass");
+
+	@DynamicPropertySource
+	static void overrideProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@Autowired
+	private MaintenanceTaskBatchRepository maintenanceTaskBatchRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private BikeRepository bikeRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MaintenanceTaskRepository maintenanceTaskRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User user;
+	private Bike bike;
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(User.builder().nickname("TestUser").uniqueUserId(UUID.randomUUID().toString()).build());
+		bike = bikeRepository.save(Bike.builder().user(user).manufacturer("Honda").modelName("CBR").build());
+		category = categoryRepository.save(Category.builder().name("testCategory").displayOrder(1).build());
+		userRepository.flush();
+	}
+
+	private MaintenanceTaskImportRow createRow(String name, LocalDateTime createdAt) {
+		return MaintenanceTaskImportRow.builder()
+				.bikeId(bike.getId())
+				.categoryId(category.getId())
+				.name(name)
+				.description("description")
+				.createdAt(createdAt)
+				.build();
+	}
+
+	@Test
+	void 大量の整備タスクがまとめて登録されバイクの所有者が設定されること() {
+		List<MaintenanceTaskImportRow> rows = new ArrayList<>();
+		for(int i = 0; i < ROW_COUNT; i++) {
+			rows.add(createRow("task" + i, null));
+		}
+
+		maintenanceTaskBatchRepository.insertAll(rows);
+
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM maintenance_tasks WHERE bike_id = ? AND user_id = ? AND is_deleted = false",
+				Integer.class, bike.getId(), user.getId())).isEqualTo(ROW_COUNT);
+	}
+
+	@Test
+	void IDがシーケンスから払い出した範囲内で重複なく割り当てられること() {
+		List<MaintenanceTaskImportRow> rows = new ArrayList<>();
+		for(int i = 0; i < ROW_COUNT; i++) {
+			rows.add(createRow("task" + i, null));
+		}
+
+		maintenanceTaskBatchRepository.insertAll(rows);
+		MaintenanceTask savedTask = maintenanceTaskRepository.saveAndFlush(MaintenanceTask.builder()
+				.bike(bike)
+				.category(category)
+				.name("エンティティから登録")
+				.description("description")
+				.build());
+
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT COUNT(DISTINCT id) FROM maintenance_tasks WHERE bike_id = ?", Integer.class, bike.getId())).isEqualTo(ROW_COUNT + 1);
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT MAX(id) - MIN(id) FROM maintenance_tasks WHERE bike_id = ? AND id <> ?", Integer.class, bike.getId(), savedTask.getId()))
+				.isLessThan(ROW_COUNT + MaintenanceTask.ID_ALLOCATION_SIZE);
+	}
+
+	@Test
+	void 作成日時を指定した場合はその日時で登録されること() {
+		LocalDateTime createdAt = LocalDateTime.of(2023, 4, 1, 10, 0);
+
+		maintenanceTaskBatchRepository.insertAll(List.of(createRow("過去の整備", createdAt)));
+
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT created_at FROM maintenance_tasks WHERE name = '過去の整備'", LocalDateTime.class)).isEqualTo(createdAt);
+	}
+}
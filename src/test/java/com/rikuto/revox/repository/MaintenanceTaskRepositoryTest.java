@@ -4,12 +4,17 @@ import com.rikuto.revox.domain.Category;
 import com.rikuto.revox.domain.Bike;
 import com.rikuto.revox.domain.MaintenanceTask;
 import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.dashboard.CategoryTaskCountResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskUpdateRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -21,6 +26,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -56,6 +62,9 @@ class MaintenanceTaskRepositoryTest {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private TestEntityManager entityManager;
+
 	private User testUser;
 	private Bike testBike;
 	private Category testCategory;
@@ -77,8 +86,8 @@ class MaintenanceTaskRepositoryTest {
 		otherCategory = categoryRepository.save(Category.builder().name("otherCategory").displayOrder(2).build());
 	}
 
-	private void createMaintenanceTask(Category category, Bike bike, String name, boolean isDeleted) {
-		maintenanceTaskRepository.save(MaintenanceTask.builder()
+	private MaintenanceTask createMaintenanceTask(Category category, Bike bike, String name, boolean isDeleted) {
+		return maintenanceTaskRepository.save(MaintenanceTask.builder()
 				.category(category)
 				.bike(bike)
 
@@ -108,7 +117,7 @@ class MaintenanceTaskRepositoryTest {
 
 			Pageable pageable = PageRequest.of(
 					0, 5, Sort.by("createdAt").descending().and(Sort.by("id").descending()));
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBike_UserIdAndIsDeletedFalse(testUser.getId(), pageable);
+			List<MaintenanceTask> result = maintenanceTaskRepository.findByUserIdAndIsDeletedFalse(testUser.getId(), pageable);
 
 			assertThat(result).hasSize(5);
 			assertThat(result).extracting(MaintenanceTask::getName).containsExactly("Task6", "Task5", "Task4", "Task3", "Task2");
@@ -116,14 +125,14 @@ class MaintenanceTaskRepositoryTest {
 
 		@Test
 		void 存在しないユーザーIDを指定した場合に空のリストを返すこと() {
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBike_UserIdAndIsDeletedFalse(999999999, Pageable.unpaged());
+			List<MaintenanceTask> result = maintenanceTaskRepository.findByUserIdAndIsDeletedFalse(999999999, Pageable.unpaged());
 
 			assertThat(result).isEmpty();
 		}
 
 		@Test
 		void ユーザーに紐づくタスクが存在しない場合に空のリストを返すこと() {
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBike_UserIdAndIsDeletedFalse(testUser.getId(), Pageable.unpaged());
+			List<MaintenanceTask> result = maintenanceTaskRepository.findByUserIdAndIsDeletedFalse(testUser.getId(), Pageable.unpaged());
 
 			assertThat(result).isEmpty();
 		}
@@ -132,38 +141,84 @@ class MaintenanceTaskRepositoryTest {
 		void 論理削除されたタスクは検索結果に含まれないこと() {
 			createMaintenanceTask(testCategory, testBike, "DeletedTask", true);
 
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBike_UserIdAndIsDeletedFalse(testUser.getId(), Pageable.unpaged());
+			List<MaintenanceTask> result = maintenanceTaskRepository.findByUserIdAndIsDeletedFalse(testUser.getId(), Pageable.unpaged());
 
 			assertThat(result).isEmpty();
 		}
 	}
 
 	@Nested
-	class FindByBikeIdTests {
+	class UserIdSyncTests {
+		@Test
+		void 登録時にバイクの所有者のユーザーIDが設定されること() {
+			MaintenanceTask task = createMaintenanceTask(testCategory, testBike, "Task", false);
+			entityManager.clear();
+
+			MaintenanceTask result = entityManager.find(MaintenanceTask.class, task.getId());
+
+			assertThat(result.getUserId()).isEqualTo(testUser.getId());
+		}
+
+		@Test
+		void バイクの所有者が変わった場合に整備タスクのユーザーIDが追従すること() {
+			User otherUser = userRepository.save(User.builder().uniqueUserId("other-user-id").nickname("otherUser").build());
+			createMaintenanceTask(testCategory, testBike, "Task", false);
+
+			entityManager.getEntityManager()
+					.createNativeQuery("UPDATE bikes SET user_id = :userId WHERE id = :bikeId")
+					.setParameter("userId", otherUser.getId())
+					.setParameter("bikeId", testBike.getId())
+					.executeUpdate();
+			entityManager.clear();
+
+			Pageable pageable = PageRequest.of(0, 5);
+			assertThat(maintenanceTaskRepository.findByUserIdAndIsDeletedFalse(otherUser.getId(), pageable))
+					.extracting(MaintenanceTask::getName).containsExactly("Task");
+			assertThat(maintenanceTaskRepository.findByUserIdAndIsDeletedFalse(testUser.getId(), pageable)).isEmpty();
+		}
+	}
+
+	@Nested
+	class FindPageByBikeIdTests {
 		@Test
-		void 指定されたバイクIDの整備タスクを全件取得できること() {
-			createMaintenanceTask(testCategory, testBike, "BikeTask", false);
-			createMaintenanceTask(otherCategory, testBike, "BikeSecondTask", false);
+		void 指定されたバイクIDの整備タスクを作成日時とIDの降順に指定件数分取得できること() {
+			createMaintenanceTask(testCategory, testBike, "Task1", false);
+			createMaintenanceTask(otherCategory, testBike, "Task2", false);
+			createMaintenanceTask(testCategory, testBike, "Task3", false);
 
 			Bike anotherBike = bikeRepository.save(Bike.builder().user(testUser).manufacturer("anotherTEST").modelName("anotherBike").build());
 			createMaintenanceTask(testCategory, anotherBike, "anotherBikeTask", false);
 
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBikeIdAndIsDeletedFalse(testBike.getId());
+			List<MaintenanceTask> result = maintenanceTaskRepository.findFirstPageByBikeId(testBike.getId(), 2);
 
-			assertThat(result).hasSize(2);
-			assertThat(result).extracting(MaintenanceTask::getName).containsExactlyInAnyOrder("BikeTask", "BikeSecondTask");
+			assertThat(result).extracting(MaintenanceTask::getName).containsExactly("Task3", "Task2");
 		}
 
 		@Test
-		void 存在しないバイクIDを指定した場合に空のリストを返すこと() {
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBikeIdAndIsDeletedFalse(999999999);
-
-			assertThat(result).isEmpty();
+		void カーソルより後の整備タスクを重複や欠落なく取得できること() {
+			createMaintenanceTask(testCategory, testBike, "Task1", false);
+			createMaintenanceTask(testCategory, testBike, "Task2", false);
+			createMaintenanceTask(testCategory, testBike, "Task3", false);
+			createMaintenanceTask(testCategory, testBike, "Task4", false);
+			createMaintenanceTask(testCategory, testBike, "Task5", false);
+			entityManager.clear();
+
+			List<MaintenanceTask> firstPage = maintenanceTaskRepository.findFirstPageByBikeId(testBike.getId(), 2);
+			MaintenanceTask last = firstPage.getLast();
+			List<MaintenanceTask> secondPage = maintenanceTaskRepository.findPageByBikeIdAfter(
+					testBike.getId(), last.getCreatedAt(), last.getId(), 2);
+			MaintenanceTask secondLast = secondPage.getLast();
+			List<MaintenanceTask> thirdPage = maintenanceTaskRepository.findPageByBikeIdAfter(
+					testBike.getId(), secondLast.getCreatedAt(), secondLast.getId(), 2);
+
+			assertThat(firstPage).extracting(MaintenanceTask::getName).containsExactly("Task5", "Task4");
+			assertThat(secondPage).extracting(MaintenanceTask::getName).containsExactly("Task3", "Task2");
+			assertThat(thirdPage).extracting(MaintenanceTask::getName).containsExactly("Task1");
 		}
 
 		@Test
-		void 指定されたバイクに紐づくタスクが存在しない場合に空のリストを返すこと() {
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBikeIdAndIsDeletedFalse(testBike.getId());
+		void 存在しないバイクIDを指定した場合に空のリストを返すこと() {
+			List<MaintenanceTask> result = maintenanceTaskRepository.findFirstPageByBikeId(999999999, 20);
 
 			assertThat(result).isEmpty();
 		}
@@ -172,36 +227,44 @@ class MaintenanceTaskRepositoryTest {
 		void 論理削除されたタスクは検索結果に含まれないこと() {
 			createMaintenanceTask(testCategory, testBike, "DeletedTask", true);
 
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBikeIdAndIsDeletedFalse(testBike.getId());
+			List<MaintenanceTask> result = maintenanceTaskRepository.findFirstPageByBikeId(testBike.getId(), 20);
 
 			assertThat(result).isEmpty();
 		}
 	}
 
 	@Nested
-	class FindByBikeIdAndCategoryIdTests {
+	class FindPageByBikeIdAndCategoryIdTests {
 		@Test
-		void 指定されたバイクIDでカテゴリーIDに紐づく整備タスクを全件取得できること() {
+		void 指定されたバイクIDでカテゴリーIDに紐づく整備タスクを作成日時とIDの降順に取得できること() {
 			createMaintenanceTask(testCategory, testBike, "MatchingTask", false);
 			createMaintenanceTask(testCategory, testBike, "MatchingSecondTask", false);
 			createMaintenanceTask(otherCategory, testBike, "OtherCategoryTask", false);
 
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBikeIdAndCategoryIdAndIsDeletedFalse(testBike.getId(), testCategory.getId());
+			List<MaintenanceTask> result = maintenanceTaskRepository.findFirstPageByBikeIdAndCategoryId(testBike.getId(), testCategory.getId(), 20);
 
-			assertThat(result).hasSize(2);
-			assertThat(result).extracting(MaintenanceTask::getName).containsExactlyInAnyOrder("MatchingTask", "MatchingSecondTask");
+			assertThat(result).extracting(MaintenanceTask::getName).containsExactly("MatchingSecondTask", "MatchingTask");
 		}
 
 		@Test
-		void 指定されたバイクIDで存在しないカテゴリーIDを指定した場合に空のリストを返すこと() {
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBikeIdAndCategoryIdAndIsDeletedFalse(testBike.getId(), 999999999);
+		void カーソルより後のカテゴリーに紐づく整備タスクを取得できること() {
+			createMaintenanceTask(testCategory, testBike, "MatchingTask", false);
+			createMaintenanceTask(otherCategory, testBike, "OtherCategoryTask", false);
+			createMaintenanceTask(testCategory, testBike, "MatchingSecondTask", false);
+			entityManager.clear();
 
-			assertThat(result).isEmpty();
+			List<MaintenanceTask> firstPage = maintenanceTaskRepository.findFirstPageByBikeIdAndCategoryId(testBike.getId(), testCategory.getId(), 1);
+			MaintenanceTask last = firstPage.getLast();
+			List<MaintenanceTask> secondPage = maintenanceTaskRepository.findPageByBikeIdAndCategoryIdAfter(
+					testBike.getId(), testCategory.getId(), last.getCreatedAt(), last.getId(), 1);
+
+			assertThat(firstPage).extracting(MaintenanceTask::getName).containsExactly("MatchingSecondTask");
+			assertThat(secondPage).extracting(MaintenanceTask::getName).containsExactly("MatchingTask");
 		}
 
 		@Test
-		void 指定されたバイクIDでカテゴリーIDに紐づくタスクが存在しない場合に空のリストを返すこと() {
-			List<MaintenanceTask> result = maintenanceTaskRepository.findByBikeIdAndCategoryIdAndIsDeletedFalse(testBike.getId(), testCategory.getId());
+		void 指定されたバイクIDで存在しないカテゴリーIDを指定した場合に空のリストを返すこと() {
+			List<MaintenanceTask> result = maintenanceTaskRepository.findFirstPageByBikeIdAndCategoryId(testBike.getId(), 999999999, 20);
 
 			assertThat(result).isEmpty();
 		}
@@ -210,9 +273,216 @@ class MaintenanceTaskRepositoryTest {
 		void 論理削除されたタスクは検索結果に含まれないこと() {
 			createMaintenanceTask(testCategory, testBike, "DeletedTask", true);
 
-			List<MaintenanceTask> tasks = maintenanceTaskRepository.findByBikeIdAndCategoryIdAndIsDeletedFalse(testBike.getId(), testCategory.getId());
+			List<MaintenanceTask> tasks = maintenanceTaskRepository.findFirstPageByBikeIdAndCategoryId(testBike.getId(), testCategory.getId(), 20);
 
 			assertThat(tasks).isEmpty();
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	class FindSummaryTests {
+		@Test
+		void ユーザーIDに紐づく最新の整備タスクを詳細内容を除いて取得できること() {
+			createMaintenanceTask(testCategory, testBike, "Task1", false);
+			createMaintenanceTask(testCategory, testBike, "Task2", false);
+			createMaintenanceTask(testCategory, testBike, "DeletedTask", true);
+			entityManager.clear();
+
+			Pageable pageable = PageRequest.of(
+					0, 5, Sort.by("createdAt").descending().and(Sort.by("id").descending()));
+			List<MaintenanceTaskResponse> result = maintenanceTaskRepository.findSummaryByUserIdAndIsDeletedFalse(testUser.getId(), pageable);
+
+			assertThat(result).extracting(MaintenanceTaskResponse::getName).containsExactly("Task2", "Task1");
+			assertThat(result).extracting(MaintenanceTaskResponse::getDescription).containsOnlyNulls();
+			assertThat(result).extracting(MaintenanceTaskResponse::getBikeId).containsOnly(testBike.getId());
+		}
+
+		@Test
+		void カーソルより後の整備タスクを詳細内容を除いて重複や欠落なく取得できること() {
+			createMaintenanceTask(testCategory, testBike, "Task1", false);
+			createMaintenanceTask(otherCategory, testBike, "Task2", false);
+			createMaintenanceTask(testCategory, testBike, "Task3", false);
+			entityManager.clear();
+
+			List<MaintenanceTaskResponse> firstPage = maintenanceTaskRepository.findFirstSummaryPageByBikeId(testBike.getId(), 2);
+			MaintenanceTaskResponse last = firstPage.getLast();
+			List<MaintenanceTaskResponse> secondPage = maintenanceTaskRepository.findSummaryPageByBikeIdAfter(
+					testBike.getId(), last.getCreatedAt(), last.getId(), 2);
+
+			assertThat(firstPage).extracting(MaintenanceTaskResponse::getName).containsExactly("Task3", "Task2");
+			assertThat(secondPage).extracting(MaintenanceTaskResponse::getName).containsExactly("Task1");
+			assertThat(firstPage).extracting(MaintenanceTaskResponse::getDescription).containsOnlyNulls();
+		}
+
+		@Test
+		void カテゴリーに紐づく整備タスクを詳細内容を除いてページ単位で取得できること() {
+			createMaintenanceTask(testCategory, testBike, "MatchingTask", false);
+			createMaintenanceTask(otherCategory, testBike, "OtherCategoryTask", false);
+			createMaintenanceTask(testCategory, testBike, "MatchingSecondTask", false);
+			entityManager.clear();
+
+			List<MaintenanceTaskResponse> firstPage = maintenanceTaskRepository.findFirstSummaryPageByBikeIdAndCategoryId(
+					testBike.getId(), testCategory.getId(), 1);
+			MaintenanceTaskResponse last = firstPage.getLast();
+			List<MaintenanceTaskResponse> secondPage = maintenanceTaskRepository.findSummaryPageByBikeIdAndCategoryIdAfter(
+					testBike.getId(), testCategory.getId(), last.getCreatedAt(), last.getId(), 1);
+
+			assertThat(firstPage).extracting(MaintenanceTaskResponse::getName).containsExactly("MatchingSecondTask");
+			assertThat(secondPage).extracting(MaintenanceTaskResponse::getName).containsExactly("MatchingTask");
+			assertThat(secondPage).extracting(MaintenanceTaskResponse::getCategoryId).containsOnly(testCategory.getId());
+		}
+	}
+
+	@Nested
+	class StreamTests {
+		@Test
+		void ユーザーIDに紐づく整備タスクを作成日時とIDの昇順に読み込めること() {
+			Bike secondBike = bikeRepository.save(Bike.builder().user(testUser).manufacturer("TEST").modelName("secondBike").build());
+			createMaintenanceTask(testCategory, testBike, "Task1", false);
+			createMaintenanceTask(otherCategory, secondBike, "Task2", false);
+			createMaintenanceTask(testCategory, testBike, "DeletedTask", true);
+			User otherUser = userRepository.save(User.builder().uniqueUserId("other-user-id").nickname("otherUser").build());
+			Bike otherBike = bikeRepository.save(Bike.builder().user(otherUser).manufacturer("TEST").modelName("otherBike").build());
+			createMaintenanceTask(testCategory, otherBike, "otherUserTask", false);
+
+			List<MaintenanceTaskResponse> tasks = maintenanceTaskRepository.findExportFirstChunkByUserId(testUser.getId(), Limit.of(10));
+
+			assertThat(tasks).extracting(MaintenanceTaskResponse::getName).containsExactly("Task1", "Task2");
+			assertThat(tasks).extracting(MaintenanceTaskResponse::getBikeId).containsExactly(testBike.getId(), secondBike.getId());
+			assertThat(tasks).extracting(MaintenanceTaskResponse::getCategoryId).containsExactly(testCategory.getId(), otherCategory.getId());
+		}
+
+		@Test
+		void バイクIDに紐づく論理削除されていない整備タスクのみを読み込めること() {
+			Bike secondBike = bikeRepository.save(Bike.builder().user(testUser).manufacturer("TEST").modelName("secondBike").build());
+			createMaintenanceTask(testCategory, testBike, "Task1", false);
+			createMaintenanceTask(testCategory, testBike, "DeletedTask", true);
+			createMaintenanceTask(testCategory, secondBike, "SecondBikeTask", false);
+
+			List<MaintenanceTaskResponse> tasks = maintenanceTaskRepository.findExportFirstChunkByBikeId(testBike.getId(), Limit.of(10));
+
+			assertThat(tasks).extracting(MaintenanceTaskResponse::getName).containsExactly("Task1");
+		}
+
+		@Test
+		void 前回取得した最後の整備タスクの次から指定件数分を読み込めること() {
+			createMaintenanceTask(testCategory, testBike, "Task1", false);
+			createMaintenanceTask(testCategory, testBike, "Task2", false);
+			createMaintenanceTask(testCategory, testBike, "Task3", false);
+
+			List<MaintenanceTaskResponse> firstChunk = maintenanceTaskRepository.findExportFirstChunkByUserId(testUser.getId(), Limit.of(2));
+			MaintenanceTaskResponse last = firstChunk.getLast();
+			List<MaintenanceTaskResponse> secondChunk = maintenanceTaskRepository.findExportChunkByUserIdAfter(
+					testUser.getId(), last.getCreatedAt(), last.getId(), Limit.of(2));
+			List<MaintenanceTaskResponse> bikeChunk = maintenanceTaskRepository.findExportChunkByBikeIdAfter(
+					testBike.getId(), last.getCreatedAt(), last.getId(), Limit.of(2));
+
+			assertThat(firstChunk).extracting(MaintenanceTaskResponse::getName).containsExactly("Task1", "Task2");
+			assertThat(secondChunk).extracting(MaintenanceTaskResponse::getName).containsExactly("Task3");
+			assertThat(bikeChunk).extracting(MaintenanceTaskResponse::getName).containsExactly("Task3");
+		}
+	}
+
+	@Nested
+	class FindLatestPerBikeByUserIdTests {
+		@Test
+		void バイクごとに最新の整備タスクを指定件数分取得できること() {
+			Bike secondBike = bikeRepository.save(Bike.builder().user(testUser).manufacturer("TEST").modelName("secondBike").build());
+			createMaintenanceTask(testCategory, testBike, "Task1", false);
+			createMaintenanceTask(testCategory, testBike, "Task2", false);
+			createMaintenanceTask(testCategory, testBike, "Task3", false);
+			createMaintenanceTask(testCategory, secondBike, "SecondBikeTask1", false);
+			createMaintenanceTask(testCategory, secondBike, "SecondBikeTask2", false);
+			createMaintenanceTask(testCategory, secondBike, "DeletedTask", true);
+
+			List<MaintenanceTask> result = maintenanceTaskRepository.findLatestPerBikeByUserId(testUser.getId(), 2);
+
+			assertThat(result).extracting(MaintenanceTask::getName)
+					.containsExactly("Task3", "Task2", "SecondBikeTask2", "SecondBikeTask1");
+		}
+
+		@Test
+		void 論理削除されたバイクと他ユーザーのバイクの整備タスクは含まれないこと() {
+			Bike deletedBike = bikeRepository.save(Bike.builder().user(testUser).manufacturer("TEST").modelName("deletedBike").isDeleted(true).build());
+			User otherUser = userRepository.save(User.builder().uniqueUserId("other-user-id").nickname("otherUser").build());
+			Bike otherBike = bikeRepository.save(Bike.builder().user(otherUser).manufacturer("otherTEST").modelName("otherBike").build());
+			createMaintenanceTask(testCategory, deletedBike, "DeletedBikeTask", false);
+			createMaintenanceTask(testCategory, otherBike, "OtherUserTask", false);
+
+			List<MaintenanceTask> result = maintenanceTaskRepository.findLatestPerBikeByUserId(testUser.getId(), 3);
+
+			assertThat(result).isEmpty();
+		}
+	}
+
+	@Nested
+	class CountByCategoryForUserIdTests {
+		@Test
+		void 論理削除されていない整備タスクの件数をカテゴリーごとに集計できること() {
+			createMaintenanceTask(testCategory, testBike, "Task1", false);
+			createMaintenanceTask(testCategory, testBike, "Task2", false);
+			createMaintenanceTask(otherCategory, testBike, "OtherCategoryTask", false);
+			createMaintenanceTask(otherCategory, testBike, "DeletedTask", true);
+
+			List<CategoryTaskCountResponse> result = maintenanceTaskRepository.countByCategoryForUserId(testUser.getId());
+
+			assertThat(result).extracting(CategoryTaskCountResponse::getCategoryId)
+					.containsExactly(testCategory.getId(), otherCategory.getId());
+			assertThat(result).extracting(CategoryTaskCountResponse::getTaskCount)
+					.containsExactly(2L, 1L);
+		}
+	}
+
+	@Nested
+	class UpdateByIdAndUserIdTests {
+		@Test
+		void 指定した項目のみが更新され更新後の整備タスクが返されること() {
+			MaintenanceTask task = createMaintenanceTask(testCategory, testBike, "Task", false);
+			entityManager.clear();
+			MaintenanceTaskUpdateRequest request = MaintenanceTaskUpdateRequest.builder().name("UpdatedTask").build();
+
+			Optional<MaintenanceTask> result = maintenanceTaskRepository.updateByIdAndUserId(task.getId(), testUser.getId(), request);
+
+			assertThat(result).isPresent();
+			assertThat(result.get().getName()).isEqualTo("UpdatedTask");
+			assertThat(result.get().getDescription()).isEqualTo("description");
+			assertThat(result.get().getBike().getId()).isEqualTo(testBike.getId());
+		}
+
+		@Test
+		void 論理削除された整備タスクと他ユーザーのバイクの整備タスクは更新されないこと() {
+			User otherUser = userRepository.save(User.builder().uniqueUserId("other-user-id").nickname("otherUser").build());
+			MaintenanceTask deletedTask = createMaintenanceTask(testCategory, testBike, "DeletedTask", true);
+			MaintenanceTask task = createMaintenanceTask(testCategory, testBike, "Task", false);
+			entityManager.clear();
+			MaintenanceTaskUpdateRequest request = MaintenanceTaskUpdateRequest.builder().name("UpdatedTask").build();
+
+			assertThat(maintenanceTaskRepository.updateByIdAndUserId(deletedTask.getId(), testUser.getId(), request)).isNotPresent();
+			assertThat(maintenanceTaskRepository.updateByIdAndUserId(task.getId(), otherUser.getId(), request)).isNotPresent();
+		}
+	}
+
+	@Nested
+	class SoftDeleteByIdAndUserIdTests {
+		@Test
+		void ユーザーが所有するバイクの整備タスクが論理削除され更新件数が1であること() {
+			MaintenanceTask task = createMaintenanceTask(testCategory, testBike, "Task", false);
+
+			int result = maintenanceTaskRepository.softDeleteByIdAndUserId(task.getId(), testUser.getId());
+
+			assertThat(result).isEqualTo(1);
+			assertThat(maintenanceTaskRepository.findFirstPageByBikeId(testBike.getId(), 20)).isEmpty();
+		}
+
+		@Test
+		void 他ユーザーのバイクの整備タスクは論理削除されず更新件数が0であること() {
+			User otherUser = userRepository.save(User.builder().uniqueUserId("other-user-id").nickname("otherUser").build());
+			MaintenanceTask task = createMaintenanceTask(testCategory, testBike, "Task", false);
+
+			int result = maintenanceTaskRepository.softDeleteByIdAndUserId(task.getId(), otherUser.getId());
+
+			assertThat(result).isZero();
+			assertThat(maintenanceTaskRepository.findFirstPageByBikeId(testBike.getId(), 20)).hasSize(1);
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package com.rikuto.revox.repository;
+
+import com.rikuto.revox.domain.Bike;
+import com.rikuto.revox.domain.Category;
+import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(MaintenanceTaskSearchRepository.class)
+class MaintenanceTaskSearchRepositoryTest {
+
+	@SuppressWarnings("resource")
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+			.withDatabaseName("test")
+			.withUsername("user")
+			.withPassword("pass");
+
+	@DynamicPropertySource
+	static void overrideProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@Autowired
+	private MaintenanceTaskSearchRepository maintenanceTaskSearchRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private BikeRepository bikeRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private MaintenanceTaskRepository maintenanceTaskRepository;
+
+	private User user;
+	private Bike bike;
+	private Bike otherBike;
+	private Category category;
+	private Category otherCategory;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(User.builder().nickname("TestUser").uniqueUserId(UUID.randomUUID().toString()).build());
+		bike = bikeRepository.save(Bike.builder().user(user).manufacturer("Honda").modelName("CBR").build());
+		otherBike = bikeRepository.save(Bike.builder().user(user).manufacturer("Yamaha").modelName("YZF").build());
+		category = categoryRepository.save(Category.builder().name("testCategory").displayOrder(1).build());
+		otherCategory = categoryRepository.save(Category.builder().name("otherCategory").displayOrder(2).build());
+	}
+
+	private MaintenanceTask createTask(Bike targetBike, Category targetCategory, String name, String description, boolean isDeleted) {
+		return maintenanceTaskRepository.saveAndFlush(MaintenanceTask.builder()
+				.category(targetCategory)
+				.bike(targetBike)
+				.name(name)
+				.description(description)
+				.isDeleted(isDeleted)
+				.build());
+	}
+
+	private List<Integer> search(String query, Integer bikeId, Integer categoryId) {
+		return maintenanceTaskSearchRepository.search(user.getId(), query, bikeId, categoryId, 20, 0).stream()
+				.map(MaintenanceTaskResponse::getId)
+				.toList();
+	}
+
+	@Test
+	void 名前と詳細内容を日本語の部分一致で検索できること() {
+		MaintenanceTask nameMatch = createTask(bike, category, "エンジンオイル交換", "交換しました", false);
+		MaintenanceTask descriptionMatch = createTask(bike, category, "定期点検", "ついでにオイルフィルターも確認", false);
+		createTask(bike, category, "チェーン清掃", "注油しました", false);
+
+		assertThat(search("オイル", null, null)).containsExactlyInAnyOrder(nameMatch.getId(), descriptionMatch.getId());
+	}
+
+	@Test
+	void 大文字小文字を区別せずに検索できること() {
+		MaintenanceTask task = createTask(bike, category, "Oil Change", "Castrol 10W-40", false);
+
+		assertThat(search("oil", null, null)).containsExactly(task.getId());
+		assertThat(search("CASTROL", null, null)).containsExactly(task.getId());
+	}
+
+	@Test
+	void 名前に一致したタスクが詳細内容のみに一致したタスクより先に並ぶこと() {
+		MaintenanceTask descriptionMatch = createTask(bike, category, "定期点検", "ブレーキパッドの残量を確認", false);
+		MaintenanceTask nameMatch = createTask(bike, category, "ブレーキパッド交換", "前後とも交換", false);
+
+		assertThat(search("ブレーキパッド", null, null)).containsExactly(nameMatch.getId(), descriptionMatch.getId());
+	}
+
+	@Test
+	void バイクとカテゴリーで絞り込めること() {
+		MaintenanceTask target = createTask(bike, category, "オイル交換", "説明", false);
+		createTask(otherBike, category, "オイル交換", "説明", false);
+		createTask(bike, otherCategory, "オイル交換", "説明", false);
+
+		assertThat(search("オイル", bike.getId(), category.getId())).containsExactly(target.getId());
+		assertThat(search("オイル", null, category.getId())).hasSize(2);
+		assertThat(search("オイル", bike.getId(), null)).hasSize(2);
+	}
+
+	@Test
+	void 論理削除されたタスクと他のユーザーのタスクは検索されないこと() {
+		User otherUser = userRepository.save(User.builder().nickname("OtherUser").uniqueUserId(UUID.randomUUID().toString()).build());
+		Bike otherUsersBike = bikeRepository.save(Bike.builder().user(otherUser).manufacturer("Honda").modelName("CB").build());
+		createTask(bike, category, "オイル交換", "説明", true);
+		createTask(otherUsersBike, category, "オイル交換", "説明", false);
+
+		assertThat(search("オイル", null, null)).isEmpty();
+	}
+
+	@Test
+	void 検索語に含まれるワイルドカードは文字として照合されること() {
+		MaintenanceTask task = createTask(bike, category, "空気圧100%に調整", "説明", false);
+		createTask(bike, category, "空気圧を調整", "説明", false);
+
+		assertThat(search("%", null, null)).containsExactly(task.getId());
+		assertThat(search("_", null, null)).isEmpty();
+	}
+
+	@Test
+	void 取得件数と読み飛ばす件数でページ分割できること() {
+		for(int i = 0; i < 5; i++) {
+			createTask(bike, category, "オイル交換" + i, "説明", false);
+		}
+
+		List<MaintenanceTaskResponse> firstPage = maintenanceTaskSearchRepository.search(user.getId(), "オイル", null, null, 3, 0);
+		List<MaintenanceTaskResponse> secondPage = maintenanceTaskSearchRepository.search(user.getId(), "オイル", null, null, 3, 3);
+
+		assertThat(firstPage).hasSize(3);
+		assertThat(secondPage).hasSize(2);
+		assertThat(firstPage).extracting("id").doesNotContainAnyElementsOf(secondPage.stream().map(MaintenanceTaskResponse::getId).toList());
+	}
+}
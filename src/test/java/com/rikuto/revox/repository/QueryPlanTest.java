@@ -0,0 +1,275 @@
+package com.rikuto.revox.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 各リポジトリのクエリがインデックスを使用していることを実行計画で確認するテストです。
+ * 本番相当の件数のデータを投入して統計情報を更新した後、Hibernateが発行するSQLと同等のクエリに対して
+ * EXPLAINを実行し、シーケンシャルスキャンが含まれないことを検証します。
+ * 投入したデータはテストメソッド間で共有するため、テストごとのトランザクションは使用しません。
+ */
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest {
+
+	private static final int USER_COUNT = 2000;
+	private static final int BIKES_PER_USER = 3;
+	private static final int TASKS_PER_BIKE = 20;
+	private static final int AI_QUESTIONS_PER_USER = 10;
+
+	@SuppressWarnings("resource")
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+			.withDatabaseName("test")
+			.withUsername("user")
+			.withPassword("pass");
+
+	@DynamicPropertySource
+	static void overrideProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private static Integer userId;
+	private static Integer bikeId;
+	private static Integer categoryId;
+
+	/**
+	 * テストデータを投入し、統計情報を更新します。
+	 * 各ユーザーの最後のバイクと、各バイクの4件に1件の整備タスクは論理削除済みとします。
+	 */
+	@BeforeEach
+	void seed() {
+		if(userId != null) {
+			return;
+		}
+
+		jdbcTemplate.update("""
+				INSERT INTO users (nickname, unique_user_id)
+				SELECT 'user' || i, 'plan-user-' || i FROM generate_series(1, ?) i
+				""", USER_COUNT);
+		jdbcTemplate.update("""
+				INSERT INTO bikes (user_id, manufacturer, model_name, is_deleted)
+				SELECT u.id, 'Honda', 'CBR' || s, s = ? FROM users u CROSS JOIN generate_series(1, ?) s
+				WHERE u.unique_user_id LIKE 'plan-user-%'
+				""", BIKES_PER_USER, BIKES_PER_USER);
+		jdbcTemplate.update("""
+				INSERT INTO maintenance_tasks (category_id, bike_id, name, description, is_deleted, created_at)
+				SELECT (SELECT MIN(id) FROM categories) + s % 10, b.id, 'task' || s, 'description', s % 4 = 0,
+				       CURRENT_TIMESTAMP - s * INTERVAL '1 day'
+				FROM bikes b CROSS JOIN generate_series(1, ?) s
+				""", TASKS_PER_BIKE);
+		jdbcTemplate.update("""
+				INSERT INTO ai_questions (user_id, bike_id, category_id, question, answer, created_at)
+				SELECT b.user_id, b.id, (SELECT MIN(id) FROM categories), 'question' || s, 'answer',
+				       CURRENT_TIMESTAMP - s * INTERVAL '1 hour'
+				FROM bikes b CROSS JOIN generate_series(1, ?) s
+				WHERE b.model_name = 'CBR1'
+				""", AI_QUESTIONS_PER_USER);
+		jdbcTemplate.execute("ANALYZE");
+
+		userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE unique_user_id = 'plan-user-1'", Integer.class);
+		bikeId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM bikes WHERE user_id = ?", Integer.class, userId);
+		categoryId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM categories", Integer.class);
+	}
+
+	private String explain(String sql, Object... args) {
+		List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+		return String.join("\n", plan);
+	}
+
+	@Nested
+	class BikeRepositoryQueryTests {
+		@Test
+		void ユーザーIDでのバイク検索がシーケンシャルスキャンを行わないこと() {
+			String plan = explain("SELECT * FROM bikes b WHERE b.user_id = ? AND b.is_deleted = false", userId);
+
+			assertThat(plan).doesNotContain("Seq Scan");
+		}
+
+		@Test
+		void バイクのバージョン情報の集計がシーケンシャルスキャンを行わないこと() {
+			String plan = explain("SELECT COUNT(b.id), MAX(b.updated_at) FROM bikes b WHERE b.user_id = ?", userId);
+
+			assertThat(plan).doesNotContain("Seq Scan");
+		}
+	}
+
+	@Nested
+	class MaintenanceTaskRepositoryQueryTests {
+		@Test
+		void ユーザーIDでの最新整備タスク検索がバイクとの結合とソートを行わないこと() {
+			String plan = explain("""
+					SELECT * FROM maintenance_tasks t
+					WHERE t.user_id = ? AND t.is_deleted = false
+					ORDER BY t.created_at DESC, t.id DESC OFFSET 0 ROWS FETCH FIRST 5 ROWS ONLY
+					""", userId);
+
+			assertThat(plan).doesNotContain("Seq Scan").doesNotContain("Sort").doesNotContain("bikes");
+		}
+
+		@Test
+		void バイクIDでの整備タスクのページ検索がシーケンシャルスキャンとソートを行わないこと() {
+			String firstPagePlan = explain("""
+					SELECT * FROM maintenance_tasks t WHERE t.bike_id = ? AND t.is_deleted = false
+					ORDER BY t.created_at DESC, t.id DESC LIMIT 21
+					""", bikeId);
+			String nextPagePlan = explain("""
+					SELECT * FROM maintenance_tasks t WHERE t.bike_id = ? AND t.is_deleted = false
+					  AND (t.created_at, t.id) < (CURRENT_TIMESTAMP - INTERVAL '10 days', 1)
+					ORDER BY t.created_at DESC, t.id DESC LIMIT 21
+					""", bikeId);
+
+			assertThat(firstPagePlan).doesNotContain("Seq Scan").doesNotContain("Sort");
+			assertThat(nextPagePlan).doesNotContain("Seq Scan").doesNotContain("Sort");
+		}
+
+		@Test
+		void バイクIDとカテゴリーIDでの整備タスクのページ検索がシーケンシャルスキャンとソートを行わないこと() {
+			String firstPagePlan = explain("""
+					SELECT * FROM maintenance_tasks t
+					WHERE t.bike_id = ? AND t.category_id = ? AND t.is_deleted = false
+					ORDER BY t.created_at DESC, t.id DESC LIMIT 21
+					""", bikeId, categoryId);
+			String nextPagePlan = explain("""
+					SELECT * FROM maintenance_tasks t
+					WHERE t.bike_id = ? AND t.category_id = ? AND t.is_deleted = false
+					  AND (t.created_at, t.id) < (CURRENT_TIMESTAMP - INTERVAL '10 days', 1)
+					ORDER BY t.created_at DESC, t.id DESC LIMIT 21
+					""", bikeId, categoryId);
+
+			assertThat(firstPagePlan).doesNotContain("Seq Scan").doesNotContain("Sort");
+			assertThat(nextPagePlan).doesNotContain("Seq Scan").doesNotContain("Sort");
+		}
+
+		@Test
+		void 整備タスクのバージョン情報の集計がシーケンシャルスキャンを行わないこと() {
+			String planByUser = explain("""
+					SELECT COUNT(t.id), MAX(t.updated_at) FROM maintenance_tasks t JOIN bikes b ON b.id = t.bike_id
+					WHERE b.user_id = ?
+					""", userId);
+			String planByBike = explain("SELECT COUNT(t.id), MAX(t.updated_at) FROM maintenance_tasks t WHERE t.bike_id = ?", bikeId);
+
+			assertThat(planByUser).doesNotContain("Seq Scan");
+			assertThat(planByBike).doesNotContain("Seq Scan");
+		}
+
+		@Test
+		void バイクごとの最新整備タスク検索がシーケンシャルスキャンを行わないこと() {
+			String plan = explain("""
+					SELECT mt.* FROM maintenance_tasks mt
+					WHERE mt.id IN (
+					    SELECT ranked.id FROM (
+					        SELECT t.id, ROW_NUMBER() OVER (PARTITION BY t.bike_id ORDER BY t.created_at DESC, t.id DESC) AS rn
+					        FROM maintenance_tasks t
+					        JOIN bikes b ON b.id = t.bike_id
+					        WHERE b.user_id = ? AND b.is_deleted = false AND t.is_deleted = false
+					    ) ranked
+					    WHERE ranked.rn <= 3
+					)
+					ORDER BY mt.bike_id, mt.created_at DESC, mt.id DESC
+					""", userId);
+
+			assertThat(plan).doesNotContain("Seq Scan");
+		}
+
+		@Test
+		void カテゴリーごとの整備タスク件数の集計がシーケンシャルスキャンを行わないこと() {
+			String plan = explain("""
+					SELECT t.category_id, COUNT(t.id) FROM maintenance_tasks t JOIN bikes b ON b.id = t.bike_id
+					WHERE b.user_id = ? AND b.is_deleted = false AND t.is_deleted = false
+					GROUP BY t.category_id ORDER BY t.category_id
+					""", userId);
+
+			assertThat(plan).doesNotContain("Seq Scan");
+		}
+
+		@Test
+		void ユーザーの整備タスクの検索がシーケンシャルスキャンを行わないこと() {
+			String plan = explain("""
+					SELECT * FROM maintenance_tasks t
+					WHERE t.user_id = ? AND t.is_deleted = false
+					  AND (t.name ILIKE '%ブレーキ%' OR t.description ILIKE '%ブレーキ%')
+					ORDER BY word_similarity('ブレーキ', t.name) * 2 + word_similarity('ブレーキ', t.description) DESC,
+					         t.created_at DESC, t.id DESC
+					LIMIT 21 OFFSET 0
+					""", userId);
+
+			assertThat(plan).doesNotContain("Seq Scan");
+		}
+
+		@Test
+		void 整備タスクの名前と詳細内容の部分一致検索がトライグラムインデックスを使用すること() {
+			String plan = explain("""
+					SELECT * FROM maintenance_tasks t
+					WHERE t.is_deleted = false AND (t.name ILIKE '%ブレーキ%' OR t.description ILIKE '%ブレーキ%')
+					""");
+
+			assertThat(plan).doesNotContain("Seq Scan")
+					.contains("idx_maintenance_tasks_name_trgm_active")
+					.contains("idx_maintenance_tasks_description_trgm_active");
+		}
+	}
+
+	@Nested
+	class AiRepositoryQueryTests {
+		@Test
+		void ユーザーIDでのAI質問検索がシーケンシャルスキャンを行わないこと() {
+			String plan = explain("SELECT * FROM ai_questions a WHERE a.user_id = ? AND a.is_deleted = false", userId);
+
+			assertThat(plan).doesNotContain("Seq Scan");
+		}
+
+		@Test
+		void ユーザーIDでの最近のAI質問検索がシーケンシャルスキャンを行わないこと() {
+			String plan = explain("""
+					SELECT * FROM ai_questions a WHERE a.user_id = ? AND a.is_deleted = false
+					ORDER BY a.created_at DESC FETCH FIRST 5 ROWS ONLY
+					""", userId);
+
+			assertThat(plan).doesNotContain("Seq Scan");
+		}
+	}
+
+	@Nested
+	class UserRepositoryQueryTests {
+		@Test
+		void 一意なユーザーIDでのユーザー検索がシーケンシャルスキャンを行わないこと() {
+			String plan = explain("SELECT * FROM users u WHERE u.unique_user_id = ? AND u.is_deleted = false", "plan-user-1");
+
+			assertThat(plan).doesNotContain("Seq Scan");
+		}
+
+		@Test
+		void ユーザーIDでのユーザー検索がシーケンシャルスキャンを行わないこと() {
+			String plan = explain("SELECT * FROM users u WHERE u.id = ? AND u.is_deleted = false", userId);
+
+			assertThat(plan).doesNotContain("Seq Scan");
+		}
+	}
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -40,6 +41,9 @@ class UserRepositoryTest {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private TestEntityManager entityManager;
+
 	private User createUser(String nickname, String uniqueId) {
 		return userRepository.save(User.builder()
 				.uniqueUserId(uniqueId)
@@ -113,4 +117,51 @@ class UserRepositoryTest {
 			assertThat(result.get().isDeleted()).isTrue();
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	class UpdateNicknameByIdTests {
+		@Test
+		void ニックネームが更新され更新後のユーザーが返されること() {
+			User user = createUser("BeforeUser", "unique_id_update");
+			entityManager.clear();
+
+			Optional<User> result = userRepository.updateNicknameById(user.getId(), "AfterUser");
+
+			assertThat(result).isPresent();
+			assertThat(result.get().getNickname()).isEqualTo("AfterUser");
+			assertThat(result.get().getUniqueUserId()).isEqualTo("unique_id_update");
+		}
+
+		@Test
+		void 論理削除されたユーザーは更新されないこと() {
+			User deletedUser = createUser("DeletedUser", "unique_id_deleted");
+			deletedUser.softDelete();
+			userRepository.saveAndFlush(deletedUser);
+			entityManager.clear();
+
+			Optional<User> result = userRepository.updateNicknameById(deletedUser.getId(), "AfterUser");
+
+			assertThat(result).isNotPresent();
+		}
+	}
+
+	@Nested
+	class SoftDeleteByIdTests {
+		@Test
+		void 論理削除されていないユーザーが論理削除され更新件数が1であること() {
+			User user = createUser("DeleteUser", "unique_id_delete");
+
+			int result = userRepository.softDeleteById(user.getId());
+
+			assertThat(result).isEqualTo(1);
+			assertThat(userRepository.findByIdAndIsDeletedFalse(user.getId())).isNotPresent();
+		}
+
+		@Test
+		void 存在しないユーザーIDの場合は更新件数が0であること() {
+			int result = userRepository.softDeleteById(999999);
+
+			assertThat(result).isZero();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.rikuto.revox.security;
+
+import com.rikuto.revox.controller.BikeController;
+import com.rikuto.revox.security.details.ExternalAuthUserDetailsService;
+import com.rikuto.revox.security.jwt.JwtTokenProvider;
+import com.rikuto.revox.service.BikeService;
+import com.rikuto.revox.service.GuestSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.prometheus.PrometheusMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementContextAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.servlet.ServletManagementContextAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * METRICS_USERNAME・METRICS_PASSWORDが未設定の場合に、メトリクスのエンドポイントがすべて拒否されることを検証します。
+ */
+@WebMvcTest(controllers = BikeController.class)
+@Import(SecurityConfig.class)
+@AutoConfigureObservability(tracing = false)
+@ImportAutoConfiguration({
+		EndpointAutoConfiguration.class,
+		WebEndpointAutoConfiguration.class,
+		HealthEndpointAutoConfiguration.class,
+		MetricsAutoConfiguration.class,
+		PrometheusMetricsExportAutoConfiguration.class,
+		ManagementContextAutoConfiguration.class,
+		ServletManagementContextAutoConfiguration.class
+})
+@TestPropertySource(properties = {
+		"revox.metrics.username=",
+		"revox.metrics.password="
+})
+class SecurityConfigMetricsCredentialsNotConfiguredTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private BikeService bikeService;
+
+	@MockitoBean
+	private JwtTokenProvider jwtTokenProvider;
+
+	@MockitoBean
+	private ExternalAuthUserDetailsService userDetailsService;
+
+	@MockitoBean
+	private GuestSnapshotService guestSnapshotService;
+
+	private String basicAuth(String username, String password) {
+		return "Basic " + HttpHeaders.encodeBasicAuth(username, password, StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void 認証情報がない場合は拒否されること() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void どのような認証情報でも拒否されること() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, basicAuth("", "")))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, basicAuth("scraper", "scraper-password")))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void ヘルスチェックは認証なしで200を返すこと() throws Exception {
+		mockMvc.perform(get("/actuator/health"))
+				.andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,144 @@
+package com.rikuto.revox.security;
+
+import com.rikuto.revox.controller.BikeController;
+import com.rikuto.revox.dto.version.ResourceVersion;
+import com.rikuto.revox.security.details.ExternalAuthUserDetailsService;
+import com.rikuto.revox.security.jwt.JwtTokenProvider;
+import com.rikuto.revox.service.BikeService;
+import com.rikuto.revox.service.GuestSnapshotService;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.prometheus.PrometheusMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementContextAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.servlet.ServletManagementContextAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SecurityConfigの2つのフィルターチェーンを、アクチュエーターのエンドポイントとAPIのコントローラーに対して検証します。
+ */
+@WebMvcTest(controllers = BikeController.class)
+@Import(SecurityConfig.class)
+@AutoConfigureObservability(tracing = false)
+@ImportAutoConfiguration({
+		EndpointAutoConfiguration.class,
+		WebEndpointAutoConfiguration.class,
+		HealthEndpointAutoConfiguration.class,
+		MetricsAutoConfiguration.class,
+		PrometheusMetricsExportAutoConfiguration.class,
+		ManagementContextAutoConfiguration.class,
+		ServletManagementContextAutoConfiguration.class
+})
+@TestPropertySource(properties = {
+		"revox.metrics.username=scraper",
+		"revox.metrics.password=scraper-password"
+})
+class SecurityConfigTest {
+
+	private static final String VALID_TOKEN = "valid-token";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private BikeService bikeService;
+
+	@MockitoBean
+	private JwtTokenProvider jwtTokenProvider;
+
+	@MockitoBean
+	private ExternalAuthUserDetailsService userDetailsService;
+
+	@MockitoBean
+	private GuestSnapshotService guestSnapshotService;
+
+	private String basicAuth(String username, String password) {
+		return "Basic " + HttpHeaders.encodeBasicAuth(username, password, StandardCharsets.UTF_8);
+	}
+
+	private void stubValidToken() {
+		when(jwtTokenProvider.validateToken(VALID_TOKEN)).thenReturn(true);
+		when(jwtTokenProvider.getUniqueUserIdFromToken(VALID_TOKEN)).thenReturn("unique-user-id");
+		when(userDetailsService.loadUserByUniqueUserId("unique-user-id"))
+				.thenReturn(User.withUsername("unique-user-id").password("").roles("USER").build());
+	}
+
+	@Nested
+	class MetricsSecurityFilterChainTests {
+		@Test
+		void 認証情報がない場合は401を返すこと() throws Exception {
+			mockMvc.perform(get("/actuator/prometheus"))
+					.andExpect(status().isUnauthorized())
+					.andExpect(header().exists(HttpHeaders.WWW_AUTHENTICATE));
+		}
+
+		@Test
+		void 正しい認証情報の場合は200を返すこと() throws Exception {
+			mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, basicAuth("scraper", "scraper-password")))
+					.andExpect(status().isOk());
+		}
+
+		@Test
+		void パスワードが誤っている場合は401を返すこと() throws Exception {
+			mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, basicAuth("scraper", "wrong-password")))
+					.andExpect(status().isUnauthorized());
+		}
+
+		@Test
+		void APIのJWTでは認証されないこと() throws Exception {
+			mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_TOKEN))
+					.andExpect(status().isUnauthorized());
+		}
+
+		@Test
+		void ヘルスチェックは認証なしで200を返すこと() throws Exception {
+			mockMvc.perform(get("/actuator/health"))
+					.andExpect(status().isOk());
+		}
+	}
+
+	@Nested
+	class ApiSecurityFilterChainTests {
+		@Test
+		void 認証情報がない場合は403を返すこと() throws Exception {
+			mockMvc.perform(get("/api/bikes/user/{userId}", 1))
+					.andExpect(status().isForbidden());
+		}
+
+		@Test
+		void 有効なJWTの場合は200を返すこと() throws Exception {
+			stubValidToken();
+			when(bikeService.findBikeListVersion(1)).thenReturn(new ResourceVersion(0L, null));
+			when(bikeService.findBikeByUserId(1)).thenReturn(List.of());
+
+			mockMvc.perform(get("/api/bikes/user/{userId}", 1).header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_TOKEN))
+					.andExpect(status().isOk());
+		}
+
+		@Test
+		void メトリクス用の認証情報では認証されないこと() throws Exception {
+			mockMvc.perform(get("/api/bikes/user/{userId}", 1).header(HttpHeaders.AUTHORIZATION, basicAuth("scraper", "scraper-password")))
+					.andExpect(status().isForbidden());
+		}
+	}
+}
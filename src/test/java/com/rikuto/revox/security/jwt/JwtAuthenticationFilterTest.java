@@ -0,0 +1,108 @@
+package com.rikuto.revox.security.jwt;
+
+import com.rikuto.revox.security.details.ExternalAuthUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+	private static final String SECRET_KEY = "test-secret-key-for-jwt-authentication-filter-test";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 60_000L);
+
+	@Mock
+	private ExternalAuthUserDetailsService userDetailsService;
+
+	private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+	private MockFilterChain filterChain;
+
+	@BeforeEach
+	void setUp() {
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, meterRegistry);
+
+		request = new MockHttpServletRequest("GET", "/api/bikes/user/1");
+		response = new MockHttpServletResponse();
+		filterChain = new MockFilterChain();
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	private long authenticationCount(String outcome) {
+		return meterRegistry.get("revox.jwt.authentication").tag("outcome", outcome).timer().count();
+	}
+
+	@Nested
+	class AuthenticationMetricsTests {
+		@Test
+		void 有効なトークンで認証された場合はauthenticatedとして記録されること() throws Exception {
+			request.addHeader("Authorization", "Bearer " + jwtTokenProvider.generateToken("unique-user-id", "USER"));
+			when(userDetailsService.loadUserByUniqueUserId("unique-user-id"))
+					.thenReturn(User.withUsername("unique-user-id").password("").roles("USER").build());
+
+			jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+			assertThat(authenticationCount("authenticated")).isEqualTo(1);
+			assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+			assertThat(filterChain.getRequest()).isSameAs(request);
+		}
+
+		@Test
+		void 無効なトークンの場合はinvalidとして記録されること() throws Exception {
+			request.addHeader("Authorization", "Bearer invalid-token");
+
+			jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+			assertThat(authenticationCount("invalid")).isEqualTo(1);
+			assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+			verify(userDetailsService, never()).loadUserByUniqueUserId(any());
+		}
+
+		@Test
+		void トークンがない場合はanonymousとして記録されること() throws Exception {
+			jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+			assertThat(authenticationCount("anonymous")).isEqualTo(1);
+			assertThat(filterChain.getRequest()).isSameAs(request);
+		}
+
+		@Test
+		void ユーザー情報の読み込みに失敗した場合はfailedとして記録され後続の処理に進むこと() throws Exception {
+			request.addHeader("Authorization", "Bearer " + jwtTokenProvider.generateToken("deleted-user-id", "USER"));
+			when(userDetailsService.loadUserByUniqueUserId("deleted-user-id"))
+					.thenThrow(new UsernameNotFoundException("ユーザーが見つかりません。"));
+
+			jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+			assertThat(authenticationCount("failed")).isEqualTo(1);
+			assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+			assertThat(filterChain.getRequest()).isSameAs(request);
+		}
+	}
+}
@@ -7,20 +7,25 @@ import com.rikuto.revox.domain.User;
 import com.rikuto.revox.dto.ai.AiCreatePrompt;
 import com.rikuto.revox.dto.ai.AiQuestionCreateRequest;
 import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.fields.ResponseFields;
 import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.mapper.AiMapper;
 import com.rikuto.revox.repository.AiRepository;
 import com.rikuto.revox.repository.BikeRepository;
-import com.rikuto.revox.repository.CategoryRepository;
 import com.rikuto.revox.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,7 +47,7 @@ class AiServiceTest {
 	private BikeRepository bikeRepository;
 
 	@Mock
-	private CategoryRepository categoryRepository;
+	private CategoryService categoryService;
 
 	@Mock
 	private AiRepository aiRepository;
@@ -53,6 +58,12 @@ class AiServiceTest {
 	@Mock
 	private GeminiService geminiService;
 
+	@Spy
+	private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	@InjectMocks
 	private AiService aiService;
 
@@ -92,11 +103,12 @@ class AiServiceTest {
 	}
 
 	private void stubCategoryFound() {
-		when(categoryRepository.findById(testCategory.getId())).thenReturn(Optional.of(testCategory));
+		when(categoryService.getReference(testCategory.getId())).thenReturn(testCategory);
 	}
 
 	private void stubCategoryNotFound() {
-		when(categoryRepository.findById(testCategory.getId())).thenReturn(Optional.empty());
+		when(categoryService.getReference(testCategory.getId()))
+				.thenThrow(new ResourceNotFoundException("カテゴリーID " + testCategory.getId() + " が見つかりません。"));
 	}
 
 	@Nested
@@ -120,7 +132,7 @@ class AiServiceTest {
 
 			verify(userRepository).findByIdAndIsDeletedFalse(testUser.getId());
 			verify(bikeRepository).findByIdAndUserIdAndIsDeletedFalse(testBike.getId(), testUser.getId());
-			verify(categoryRepository).findById(testCategory.getId());
+			verify(categoryService).getReference(testCategory.getId());
 			verify(aiRepository).save(any(Ai.class));
 			verify(aiMapper).toResponse(testAi);
 			verify(geminiService, times(1)).generateContent(any(AiCreatePrompt.class));
@@ -133,7 +145,7 @@ class AiServiceTest {
 			assertThatThrownBy(() -> aiService.createAiQuestion(commonAiQuestionCreateRequest, testUser.getId(), testBike.getId(), testCategory.getId())).isInstanceOf(ResourceNotFoundException.class).hasMessageContaining("ユーザーID " + testUser.getId() + " が見つかりません。");
 
 			verify(bikeRepository, never()).findByIdAndUserIdAndIsDeletedFalse(any(), any());
-			verify(categoryRepository, never()).findById(any());
+			verify(categoryService, never()).getReference(any());
 			verify(aiRepository, never()).save(any());
 		}
 
@@ -144,7 +156,7 @@ class AiServiceTest {
 
 			assertThatThrownBy(() -> aiService.createAiQuestion(commonAiQuestionCreateRequest, testUser.getId(), testBike.getId(), testCategory.getId())).isInstanceOf(ResourceNotFoundException.class).hasMessageContaining("ユーザー ID " + testUser.getId() + " に紐づくバイクID " + testBike.getId() + "が見つかりません。");
 
-			verify(categoryRepository, never()).findById(any());
+			verify(categoryService, never()).getReference(any());
 			verify(aiRepository, never()).save(any());
 		}
 
@@ -156,8 +168,40 @@ class AiServiceTest {
 
 			assertThatThrownBy(() -> aiService.createAiQuestion(commonAiQuestionCreateRequest, testUser.getId(), testBike.getId(), testCategory.getId())).isInstanceOf(ResourceNotFoundException.class).hasMessageContaining("カテゴリーID " + testCategory.getId() + " が見つかりません。");
 
+			verify(geminiService, never()).generateContent(any());
 			verify(aiRepository, never()).save(any());
 		}
+
+		@Test
+		void 回答の生成中はトランザクションを開始していないこと() {
+			stubUserFound();
+			stubBikeFound();
+			stubCategoryFound();
+			when(geminiService.generateContent(any(AiCreatePrompt.class))).thenAnswer(invocation -> {
+				verify(transactionManager, times(1)).getTransaction(any());
+				verify(transactionManager, times(1)).commit(any());
+				return "MockedAIAnswer";
+			});
+			when(aiRepository.save(any(Ai.class))).thenReturn(testAi);
+
+			aiService.createAiQuestion(commonAiQuestionCreateRequest, testUser.getId(), testBike.getId(), testCategory.getId());
+
+			verify(transactionManager, times(2)).getTransaction(any());
+			verify(transactionManager, times(2)).commit(any());
+		}
+
+		@Test
+		void レート制限を超過した場合は質問を受け付けずに拒否した件数を記録すること() {
+			stubUserNotFound();
+			for(int i = 0; i < 5; i++) {
+				assertThatThrownBy(() -> aiService.createAiQuestion(commonAiQuestionCreateRequest, testUser.getId(), testBike.getId(), testCategory.getId())).isInstanceOf(ResourceNotFoundException.class);
+			}
+
+			assertThatThrownBy(() -> aiService.createAiQuestion(commonAiQuestionCreateRequest, testUser.getId(), testBike.getId(), testCategory.getId())).hasMessageContaining("レート制限を超過しました。");
+
+			assertThat(meterRegistry.get("revox.ai.rate.limit.rejections").counter().count()).isEqualTo(1.0);
+			verify(userRepository, times(5)).findByIdAndIsDeletedFalse(testUser.getId());
+		}
 	}
 
 	@Nested
@@ -167,7 +211,7 @@ class AiServiceTest {
 		void ユーザーIDに紐づくAI質問履歴を正しく取得できること() {
 			List<Ai> questionList = List.of(testAi);
 
-			when(aiRepository.findByUserId(testUser.getId())).thenReturn(questionList);
+			when(aiRepository.findByUserIdAndIsDeletedFalse(testUser.getId())).thenReturn(questionList);
 			when(aiMapper.toResponse(testAi)).thenReturn(commonAiQuestionResponse);
 
 			List<AiQuestionResponse> result = aiService.getAiQuestionByUserId(testUser.getId());
@@ -175,19 +219,34 @@ class AiServiceTest {
 			assertThat(result).hasSize(1);
 			assertThat(result.getFirst()).isEqualTo(commonAiQuestionResponse);
 
-			verify(aiRepository).findByUserId(testUser.getId());
+			verify(aiRepository).findByUserIdAndIsDeletedFalse(testUser.getId());
 			verify(aiMapper).toResponse(testAi);
 		}
 
 		@Test
 		void ユーザーにAI質問履歴がない場合は空のリストを返すこと() {
-			when(aiRepository.findByUserId(testUser.getId())).thenReturn(List.of());
+			when(aiRepository.findByUserIdAndIsDeletedFalse(testUser.getId())).thenReturn(List.of());
 
 			List<AiQuestionResponse> result = aiService.getAiQuestionByUserId(testUser.getId());
 
 			assertThat(result).isEmpty();
 
-			verify(aiRepository).findByUserId(testUser.getId());
+			verify(aiRepository).findByUserIdAndIsDeletedFalse(testUser.getId());
+		}
+
+		@Test
+		void 回答内容を含めない場合は回答内容を除いて取得すること() {
+			AiQuestionResponse summary = new AiQuestionResponse(
+					1, testUser.getId(), 1, 1, "エンジンオイルの交換時期はいつですか？", LocalDateTime.of(2025, 1, 1, 12, 0));
+			when(aiRepository.findSummaryByUserIdAndIsDeletedFalse(testUser.getId())).thenReturn(List.of(summary));
+
+			List<AiQuestionResponse> result = aiService.getAiQuestionByUserId(
+					testUser.getId(), ResponseFields.parse("id,question,createdAt", AiQuestionResponse.class));
+
+			assertThat(result).containsExactly(summary);
+			assertThat(result.getFirst().getAnswer()).isNull();
+			verify(aiRepository, never()).findByUserIdAndIsDeletedFalse(any());
+			verify(aiMapper, never()).toResponse(any());
 		}
 	}
 }
\ No newline at end of file
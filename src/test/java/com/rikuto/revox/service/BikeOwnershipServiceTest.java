@@ -0,0 +1,105 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.exception.ResourceNotFoundException;
+import com.rikuto.revox.repository.BikeRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BikeOwnershipServiceTest {
+
+	private final Integer testBikeId = 2;
+	private final Integer testUserId = 1;
+	private final Integer otherUserId = 3;
+
+	@Mock
+	private BikeRepository bikeRepository;
+
+	@InjectMocks
+	private BikeOwnershipService bikeOwnershipService;
+
+	private void stubOwnerFound() {
+		when(bikeRepository.findUserIdByIdAndIsDeletedFalse(testBikeId)).thenReturn(Optional.of(testUserId));
+	}
+
+	@Nested
+	class VerifyOwnershipTests {
+		@Test
+		void 所有者の場合は例外をスローしないこと() {
+			stubOwnerFound();
+
+			assertThatCode(() -> bikeOwnershipService.verifyOwnership(testBikeId, testUserId))
+					.doesNotThrowAnyException();
+		}
+
+		@Test
+		void 所有者ではない場合にResourceNotFoundExceptionをスローすること() {
+			stubOwnerFound();
+
+			assertThatThrownBy(() -> bikeOwnershipService.verifyOwnership(testBikeId, otherUserId))
+					.isInstanceOf(ResourceNotFoundException.class)
+					.hasMessageContaining("ユーザーID " + otherUserId + " に紐づくバイクID " + testBikeId + " が見つかりません。");
+		}
+
+		@Test
+		void バイクが存在しない場合にResourceNotFoundExceptionをスローすること() {
+			when(bikeRepository.findUserIdByIdAndIsDeletedFalse(testBikeId)).thenReturn(Optional.empty());
+
+			assertThatThrownBy(() -> bikeOwnershipService.verifyOwnership(testBikeId, testUserId))
+					.isInstanceOf(ResourceNotFoundException.class);
+		}
+
+		@Test
+		void 二回目以降の確認ではDBに問い合わせないこと() {
+			stubOwnerFound();
+
+			bikeOwnershipService.verifyOwnership(testBikeId, testUserId);
+			bikeOwnershipService.verifyOwnership(testBikeId, testUserId);
+			assertThatThrownBy(() -> bikeOwnershipService.verifyOwnership(testBikeId, otherUserId))
+					.isInstanceOf(ResourceNotFoundException.class);
+
+			verify(bikeRepository, times(1)).findUserIdByIdAndIsDeletedFalse(testBikeId);
+		}
+
+		@Test
+		void 存在しないバイクは保持せず毎回DBに問い合わせること() {
+			when(bikeRepository.findUserIdByIdAndIsDeletedFalse(testBikeId)).thenReturn(Optional.empty());
+
+			assertThatThrownBy(() -> bikeOwnershipService.verifyOwnership(testBikeId, testUserId))
+					.isInstanceOf(ResourceNotFoundException.class);
+			assertThatThrownBy(() -> bikeOwnershipService.verifyOwnership(testBikeId, testUserId))
+					.isInstanceOf(ResourceNotFoundException.class);
+
+			verify(bikeRepository, times(2)).findUserIdByIdAndIsDeletedFalse(testBikeId);
+		}
+	}
+
+	@Nested
+	class EvictTests {
+		@Test
+		void 破棄後は論理削除されたバイクとして扱われること() {
+			when(bikeRepository.findUserIdByIdAndIsDeletedFalse(testBikeId))
+					.thenReturn(Optional.of(testUserId))
+					.thenReturn(Optional.empty());
+			bikeOwnershipService.verifyOwnership(testBikeId, testUserId);
+
+			bikeOwnershipService.evict(testBikeId);
+
+			assertThatThrownBy(() -> bikeOwnershipService.verifyOwnership(testBikeId, testUserId))
+					.isInstanceOf(ResourceNotFoundException.class);
+			verify(bikeRepository, times(2)).findUserIdByIdAndIsDeletedFalse(testBikeId);
+		}
+	}
+}
@@ -5,9 +5,12 @@ import com.rikuto.revox.domain.User;
 import com.rikuto.revox.dto.bike.BikeCreateRequest;
 import com.rikuto.revox.dto.bike.BikeResponse;
 import com.rikuto.revox.dto.bike.BikeUpdateRequest;
+import com.rikuto.revox.dto.version.ResourceVersion;
 import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.mapper.BikeMapper;
+import com.rikuto.revox.repository.AiRepository;
 import com.rikuto.revox.repository.BikeRepository;
+import com.rikuto.revox.repository.MaintenanceTaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -40,6 +43,18 @@ class BikeServiceTest {
 	@Mock
 	private BikeMapper bikeMapper;
 
+	@Mock
+	private BikeOwnershipService bikeOwnershipService;
+
+	@Mock
+	private SecondLevelCacheService secondLevelCacheService;
+
+	@Mock
+	private MaintenanceTaskRepository maintenanceTaskRepository;
+
+	@Mock
+	private AiRepository aiRepository;
+
 	@InjectMocks
 	private BikeService bikeService;
 
@@ -117,6 +132,7 @@ class BikeServiceTest {
 					.hasMessageContaining("ユーザーID " + testUser.getId() + " に紐づくバイクID " + testBike.getId() + " が見つかりません。");
 
 			verify(bikeMapper, never()).toResponse(any());
+			verify(secondLevelCacheService, never()).evict(any(), any());
 		}
 	}
 
@@ -157,7 +173,6 @@ class BikeServiceTest {
 	class UpdateBikeTests {
 		@Test
 		void 既存のバイク情報が正常に更新されバイク情報を返されること() {
-			stubBikeFound();
 			Bike updateBike = Bike.builder()
 					.manufacturer("UpdateBike")
 					.modelName("UPDATE")
@@ -168,54 +183,101 @@ class BikeServiceTest {
 					.modelName("UPDATE")
 					.build();
 
-			when(bikeRepository.save(any(Bike.class))).thenReturn(updateBike);
-			when(bikeMapper.toResponse(any(Bike.class))).thenReturn(commonBikeResponse);
+			when(bikeRepository.updateByIdAndUserId(testBike.getId(), testUser.getId(), request)).thenReturn(Optional.of(updateBike));
+			when(bikeMapper.toResponse(updateBike)).thenReturn(commonBikeResponse);
 
 			BikeResponse result = bikeService.updateBike(request, testBike.getId(), testUser.getId());
 
 			assertThat(result).isEqualTo(commonBikeResponse);
 
-			verify(bikeRepository).save(any(Bike.class));
-			verify(bikeMapper).toResponse(any(Bike.class));
+			verify(bikeRepository).updateByIdAndUserId(testBike.getId(), testUser.getId(), request);
+			verify(secondLevelCacheService).evict(Bike.class, testBike.getId());
+			verify(bikeRepository, never()).findByIdAndUserIdAndIsDeletedFalse(any(), any());
+			verify(bikeRepository, never()).save(any());
 		}
 
 		@Test
 		void バイクが見つからない場合にResourceNotFoundExceptionをスローすること() {
-			stubBikeNotFound();
 			BikeUpdateRequest updateRequest = BikeUpdateRequest.builder()
 					.manufacturer("deleted")
 					.build();
+			when(bikeRepository.updateByIdAndUserId(testBike.getId(), testUser.getId(), updateRequest)).thenReturn(Optional.empty());
 
 			assertThatThrownBy(() -> bikeService.updateBike(updateRequest, testBike.getId(), testUser.getId()))
 					.isInstanceOf(ResourceNotFoundException.class)
 					.hasMessageContaining("ユーザーID " + testUser.getId() + " に紐づくバイクID " + testBike.getId() + " が見つかりません。");
 
-			verify(bikeRepository, never()).save(any());
+			verify(bikeMapper, never()).toResponse(any());
+		}
+	}
+
+	@Nested
+	class TransferBikeTests {
+		@Test
+		void バイクの所有者が変更され所有者の対応と2次キャッシュのバイクが破棄されること() {
+			User newOwner = User.builder().id(3).nickname("newOwner").build();
+			when(userService.findById(newOwner.getId())).thenReturn(newOwner);
+			when(bikeRepository.transferByIdAndUserId(testBike.getId(), testUser.getId(), newOwner)).thenReturn(1);
+
+			bikeService.transferBike(testBike.getId(), testUser.getId(), newOwner.getId());
+
+			verify(bikeRepository).transferByIdAndUserId(testBike.getId(), testUser.getId(), newOwner);
+			verify(bikeOwnershipService).evict(testBike.getId());
+			verify(secondLevelCacheService).evict(Bike.class, testBike.getId());
+		}
+
+		@Test
+		void バイクが見つからない場合にResourceNotFoundExceptionをスローし所有者の対応を破棄しないこと() {
+			User newOwner = User.builder().id(3).nickname("newOwner").build();
+			when(userService.findById(newOwner.getId())).thenReturn(newOwner);
+			when(bikeRepository.transferByIdAndUserId(testBike.getId(), testUser.getId(), newOwner)).thenReturn(0);
+
+			assertThatThrownBy(() -> bikeService.transferBike(testBike.getId(), testUser.getId(), newOwner.getId()))
+					.isInstanceOf(ResourceNotFoundException.class)
+					.hasMessageContaining("ユーザーID " + testUser.getId() + " に紐づくバイクID " + testBike.getId() + " が見つかりません。");
+
+			verify(bikeOwnershipService, never()).evict(any());
+			verify(secondLevelCacheService, never()).evict(any(), any());
+		}
+
+		@Test
+		void 新しい所有者が見つからない場合にResourceNotFoundExceptionをスローすること() {
+			stubUserNotFound();
+
+			assertThatThrownBy(() -> bikeService.transferBike(testBike.getId(), 3, testUser.getId()))
+					.isInstanceOf(ResourceNotFoundException.class);
+
+			verify(bikeRepository, never()).transferByIdAndUserId(any(), any(), any());
 		}
 	}
 
 	@Nested
 	class SoftDeleteBikeTests {
 		@Test
-		void 登録されているバイクが正常に論理削除されること() {
-			stubBikeFound();
-			when(bikeRepository.save(testBike)).thenReturn(testBike);
+		void 登録されているバイクと紐づく整備タスクとAI質問履歴が論理削除されること() {
+			when(bikeRepository.softDeleteByIdAndUserId(testBike.getId(), testUser.getId())).thenReturn(1);
 
 			bikeService.softDeleteBike(testBike.getId(), testUser.getId());
 
-			assertThat(testBike.isDeleted()).isTrue();
-			verify(bikeRepository).save(testBike);
+			verify(bikeRepository).softDeleteByIdAndUserId(testBike.getId(), testUser.getId());
+			verify(maintenanceTaskRepository).softDeleteByBikeId(testBike.getId());
+			verify(aiRepository).softDeleteByBikeId(testBike.getId());
+			verify(bikeRepository, never()).findByIdAndUserIdAndIsDeletedFalse(any(), any());
+			verify(bikeRepository, never()).save(any());
+			verify(bikeOwnershipService).evict(testBike.getId());
 		}
 
 		@Test
 		void バイクが見つからない場合にResourceNotFoundExceptionをスローすること() {
-			stubBikeNotFound();
+			when(bikeRepository.softDeleteByIdAndUserId(testBike.getId(), testUser.getId())).thenReturn(0);
 
 			assertThatThrownBy(() -> bikeService.softDeleteBike(testBike.getId(), testUser.getId()))
 					.isInstanceOf(ResourceNotFoundException.class)
 					.hasMessageContaining("ユーザー ID " + testUser.getId() + " に紐づくバイクID " + testBike.getId() + "が見つかりません。");
 
-			verify(bikeRepository, never()).save(any());
+			verify(maintenanceTaskRepository, never()).softDeleteByBikeId(any());
+			verify(aiRepository, never()).softDeleteByBikeId(any());
+			verify(bikeOwnershipService, never()).evict(any());
 		}
 	}
 
@@ -236,4 +298,18 @@ class BikeServiceTest {
 			verify(bikeMapper, times(1)).toResponseList(bikeList);
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	class FindBikeListVersionTests {
+		@Test
+		void ユーザーIDに紐づくバイク一覧のバージョン情報を取得できること() {
+			ResourceVersion version = new ResourceVersion(1L, 101L);
+			when(bikeRepository.findVersionByUserId(testUser.getId())).thenReturn(version);
+
+			ResourceVersion result = bikeService.findBikeListVersion(testUser.getId());
+
+			assertThat(result).isEqualTo(version);
+			verify(bikeRepository, never()).findByUserIdAndIsDeletedFalse(any());
+		}
+	}
+}
@@ -1,19 +1,27 @@
 package com.rikuto.revox.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.rikuto.revox.domain.Category;
 import com.rikuto.revox.dto.category.CategoryResponse;
+import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.mapper.CategoryMapper;
 import com.rikuto.revox.repository.CategoryRepository;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,7 +34,6 @@ class CategoryServiceTest {
 	@Mock
 	private CategoryMapper categoryMapper;
 
-	@InjectMocks
 	private CategoryService categoryService;
 
 	private Category category;
@@ -37,6 +44,9 @@ class CategoryServiceTest {
 
 	@BeforeEach
 	void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		categoryService = new CategoryService(categoryRepository, categoryMapper, objectMapper);
+
 		category = Category.builder()
 				.id(1)
 				.name("TestCategory")
@@ -62,20 +72,99 @@ class CategoryServiceTest {
 				.build();
 	}
 
-	@Test
-	void すべてのカテゴリーを複数件取得できること() {
+	private void stubCategoriesFound() {
 		List<Category> categories = List.of(category, secondCategory);
-		List<CategoryResponse> responses = List.of(categoryResponse, secondCategoryResponse);
-
 		when(categoryRepository.findAll()).thenReturn(categories);
-		when(categoryMapper.toResponseList(categories)).thenReturn(responses);
+		when(categoryMapper.toResponseList(categories)).thenReturn(List.of(categoryResponse, secondCategoryResponse));
+	}
+
+	@Nested
+	class FindAllCategoriesTests {
+		@Test
+		void すべてのカテゴリーを複数件取得できること() {
+			stubCategoriesFound();
+
+			List<CategoryResponse> result = categoryService.findAllCategories();
+
+			assertThat(result).hasSize(2);
+			assertThat(result).containsExactly(categoryResponse, secondCategoryResponse);
+
+			verify(categoryRepository).findAll();
+		}
+
+		@Test
+		void 二回目以降の取得ではDBに問い合わせないこと() {
+			stubCategoriesFound();
+
+			categoryService.warmUp();
+			categoryService.findAllCategories();
+			categoryService.findSerializedCategories();
+
+			verify(categoryRepository, times(1)).findAll();
+		}
+
+		@Test
+		void 起動時の読み込みに失敗した場合は次回の取得時に再度読み込むこと() {
+			when(categoryRepository.findAll())
+					.thenThrow(new RuntimeException("データベース接続エラー"))
+					.thenReturn(List.of(category, secondCategory));
+			when(categoryMapper.toResponseList(any())).thenReturn(List.of(categoryResponse, secondCategoryResponse));
+
+			categoryService.warmUp();
+			List<CategoryResponse> result = categoryService.findAllCategories();
+
+			assertThat(result).hasSize(2);
+			verify(categoryRepository, times(2)).findAll();
+		}
+	}
+
+	@Nested
+	class FindSerializedCategoriesTests {
+		@Test
+		void シリアライズ済みのJSONとダブルクォートで囲まれたETagを取得できること() {
+			stubCategoriesFound();
+
+			CategoryService.SerializedCategories result = categoryService.findSerializedCategories();
+
+			assertThat(new String(result.json().identity(), StandardCharsets.UTF_8))
+					.contains("TestCategory")
+					.contains("テストカテゴリー");
+			assertThat(result.eTag()).startsWith("\"").endsWith("\"");
+		}
+
+		@Test
+		void 同じカテゴリーからは同じETagが生成されること() {
+			stubCategoriesFound();
+			String eTag = categoryService.findSerializedCategories().eTag();
+
+			CategoryService otherCategoryService = new CategoryService(
+					categoryRepository, categoryMapper, new ObjectMapper().registerModule(new JavaTimeModule()));
+
+			assertThat(otherCategoryService.findSerializedCategories().eTag()).isEqualTo(eTag);
+		}
+	}
+
+	@Nested
+	class GetReferenceTests {
+		@Test
+		void 存在するカテゴリーIDの場合は参照を返すこと() {
+			stubCategoriesFound();
+			when(categoryRepository.getReferenceById(category.getId())).thenReturn(category);
+
+			Category result = categoryService.getReference(category.getId());
+
+			assertThat(result).isEqualTo(category);
+		}
 
-		List<CategoryResponse> result = categoryService.findAllCategories();
+		@Test
+		void 存在しないカテゴリーIDの場合にResourceNotFoundExceptionをスローすること() {
+			stubCategoriesFound();
 
-		assertThat(result).hasSize(2);
-		assertThat(result).containsExactly(categoryResponse, secondCategoryResponse);
+			assertThatThrownBy(() -> categoryService.getReference(999))
+					.isInstanceOf(ResourceNotFoundException.class)
+					.hasMessageContaining("カテゴリーID 999 が見つかりません。");
 
-		verify(categoryRepository).findAll();
-		verify(categoryMapper).toResponseList(categories);
+			verify(categoryRepository, never()).getReferenceById(any());
+		}
 	}
 }
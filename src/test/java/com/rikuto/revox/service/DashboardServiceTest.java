@@ -0,0 +1,139 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.domain.Ai;
+import com.rikuto.revox.domain.Bike;
+import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.bike.BikeResponse;
+import com.rikuto.revox.dto.dashboard.CategoryTaskCountResponse;
+import com.rikuto.revox.dto.dashboard.DashboardResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.mapper.AiMapper;
+import com.rikuto.revox.mapper.BikeMapper;
+import com.rikuto.revox.mapper.MaintenanceTaskMapper;
+import com.rikuto.revox.repository.AiRepository;
+import com.rikuto.revox.repository.BikeRepository;
+import com.rikuto.revox.repository.MaintenanceTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+	private final Integer testUserId = 1;
+
+	@Mock
+	private BikeRepository bikeRepository;
+
+	@Mock
+	private MaintenanceTaskRepository maintenanceTaskRepository;
+
+	@Mock
+	private AiRepository aiRepository;
+
+	@Mock
+	private BikeMapper bikeMapper;
+
+	@Mock
+	private MaintenanceTaskMapper maintenanceTaskMapper;
+
+	@Mock
+	private AiMapper aiMapper;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private DashboardService dashboardService;
+
+	@BeforeEach
+	void setUp() {
+		dashboardService = new DashboardService(bikeRepository, maintenanceTaskRepository, aiRepository,
+				bikeMapper, maintenanceTaskMapper, aiMapper, transactionManager, Runnable::run, 4);
+	}
+
+	@Test
+	void ダッシュボードの各情報をそれぞれ一回のクエリで取得できること() {
+		List<Bike> bikeList = List.of(Bike.builder().id(2).build());
+		List<MaintenanceTask> taskList = List.of(MaintenanceTask.builder().id(10).build());
+		Ai ai = Ai.builder().id(20).build();
+		List<CategoryTaskCountResponse> categoryTaskCounts = List.of(new CategoryTaskCountResponse(1, 3L));
+
+		BikeResponse bikeResponse = BikeResponse.builder().id(2).build();
+		MaintenanceTaskResponse taskResponse = MaintenanceTaskResponse.builder().id(10).build();
+		AiQuestionResponse aiResponse = AiQuestionResponse.builder().id(20).build();
+
+		when(bikeRepository.findByUserIdAndIsDeletedFalse(testUserId)).thenReturn(bikeList);
+		when(bikeMapper.toResponseList(bikeList)).thenReturn(List.of(bikeResponse));
+		when(maintenanceTaskRepository.findLatestPerBikeByUserId(testUserId, DashboardService.LATEST_TASKS_PER_BIKE)).thenReturn(taskList);
+		when(maintenanceTaskMapper.toResponseList(taskList)).thenReturn(List.of(taskResponse));
+		when(maintenanceTaskRepository.countByCategoryForUserId(testUserId)).thenReturn(categoryTaskCounts);
+		when(aiRepository.findTop5ByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(testUserId)).thenReturn(List.of(ai));
+		when(aiMapper.toResponse(ai)).thenReturn(aiResponse);
+
+		DashboardResponse result = dashboardService.getDashboard(testUserId);
+
+		assertThat(result.getBikes()).containsExactly(bikeResponse);
+		assertThat(result.getLatestMaintenanceTasks()).containsExactly(taskResponse);
+		assertThat(result.getCategoryTaskCounts()).isEqualTo(categoryTaskCounts);
+		assertThat(result.getRecentAiQuestions()).containsExactly(aiResponse);
+
+		verify(bikeRepository, times(1)).findByUserIdAndIsDeletedFalse(testUserId);
+		verify(maintenanceTaskRepository, times(1)).findLatestPerBikeByUserId(testUserId, DashboardService.LATEST_TASKS_PER_BIKE);
+		verify(maintenanceTaskRepository, times(1)).countByCategoryForUserId(testUserId);
+		verify(aiRepository, times(1)).findTop5ByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(testUserId);
+		verify(transactionManager, times(4)).getTransaction(any());
+	}
+
+	@Test
+	void クエリで例外が発生した場合は元の例外をスローすること() {
+		when(bikeRepository.findByUserIdAndIsDeletedFalse(testUserId)).thenThrow(new IllegalStateException("データベース接続エラー"));
+
+		assertThatThrownBy(() -> dashboardService.getDashboard(testUserId))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("データベース接続エラー");
+	}
+
+	@Test
+	void 同時に実行するクエリの数が上限を超えないこと() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		Answer<List<?>> countingQuery = invocation -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(20);
+			running.decrementAndGet();
+			return List.of();
+		};
+		when(bikeRepository.findByUserIdAndIsDeletedFalse(testUserId)).thenAnswer(countingQuery);
+		when(maintenanceTaskRepository.findLatestPerBikeByUserId(any(), anyInt())).thenAnswer(countingQuery);
+		when(maintenanceTaskRepository.countByCategoryForUserId(testUserId)).thenAnswer(countingQuery);
+		when(aiRepository.findTop5ByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(testUserId)).thenAnswer(countingQuery);
+
+		try(ExecutorService executor = Executors.newFixedThreadPool(4)) {
+			DashboardService limitedDashboardService = new DashboardService(bikeRepository, maintenanceTaskRepository,
+					aiRepository, bikeMapper, maintenanceTaskMapper, aiMapper, transactionManager, executor, 2);
+
+			limitedDashboardService.getDashboard(testUserId);
+		}
+
+		assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+		verify(transactionManager, times(4)).getTransaction(any());
+	}
+}
@@ -0,0 +1,32 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.dto.ai.AiCreatePrompt;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiPromptBuilderTest {
+
+	@Test
+	void 車両情報と質問がプロンプトに埋め込まれること() {
+		AiCreatePrompt prompt = AiCreatePrompt.builder()
+				.manufacturer("Honda")
+				.modelName("CBR1000RR")
+				.modelYear(2020)
+				.question("エンジンオイルの交換手順を教えてください。")
+				.build();
+
+		String result = GeminiPromptBuilder.build(prompt);
+
+		assertThat(result).startsWith("あなたは Honda CBR1000RR (2020年式) の整備士です。\n");
+		assertThat(result).contains("## 質問\nエンジンオイルの交換手順を教えてください。\n");
+		assertThat(result).endsWith("※不明点は「車両の仕様書を確認してください」と明記し、推測は避けること。\n");
+	}
+
+	@Test
+	void 回答形式の見出しの間の空行が保持されること() {
+		String result = GeminiPromptBuilder.build(AiCreatePrompt.builder().question("質問").build());
+
+		assertThat(result).contains("- 部品の品番・規格（例: エンジンオイル 10W-40 SN以上）\n\n【作業手順（簡潔に）】\n");
+	}
+}
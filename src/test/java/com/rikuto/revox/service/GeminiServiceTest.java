@@ -0,0 +1,142 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.dto.ai.AiCreatePrompt;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiServiceTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private GeminiService geminiService;
+
+	@BeforeEach
+	void setUp() {
+		geminiService = new GeminiService(meterRegistry, "http://localhost:1", "test");
+	}
+
+	@Nested
+	class LifecycleTests {
+		@Test
+		void 起動時はクライアントが作成済みであること() {
+			assertThat(geminiService.isRunning()).isTrue();
+		}
+
+		@Test
+		void 停止後はクライアントを閉じてAPIを呼び出さないこと() {
+			geminiService.stop();
+
+			String answer = geminiService.generateContent(AiCreatePrompt.builder().question("質問").build());
+
+			assertThat(geminiService.isRunning()).isFalse();
+			assertThat(answer).isEqualTo("技術的な問題により回答できませんでした。");
+			assertThat(meterRegistry.find("revox.gemini.requests").timers()).isEmpty();
+		}
+
+		@Test
+		void 停止後に再開するとクライアントを再作成すること() {
+			geminiService.stop();
+			geminiService.start();
+
+			assertThat(geminiService.isRunning()).isTrue();
+		}
+
+		@Test
+		void 停止を繰り返しても例外が発生しないこと() {
+			geminiService.stop();
+			geminiService.stop();
+
+			assertThat(geminiService.isRunning()).isFalse();
+		}
+	}
+
+	/**
+	 * Gemini APIの代わりに、指定したステータスと本文を返すローカルのHTTPサーバーに接続して検証します。
+	 */
+	@Nested
+	class RequestMetricsTests {
+		private HttpServer server;
+
+		private int responseStatus;
+		private String responseBody;
+
+		@BeforeEach
+		void startServer() throws IOException {
+			server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			server.createContext("/", exchange -> {
+				byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().add("Content-Type", "application/json");
+				exchange.sendResponseHeaders(responseStatus, body.length);
+				try(OutputStream outputStream = exchange.getResponseBody()) {
+					outputStream.write(body);
+				}
+			});
+			server.start();
+
+			geminiService.stop();
+			geminiService = new GeminiService(meterRegistry, "http://localhost:" + server.getAddress().getPort(), "test");
+		}
+
+		@AfterEach
+		void stopServer() {
+			geminiService.stop();
+			server.stop(0);
+		}
+
+		private void respond(int status, String body) {
+			responseStatus = status;
+			responseBody = body;
+		}
+
+		private String answerBody(String text) {
+			return "{\"candidates\":[{\"content\":{\"role\":\"model\",\"parts\":[{\"text\":\"" + text + "\"}]}}]}";
+		}
+
+		private long requestCount(String outcome) {
+			return meterRegistry.get("revox.gemini.requests").tag("outcome", outcome).timer().count();
+		}
+
+		@Test
+		void 回答を取得できた場合はsuccessとして記録されること() {
+			respond(200, answerBody("粘度を確認してください。"));
+
+			String answer = geminiService.generateContent(AiCreatePrompt.builder().question("質問").build());
+
+			assertThat(answer).isEqualTo("粘度を確認してください。");
+			assertThat(requestCount("success")).isEqualTo(1);
+			assertThat(meterRegistry.find("revox.gemini.requests").tag("outcome", "error").timer()).isNull();
+		}
+
+		@Test
+		void 空の回答が返された場合はemptyとして記録されること() {
+			respond(200, answerBody(""));
+
+			String answer = geminiService.generateContent(AiCreatePrompt.builder().question("質問").build());
+
+			assertThat(answer).isEqualTo("回答を取得できませんでした。");
+			assertThat(requestCount("empty")).isEqualTo(1);
+		}
+
+		@Test
+		void APIがエラーを返した場合はerrorとして記録されること() {
+			respond(400, "{\"error\":{\"code\":400,\"message\":\"invalid\",\"status\":\"INVALID_ARGUMENT\"}}");
+
+			String answer = geminiService.generateContent(AiCreatePrompt.builder().question("質問").build());
+
+			assertThat(answer).isEqualTo("技術的な問題により回答できませんでした。");
+			assertThat(requestCount("error")).isEqualTo(1);
+			assertThat(meterRegistry.find("revox.gemini.requests").tag("outcome", "success").timer()).isNull();
+		}
+	}
+}
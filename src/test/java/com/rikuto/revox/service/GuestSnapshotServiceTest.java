@@ -0,0 +1,181 @@
+package com.rikuto.revox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rikuto.revox.domain.User;
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.bike.BikeResponse;
+import com.rikuto.revox.dto.category.CategoryResponse;
+import com.rikuto.revox.dto.dashboard.DashboardResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskPageResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GuestSnapshotServiceTest {
+
+	private final Integer guestUserId = 99999999;
+	private final Integer guestBikeId = 9999998;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private BikeService bikeService;
+
+	@Mock
+	private MaintenanceTaskService maintenanceTaskService;
+
+	@Mock
+	private AiService aiService;
+
+	@Mock
+	private CategoryService categoryService;
+
+	@Mock
+	private DashboardService dashboardService;
+
+	private GuestSnapshotService guestSnapshotService;
+
+	private User guestUser;
+
+	@BeforeEach
+	void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		guestSnapshotService = new GuestSnapshotService(
+				userRepository, bikeService, maintenanceTaskService, aiService, categoryService, dashboardService, objectMapper);
+
+		guestUser = User.builder()
+				.id(guestUserId)
+				.nickname("ゲストユーザー")
+				.uniqueUserId(GuestSnapshotService.GUEST_UNIQUE_USER_ID)
+				.roles("GUEST")
+				.build();
+	}
+
+	private void stubGuestData() {
+		when(userRepository.findByUniqueUserIdAndIsDeletedFalse(GuestSnapshotService.GUEST_UNIQUE_USER_ID))
+				.thenReturn(Optional.of(guestUser));
+		when(bikeService.findBikeByUserId(guestUserId))
+				.thenReturn(List.of(BikeResponse.builder().id(guestBikeId).userId(guestUserId).modelName("CBR1000RR").build()));
+		when(categoryService.findAllCategories())
+				.thenReturn(List.of(
+						CategoryResponse.builder().id(1).name("エンジン").build(),
+						CategoryResponse.builder().id(2).name("ブレーキ").build()));
+		when(maintenanceTaskService.findLatestMaintenanceTasksByUserId(guestUserId))
+				.thenReturn(List.of(MaintenanceTaskResponse.builder().id(1).bikeId(guestBikeId).categoryId(1).name("エンジンオイル交換").build()));
+		when(maintenanceTaskService.findByBikeId(guestBikeId, null, null, guestUserId))
+				.thenReturn(MaintenanceTaskPageResponse.builder()
+						.maintenanceTasks(List.of(MaintenanceTaskResponse.builder().id(1).bikeId(guestBikeId).categoryId(1).name("エンジンオイル交換").build()))
+						.build());
+		when(maintenanceTaskService.findByBikeIdAndCategoryId(guestBikeId, 1, null, null, guestUserId))
+				.thenReturn(MaintenanceTaskPageResponse.builder()
+						.maintenanceTasks(List.of(MaintenanceTaskResponse.builder().id(1).bikeId(guestBikeId).categoryId(1).name("エンジンオイル交換").build()))
+						.build());
+		when(maintenanceTaskService.findByBikeIdAndCategoryId(guestBikeId, 2, null, null, guestUserId))
+				.thenReturn(MaintenanceTaskPageResponse.builder().maintenanceTasks(List.of()).build());
+		when(aiService.getAiQuestionByUserId(guestUserId))
+				.thenReturn(List.of(AiQuestionResponse.builder().id(1).userId(guestUserId).question("エンジンオイルの選び方").build()));
+		when(dashboardService.getDashboard(guestUserId))
+				.thenReturn(DashboardResponse.builder()
+						.bikes(List.of(BikeResponse.builder().id(guestBikeId).userId(guestUserId).modelName("CBR1000RR").build()))
+						.build());
+	}
+
+	private String findResponseAsString(String path) {
+		return guestSnapshotService.findResponse(path)
+				.map(body -> new String(body.identity(), StandardCharsets.UTF_8))
+				.orElseThrow();
+	}
+
+	@Nested
+	class LoadSnapshotTests {
+		@Test
+		void ゲストユーザーの各GETエンドポイントのレスポンスがシリアライズされて保持されること() {
+			stubGuestData();
+
+			guestSnapshotService.loadSnapshot();
+
+			assertThat(findResponseAsString("/api/bikes/user/" + guestUserId)).contains("CBR1000RR");
+			assertThat(findResponseAsString("/api/bikes/user/" + guestUserId + "/bike/" + guestBikeId)).contains("CBR1000RR");
+			assertThat(findResponseAsString("/api/maintenance-task/user/" + guestUserId)).contains("エンジンオイル交換");
+			assertThat(findResponseAsString("/api/maintenance-task/bike/" + guestBikeId)).contains("エンジンオイル交換");
+			assertThat(findResponseAsString("/api/ai/user/" + guestUserId)).contains("エンジンオイルの選び方");
+			assertThat(findResponseAsString("/api/dashboard/user/" + guestUserId)).contains("CBR1000RR");
+			assertThat(guestSnapshotService.findResponse("/api/categories")).isEmpty();
+		}
+
+		@Test
+		void カテゴリーごとの整備タスクリストの最初のページが保持されること() {
+			stubGuestData();
+
+			guestSnapshotService.loadSnapshot();
+
+			assertThat(findResponseAsString("/api/maintenance-task/bike/" + guestBikeId + "/category/1")).contains("エンジンオイル交換");
+			assertThat(findResponseAsString("/api/maintenance-task/bike/" + guestBikeId + "/category/2")).contains("\"maintenanceTasks\":[]");
+		}
+
+		@Test
+		void ゲストユーザーが存在しない場合はスナップショットを作成しないこと() {
+			when(userRepository.findByUniqueUserIdAndIsDeletedFalse(GuestSnapshotService.GUEST_UNIQUE_USER_ID))
+					.thenReturn(Optional.empty());
+
+			guestSnapshotService.loadSnapshot();
+
+			assertThat(guestSnapshotService.findResponse("/api/bikes/user/" + guestUserId)).isEmpty();
+			assertThat(guestSnapshotService.findGuestUserDetails(GuestSnapshotService.GUEST_UNIQUE_USER_ID)).isEmpty();
+			verify(bikeService, never()).findBikeByUserId(anyInt());
+		}
+
+		@Test
+		void 作成中に例外が発生した場合はスナップショットを空のままにすること() {
+			when(userRepository.findByUniqueUserIdAndIsDeletedFalse(GuestSnapshotService.GUEST_UNIQUE_USER_ID))
+					.thenReturn(Optional.of(guestUser));
+			when(bikeService.findBikeByUserId(guestUserId)).thenThrow(new RuntimeException("データベース接続エラー"));
+
+			guestSnapshotService.loadSnapshot();
+
+			assertThat(guestSnapshotService.findResponse("/api/bikes/user/" + guestUserId)).isEmpty();
+		}
+	}
+
+	@Nested
+	class FindGuestUserDetailsTests {
+		@Test
+		void ゲストユーザーの認証情報をスナップショットから取得できること() {
+			stubGuestData();
+			guestSnapshotService.loadSnapshot();
+
+			Optional<UserDetails> result = guestSnapshotService.findGuestUserDetails(GuestSnapshotService.GUEST_UNIQUE_USER_ID);
+
+			assertThat(result).isPresent();
+			assertThat(result.get().getUsername()).isEqualTo(GuestSnapshotService.GUEST_UNIQUE_USER_ID);
+			assertThat(result.get().getAuthorities()).extracting("authority").containsExactly("ROLE_GUEST");
+		}
+
+		@Test
+		void ゲストユーザー以外の場合はOptionalEmptyを返すこと() {
+			stubGuestData();
+			guestSnapshotService.loadSnapshot();
+
+			assertThat(guestSnapshotService.findGuestUserDetails("google-sub-12345")).isEmpty();
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package com.rikuto.revox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rikuto.revox.dto.ai.AiQuestionResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.exception.ResourceNotFoundException;
+import com.rikuto.revox.repository.AiRepository;
+import com.rikuto.revox.repository.MaintenanceTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HistoryExportServiceTest {
+
+	private static final Limit CHUNK_LIMIT = Limit.of(HistoryExportService.CHUNK_SIZE);
+
+	private final Integer testUserId = 1;
+	private final Integer testBikeId = 10;
+
+	@Mock
+	private MaintenanceTaskRepository maintenanceTaskRepository;
+
+	@Mock
+	private AiRepository aiRepository;
+
+	@Mock
+	private BikeOwnershipService bikeOwnershipService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private HistoryExportService historyExportService;
+
+	private MaintenanceTaskResponse oilChange;
+	private MaintenanceTaskResponse chainCleaning;
+
+	@BeforeEach
+	void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper()
+				.registerModule(new JavaTimeModule())
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		historyExportService = new HistoryExportService(
+				maintenanceTaskRepository, aiRepository, bikeOwnershipService, objectMapper, transactionManager);
+
+		oilChange = MaintenanceTaskResponse.builder()
+				.id(1).bikeId(testBikeId).categoryId(1).name("オイル交換").description("10W-40")
+				.createdAt(LocalDateTime.of(2023, 4, 1, 10, 0, 30)).updatedAt(LocalDateTime.of(2023, 4, 1, 10, 0, 30))
+				.build();
+		chainCleaning = MaintenanceTaskResponse.builder()
+				.id(2).bikeId(testBikeId).categoryId(2).name("チェーン \"清掃\"").description("1. 洗浄する\n2. 注油する, 拭き取る")
+				.createdAt(LocalDateTime.of(2023, 5, 1, 10, 0, 30)).updatedAt(LocalDateTime.of(2023, 5, 1, 10, 0, 30))
+				.build();
+	}
+
+	private String writeToString(StreamingResponseBody body) throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		body.writeTo(outputStream);
+		return outputStream.toString(StandardCharsets.UTF_8);
+	}
+
+	@Nested
+	class ExportMaintenanceTasksTests {
+		@Test
+		void ユーザーの整備タスクを1行に1件のJSONで出力すること() throws Exception {
+			when(maintenanceTaskRepository.findExportFirstChunkByUserId(testUserId, CHUNK_LIMIT)).thenReturn(List.of(oilChange, chainCleaning));
+
+			String result = writeToString(historyExportService.exportMaintenanceTasks(null, testUserId, ExportFormat.NDJSON));
+
+			List<String> lines = result.lines().toList();
+			assertThat(lines).hasSize(2);
+			assertThat(lines.get(0)).contains("\"name\":\"オイル交換\"").contains("\"createdAt\":\"2023-04-01T10:00:30\"");
+			assertThat(lines.get(1)).contains("\"id\":2");
+			assertThat(result).endsWith("\n");
+			verify(bikeOwnershipService, never()).verifyOwnership(anyInt(), anyInt());
+		}
+
+		@Test
+		void バイクを指定した場合は所有者を確認してバイクの整備タスクを出力すること() throws Exception {
+			when(maintenanceTaskRepository.findExportFirstChunkByBikeId(testBikeId, CHUNK_LIMIT)).thenReturn(List.of(oilChange));
+
+			String result = writeToString(historyExportService.exportMaintenanceTasks(testBikeId, testUserId, ExportFormat.NDJSON));
+
+			assertThat(result.lines()).hasSize(1);
+			verify(bikeOwnershipService).verifyOwnership(testBikeId, testUserId);
+			verify(maintenanceTaskRepository, never()).findExportFirstChunkByUserId(anyInt(), any());
+		}
+
+		@Test
+		void 所有していないバイクを指定した場合は書き込みを始める前にResourceNotFoundExceptionをスローすること() {
+			doThrow(new ResourceNotFoundException("バイクが見つかりません"))
+					.when(bikeOwnershipService).verifyOwnership(testBikeId, testUserId);
+
+			assertThatThrownBy(() -> historyExportService.exportMaintenanceTasks(testBikeId, testUserId, ExportFormat.CSV))
+					.isInstanceOf(ResourceNotFoundException.class);
+
+			verify(maintenanceTaskRepository, never()).findExportFirstChunkByBikeId(anyInt(), any());
+		}
+
+		@Test
+		void CSVで出力した整備タスクを元の値のまま読み込めること() throws Exception {
+			when(maintenanceTaskRepository.findExportFirstChunkByUserId(testUserId, CHUNK_LIMIT)).thenReturn(List.of(oilChange, chainCleaning));
+
+			String result = writeToString(historyExportService.exportMaintenanceTasks(null, testUserId, ExportFormat.CSV));
+
+			CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(
+					new ByteArrayInputStream(result.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+			assertThat(reader.readRecord()).isEqualTo(HistoryExportService.MAINTENANCE_TASK_CSV_COLUMNS);
+			assertThat(reader.readRecord()).containsExactly("1", "10", "1", "オイル交換", "10W-40", "2023-04-01T10:00:30", "2023-04-01T10:00:30");
+			assertThat(reader.readRecord()).containsExactly("2", "10", "2", "チェーン \"清掃\"", "1. 洗浄する\n2. 注油する, 拭き取る", "2023-05-01T10:00:30", "2023-05-01T10:00:30");
+			assertThat(reader.readRecord()).isNull();
+		}
+
+		@Test
+		void 一定件数ごとに前回の最後の整備タスクの次から個別のトランザクションで読み込むこと() throws Exception {
+			List<MaintenanceTaskResponse> firstChunk = new ArrayList<>();
+			for(int i = 0; i < HistoryExportService.CHUNK_SIZE - 1; i++) {
+				firstChunk.add(oilChange);
+			}
+			firstChunk.add(chainCleaning);
+			when(maintenanceTaskRepository.findExportFirstChunkByUserId(testUserId, CHUNK_LIMIT)).thenReturn(firstChunk);
+			when(maintenanceTaskRepository.findExportChunkByUserIdAfter(
+					testUserId, chainCleaning.getCreatedAt(), chainCleaning.getId(), CHUNK_LIMIT)).thenReturn(List.of(oilChange));
+
+			String result = writeToString(historyExportService.exportMaintenanceTasks(null, testUserId, ExportFormat.NDJSON));
+
+			assertThat(result.lines()).hasSize(HistoryExportService.CHUNK_SIZE + 1);
+			verify(transactionManager, times(2)).getTransaction(any());
+			verify(transactionManager, times(2)).commit(any());
+		}
+
+		@Test
+		void 取得件数が一定件数に満たない場合は続きを読み込まないこと() throws Exception {
+			when(maintenanceTaskRepository.findExportFirstChunkByUserId(testUserId, CHUNK_LIMIT)).thenReturn(List.of(oilChange));
+
+			writeToString(historyExportService.exportMaintenanceTasks(null, testUserId, ExportFormat.NDJSON));
+
+			verify(maintenanceTaskRepository, never()).findExportChunkByUserIdAfter(anyInt(), any(), anyInt(), any());
+			verify(transactionManager, times(1)).getTransaction(any());
+		}
+	}
+
+	@Nested
+	class ExportAiQuestionsTests {
+		@Test
+		void ユーザーのAI質問履歴をCSVで出力すること() throws Exception {
+			when(aiRepository.findExportFirstChunkByUserId(testUserId, CHUNK_LIMIT)).thenReturn(List.of(AiQuestionResponse.builder()
+					.id(5).userId(testUserId).bikeId(testBikeId).categoryId(1)
+					.question("エンジンオイルの選び方").answer("粘度を確認してください。")
+					.createdAt(LocalDateTime.of(2023, 4, 1, 10, 0, 30))
+					.build()));
+
+			String result = writeToString(historyExportService.exportAiQuestions(null, testUserId, ExportFormat.CSV));
+
+			assertThat(result).isEqualTo("""
+					id,bikeId,categoryId,question,answer,createdAt\r
+					5,10,1,エンジンオイルの選び方,粘度を確認してください。,2023-04-01T10:00:30\r
+					""");
+		}
+
+		@Test
+		void バイクを指定した場合は所有者を確認してバイクのAI質問履歴を出力すること() throws Exception {
+			when(aiRepository.findExportFirstChunkByUserIdAndBikeId(testUserId, testBikeId, CHUNK_LIMIT)).thenReturn(List.of());
+
+			String result = writeToString(historyExportService.exportAiQuestions(testBikeId, testUserId, ExportFormat.NDJSON));
+
+			assertThat(result).isEmpty();
+			verify(bikeOwnershipService).verifyOwnership(testBikeId, testUserId);
+		}
+	}
+}
@@ -0,0 +1,346 @@
+package com.rikuto.revox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rikuto.revox.dto.category.CategoryResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportError;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskImportRow;
+import com.rikuto.revox.exception.InvalidRequestException;
+import com.rikuto.revox.repository.BikeRepository;
+import com.rikuto.revox.repository.MaintenanceTaskBatchRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MaintenanceTaskImportServiceTest {
+
+	private final Integer testUserId = 1;
+	private final Integer testBikeId = 10;
+	private final Integer testCategoryId = 1;
+
+	@Mock
+	private MaintenanceTaskBatchRepository maintenanceTaskBatchRepository;
+
+	@Mock
+	private BikeRepository bikeRepository;
+
+	@Mock
+	private CategoryService categoryService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private MaintenanceTaskImportService maintenanceTaskImportService;
+
+	private List<MaintenanceTaskImportRow> insertedRows;
+	private List<Integer> insertedBatchSizes;
+
+	@BeforeEach
+	void setUp() {
+		maintenanceTaskImportService = new MaintenanceTaskImportService(
+				maintenanceTaskBatchRepository,
+				bikeRepository,
+				categoryService,
+				new ObjectMapper().registerModule(new JavaTimeModule()),
+				Validation.buildDefaultValidatorFactory().getValidator(),
+				transactionManager);
+
+		insertedRows = new ArrayList<>();
+		insertedBatchSizes = new ArrayList<>();
+	}
+
+	private void stubOwnedBikesAndCategories() {
+		when(bikeRepository.findIdsByUserIdAndIsDeletedFalse(testUserId)).thenReturn(Set.of(testBikeId));
+		when(categoryService.findAllCategories()).thenReturn(List.of(
+				CategoryResponse.builder().id(testCategoryId).name("エンジン").build()));
+	}
+
+	private void recordInsertedRows() {
+		doAnswer(invocation -> {
+			List<MaintenanceTaskImportRow> rows = invocation.getArgument(0);
+			insertedBatchSizes.add(rows.size());
+			insertedRows.addAll(rows);
+			return null;
+		}).when(maintenanceTaskBatchRepository).insertAll(any());
+	}
+
+	private InputStream toInputStream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String ndjsonLine(Integer bikeId, Integer categoryId, String name) {
+		return "{\"bikeId\":" + bikeId + ",\"categoryId\":" + categoryId + ",\"name\":\"" + name + "\",\"description\":\"説明\"}\n";
+	}
+
+	@Nested
+	class ImportNdjsonTests {
+		@Test
+		void 各行の整備タスクが一括登録されること() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			String body = ndjsonLine(testBikeId, testCategoryId, "オイル交換")
+					+ "\n"
+					+ "{\"bikeId\":10,\"categoryId\":1,\"name\":\"チェーン清掃\",\"description\":\"説明\",\"createdAt\":\"2023-04-01T10:00:00\"}\n";
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importNdjson(toInputStream(body), testUserId);
+
+			assertThat(result.getImportedCount()).isEqualTo(2);
+			assertThat(result.getErrorCount()).isZero();
+			assertThat(insertedRows).extracting(MaintenanceTaskImportRow::getName).containsExactly("オイル交換", "チェーン清掃");
+			assertThat(insertedRows.get(1).getCreatedAt()).isEqualTo(LocalDateTime.of(2023, 4, 1, 10, 0));
+		}
+
+		@Test
+		void 検証に失敗した行は登録せず行番号とエラー内容を返すこと() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			String body = ndjsonLine(testBikeId, testCategoryId, "オイル交換")
+					+ "{不正なJSON}\n"
+					+ ndjsonLine(999, testCategoryId, "他人のバイク")
+					+ ndjsonLine(testBikeId, 999, "存在しないカテゴリー")
+					+ ndjsonLine(testBikeId, testCategoryId, "");
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importNdjson(toInputStream(body), testUserId);
+
+			assertThat(result.getImportedCount()).isEqualTo(1);
+			assertThat(result.getErrorCount()).isEqualTo(4);
+			assertThat(result.getErrors()).extracting(MaintenanceTaskImportError::getLine).containsExactly(2, 3, 4, 5);
+			assertThat(result.getErrors()).extracting(MaintenanceTaskImportError::getMessage).containsExactly(
+					"JSONの形式が不正です。",
+					"バイクID 999 が見つかりません。",
+					"カテゴリーID 999 が見つかりません。",
+					"タスク名は必須です。");
+			assertThat(insertedRows).extracting(MaintenanceTaskImportRow::getName).containsExactly("オイル交換");
+		}
+
+		@Test
+		void バッチの件数ごとにまとめて登録されること() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			StringBuilder body = new StringBuilder();
+			for(int i = 0; i < MaintenanceTaskImportService.BATCH_SIZE * 2 + 500; i++) {
+				body.append(ndjsonLine(testBikeId, testCategoryId, "task" + i));
+			}
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importNdjson(toInputStream(body.toString()), testUserId);
+
+			assertThat(result.getImportedCount()).isEqualTo(MaintenanceTaskImportService.BATCH_SIZE * 2 + 500);
+			assertThat(insertedBatchSizes).containsExactly(MaintenanceTaskImportService.BATCH_SIZE, MaintenanceTaskImportService.BATCH_SIZE, 500);
+		}
+
+		@Test
+		void バッチごとに個別のトランザクションで登録されること() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			StringBuilder body = new StringBuilder();
+			for(int i = 0; i < MaintenanceTaskImportService.BATCH_SIZE * 2 + 500; i++) {
+				body.append(ndjsonLine(testBikeId, testCategoryId, "task" + i));
+			}
+
+			maintenanceTaskImportService.importNdjson(toInputStream(body.toString()), testUserId);
+
+			verify(transactionManager, times(3)).getTransaction(argThat(definition -> ! definition.isReadOnly()));
+			verify(transactionManager, times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+			verify(transactionManager, times(4)).commit(any());
+		}
+
+		@Test
+		void 読み込みに失敗した場合は読み込みを中断し登録済みの件数とエラーを返すこと() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			InputStream body = new SequenceInputStream(
+					toInputStream(ndjsonLine(testBikeId, testCategoryId, "オイル交換") + ndjsonLine(testBikeId, testCategoryId, "チェーン清掃")),
+					new InputStream() {
+						@Override
+						public int read() throws IOException {
+							throw new IOException("接続が切断されました。");
+						}
+					});
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importNdjson(body, testUserId);
+
+			assertThat(result.getImportedCount()).isEqualTo(2);
+			assertThat(result.getErrorCount()).isEqualTo(1);
+			assertThat(result.getErrors()).extracting(MaintenanceTaskImportError::getLine).containsExactly(3);
+			assertThat(result.getErrors()).extracting(MaintenanceTaskImportError::getMessage)
+					.containsExactly("入力の読み込みに失敗しました。この行以降は登録されていません。");
+			assertThat(insertedRows).extracting(MaintenanceTaskImportRow::getName).containsExactly("オイル交換", "チェーン清掃");
+		}
+
+		@Test
+		void 文字数が上限を超えた行は読み飛ばしてエラーとし以降の行を登録すること() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			String body = ndjsonLine(testBikeId, testCategoryId, "オイル交換")
+					+ "x".repeat(MaintenanceTaskImportService.MAX_RECORD_LENGTH * 3) + "\r\n"
+					+ ndjsonLine(testBikeId, testCategoryId, "チェーン清掃");
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importNdjson(toInputStream(body), testUserId);
+
+			assertThat(result.getImportedCount()).isEqualTo(2);
+			assertThat(result.getErrors()).extracting(MaintenanceTaskImportError::getLine).containsExactly(2);
+			assertThat(result.getErrors()).extracting(MaintenanceTaskImportError::getMessage)
+					.containsExactly("1行の文字数が上限の" + MaintenanceTaskImportService.MAX_RECORD_LENGTH + "文字を超えています。");
+			assertThat(insertedRows).extracting(MaintenanceTaskImportRow::getName).containsExactly("オイル交換", "チェーン清掃");
+		}
+
+		@Test
+		void 上限の文字数の詳細内容をすべてエスケープした行は登録できること() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			String body = "{\"bikeId\":10,\"categoryId\":1,\"name\":\"" + "\\u6574".repeat(100)
+					+ "\",\"description\":\"" + "\\u6574".repeat(5000) + "\"}\n";
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importNdjson(toInputStream(body), testUserId);
+
+			assertThat(result.getImportedCount()).isEqualTo(1);
+			assertThat(insertedRows.getFirst().getDescription()).isEqualTo("整".repeat(5000));
+		}
+
+		@Test
+		void 結果に含めるエラーは上限件数までであること() throws Exception {
+			stubOwnedBikesAndCategories();
+			StringBuilder body = new StringBuilder();
+			for(int i = 0; i < MaintenanceTaskImportService.MAX_REPORTED_ERRORS + 50; i++) {
+				body.append(ndjsonLine(999, testCategoryId, "task" + i));
+			}
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importNdjson(toInputStream(body.toString()), testUserId);
+
+			assertThat(result.getImportedCount()).isZero();
+			assertThat(result.getErrorCount()).isEqualTo(MaintenanceTaskImportService.MAX_REPORTED_ERRORS + 50);
+			assertThat(result.getErrors()).hasSize(MaintenanceTaskImportService.MAX_REPORTED_ERRORS);
+			verify(maintenanceTaskBatchRepository, never()).insertAll(any());
+		}
+	}
+
+	@Nested
+	class ImportCsvTests {
+		@Test
+		void ダブルクォートで囲まれたカンマや改行を含むフィールドを読み込めること() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			String body = """
+					name,description,bikeId,categoryId,createdAt
+					オイル交換,"10W-40, 3.2L
+					ドレンワッシャーも交換",10,1,2023-04-01T10:00:00
+					"""
+					+ "\"チェーン \"\"清掃\"\"\",説明,10,1,\r\n";
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importCsv(toInputStream(body), testUserId);
+
+			assertThat(result.getImportedCount()).isEqualTo(2);
+			assertThat(insertedRows.get(0).getDescription()).isEqualTo("10W-40, 3.2L\nドレンワッシャーも交換");
+			assertThat(insertedRows.get(0).getCreatedAt()).isEqualTo(LocalDateTime.of(2023, 4, 1, 10, 0));
+			assertThat(insertedRows.get(1).getName()).isEqualTo("チェーン \"清掃\"");
+			assertThat(insertedRows.get(1).getCreatedAt()).isNull();
+		}
+
+		@Test
+		void エラーの行番号が改行を含むフィールドの後でもずれないこと() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			String body = """
+					bikeId,categoryId,name,description
+					10,1,オイル交換,"1行目
+					2行目"
+					abc,1,不正なバイクID,説明
+					10,1,,説明
+					""";
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importCsv(toInputStream(body), testUserId);
+
+			assertThat(result.getImportedCount()).isEqualTo(1);
+			assertThat(result.getErrors()).extracting(MaintenanceTaskImportError::getLine).containsExactly(4, 5);
+			assertThat(result.getErrors()).extracting(MaintenanceTaskImportError::getMessage)
+					.containsExactly("数値または日時の形式が不正です。", "タスク名は必須です。");
+		}
+
+		@Test
+		void ヘッダー行に必須の列がない場合にInvalidRequestExceptionをスローすること() {
+			String body = "bikeId,categoryId,name\n10,1,オイル交換\n";
+
+			assertThatThrownBy(() -> maintenanceTaskImportService.importCsv(toInputStream(body), testUserId))
+					.isInstanceOf(InvalidRequestException.class);
+
+			verify(maintenanceTaskBatchRepository, never()).insertAll(any());
+		}
+
+		@Test
+		void ダブルクォートが閉じられていない場合は読み込みを中断し登録済みの件数とエラーを返すこと() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			StringBuilder body = new StringBuilder("bikeId,categoryId,name,description\n");
+			for(int i = 0; i < MaintenanceTaskImportService.BATCH_SIZE + 10; i++) {
+				body.append("10,1,task").append(i).append(",説明\n");
+			}
+			body.append("10,1,オイル交換,\"閉じられていない\n10,1,チェーン清掃,説明\n");
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importCsv(toInputStream(body.toString()), testUserId);
+
+			int unterminatedLine = MaintenanceTaskImportService.BATCH_SIZE + 12;
+			assertThat(result.getImportedCount()).isEqualTo(MaintenanceTaskImportService.BATCH_SIZE + 10);
+			assertThat(result.getErrorCount()).isEqualTo(1);
+			assertThat(result.getErrors()).extracting(MaintenanceTaskImportError::getLine).containsExactly(unterminatedLine);
+			assertThat(result.getErrors().getFirst().getMessage())
+					.isEqualTo(unterminatedLine + "行目のダブルクォートが閉じられていません。この行以降は登録されていません。");
+			assertThat(insertedBatchSizes).containsExactly(MaintenanceTaskImportService.BATCH_SIZE, 10);
+		}
+
+		@Test
+		void 文字数が上限を超えたレコードがある場合は読み込みを中断し登録済みの件数とエラーを返すこと() throws Exception {
+			stubOwnedBikesAndCategories();
+			recordInsertedRows();
+			String body = "bikeId,categoryId,name,description\n"
+					+ "10,1,オイル交換,説明\n"
+					+ "10,1,チェーン清掃,\"" + "x".repeat(MaintenanceTaskImportService.MAX_RECORD_LENGTH * 3) + "\n"
+					+ "10,1,タイヤ交換,説明\n";
+
+			MaintenanceTaskImportResponse result = maintenanceTaskImportService.importCsv(toInputStream(body), testUserId);
+
+			assertThat(result.getImportedCount()).isEqualTo(1);
+			assertThat(result.getErrors()).extracting(MaintenanceTaskImportError::getLine).containsExactly(3);
+			assertThat(result.getErrors().getFirst().getMessage()).isEqualTo(
+					"3行目のレコードの文字数が上限の" + MaintenanceTaskImportService.MAX_RECORD_LENGTH + "文字を超えています。この行以降は登録されていません。");
+			assertThat(insertedRows).extracting(MaintenanceTaskImportRow::getName).containsExactly("オイル交換");
+		}
+
+		@Test
+		void ヘッダー行のダブルクォートが閉じられていない場合にInvalidRequestExceptionをスローすること() {
+			String body = "bikeId,categoryId,name,\"description\n";
+
+			assertThatThrownBy(() -> maintenanceTaskImportService.importCsv(toInputStream(body), testUserId))
+					.isInstanceOf(InvalidRequestException.class);
+
+			verify(maintenanceTaskBatchRepository, never()).insertAll(any());
+		}
+	}
+}
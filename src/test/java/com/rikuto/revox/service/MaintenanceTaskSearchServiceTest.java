@@ -0,0 +1,191 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchHighlight;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchResponse;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskSearchSnippet;
+import com.rikuto.revox.exception.InvalidRequestException;
+import com.rikuto.revox.exception.ResourceNotFoundException;
+import com.rikuto.revox.repository.MaintenanceTaskSearchRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MaintenanceTaskSearchServiceTest {
+
+	private final Integer testUserId = 1;
+	private final Integer testBikeId = 101;
+	private final Integer testCategoryId = 1;
+
+	@Mock
+	private MaintenanceTaskSearchRepository maintenanceTaskSearchRepository;
+
+	@Mock
+	private BikeOwnershipService bikeOwnershipService;
+
+	@InjectMocks
+	private MaintenanceTaskSearchService maintenanceTaskSearchService;
+
+	private MaintenanceTaskResponse task(int id, String name, String description) {
+		return MaintenanceTaskResponse.builder()
+				.id(id)
+				.bikeId(testBikeId)
+				.categoryId(testCategoryId)
+				.name(name)
+				.description(description)
+				.createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+				.updatedAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+				.build();
+	}
+
+	private String highlighted(MaintenanceTaskSearchSnippet snippet, MaintenanceTaskSearchHighlight highlight) {
+		return snippet.getText().substring(highlight.getStart(), highlight.getEnd());
+	}
+
+	@Nested
+	class SearchTests {
+		@Test
+		void 前後の空白を除いた検索語と既定の件数で検索すること() {
+			when(maintenanceTaskSearchRepository.search(testUserId, "オイル", null, null,
+					MaintenanceTaskSearchService.DEFAULT_PAGE_SIZE + 1, 0L)).thenReturn(List.of());
+
+			MaintenanceTaskSearchResponse result = maintenanceTaskSearchService.search(" オイル ", null, null, null, null, testUserId);
+
+			assertThat(result.getHits()).isEmpty();
+			assertThat(result.getPage()).isZero();
+			assertThat(result.isHasNext()).isFalse();
+			verify(bikeOwnershipService, never()).verifyOwnership(anyInt(), anyInt());
+		}
+
+		@Test
+		void 指定したページの位置から1件多く取得し次のページの有無を判定すること() {
+			List<MaintenanceTaskResponse> tasks = IntStream.rangeClosed(1, 3)
+					.mapToObj(id -> task(id, "オイル交換" + id, "説明"))
+					.toList();
+			when(maintenanceTaskSearchRepository.search(testUserId, "オイル", null, testCategoryId, 3, 4L)).thenReturn(tasks);
+
+			MaintenanceTaskSearchResponse result = maintenanceTaskSearchService.search("オイル", null, testCategoryId, 2, 2, testUserId);
+
+			assertThat(result.getHits()).extracting("id").containsExactly(1, 2);
+			assertThat(result.getPage()).isEqualTo(2);
+			assertThat(result.isHasNext()).isTrue();
+		}
+
+		@Test
+		void 名前のすべての一致範囲を大文字小文字を区別せずに返すこと() {
+			when(maintenanceTaskSearchRepository.search(testUserId, "oil", null, null, 21, 0L))
+					.thenReturn(List.of(task(1, "Oil交換とOILフィルター", "説明")));
+
+			MaintenanceTaskSearchSnippet name = maintenanceTaskSearchService.search("oil", null, null, null, null, testUserId)
+					.getHits().getFirst().getName();
+
+			assertThat(name.getText()).isEqualTo("Oil交換とOILフィルター");
+			assertThat(name.getHighlights()).hasSize(2);
+			assertThat(highlighted(name, name.getHighlights().get(0))).isEqualTo("Oil");
+			assertThat(highlighted(name, name.getHighlights().get(1))).isEqualTo("OIL");
+		}
+
+		@Test
+		void 長い詳細内容は最初の一致箇所の周辺を抜粋し一致範囲を抜粋内の位置で返すこと() {
+			String description = "あ".repeat(300) + "ドレンボルト" + "い".repeat(300);
+			when(maintenanceTaskSearchRepository.search(testUserId, "ドレンボルト", null, null, 21, 0L))
+					.thenReturn(List.of(task(1, "オイル交換", description)));
+
+			MaintenanceTaskSearchSnippet snippet = maintenanceTaskSearchService.search("ドレンボルト", null, null, null, null, testUserId)
+					.getHits().getFirst().getDescription();
+
+			assertThat(snippet.getText()).startsWith("…").endsWith("…");
+			assertThat(snippet.getText()).hasSize(MaintenanceTaskSearchService.DESCRIPTION_SNIPPET_LENGTH + 2);
+			assertThat(snippet.getHighlights()).hasSize(1);
+			assertThat(highlighted(snippet, snippet.getHighlights().getFirst())).isEqualTo("ドレンボルト");
+		}
+
+		@Test
+		void 詳細内容の末尾付近の一致は末尾までを抜粋すること() {
+			String description = "あ".repeat(300) + "ドレンボルト";
+			when(maintenanceTaskSearchRepository.search(testUserId, "ドレンボルト", null, null, 21, 0L))
+					.thenReturn(List.of(task(1, "オイル交換", description)));
+
+			MaintenanceTaskSearchSnippet snippet = maintenanceTaskSearchService.search("ドレンボルト", null, null, null, null, testUserId)
+					.getHits().getFirst().getDescription();
+
+			assertThat(snippet.getText()).startsWith("…").endsWith("ドレンボルト");
+			assertThat(highlighted(snippet, snippet.getHighlights().getFirst())).isEqualTo("ドレンボルト");
+		}
+
+		@Test
+		void 詳細内容に一致しない場合は先頭を抜粋し一致範囲を返さないこと() {
+			String description = "う".repeat(300);
+			when(maintenanceTaskSearchRepository.search(testUserId, "オイル", null, null, 21, 0L))
+					.thenReturn(List.of(task(1, "オイル交換", description)));
+
+			MaintenanceTaskSearchSnippet snippet = maintenanceTaskSearchService.search("オイル", null, null, null, null, testUserId)
+					.getHits().getFirst().getDescription();
+
+			assertThat(snippet.getText()).isEqualTo("う".repeat(MaintenanceTaskSearchService.DESCRIPTION_SNIPPET_LENGTH) + "…");
+			assertThat(snippet.getHighlights()).isEmpty();
+		}
+
+		@Test
+		void 抜粋がサロゲートペアの途中で切れないこと() {
+			String description = "🏍".repeat(200) + "オイル" + "🏍".repeat(200);
+			when(maintenanceTaskSearchRepository.search(testUserId, "オイル", null, null, 21, 0L))
+					.thenReturn(List.of(task(1, "オイル交換", description)));
+
+			MaintenanceTaskSearchSnippet snippet = maintenanceTaskSearchService.search("オイル", null, null, null, null, testUserId)
+					.getHits().getFirst().getDescription();
+
+			String body = snippet.getText().substring(1, snippet.getText().length() - 1);
+			assertThat(Character.isLowSurrogate(body.charAt(0))).isFalse();
+			assertThat(Character.isHighSurrogate(body.charAt(body.length() - 1))).isFalse();
+			assertThat(highlighted(snippet, snippet.getHighlights().getFirst())).isEqualTo("オイル");
+		}
+
+		@Test
+		void バイクで絞り込む場合は所有者を確認すること() {
+			when(maintenanceTaskSearchRepository.search(testUserId, "オイル", testBikeId, null, 21, 0L)).thenReturn(List.of());
+
+			maintenanceTaskSearchService.search("オイル", testBikeId, null, null, null, testUserId);
+
+			verify(bikeOwnershipService).verifyOwnership(testBikeId, testUserId);
+		}
+
+		@Test
+		void 所有していないバイクで絞り込む場合は検索せずにResourceNotFoundExceptionを投げること() {
+			doThrow(new ResourceNotFoundException("バイクが見つかりません"))
+					.when(bikeOwnershipService).verifyOwnership(testBikeId, testUserId);
+
+			assertThatThrownBy(() -> maintenanceTaskSearchService.search("オイル", testBikeId, null, null, null, testUserId))
+					.isInstanceOf(ResourceNotFoundException.class);
+
+			verify(maintenanceTaskSearchRepository, never()).search(any(), anyString(), any(), any(), anyInt(), anyLong());
+		}
+
+		@Test
+		void 検索語が空白のみの場合はInvalidRequestExceptionを投げること() {
+			assertThatThrownBy(() -> maintenanceTaskSearchService.search("  ", null, null, null, null, testUserId))
+					.isInstanceOf(InvalidRequestException.class);
+
+			verify(maintenanceTaskSearchRepository, never()).search(any(), anyString(), any(), any(), anyInt(), anyLong());
+		}
+	}
+}
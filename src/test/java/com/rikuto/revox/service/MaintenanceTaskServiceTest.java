@@ -3,13 +3,17 @@ package com.rikuto.revox.service;
 import com.rikuto.revox.domain.Category;
 import com.rikuto.revox.domain.Bike;
 import com.rikuto.revox.domain.MaintenanceTask;
+import com.rikuto.revox.dto.fields.ResponseFields;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskCursor;
+import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskPageResponse;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskRequest;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskResponse;
 import com.rikuto.revox.dto.maintenancetask.MaintenanceTaskUpdateRequest;
+import com.rikuto.revox.dto.version.ResourceVersion;
+import com.rikuto.revox.exception.InvalidRequestException;
 import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.mapper.MaintenanceTaskMapper;
 import com.rikuto.revox.repository.BikeRepository;
-import com.rikuto.revox.repository.CategoryRepository;
 import com.rikuto.revox.repository.MaintenanceTaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +26,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,7 +34,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,14 +51,19 @@ class MaintenanceTaskServiceTest {
 	private MaintenanceTaskMapper maintenanceTaskMapper;
 
 	@Mock
-	private CategoryRepository categoryRepository;
+	private CategoryService categoryService;
 
 	@Mock
 	private BikeRepository bikeRepository;
 
+	@Mock
+	private BikeOwnershipService bikeOwnershipService;
+
 	@InjectMocks
 	private MaintenanceTaskService maintenanceTaskService;
 
+	private final Integer testUserId = 1;
+
 	private Category testCategory;
 	private Bike testBike;
 	private MaintenanceTask testMaintenanceTask;
@@ -84,19 +96,30 @@ class MaintenanceTaskServiceTest {
 	}
 
 	private void stubCategoryFound() {
-		when(categoryRepository.findById(testCategory.getId())).thenReturn(Optional.of(testCategory));
+		when(categoryService.getReference(testCategory.getId())).thenReturn(testCategory);
 	}
 
-	private void stubBikeFound() {
-		when(bikeRepository.findById(testBike.getId())).thenReturn(Optional.of(testBike));
+	private void stubBikeReference() {
+		when(bikeRepository.getReferenceById(testBike.getId())).thenReturn(testBike);
 	}
 
-	private void stubMaintenanceTaskFound() {
-		when(maintenanceTaskRepository.findById(testMaintenanceTask.getId())).thenReturn(Optional.of(testMaintenanceTask));
+	private MaintenanceTask createTask(Integer id, LocalDateTime createdAt) {
+		return MaintenanceTask.builder()
+				.id(id)
+				.bike(testBike)
+				.category(testCategory)
+				.name("オイル交換手順")
+				.createdAt(createdAt)
+				.build();
+	}
+
+	private MaintenanceTaskResponse createSummary(Integer id, LocalDateTime createdAt) {
+		return new MaintenanceTaskResponse(id, testCategory.getId(), testBike.getId(), "オイル交換手順", createdAt, createdAt);
 	}
 
-	private void stubMaintenanceTaskNotFound() {
-		when(maintenanceTaskRepository.findById(testMaintenanceTask.getId())).thenReturn(Optional.empty());
+	private void stubBikeNotOwned() {
+		doThrow(new ResourceNotFoundException("ユーザーID " + testUserId + " に紐づくバイクID " + testBike.getId() + " が見つかりません。"))
+				.when(bikeOwnershipService).verifyOwnership(testBike.getId(), testUserId);
 	}
 
 	@Nested
@@ -104,43 +127,46 @@ class MaintenanceTaskServiceTest {
 		@Test
 		void 新しい整備タスクが正常に登録され登録された整備タスク情報が返されること() {
 			stubCategoryFound();
-			stubBikeFound();
+			stubBikeReference();
 			when(maintenanceTaskMapper.toDomain(commonMaintenanceTaskRequest, testBike, testCategory)).thenReturn(testMaintenanceTask);
 			when(maintenanceTaskRepository.save(testMaintenanceTask)).thenReturn(testMaintenanceTask);
 			when(maintenanceTaskMapper.toResponse(testMaintenanceTask)).thenReturn(commonMaintenanceTaskResponse);
 
-			MaintenanceTaskResponse result = maintenanceTaskService.registerMaintenanceTask(commonMaintenanceTaskRequest);
+			MaintenanceTaskResponse result = maintenanceTaskService.registerMaintenanceTask(commonMaintenanceTaskRequest, testUserId);
 
 			assertThat(result).isEqualTo(commonMaintenanceTaskResponse);
-			verify(categoryRepository).findById(testCategory.getId());
-			verify(bikeRepository).findById(testBike.getId());
+			verify(categoryService).getReference(testCategory.getId());
+			verify(bikeOwnershipService).verifyOwnership(testBike.getId(), testUserId);
+			verify(bikeRepository).getReferenceById(testBike.getId());
 			verify(maintenanceTaskRepository).save(testMaintenanceTask);
 			verify(maintenanceTaskMapper).toDomain(commonMaintenanceTaskRequest, testBike, testCategory);
 			verify(maintenanceTaskMapper).toResponse(testMaintenanceTask);
 		}
 
 		@Test
-		void バイクが見つからない場合にResourceNotFoundExceptionをスローすること() {
+		void ユーザーが所有するバイクが見つからない場合にResourceNotFoundExceptionをスローすること() {
 			stubCategoryFound();
-			when(bikeRepository.findById(testBike.getId())).thenReturn(Optional.empty());
+			stubBikeNotOwned();
 
-			assertThatThrownBy(() -> maintenanceTaskService.registerMaintenanceTask(commonMaintenanceTaskRequest))
+			assertThatThrownBy(() -> maintenanceTaskService.registerMaintenanceTask(commonMaintenanceTaskRequest, testUserId))
 					.isInstanceOf(ResourceNotFoundException.class)
 					.hasMessageContaining("バイクID " + testBike.getId() + " が見つかりません。");
 
-			verify(categoryRepository).findById(testCategory.getId());
+			verify(categoryService).getReference(testCategory.getId());
+			verify(bikeRepository, never()).getReferenceById(any());
 			verify(maintenanceTaskRepository, never()).save(any());
 		}
 
 		@Test
 		void カテゴリーが見つからない場合にResourceNotFoundExceptionをスローすること() {
-			when(categoryRepository.findById(testCategory.getId())).thenReturn(Optional.empty());
+			when(categoryService.getReference(testCategory.getId()))
+					.thenThrow(new ResourceNotFoundException("カテゴリーID " + testCategory.getId() + " が見つかりません。"));
 
-			assertThatThrownBy(() -> maintenanceTaskService.registerMaintenanceTask(commonMaintenanceTaskRequest))
+			assertThatThrownBy(() -> maintenanceTaskService.registerMaintenanceTask(commonMaintenanceTaskRequest, testUserId))
 					.isInstanceOf(ResourceNotFoundException.class)
 					.hasMessageContaining("カテゴリーID " + testCategory.getId() + " が見つかりません。");
 
-			verify(bikeRepository, never()).findById(any());
+			verify(bikeOwnershipService, never()).verifyOwnership(anyInt(), anyInt());
 			verify(maintenanceTaskRepository, never()).save(any());
 		}
 	}
@@ -153,88 +179,266 @@ class MaintenanceTaskServiceTest {
 			@Test
 			void ユーザーIDに紐づく最新の整備タスクを指定件数取得できること() {
 				Integer testUserId = 1;
-				Pageable pageable = PageRequest.of(0, 5, Sort.by("createdAt").descending());
+				Pageable pageable = PageRequest.of(0, 5, Sort.by("createdAt").descending().and(Sort.by("id").descending()));
 				List<MaintenanceTask> tasks = List.of(testMaintenanceTask);
-				when(maintenanceTaskRepository.findByBike_UserIdAndIsDeletedFalse(eq(testUserId), eq(pageable))).thenReturn(tasks);
+				when(maintenanceTaskRepository.findByUserIdAndIsDeletedFalse(eq(testUserId), eq(pageable))).thenReturn(tasks);
 				when(maintenanceTaskMapper.toResponseList(tasks)).thenReturn(List.of(commonMaintenanceTaskResponse));
 
 				List<MaintenanceTaskResponse> result = maintenanceTaskService.findLatestMaintenanceTasksByUserId(testUserId);
 
 				assertThat(result).hasSize(1);
 				assertThat(result.getFirst()).isEqualTo(commonMaintenanceTaskResponse);
-				verify(maintenanceTaskRepository).findByBike_UserIdAndIsDeletedFalse(eq(testUserId), eq(pageable));
+				verify(maintenanceTaskRepository).findByUserIdAndIsDeletedFalse(eq(testUserId), eq(pageable));
 				verify(maintenanceTaskMapper).toResponseList(tasks);
 			}
 
 			@Test
 			void ユーザーに紐づくタスクが存在しない場合に空のリストを返すこと() {
 				Integer testUserId = 999;
-				when(maintenanceTaskRepository.findByBike_UserIdAndIsDeletedFalse(eq(testUserId), any(Pageable.class))).thenReturn(Collections.emptyList());
+				when(maintenanceTaskRepository.findByUserIdAndIsDeletedFalse(eq(testUserId), any(Pageable.class))).thenReturn(Collections.emptyList());
 				when(maintenanceTaskMapper.toResponseList(any())).thenReturn(Collections.emptyList());
 
 				List<MaintenanceTaskResponse> result = maintenanceTaskService.findLatestMaintenanceTasksByUserId(testUserId);
 
 				assertThat(result).isEmpty();
-				verify(maintenanceTaskRepository).findByBike_UserIdAndIsDeletedFalse(eq(testUserId), any(Pageable.class));
+				verify(maintenanceTaskRepository).findByUserIdAndIsDeletedFalse(eq(testUserId), any(Pageable.class));
 				verify(maintenanceTaskMapper).toResponseList(any());
 			}
+
+			@Test
+			void 詳細内容を含めない場合は詳細内容を除いて取得すること() {
+				Integer testUserId = 1;
+				Pageable pageable = PageRequest.of(0, 5, Sort.by("createdAt").descending().and(Sort.by("id").descending()));
+				MaintenanceTaskResponse summary = new MaintenanceTaskResponse(
+						1, 1, 1, "オイル交換", LocalDateTime.of(2025, 1, 1, 12, 0), LocalDateTime.of(2025, 1, 1, 12, 0));
+				when(maintenanceTaskRepository.findSummaryByUserIdAndIsDeletedFalse(testUserId, pageable)).thenReturn(List.of(summary));
+
+				List<MaintenanceTaskResponse> result = maintenanceTaskService.findLatestMaintenanceTasksByUserId(
+						testUserId, ResponseFields.parse("id,name,createdAt", MaintenanceTaskResponse.class));
+
+				assertThat(result).containsExactly(summary);
+				assertThat(result.getFirst().getDescription()).isNull();
+				verify(maintenanceTaskRepository, never()).findByUserIdAndIsDeletedFalse(any(), any());
+				verify(maintenanceTaskMapper, never()).toResponseList(any());
+			}
 		}
 
 		@Nested
 		class FindByBikeIdTests {
 			@Test
-			void バイクIDに紐づく整備タスクをすべて取得できること() {
+			void カーソルを指定しない場合に最初のページを取得できること() {
 				List<MaintenanceTask> maintenanceTaskList = List.of(testMaintenanceTask);
-				when(maintenanceTaskRepository.findByBikeIdAndIsDeletedFalse(testBike.getId())).thenReturn(maintenanceTaskList);
+				when(maintenanceTaskRepository.findFirstPageByBikeId(testBike.getId(), MaintenanceTaskService.DEFAULT_PAGE_SIZE + 1))
+						.thenReturn(maintenanceTaskList);
 				when(maintenanceTaskMapper.toResponseList(maintenanceTaskList)).thenReturn(List.of(commonMaintenanceTaskResponse));
 
-				List<MaintenanceTaskResponse> result = maintenanceTaskService.findByBikeId(testBike.getId());
+				MaintenanceTaskPageResponse result = maintenanceTaskService.findByBikeId(testBike.getId(), null, null, testUserId);
 
-				assertThat(result).hasSize(1);
-				assertThat(result.getFirst()).isEqualTo(commonMaintenanceTaskResponse);
-				verify(maintenanceTaskRepository).findByBikeIdAndIsDeletedFalse(testBike.getId());
-				verify(maintenanceTaskMapper).toResponseList(maintenanceTaskList);
+				assertThat(result.getMaintenanceTasks()).containsExactly(commonMaintenanceTaskResponse);
+				assertThat(result.getNextCursor()).isNull();
+				verify(bikeOwnershipService).verifyOwnership(testBike.getId(), testUserId);
+			}
+
+			@Test
+			void 指定件数を超える整備タスクがある場合に次のページのカーソルを返すこと() {
+				MaintenanceTask firstTask = createTask(12, LocalDateTime.of(2025, 1, 3, 12, 0));
+				MaintenanceTask secondTask = createTask(11, LocalDateTime.of(2025, 1, 2, 12, 0));
+				MaintenanceTask extraTask = createTask(10, LocalDateTime.of(2025, 1, 1, 12, 0));
+				when(maintenanceTaskRepository.findFirstPageByBikeId(testBike.getId(), 3))
+						.thenReturn(List.of(firstTask, secondTask, extraTask));
+				when(maintenanceTaskMapper.toResponseList(List.of(firstTask, secondTask)))
+						.thenReturn(List.of(commonMaintenanceTaskResponse, commonMaintenanceTaskResponse));
+
+				MaintenanceTaskPageResponse result = maintenanceTaskService.findByBikeId(testBike.getId(), null, 2, testUserId);
+
+				assertThat(result.getMaintenanceTasks()).hasSize(2);
+				MaintenanceTaskCursor nextCursor = MaintenanceTaskCursor.decode(result.getNextCursor());
+				assertThat(nextCursor.getCreatedAt()).isEqualTo(secondTask.getCreatedAt());
+				assertThat(nextCursor.getId()).isEqualTo(secondTask.getId());
+			}
+
+			@Test
+			void カーソルを指定した場合にカーソルより後のページを取得できること() {
+				LocalDateTime cursorCreatedAt = LocalDateTime.of(2025, 1, 2, 12, 0, 0, 123456000);
+				String cursor = new MaintenanceTaskCursor(cursorCreatedAt, 11).encode();
+				when(maintenanceTaskRepository.findPageByBikeIdAfter(testBike.getId(), cursorCreatedAt, 11, 3))
+						.thenReturn(List.of(testMaintenanceTask));
+				when(maintenanceTaskMapper.toResponseList(List.of(testMaintenanceTask))).thenReturn(List.of(commonMaintenanceTaskResponse));
+
+				MaintenanceTaskPageResponse result = maintenanceTaskService.findByBikeId(testBike.getId(), cursor, 2, testUserId);
+
+				assertThat(result.getMaintenanceTasks()).containsExactly(commonMaintenanceTaskResponse);
+				assertThat(result.getNextCursor()).isNull();
+				verify(maintenanceTaskRepository, never()).findFirstPageByBikeId(any(), anyInt());
 			}
 
 			@Test
-			void バイクに紐づくタスクがない場合に空のリストを返すこと() {
-				when(maintenanceTaskRepository.findByBikeIdAndIsDeletedFalse(testBike.getId())).thenReturn(Collections.emptyList());
+			void 不正なカーソルの場合にInvalidRequestExceptionをスローすること() {
+				assertThatThrownBy(() -> maintenanceTaskService.findByBikeId(testBike.getId(), "invalid-cursor", null, testUserId))
+						.isInstanceOf(InvalidRequestException.class);
+
+				verify(bikeOwnershipService, never()).verifyOwnership(any(), any());
+				verify(maintenanceTaskRepository, never()).findPageByBikeIdAfter(any(), any(), any(), anyInt());
+			}
+
+			@Test
+			void ユーザーが所有していないバイクの場合にResourceNotFoundExceptionをスローすること() {
+				stubBikeNotOwned();
+
+				assertThatThrownBy(() -> maintenanceTaskService.findByBikeId(testBike.getId(), null, null, testUserId))
+						.isInstanceOf(ResourceNotFoundException.class);
+
+				verify(maintenanceTaskRepository, never()).findFirstPageByBikeId(any(), anyInt());
+			}
+
+			@Test
+			void バイクに紐づくタスクがない場合に空のページを返すこと() {
+				when(maintenanceTaskRepository.findFirstPageByBikeId(eq(testBike.getId()), anyInt())).thenReturn(Collections.emptyList());
 				when(maintenanceTaskMapper.toResponseList(any())).thenReturn(Collections.emptyList());
 
-				List<MaintenanceTaskResponse> result = maintenanceTaskService.findByBikeId(testBike.getId());
+				MaintenanceTaskPageResponse result = maintenanceTaskService.findByBikeId(testBike.getId(), null, null, testUserId);
 
-				assertThat(result).isEmpty();
-				verify(maintenanceTaskRepository).findByBikeIdAndIsDeletedFalse(testBike.getId());
-				verify(maintenanceTaskMapper).toResponseList(any());
+				assertThat(result.getMaintenanceTasks()).isEmpty();
+				assertThat(result.getNextCursor()).isNull();
+			}
+
+			@Test
+			void 詳細内容を含めない場合は詳細内容を除いて取得し次のページのカーソルを返すこと() {
+				MaintenanceTaskResponse firstSummary = createSummary(12, LocalDateTime.of(2025, 1, 3, 12, 0));
+				MaintenanceTaskResponse secondSummary = createSummary(11, LocalDateTime.of(2025, 1, 2, 12, 0));
+				MaintenanceTaskResponse extraSummary = createSummary(10, LocalDateTime.of(2025, 1, 1, 12, 0));
+				when(maintenanceTaskRepository.findFirstSummaryPageByBikeId(testBike.getId(), 3))
+						.thenReturn(List.of(firstSummary, secondSummary, extraSummary));
+
+				MaintenanceTaskPageResponse result = maintenanceTaskService.findByBikeId(testBike.getId(), null, 2, testUserId,
+						ResponseFields.parse("id,name", MaintenanceTaskResponse.class));
+
+				assertThat(result.getMaintenanceTasks()).containsExactly(firstSummary, secondSummary);
+				MaintenanceTaskCursor nextCursor = MaintenanceTaskCursor.decode(result.getNextCursor());
+				assertThat(nextCursor.getCreatedAt()).isEqualTo(secondSummary.getCreatedAt());
+				assertThat(nextCursor.getId()).isEqualTo(secondSummary.getId());
+				verify(bikeOwnershipService).verifyOwnership(testBike.getId(), testUserId);
+				verify(maintenanceTaskRepository, never()).findFirstPageByBikeId(any(), anyInt());
+			}
+
+			@Test
+			void 詳細内容を含める場合はエンティティを取得すること() {
+				List<MaintenanceTask> maintenanceTaskList = List.of(testMaintenanceTask);
+				when(maintenanceTaskRepository.findFirstPageByBikeId(testBike.getId(), MaintenanceTaskService.DEFAULT_PAGE_SIZE + 1))
+						.thenReturn(maintenanceTaskList);
+				when(maintenanceTaskMapper.toResponseList(maintenanceTaskList)).thenReturn(List.of(commonMaintenanceTaskResponse));
+
+				MaintenanceTaskPageResponse result = maintenanceTaskService.findByBikeId(testBike.getId(), null, null, testUserId,
+						ResponseFields.parse("id,description", MaintenanceTaskResponse.class));
+
+				assertThat(result.getMaintenanceTasks()).containsExactly(commonMaintenanceTaskResponse);
+				verify(maintenanceTaskRepository, never()).findFirstSummaryPageByBikeId(any(), anyInt());
+			}
+		}
+
+		@Nested
+		class FindVersionTests {
+			@Test
+			void ユーザーIDに紐づく整備タスクのバージョン情報を取得できること() {
+				ResourceVersion version = new ResourceVersion(1L, 101L);
+				when(maintenanceTaskRepository.findVersionByBikeUserId(testUserId)).thenReturn(version);
+
+				ResourceVersion result = maintenanceTaskService.findVersionByUserId(testUserId);
+
+				assertThat(result).isEqualTo(version);
+			}
+
+			@Test
+			void 所有者を確認したうえでバイクIDに紐づく整備タスクのバージョン情報を取得できること() {
+				ResourceVersion version = new ResourceVersion(1L, 101L);
+				when(maintenanceTaskRepository.findVersionByBikeId(testBike.getId())).thenReturn(version);
+
+				ResourceVersion result = maintenanceTaskService.findVersionByBikeId(testBike.getId(), testUserId);
+
+				assertThat(result).isEqualTo(version);
+				verify(bikeOwnershipService).verifyOwnership(testBike.getId(), testUserId);
+			}
+
+			@Test
+			void ユーザーが所有していないバイクの場合にResourceNotFoundExceptionをスローすること() {
+				stubBikeNotOwned();
+
+				assertThatThrownBy(() -> maintenanceTaskService.findVersionByBikeId(testBike.getId(), testUserId))
+						.isInstanceOf(ResourceNotFoundException.class);
+
+				verify(maintenanceTaskRepository, never()).findVersionByBikeId(any());
 			}
 		}
 
 		@Nested
 		class FindByBikeIdAndCategoryIdTests {
 			@Test
-			void バイクIDとカテゴリーIDに紐づくタスクをすべて取得できること() {
+			void カーソルを指定しない場合にバイクIDとカテゴリーIDに紐づく最初のページを取得できること() {
 				List<MaintenanceTask> maintenanceTaskList = List.of(testMaintenanceTask);
-				when(maintenanceTaskRepository.findByBikeIdAndCategoryIdAndIsDeletedFalse(testBike.getId(), testCategory.getId())).thenReturn(maintenanceTaskList);
+				when(maintenanceTaskRepository.findFirstPageByBikeIdAndCategoryId(
+						testBike.getId(), testCategory.getId(), MaintenanceTaskService.DEFAULT_PAGE_SIZE + 1)).thenReturn(maintenanceTaskList);
 				when(maintenanceTaskMapper.toResponseList(maintenanceTaskList)).thenReturn(List.of(commonMaintenanceTaskResponse));
 
-				List<MaintenanceTaskResponse> result = maintenanceTaskService.findByBikeIdAndCategoryId(testBike.getId(), testCategory.getId());
+				MaintenanceTaskPageResponse result = maintenanceTaskService.findByBikeIdAndCategoryId(
+						testBike.getId(), testCategory.getId(), null, null, testUserId);
 
-				assertThat(result).hasSize(1);
-				assertThat(result.getFirst()).isEqualTo(commonMaintenanceTaskResponse);
-				verify(maintenanceTaskRepository).findByBikeIdAndCategoryIdAndIsDeletedFalse(testBike.getId(), testCategory.getId());
-				verify(maintenanceTaskMapper).toResponseList(maintenanceTaskList);
+				assertThat(result.getMaintenanceTasks()).containsExactly(commonMaintenanceTaskResponse);
+				assertThat(result.getNextCursor()).isNull();
 			}
 
 			@Test
-			void 条件に紐づくタスクがない場合に空のリストを返すこと() {
-				when(maintenanceTaskRepository.findByBikeIdAndCategoryIdAndIsDeletedFalse(any(), any())).thenReturn(Collections.emptyList());
+			void カーソルを指定した場合にカーソルより後のページを取得できること() {
+				LocalDateTime cursorCreatedAt = LocalDateTime.of(2025, 1, 2, 12, 0);
+				String cursor = new MaintenanceTaskCursor(cursorCreatedAt, 11).encode();
+				when(maintenanceTaskRepository.findPageByBikeIdAndCategoryIdAfter(
+						testBike.getId(), testCategory.getId(), cursorCreatedAt, 11, 3)).thenReturn(List.of(testMaintenanceTask));
+				when(maintenanceTaskMapper.toResponseList(List.of(testMaintenanceTask))).thenReturn(List.of(commonMaintenanceTaskResponse));
+
+				MaintenanceTaskPageResponse result = maintenanceTaskService.findByBikeIdAndCategoryId(
+						testBike.getId(), testCategory.getId(), cursor, 2, testUserId);
+
+				assertThat(result.getMaintenanceTasks()).containsExactly(commonMaintenanceTaskResponse);
+				verify(maintenanceTaskRepository, never()).findFirstPageByBikeIdAndCategoryId(any(), any(), anyInt());
+			}
+
+			@Test
+			void ユーザーが所有していないバイクの場合にResourceNotFoundExceptionをスローすること() {
+				stubBikeNotOwned();
+
+				assertThatThrownBy(() -> maintenanceTaskService.findByBikeIdAndCategoryId(
+						testBike.getId(), testCategory.getId(), null, null, testUserId))
+						.isInstanceOf(ResourceNotFoundException.class);
+
+				verify(maintenanceTaskRepository, never()).findFirstPageByBikeIdAndCategoryId(any(), any(), anyInt());
+			}
+
+			@Test
+			void 条件に紐づくタスクがない場合に空のページを返すこと() {
+				when(maintenanceTaskRepository.findFirstPageByBikeIdAndCategoryId(any(), any(), anyInt())).thenReturn(Collections.emptyList());
 				when(maintenanceTaskMapper.toResponseList(any())).thenReturn(Collections.emptyList());
 
-				List<MaintenanceTaskResponse> result = maintenanceTaskService.findByBikeIdAndCategoryId(testBike.getId(), testCategory.getId());
+				MaintenanceTaskPageResponse result = maintenanceTaskService.findByBikeIdAndCategoryId(
+						testBike.getId(), testCategory.getId(), null, null, testUserId);
 
-				assertThat(result).isEmpty();
-				verify(maintenanceTaskRepository).findByBikeIdAndCategoryIdAndIsDeletedFalse(any(), any());
-				verify(maintenanceTaskMapper).toResponseList(any());
+				assertThat(result.getMaintenanceTasks()).isEmpty();
+				assertThat(result.getNextCursor()).isNull();
+			}
+
+			@Test
+			void 詳細内容を含めない場合はカーソルより後のページを詳細内容を除いて取得すること() {
+				LocalDateTime cursorCreatedAt = LocalDateTime.of(2025, 1, 2, 12, 0);
+				String cursor = new MaintenanceTaskCursor(cursorCreatedAt, 11).encode();
+				MaintenanceTaskResponse summary = createSummary(10, LocalDateTime.of(2025, 1, 1, 12, 0));
+				when(maintenanceTaskRepository.findSummaryPageByBikeIdAndCategoryIdAfter(
+						testBike.getId(), testCategory.getId(), cursorCreatedAt, 11, 3)).thenReturn(List.of(summary));
+
+				MaintenanceTaskPageResponse result = maintenanceTaskService.findByBikeIdAndCategoryId(
+						testBike.getId(), testCategory.getId(), cursor, 2, testUserId,
+						ResponseFields.parse("id,name,createdAt", MaintenanceTaskResponse.class));
+
+				assertThat(result.getMaintenanceTasks()).containsExactly(summary);
+				assertThat(result.getNextCursor()).isNull();
+				verify(maintenanceTaskRepository, never()).findPageByBikeIdAndCategoryIdAfter(any(), any(), any(), any(), anyInt());
 			}
 		}
 	}
@@ -253,8 +457,6 @@ class MaintenanceTaskServiceTest {
 
 		@Test
 		void 既存の整備タスク情報が正常に更新され更新後の情報が返されること() {
-			stubMaintenanceTaskFound();
-
 			MaintenanceTask updatedTask = MaintenanceTask.builder()
 					.id(testMaintenanceTask.getId())
 					.bike(testBike)
@@ -270,27 +472,28 @@ class MaintenanceTaskServiceTest {
 					.description(updateRequest.getDescription())
 					.build();
 
-			when(maintenanceTaskRepository.save(any(MaintenanceTask.class))).thenReturn(updatedTask);
-			when(maintenanceTaskMapper.toResponse(any(MaintenanceTask.class))).thenReturn(updatedResponse);
+			when(maintenanceTaskRepository.updateByIdAndUserId(testMaintenanceTask.getId(), testUserId, updateRequest))
+					.thenReturn(Optional.of(updatedTask));
+			when(maintenanceTaskMapper.toResponse(updatedTask)).thenReturn(updatedResponse);
 
-			MaintenanceTaskResponse result = maintenanceTaskService.updateMaintenanceTask(testMaintenanceTask.getId(), updateRequest);
+			MaintenanceTaskResponse result = maintenanceTaskService.updateMaintenanceTask(testMaintenanceTask.getId(), updateRequest, testUserId);
 
 			assertThat(result).isEqualTo(updatedResponse);
-			verify(maintenanceTaskRepository).findById(testMaintenanceTask.getId());
-			verify(maintenanceTaskRepository).save(any(MaintenanceTask.class));
-			verify(maintenanceTaskMapper).toResponse(any(MaintenanceTask.class));
+			verify(maintenanceTaskRepository).updateByIdAndUserId(testMaintenanceTask.getId(), testUserId, updateRequest);
+			verify(maintenanceTaskRepository, never()).findById(any());
+			verify(maintenanceTaskRepository, never()).save(any());
 		}
 
 		@Test
-		void 更新対象の整備タスクが見つからない場合にResourceNotFoundExceptionをスローすること() {
-			stubMaintenanceTaskNotFound();
+		void 更新対象の整備タスクが見つからないかユーザーの所有でない場合にResourceNotFoundExceptionをスローすること() {
+			when(maintenanceTaskRepository.updateByIdAndUserId(testMaintenanceTask.getId(), testUserId, updateRequest))
+					.thenReturn(Optional.empty());
 
-			assertThatThrownBy(() -> maintenanceTaskService.updateMaintenanceTask(testMaintenanceTask.getId(), updateRequest))
+			assertThatThrownBy(() -> maintenanceTaskService.updateMaintenanceTask(testMaintenanceTask.getId(), updateRequest, testUserId))
 					.isInstanceOf(ResourceNotFoundException.class)
 					.hasMessageContaining("整備タスクID " + testMaintenanceTask.getId() + " が見つかりません。");
 
-			verify(maintenanceTaskRepository).findById(testMaintenanceTask.getId());
-			verify(maintenanceTaskRepository, never()).save(any());
+			verify(maintenanceTaskMapper, never()).toResponse(any());
 		}
 	}
 
@@ -298,25 +501,22 @@ class MaintenanceTaskServiceTest {
 	class DeleteTests {
 		@Test
 		void 登録されている整備タスクが正常に論理削除されること() {
-			stubMaintenanceTaskFound();
-			when(maintenanceTaskRepository.save(testMaintenanceTask)).thenReturn(testMaintenanceTask);
+			when(maintenanceTaskRepository.softDeleteByIdAndUserId(testMaintenanceTask.getId(), testUserId)).thenReturn(1);
 
-			maintenanceTaskService.softDeleteMaintenanceTask(testMaintenanceTask.getId());
+			maintenanceTaskService.softDeleteMaintenanceTask(testMaintenanceTask.getId(), testUserId);
 
-			assertThat(testMaintenanceTask.isDeleted()).isTrue();
-			verify(maintenanceTaskRepository).findById(testMaintenanceTask.getId());
-			verify(maintenanceTaskRepository).save(testMaintenanceTask);
+			verify(maintenanceTaskRepository).softDeleteByIdAndUserId(testMaintenanceTask.getId(), testUserId);
+			verify(maintenanceTaskRepository, never()).findById(any());
+			verify(maintenanceTaskRepository, never()).save(any());
 		}
 
 		@Test
-		void 整備タスクが見つからない場合にResourceNotFoundExceptionをスローすること() {
-			stubMaintenanceTaskNotFound();
+		void 整備タスクが見つからないかユーザーの所有でない場合にResourceNotFoundExceptionをスローすること() {
+			when(maintenanceTaskRepository.softDeleteByIdAndUserId(testMaintenanceTask.getId(), testUserId)).thenReturn(0);
 
-			assertThatThrownBy(() -> maintenanceTaskService.softDeleteMaintenanceTask(testMaintenanceTask.getId()))
+			assertThatThrownBy(() -> maintenanceTaskService.softDeleteMaintenanceTask(testMaintenanceTask.getId(), testUserId))
 					.isInstanceOf(ResourceNotFoundException.class)
 					.hasMessageContaining("整備タスクID " + testMaintenanceTask.getId() + " が見つかりません。");
-
-			verify(maintenanceTaskRepository, never()).save(any());
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,211 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.dto.bike.BikeUpdateRequest;
+import com.rikuto.revox.dto.user.UserUpdateRequest;
+import com.rikuto.revox.security.details.ExternalAuthUserDetails;
+import com.rikuto.revox.security.details.ExternalAuthUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ユーザー、バイク、カテゴリーの2次キャッシュにより、リクエストごとに発行されるSQLの回数が減ることを確認するテストです。
+ * 1リクエストは、JWTフィルターでのユーザーの検索と、エンドポイントのサービスの呼び出しで構成します。
+ * 同じリクエストを2回実行し、2回目に発行されたSQLの回数をHibernateの統計情報で検証します。
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+	private static final int BIKE_COUNT = 3;
+	private static final int TASKS_PER_BIKE = 20;
+
+	@SuppressWarnings("resource")
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+			.withDatabaseName("test")
+			.withUsername("user")
+			.withPassword("pass");
+
+	@DynamicPropertySource
+	static void overrideProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+		registry.add("google.client-id", () -> "test-client-id");
+		registry.add("JWT_SECRET_KEY", () -> "test-secret-key-test-secret-key-test");
+		registry.add("JWT_EXPIRATION", () -> 3_600_000);
+		registry.add("gemini.base-url", () -> "http://localhost:1");
+		registry.add("gemini.api-key", () -> "test");
+	}
+
+	@Autowired
+	private ExternalAuthUserDetailsService externalAuthUserDetailsService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private BikeService bikeService;
+
+	@Autowired
+	private MaintenanceTaskService maintenanceTaskService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Statistics statistics;
+
+	private String uniqueUserId;
+	private int userId;
+	private int bikeId;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		entityManagerFactory.getCache().evictAll();
+
+		uniqueUserId = "cache-user-" + System.nanoTime();
+		userId = jdbcTemplate.queryForObject(
+				"INSERT INTO users (nickname, unique_user_id) VALUES (?, ?) RETURNING id", Integer.class, "cache-user", uniqueUserId);
+		jdbcTemplate.update("""
+				INSERT INTO bikes (user_id, manufacturer, model_name)
+				SELECT ?, 'Honda', 'CBR' || s FROM generate_series(1, ?) s
+				""", userId, BIKE_COUNT);
+		jdbcTemplate.update("""
+				INSERT INTO maintenance_tasks (category_id, bike_id, name, description)
+				SELECT (SELECT MIN(id) FROM categories), b.id, 'task' || s, 'description'
+				FROM bikes b CROSS JOIN generate_series(1, ?) s
+				WHERE b.user_id = ?
+				""", TASKS_PER_BIKE, userId);
+		bikeId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM bikes WHERE user_id = ?", Integer.class, userId);
+	}
+
+	/**
+	 * JWTフィルターでのユーザーの検索の後にエンドポイントの処理を実行し、発行されたSQLの回数を返します。
+	 */
+	private long countStatements(Runnable endpoint) {
+		statistics.clear();
+		ExternalAuthUserDetails userDetails = (ExternalAuthUserDetails) externalAuthUserDetailsService.loadUserByUniqueUserId(uniqueUserId);
+		assertThat(userDetails.getId()).isEqualTo(userId);
+		endpoint.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private double countCacheRequests(String region, String result) {
+		return meterRegistry.get("hibernate.second.level.cache.requests")
+				.tags("region", region, "result", result)
+				.functionCounter()
+				.count();
+	}
+
+	@Test
+	void バイク一覧のリクエストは2回目以降SQLを発行しないこと() {
+		Runnable endpoint = () -> assertThat(bikeService.findBikeByUserId(userId)).hasSize(BIKE_COUNT);
+
+		long first = countStatements(endpoint);
+		long second = countStatements(endpoint);
+
+		assertThat(first).isGreaterThanOrEqualTo(2);
+		assertThat(second).isZero();
+	}
+
+	@Test
+	void バイク詳細のリクエストは2回目以降SQLを発行しないこと() {
+		Runnable endpoint = () -> assertThat(bikeService.findByIdAndUserId(bikeId, userId).getId()).isEqualTo(bikeId);
+
+		long first = countStatements(endpoint);
+		long second = countStatements(endpoint);
+
+		assertThat(first).isGreaterThanOrEqualTo(2);
+		assertThat(second).isZero();
+	}
+
+	@Test
+	void 整備タスク一覧のリクエストは2回目以降整備タスクの検索のみを発行すること() {
+		Runnable endpoint = () -> assertThat(maintenanceTaskService.findByBikeId(bikeId, null, null, userId).getMaintenanceTasks())
+				.hasSize(TASKS_PER_BIKE);
+
+		long first = countStatements(endpoint);
+		long second = countStatements(endpoint);
+
+		assertThat(first).isGreaterThanOrEqualTo(2);
+		assertThat(second).isEqualTo(1);
+	}
+
+	@Test
+	void バイクの更新後は更新後のバイクを返すこと() {
+		assertThat(bikeService.findByIdAndUserId(bikeId, userId).getManufacturer()).isEqualTo("Honda");
+		assertThat(bikeService.findBikeByUserId(userId)).extracting("manufacturer").containsOnly("Honda");
+
+		bikeService.updateBike(BikeUpdateRequest.builder().manufacturer("Yamaha").build(), bikeId, userId);
+
+		assertThat(bikeService.findByIdAndUserId(bikeId, userId).getManufacturer()).isEqualTo("Yamaha");
+		assertThat(bikeService.findBikeByUserId(userId)).extracting("manufacturer").contains("Yamaha");
+	}
+
+	@Test
+	void バイクの論理削除後はバイク一覧に含まれないこと() {
+		assertThat(bikeService.findBikeByUserId(userId)).hasSize(BIKE_COUNT);
+
+		bikeService.softDeleteBike(bikeId, userId);
+
+		assertThat(bikeService.findBikeByUserId(userId)).hasSize(BIKE_COUNT - 1);
+	}
+
+	@Test
+	void ニックネームの更新後は更新後のユーザーを返すこと() {
+		assertThat(userService.findById(userId).getNickname()).isEqualTo("cache-user");
+
+		userService.updateUser(UserUpdateRequest.builder().nickname("updated-user").build(), userId);
+
+		assertThat(userService.findById(userId).getNickname()).isEqualTo("updated-user");
+	}
+
+	@Test
+	void ユーザーの論理削除後は認証とバイク一覧の検索で取得されないこと() {
+		externalAuthUserDetailsService.loadUserByUniqueUserId(uniqueUserId);
+		assertThat(bikeService.findBikeByUserId(userId)).hasSize(BIKE_COUNT);
+
+		userService.softDeleteUser(userId);
+
+		assertThatThrownBy(() -> externalAuthUserDetailsService.loadUserByUniqueUserId(uniqueUserId))
+				.isInstanceOf(UsernameNotFoundException.class);
+		assertThat(bikeService.findBikeByUserId(userId)).isEmpty();
+	}
+
+	@Test
+	void リージョンごとのヒット件数がメトリクスとして出力されること() {
+		double usersHitBefore = countCacheRequests("users", "hit");
+		double bikesHitBefore = countCacheRequests("bikes", "hit");
+
+		countStatements(() -> bikeService.findBikeByUserId(userId));
+		countStatements(() -> bikeService.findBikeByUserId(userId));
+
+		assertThat(countCacheRequests("users", "hit")).isGreaterThan(usersHitBefore);
+		assertThat(countCacheRequests("bikes", "hit")).isGreaterThan(bikesHitBefore);
+	}
+}
@@ -1,10 +1,14 @@
 package com.rikuto.revox.service;
 
+import com.rikuto.revox.domain.Bike;
 import com.rikuto.revox.domain.User;
 import com.rikuto.revox.dto.user.UserResponse;
 import com.rikuto.revox.dto.user.UserUpdateRequest;
 import com.rikuto.revox.exception.ResourceNotFoundException;
 import com.rikuto.revox.mapper.UserResponseMapper;
+import com.rikuto.revox.repository.AiRepository;
+import com.rikuto.revox.repository.BikeRepository;
+import com.rikuto.revox.repository.MaintenanceTaskRepository;
 import com.rikuto.revox.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -14,6 +18,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,9 +35,24 @@ class UserServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private BikeRepository bikeRepository;
+
+	@Mock
+	private MaintenanceTaskRepository maintenanceTaskRepository;
+
+	@Mock
+	private AiRepository aiRepository;
+
 	@Mock
 	private UserResponseMapper userResponseMapper;
 
+	@Mock
+	private BikeOwnershipService bikeOwnershipService;
+
+	@Mock
+	private SecondLevelCacheService secondLevelCacheService;
+
 	@InjectMocks
 	private UserService userService;
 
@@ -117,12 +138,16 @@ class UserServiceTest {
 			assertThat(result).isEqualTo(testUser);
 			verify(userRepository).findByUniqueUserId(uniqueUserId);
 			verify(userRepository, never()).save(any());
+			verify(bikeRepository, never()).restoreByUserIdAndDeletedAt(any(), any());
+			verify(maintenanceTaskRepository, never()).restoreByUserIdAndDeletedAt(any(), any());
+			verify(aiRepository, never()).restoreByUserIdAndDeletedAt(any(), any());
 		}
 
 		@Test
 		void 論理削除されたユーザーが存在する場合復元して返す() {
 			String uniqueUserId = "existing-unique-id";
 			User deletedUser = User.builder()
+					.id(2)
 					.uniqueUserId(uniqueUserId)
 					.nickname("削除済みユーザー")
 					.displayEmail("deleted@example.com")
@@ -140,6 +165,31 @@ class UserServiceTest {
 			verify(userRepository).save(deletedUser);
 		}
 
+		@Test
+		void 論理削除されたユーザーを復元する場合同時に論理削除されたバイク整備タスクAI質問履歴も復元すること() {
+			String uniqueUserId = "existing-unique-id";
+			LocalDateTime deletedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123456000);
+			User deletedUser = User.builder()
+					.id(2)
+					.uniqueUserId(uniqueUserId)
+					.nickname("削除済みユーザー")
+					.isDeleted(true)
+					.updatedAt(deletedAt)
+					.build();
+
+			when(userRepository.findByUniqueUserId(uniqueUserId)).thenReturn(Optional.of(deletedUser));
+			when(userRepository.save(any(User.class))).thenReturn(deletedUser);
+			when(bikeRepository.restoreByUserIdAndDeletedAt(deletedUser.getId(), deletedAt)).thenReturn(2);
+			when(maintenanceTaskRepository.restoreByUserIdAndDeletedAt(deletedUser.getId(), deletedAt)).thenReturn(3000);
+			when(aiRepository.restoreByUserIdAndDeletedAt(deletedUser.getId(), deletedAt)).thenReturn(5);
+
+			userService.findOrCreateUser(uniqueUserId, "既存ユーザー", "existing@example.com");
+
+			verify(bikeRepository).restoreByUserIdAndDeletedAt(deletedUser.getId(), deletedAt);
+			verify(maintenanceTaskRepository).restoreByUserIdAndDeletedAt(deletedUser.getId(), deletedAt);
+			verify(aiRepository).restoreByUserIdAndDeletedAt(deletedUser.getId(), deletedAt);
+		}
+
 		@Test
 		void ユーザーが存在しない場合ResourceNotFoundExceptionをスロー() {
 			Integer dummyUserId = 999;
@@ -156,7 +206,6 @@ class UserServiceTest {
 	class UpdateTests {
 		@Test
 		void 既存のユーザー情報が正常に更新されユーザー情報を返すこと() {
-			stubUserFound();
 
 			User updatedUser = User.builder()
 					.id(testUser.getId())
@@ -166,54 +215,69 @@ class UserServiceTest {
 					.isDeleted(false)
 					.build();
 
-			when(userRepository.save(any(User.class))).thenReturn(updatedUser);
-			when(userResponseMapper.toResponse(any(User.class))).thenReturn(userResponse);
+			when(userRepository.updateNicknameById(testUser.getId(), updateRequest.getNickname())).thenReturn(Optional.of(updatedUser));
+			when(userResponseMapper.toResponse(updatedUser)).thenReturn(userResponse);
 
 			UserResponse result = userService.updateUser(updateRequest, testUser.getId());
 
 			assertThat(result).isEqualTo(userResponse);
-			verify(userRepository).findByIdAndIsDeletedFalse(testUser.getId());
-			verify(userRepository).save(any(User.class));
-			verify(userResponseMapper).toResponse(any(User.class));
+			verify(userRepository).updateNicknameById(testUser.getId(), updateRequest.getNickname());
+			verify(secondLevelCacheService).evict(User.class, testUser.getId());
+			verify(userRepository, never()).findByIdAndIsDeletedFalse(any());
+			verify(userRepository, never()).save(any());
 		}
 
 		@Test
 		void 更新対象ユーザーが存在しない場合ResourceNotFoundExceptionをスロー() {
 			Integer dummyUserId = 999;
-			when(userRepository.findByIdAndIsDeletedFalse(dummyUserId)).thenReturn(Optional.empty());
+			when(userRepository.updateNicknameById(dummyUserId, updateRequest.getNickname())).thenReturn(Optional.empty());
 
 			assertThatThrownBy(() -> userService.updateUser(updateRequest, dummyUserId))
 					.isInstanceOf(ResourceNotFoundException.class)
 					.hasMessage("ユーザーが見つかりません" + dummyUserId);
 
-			verify(userRepository, never()).save(any());
+			verify(userResponseMapper, never()).toResponse(any());
+			verify(secondLevelCacheService, never()).evict(any(), any());
 		}
 	}
 
 	@Nested
 	class DeleteTests {
 		@Test
-		void 既存のユーザー情報が正常に論理削除されること() {
-			stubUserFound();
+		void 既存のユーザー情報と紐づくバイク整備タスクAI質問履歴が一括で論理削除されること() {
+			when(userRepository.softDeleteById(testUser.getId())).thenReturn(1);
+			when(maintenanceTaskRepository.softDeleteByUserId(testUser.getId())).thenReturn(3000);
+			when(bikeRepository.softDeleteByUserId(testUser.getId())).thenReturn(List.of(10, 11));
+			when(aiRepository.softDeleteByUserId(testUser.getId())).thenReturn(5);
 
 			userService.softDeleteUser(testUser.getId());
 
-			verify(userRepository).findByIdAndIsDeletedFalse(testUser.getId());
-			verify(userRepository).save(testUser);
-			assertThat(testUser.isDeleted()).isTrue();
+			verify(userRepository).softDeleteById(testUser.getId());
+			verify(maintenanceTaskRepository).softDeleteByUserId(testUser.getId());
+			verify(bikeRepository).softDeleteByUserId(testUser.getId());
+			verify(aiRepository).softDeleteByUserId(testUser.getId());
+			verify(bikeOwnershipService).evict(10);
+			verify(bikeOwnershipService).evict(11);
+			verify(secondLevelCacheService).evict(Bike.class, 10);
+			verify(secondLevelCacheService).evict(Bike.class, 11);
+			verify(secondLevelCacheService).evictQueryResults();
+			verify(userRepository, never()).findByIdAndIsDeletedFalse(any());
+			verify(userRepository, never()).save(any());
 		}
 
 		@Test
 		void 削除対象ユーザーが見つからない場合ResourceNotFoundExceptionをスロー() {
 			Integer dummyUserId = 999;
-			when(userRepository.findByIdAndIsDeletedFalse(dummyUserId)).thenReturn(Optional.empty());
+			when(userRepository.softDeleteById(dummyUserId)).thenReturn(0);
 
 			assertThatThrownBy(() -> userService.softDeleteUser(dummyUserId))
 					.isInstanceOf(ResourceNotFoundException.class)
 					.hasMessage("ユーザーが見つかりません" + dummyUserId);
 
-			verify(userRepository).findByIdAndIsDeletedFalse(dummyUserId);
-			verify(userRepository, never()).save(any());
+			verify(userRepository).softDeleteById(dummyUserId);
+			verify(maintenanceTaskRepository, never()).softDeleteByUserId(any());
+			verify(bikeRepository, never()).softDeleteByUserId(any());
+			verify(aiRepository, never()).softDeleteByUserId(any());
 		}
 	}
 }
\ No newline at end of file
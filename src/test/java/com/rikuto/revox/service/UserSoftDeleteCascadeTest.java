@@ -0,0 +1,130 @@
+package com.rikuto.revox.service;
+
+import com.rikuto.revox.mapper.UserResponseMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ユーザーの論理削除が、紐づくデータの件数に関わらず一定回数のUPDATE文で完了することを確認するテストです。
+ * 数千件の整備タスクを持つユーザーを論理削除し、発行されたSQLの回数と読み込まれたエンティティの件数を検証します。
+ */
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({UserService.class, UserResponseMapper.class, BikeOwnershipService.class, SecondLevelCacheService.class})
+class UserSoftDeleteCascadeTest {
+
+	private static final int BIKE_COUNT = 5;
+	private static final int TASKS_PER_BIKE = 1000;
+	private static final int AI_QUESTIONS_PER_BIKE = 20;
+
+	@SuppressWarnings("resource")
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+			.withDatabaseName("test")
+			.withUsername("user")
+			.withPassword("pass");
+
+	@DynamicPropertySource
+	static void overrideProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private int userId;
+	private int otherUserId;
+
+	@BeforeEach
+	void setUp() {
+		userId = createUserWithData("cascade-user");
+		otherUserId = createUserWithData("cascade-other-user");
+	}
+
+	private int createUserWithData(String uniqueUserId) {
+		Integer createdUserId = jdbcTemplate.queryForObject(
+				"INSERT INTO users (nickname, unique_user_id) VALUES (?, ?) RETURNING id", Integer.class, uniqueUserId, uniqueUserId);
+		jdbcTemplate.update("""
+				INSERT INTO bikes (user_id, manufacturer, model_name)
+				SELECT ?, 'Honda', 'CBR' || s FROM generate_series(1, ?) s
+				""", createdUserId, BIKE_COUNT);
+		jdbcTemplate.update("""
+				INSERT INTO maintenance_tasks (category_id, bike_id, name, description)
+				SELECT (SELECT MIN(id) FROM categories), b.id, 'task' || s, 'description'
+				FROM bikes b CROSS JOIN generate_series(1, ?) s
+				WHERE b.user_id = ?
+				""", TASKS_PER_BIKE, createdUserId);
+		jdbcTemplate.update("""
+				INSERT INTO ai_questions (user_id, bike_id, category_id, question, answer)
+				SELECT b.user_id, b.id, (SELECT MIN(id) FROM categories), 'question' || s, 'answer'
+				FROM bikes b CROSS JOIN generate_series(1, ?) s
+				WHERE b.user_id = ?
+				""", AI_QUESTIONS_PER_BIKE, createdUserId);
+		return createdUserId;
+	}
+
+	private int countActive(String table, String userColumnCondition, int targetUserId) {
+		return jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM " + table + " WHERE is_deleted = false AND " + userColumnCondition,
+				Integer.class, targetUserId);
+	}
+
+	private int countActiveTasks(int targetUserId) {
+		return countActive("maintenance_tasks", "bike_id IN (SELECT id FROM bikes WHERE user_id = ?)", targetUserId);
+	}
+
+	@Test
+	void 数千件の整備タスクを持つユーザーが4回のUPDATE文でエンティティを読み込まずに論理削除されること() {
+		entityManager.clear();
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		userService.softDeleteUser(userId);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+
+		assertThat(countActive("users", "id = ?", userId)).isZero();
+		assertThat(countActive("bikes", "user_id = ?", userId)).isZero();
+		assertThat(countActiveTasks(userId)).isZero();
+		assertThat(countActive("ai_questions", "user_id = ?", userId)).isZero();
+	}
+
+	@Test
+	void 他のユーザーのデータは論理削除されないこと() {
+		userService.softDeleteUser(userId);
+
+		assertThat(countActive("users", "id = ?", otherUserId)).isEqualTo(1);
+		assertThat(countActive("bikes", "user_id = ?", otherUserId)).isEqualTo(BIKE_COUNT);
+		assertThat(countActiveTasks(otherUserId)).isEqualTo(BIKE_COUNT * TASKS_PER_BIKE);
+		assertThat(countActive("ai_questions", "user_id = ?", otherUserId)).isEqualTo(BIKE_COUNT * AI_QUESTIONS_PER_BIKE);
+	}
+}